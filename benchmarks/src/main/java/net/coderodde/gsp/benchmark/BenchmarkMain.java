@@ -0,0 +1,32 @@
+package net.coderodde.gsp.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler attached, so that the allocation 
+ * rate is reported along with the throughput and the average time. Accepts 
+ * the standard JMH command line options, for example a regular expression 
+ * selecting the benchmarks and {@code -p queue=DARY,RADIX}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class BenchmarkMain {
+    
+    public static void main(String[] args) 
+    throws CommandLineOptionException, RunnerException {
+        Options options = 
+                new OptionsBuilder()
+                        .parent(new CommandLineOptions(args))
+                        .addProfiler(GCProfiler.class)
+                        .build();
+        
+        new Runner(options).run();
+    }
+}
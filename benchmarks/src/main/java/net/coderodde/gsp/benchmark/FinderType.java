@@ -0,0 +1,83 @@
+package net.coderodde.gsp.benchmark;
+
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalDijkstraPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.HashDistributedAStarPathFinder;
+import net.coderodde.gsp.model.support.IterativeDeepeningAStarPathFinder;
+import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
+
+/**
+ * This enumeration enumerates the benchmarked path finders.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public enum FinderType {
+    
+    DIJKSTRA,
+    BI_DIJKSTRA,
+    A_STAR,
+    BHPA,
+    NBA,
+    PNBA,
+    IDA,
+    HDA;
+    
+    /**
+     * Creates a path finder of this type.
+     * 
+     * @param <N>               the actual graph node type.
+     * @param weightFunction    the weight function.
+     * @param heuristicFunction the heuristic function.
+     * @return a path finder.
+     */
+    public <N extends AbstractGraphNode<N>> AbstractPathFinder<N> 
+        create(AbstractGraphWeightFunction<N> weightFunction,
+               AbstractHeuristicFunction<N> heuristicFunction) {
+        switch (this) {
+            case DIJKSTRA:
+                return new DijkstraPathFinder<>(weightFunction);
+                
+            case BI_DIJKSTRA:
+                return new BidirectionalDijkstraPathFinder<>(weightFunction);
+                
+            case A_STAR:
+                return new AStarPathFinder<>(weightFunction, 
+                                             heuristicFunction);
+                
+            case BHPA:
+                return new BidirectionalAStarPathFinder<>(weightFunction,
+                                                          heuristicFunction);
+                
+            case NBA:
+                return new NewBidirectionalAStarPathFinder<>(
+                        weightFunction,
+                        heuristicFunction);
+                
+            case PNBA:
+                return new ParallelNewBidirectionalAStarPathFinder<>(
+                        weightFunction,
+                        heuristicFunction);
+                
+            case IDA:
+                return new IterativeDeepeningAStarPathFinder<>(
+                        weightFunction,
+                        heuristicFunction);
+                
+            case HDA:
+                return new HashDistributedAStarPathFinder<>(
+                        weightFunction,
+                        heuristicFunction);
+                
+            default:
+                throw new IllegalStateException("Unknown finder: " + this);
+        }
+    }
+}
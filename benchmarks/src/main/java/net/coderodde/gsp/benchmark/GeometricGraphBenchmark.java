@@ -0,0 +1,84 @@
+package net.coderodde.gsp.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.gsp.Utils;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks every path finder with every priority queue on 
+ * random geometric graphs. Each invocation runs one query out of a fixed set 
+ * of random queries, whose paths are checked before the measurement.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometricGraphBenchmark {
+    
+    private static final long SEED = 13L;
+    private static final int QUERIES = 64;
+    
+    @Param({"DIJKSTRA", "BI_DIJKSTRA", "A_STAR", "BHPA", "NBA", "PNBA", 
+            "HDA"})
+    public FinderType finder;
+    
+    @Param({"DARY", "BINOMIAL", "FIBONACCI", "PAIRING", "INDEXED_DARY", 
+            "RADIX", "BUCKET"})
+    public QueueType queue;
+    
+    @Param("10000")
+    public int nodes;
+    
+    @Param("50000")
+    public int arcs;
+    
+    private AbstractPathFinder<DirectedGraphNode> pathFinder;
+    private final DirectedGraphNode[] sources = new DirectedGraphNode[QUERIES];
+    private final DirectedGraphNode[] targets = new DirectedGraphNode[QUERIES];
+    private int query;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        GraphData data = Utils.getRandomGraphData(nodes, arcs, random);
+        
+        pathFinder = finder.create(data.weightFunction, 
+                                   data.heuristicFunction);
+        pathFinder.setQueue(queue.<DirectedGraphNode>create());
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = Utils.choose(data.graph, random);
+            targets[i] = Utils.choose(data.graph, random);
+        }
+        
+        PathChecks.check(pathFinder, data.weightFunction, sources, targets);
+    }
+    
+    @Benchmark
+    public List<DirectedGraphNode> search() {
+        int i = query;
+        query = (i + 1) % QUERIES;
+        return pathFinder.search(sources[i], targets[i]);
+    }
+}
@@ -0,0 +1,143 @@
+package net.coderodde.gsp.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.gsp.Utils;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.GridGraphConfiguration;
+import net.coderodde.gsp.model.support.GridGraphNode;
+import net.coderodde.gsp.model.support.GridGraphOctileHeuristicFunction;
+import net.coderodde.gsp.model.support.GridGraphWeightFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks every path finder with every priority queue on 
+ * 8-connected grids with randomly placed walls, using the octile heuristic.
+ * The paths of the queries are checked before the measurement.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GridGraphBenchmark {
+    
+    private static final long SEED = 13L;
+    private static final int QUERIES = 64;
+    
+    @Param({"DIJKSTRA", "BI_DIJKSTRA", "A_STAR", "BHPA", "NBA", "PNBA"})
+    public FinderType finder;
+    
+    @Param({"DARY", "BINOMIAL", "FIBONACCI", "PAIRING", "INDEXED_DARY", 
+            "RADIX", "BUCKET"})
+    public QueueType queue;
+    
+    @Param("256")
+    public int width;
+    
+    @Param("256")
+    public int height;
+    
+    @Param("0.2")
+    public double wallDensity;
+    
+    @Param("false")
+    public boolean crossCorners;
+    
+    private AbstractPathFinder<GridGraphNode> pathFinder;
+    private final GridGraphNode[] sources = new GridGraphNode[QUERIES];
+    private final GridGraphNode[] targets = new GridGraphNode[QUERIES];
+    private int query;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        GridGraphConfiguration configuration = new GridGraphConfiguration();
+        configuration.setAllowDiagonals(true);
+        configuration.setCrossCorners(crossCorners);
+        
+        GridGraphNode[][] grid = createGrid(width, height, configuration);
+        List<GridGraphNode> freeNodes = new ArrayList<>();
+        
+        for (GridGraphNode[] row : grid) {
+            for (GridGraphNode node : row) {
+                if (random.nextDouble() < wallDensity) {
+                    configuration.markAsWall(node);
+                } else {
+                    freeNodes.add(node);
+                }
+            }
+        }
+        
+        GridGraphWeightFunction weightFunction = new GridGraphWeightFunction();
+        pathFinder = finder.create(weightFunction,
+                                   new GridGraphOctileHeuristicFunction());
+        pathFinder.setQueue(queue.<GridGraphNode>create());
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = Utils.choose(freeNodes, random);
+            targets[i] = Utils.choose(freeNodes, random);
+        }
+        
+        PathChecks.check(pathFinder, weightFunction, sources, targets);
+    }
+    
+    @Benchmark
+    public List<GridGraphNode> search() {
+        int i = query;
+        query = (i + 1) % QUERIES;
+        return pathFinder.search(sources[i], targets[i]);
+    }
+    
+    static GridGraphNode[][] createGrid(int width,
+                                        int height,
+                                        GridGraphConfiguration configuration) {
+        GridGraphNode[][] grid = new GridGraphNode[height][width];
+        int id = 0;
+        
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                grid[y][x] = new GridGraphNode(id++, x, y, configuration);
+            }
+        }
+        
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (x + 1 < width) {
+                    grid[y][x].setEast(grid[y][x + 1]);
+                }
+                
+                if (y + 1 < height) {
+                    grid[y][x].setSouth(grid[y + 1][x]);
+                    
+                    if (x + 1 < width) {
+                        grid[y][x].setSouthEast(grid[y + 1][x + 1]);
+                    }
+                    
+                    if (x > 0) {
+                        grid[y][x].setSouthWest(grid[y + 1][x - 1]);
+                    }
+                }
+            }
+        }
+        
+        return grid;
+    }
+}
@@ -0,0 +1,149 @@
+package net.coderodde.gsp.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.pdb.AdditivePatternDatabase;
+import net.coderodde.gsp.model.pdb.PackedPatternDatabaseHeuristicFunction;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphNode;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphWeightFunction;
+import net.coderodde.gsp.model.support.PuzzleManhattanHeuristicFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the path finders on the same 15-puzzle instances as
+ * {@link PuzzleGraphBenchmark}, encoded as {@link PackedPuzzleGraphNode}s.
+ * The heuristic is either the plain Manhattan distance 
+ * ({@code MANHATTAN}), its incremental version ({@code INCREMENTAL}), or the
+ * incremental Manhattan distance with linear conflicts 
+ * ({@code LINEAR_CONFLICT}), or the 5-5-5 additive pattern database
+ * ({@code PATTERN_DATABASE}), which is built once per trial. IDA* uses no queue, so its results do not 
+ * depend on the {@code queue} parameter.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PackedPuzzleGraphBenchmark {
+    
+    private static final long SEED = 13L;
+    private static final int QUERIES = 16;
+    
+    @Param({"DIJKSTRA", "BI_DIJKSTRA", "A_STAR", "BHPA", "NBA", "PNBA", 
+            "IDA", "HDA"})
+    public FinderType finder;
+    
+    @Param({"DARY", "BINOMIAL", "FIBONACCI", "PAIRING", "RADIX", "BUCKET"})
+    public QueueType queue;
+    
+    @Param({"MANHATTAN", "INCREMENTAL", "LINEAR_CONFLICT", 
+            "PATTERN_DATABASE"})
+    public String heuristic;
+    
+    @Param("16")
+    public int scrambleMoves;
+    
+    private AbstractPathFinder<PackedPuzzleGraphNode> pathFinder;
+    private final PackedPuzzleGraphNode[] sources = 
+            new PackedPuzzleGraphNode[QUERIES];
+    private final PackedPuzzleGraphNode target = new PackedPuzzleGraphNode(4);
+    private int query;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        
+        pathFinder = finder.create(new PackedPuzzleGraphWeightFunction(),
+                                   createHeuristicFunction());
+        pathFinder.setQueue(queue.<PackedPuzzleGraphNode>create());
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = scramble(target, scrambleMoves, random);
+        }
+    }
+    
+    @Benchmark
+    public List<PackedPuzzleGraphNode> search() {
+        int i = query;
+        query = (i + 1) % QUERIES;
+        return pathFinder.search(sources[i], target);
+    }
+    
+    private AbstractHeuristicFunction<PackedPuzzleGraphNode> 
+        createHeuristicFunction() {
+        switch (heuristic) {
+            case "MANHATTAN":
+                return new PackedPuzzleGraphHeuristicFunction();
+                
+            case "INCREMENTAL":
+                return new PuzzleManhattanHeuristicFunction(target, false);
+                
+            case "LINEAR_CONFLICT":
+                return new PuzzleManhattanHeuristicFunction(target, true);
+                
+            case "PATTERN_DATABASE":
+                return new PackedPatternDatabaseHeuristicFunction(
+                        AdditivePatternDatabase.build(
+                                4,
+                                new int[]{ 1, 2, 3, 4, 7 },
+                                new int[]{ 5, 6, 9, 10, 13 },
+                                new int[]{ 8, 11, 12, 14, 15 }));
+                
+            default:
+                throw new IllegalStateException(
+                        "Unknown heuristic: " + heuristic);
+        }
+    }
+    
+    private static PackedPuzzleGraphNode scramble(PackedPuzzleGraphNode node, 
+                                                  int moves, 
+                                                  Random random) {
+        while (moves > 0) {
+            PackedPuzzleGraphNode next;
+            
+            switch (random.nextInt(4)) {
+                case 0:
+                    next = node.moveUp();
+                    break;
+                    
+                case 1:
+                    next = node.moveRight();
+                    break;
+                    
+                case 2:
+                    next = node.moveDown();
+                    break;
+                    
+                default:
+                    next = node.moveLeft();
+                    break;
+            }
+            
+            if (next != null) {
+                node = next;
+                --moves;
+            }
+        }
+        
+        return node;
+    }
+}
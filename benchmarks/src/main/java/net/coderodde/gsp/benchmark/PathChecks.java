@@ -0,0 +1,66 @@
+package net.coderodde.gsp.benchmark;
+
+import java.util.List;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+
+/**
+ * This class checks the paths of a benchmarked finder against Dijkstra's
+ * algorithm before the measurement starts, so that a finder and a queue
+ * returning wrong paths fail the trial instead of being timed. Each query
+ * runs twice, which also covers the reuse of the queues between searches.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+final class PathChecks {
+
+    private static final double EPSILON = 1e-6;
+
+    private PathChecks() {}
+
+    static <N extends AbstractGraphNode<N>> void
+        check(AbstractPathFinder<N> finder,
+              AbstractGraphWeightFunction<N> weightFunction,
+              N[] sources,
+              N[] targets) {
+        DijkstraPathFinder<N> reference =
+                new DijkstraPathFinder<>(weightFunction);
+
+        for (int round = 0; round < 2; ++round) {
+            for (int i = 0; i < sources.length; ++i) {
+                double expected =
+                        getPathCost(reference.search(sources[i], targets[i]),
+                                    weightFunction);
+                double actual =
+                        getPathCost(finder.search(sources[i], targets[i]),
+                                    weightFunction);
+
+                if (Math.abs(expected - actual) > EPSILON) {
+                    throw new IllegalStateException(
+                            "Bad path from " + finder.humanReadableName() +
+                            " with " + finder.getQueue() + ": cost " +
+                            actual + " instead of " + expected + ".");
+                }
+            }
+        }
+    }
+
+    private static <N extends AbstractGraphNode<N>> double
+        getPathCost(List<N> path,
+                    AbstractGraphWeightFunction<N> weightFunction) {
+        if (path.isEmpty()) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double cost = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            cost += weightFunction.get(path.get(i), path.get(i + 1));
+        }
+
+        return cost;
+    }
+}
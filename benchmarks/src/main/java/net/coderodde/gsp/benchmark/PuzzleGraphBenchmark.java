@@ -0,0 +1,110 @@
+package net.coderodde.gsp.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.PuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphNode;
+import net.coderodde.gsp.model.support.PuzzleGraphWeightFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This class benchmarks the path finders on 15-puzzle instances obtained by 
+ * scrambling the solved puzzle with random moves. The puzzle nodes have no
+ * dense IDs, so {@code INDEXED_DARY} is not benchmarked.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzleGraphBenchmark {
+    
+    private static final long SEED = 13L;
+    private static final int QUERIES = 16;
+    
+    @Param({"DIJKSTRA", "BI_DIJKSTRA", "A_STAR", "BHPA", "NBA", "PNBA"})
+    public FinderType finder;
+    
+    @Param({"DARY", "BINOMIAL", "FIBONACCI", "PAIRING", "RADIX", "BUCKET"})
+    public QueueType queue;
+    
+    @Param("16")
+    public int scrambleMoves;
+    
+    private AbstractPathFinder<PuzzleGraphNode> pathFinder;
+    private final PuzzleGraphNode[] sources = new PuzzleGraphNode[QUERIES];
+    private final PuzzleGraphNode target = new PuzzleGraphNode(4);
+    private int query;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(SEED);
+        
+        pathFinder = 
+                finder.create(new PuzzleGraphWeightFunction(),
+                              new PuzzleGraphHeuristicFunction(
+                                      target.getDegree()));
+        pathFinder.setQueue(queue.<PuzzleGraphNode>create());
+        
+        for (int i = 0; i < QUERIES; ++i) {
+            sources[i] = scramble(target, scrambleMoves, random);
+        }
+    }
+    
+    @Benchmark
+    public List<PuzzleGraphNode> search() {
+        int i = query;
+        query = (i + 1) % QUERIES;
+        return pathFinder.search(sources[i], target);
+    }
+    
+    private static PuzzleGraphNode scramble(PuzzleGraphNode node, 
+                                            int moves, 
+                                            Random random) {
+        while (moves > 0) {
+            PuzzleGraphNode next;
+            
+            switch (random.nextInt(4)) {
+                case 0:
+                    next = node.moveUp();
+                    break;
+                    
+                case 1:
+                    next = node.moveRight();
+                    break;
+                    
+                case 2:
+                    next = node.moveDown();
+                    break;
+                    
+                default:
+                    next = node.moveLeft();
+                    break;
+            }
+            
+            if (next != null) {
+                node = next;
+                --moves;
+            }
+        }
+        
+        return node;
+    }
+}
@@ -0,0 +1,69 @@
+package net.coderodde.gsp.benchmark;
+
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.support.BinaryHeap;
+import net.coderodde.gsp.model.queue.support.BinomialHeap;
+import net.coderodde.gsp.model.queue.support.BucketQueue;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.queue.support.FibonacciHeap;
+import net.coderodde.gsp.model.queue.support.IndexedDaryHeap;
+import net.coderodde.gsp.model.queue.support.PairingHeap;
+import net.coderodde.gsp.model.queue.support.RadixHeap;
+
+/**
+ * This enumeration enumerates the benchmarked priority queues. 
+ * {@code INDEXED_DARY} requires dense node IDs, and {@code BINARY} requires 
+ * the lazy deletion mode.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public enum QueueType {
+    
+    DARY,
+    BINOMIAL,
+    FIBONACCI,
+    PAIRING,
+    INDEXED_DARY,
+    RADIX,
+    BUCKET,
+    BINARY;
+    
+    /**
+     * Creates a priority queue of this type.
+     * 
+     * @param <N> the actual graph node type.
+     * @return a priority queue.
+     */
+    public <N extends AbstractGraphNode<N>> MinimumPriorityQueue<N> create() {
+        switch (this) {
+            case DARY:
+                return new DaryHeap<>();
+                
+            case BINOMIAL:
+                return new BinomialHeap<>();
+                
+            case FIBONACCI:
+                return new FibonacciHeap<>();
+                
+            case PAIRING:
+                return new PairingHeap<>();
+                
+            case INDEXED_DARY:
+                return new IndexedDaryHeap<>();
+                
+            case RADIX:
+                return new RadixHeap<>();
+                
+            case BUCKET:
+                return new BucketQueue<>();
+                
+            case BINARY:
+                return new BinaryHeap<>();
+                
+            default:
+                throw new IllegalStateException("Unknown queue: " + this);
+        }
+    }
+}
@@ -10,7 +10,6 @@ import static net.coderodde.gsp.Utils.choose;
 import static net.coderodde.gsp.Utils.getPathLength;
 import static net.coderodde.gsp.Utils.getRandomGraphData;
 import static net.coderodde.gsp.Utils.title;
-import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.support.DirectedGraphNode;
 import net.coderodde.gsp.model.support.DirectedGraphWeightFunction;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
@@ -24,6 +23,7 @@ import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
 import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
 import net.coderodde.gsp.model.support.PuzzleGraphHeuristicFunction;
 import net.coderodde.gsp.model.support.PuzzleGraphNode;
+import net.coderodde.gsp.model.support.PuzzleGraphWeightFunction;
 
 public class Demo {
     
@@ -414,20 +414,4 @@ public class Demo {
         
         return node;
     }
-    
-    private static final class PuzzleGraphWeightFunction 
-    extends AbstractGraphWeightFunction<PuzzleGraphNode> {
-
-        @Override
-        public void put(PuzzleGraphNode tail, 
-                        PuzzleGraphNode head, 
-                        double weight) {
-            
-        }
-
-        @Override
-        public double get(PuzzleGraphNode tail, PuzzleGraphNode head) {
-            return 1.0;
-        }
-    }
 }
@@ -15,7 +15,8 @@ public enum Algorithm {
     A_STAR      ("A*"),
     BHPA        ("BHPA"),
     NBA         ("NBA*"),
-    PNBA        ("PNBA*");
+    PNBA        ("PNBA*"),
+    JPS         ("Jump Point Search");
     
     private final String name;
     
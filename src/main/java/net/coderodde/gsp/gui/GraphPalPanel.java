@@ -4,15 +4,30 @@ import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Point;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import javax.swing.JPanel;
+import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.BatchedGraphSearchListener;
+import net.coderodde.gsp.model.GraphSearchEventBuffer;
 import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.grid.PackedGrid;
+import net.coderodde.gsp.model.grid.PackedGridNode;
+import net.coderodde.gsp.model.grid.PackedGridOctileHeuristicFunction;
+import net.coderodde.gsp.model.grid.PackedGridWeightFunction;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalDijkstraPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
 import net.coderodde.gsp.model.support.GridGraphConfiguration;
 import net.coderodde.gsp.model.support.GridGraphNode;
 import net.coderodde.gsp.model.support.GridGraphWeightFunction;
+import net.coderodde.gsp.model.support.JumpPointSearchPathFinder;
+import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
 import net.coderodde.gsp.model.support.UndirectedGraphNode;
 
 /**
@@ -133,7 +148,9 @@ implements GraphSearchListener<GridGraphNode> {
     }
     
     public void runSearch(AbstractPathFinder<GridGraphNode> finder) {
-        finder.setGraphSearchListener(this);
+        finder.setGraphSearchListener(
+                new GraphSearchEventBuffer<>(
+                        new PixelPainter<GridGraphNode>()));
         
         System.out.println("Begin!");
         
@@ -161,6 +178,113 @@ implements GraphSearchListener<GridGraphNode> {
         System.out.println("Done!");
     }
     
+    /**
+     * Runs {@code algorithm} from the source point to the target point. The 
+     * search runs over a packed copy of the grid, except for Jump Point 
+     * Search, which runs over the grid graph itself.
+     * 
+     * @param algorithm the algorithm to run.
+     */
+    public void runSearch(Algorithm algorithm) {
+        Objects.requireNonNull(algorithm, "The algorithm is null.");
+        
+        if (algorithm == Algorithm.JPS) {
+            runSearch(new JumpPointSearchPathFinder());
+            return;
+        }
+        
+        PackedGridWeightFunction packedWeightFunction = 
+                new PackedGridWeightFunction();
+        PackedGridOctileHeuristicFunction heuristicFunction = 
+                new PackedGridOctileHeuristicFunction();
+        AbstractPathFinder<PackedGridNode> finder;
+        
+        switch (algorithm) {
+            case DIJKSTRA:
+                finder = new DijkstraPathFinder<>(packedWeightFunction);
+                break;
+                
+            case BI_DIJKSTRA:
+                finder = new BidirectionalDijkstraPathFinder<>(
+                        packedWeightFunction);
+                break;
+                
+            case A_STAR:
+                finder = new AStarPathFinder<>(packedWeightFunction, 
+                                               heuristicFunction);
+                break;
+                
+            case BHPA:
+                finder = new BidirectionalAStarPathFinder<>(
+                        packedWeightFunction, 
+                        heuristicFunction);
+                break;
+                
+            case NBA:
+                finder = new NewBidirectionalAStarPathFinder<>(
+                        packedWeightFunction, 
+                        heuristicFunction);
+                break;
+                
+            case PNBA:
+                finder = new ParallelNewBidirectionalAStarPathFinder<>(
+                        packedWeightFunction, 
+                        heuristicFunction);
+                break;
+                
+            default:
+                throw new IllegalArgumentException(
+                        "Unsupported algorithm: " + algorithm + ".");
+        }
+        
+        runPackedSearch(finder);
+    }
+    
+    /**
+     * Returns a packed copy of the current grid and its walls.
+     * 
+     * @return a packed grid.
+     */
+    public PackedGrid getPackedGrid() {
+        return PackedGrid.of(graph, configuration);
+    }
+    
+    /**
+     * Runs {@code finder} over a packed copy of the current grid.
+     * 
+     * @param finder the path finder to run.
+     */
+    public void runPackedSearch(AbstractPathFinder<PackedGridNode> finder) {
+        PackedGrid packedGrid = getPackedGrid();
+        finder.setGraphSearchListener(
+                new GraphSearchEventBuffer<>(
+                        new PixelPainter<PackedGridNode>()));
+        
+        System.out.println("Begin!");
+        
+        Thread searchThread = new Thread() {
+          
+            @Override
+            public void run() {
+                finder.search(packedGrid.getNode(sourcePoint.x, sourcePoint.y),
+                              packedGrid.getNode(targetPoint.x, targetPoint.y));
+            }
+        };
+        
+        RepainterThread repainterThread = new RepainterThread(this, 10);
+        repainterThread.start();
+        searchThread.start();
+        
+        try {
+            searchThread.join();
+        } catch (InterruptedException ex) {
+            
+        }
+        
+        repainterThread.exit();
+        System.out.println("Done!");
+    }
+    
     private void createNodes(int width, int height) {
         graph = new GridGraphNode[height][width];
         
@@ -379,8 +503,12 @@ implements GraphSearchListener<GridGraphNode> {
         int clr = wallColor.getRGB();
         
         // Draw the walls.
-        for (GridGraphNode wallNode : configuration.getWallNodeSet()) {
-            image.setRGB(wallNode.getX(), wallNode.getY(), clr);
+        for (GridGraphNode[] row : graph) {
+            for (GridGraphNode node : row) {
+                if (configuration.isWallNode(node)) {
+                    image.setRGB(node.getX(), node.getY(), clr);
+                }
+            }
         }
         
         repaint();
@@ -406,6 +534,57 @@ implements GraphSearchListener<GridGraphNode> {
         repaint();
     }
     
+    /**
+     * Paints the progress of the searches in chunks, writing straight into the
+     * pixel array of the image. The IDs of both the grid graph nodes and the 
+     * packed grid nodes are {@code y * width + x}, which is also the index of 
+     * their pixel.
+     * 
+     * @param <N> the actual graph node type.
+     */
+    private final class PixelPainter<N extends AbstractGraphNode<N>>
+    implements BatchedGraphSearchListener<N> {
+
+        @Override
+        public void begin() {
+            GraphPalPanel.this.begin();
+        }
+
+        @Override
+        public void events(int[] events, int count) {
+            int[] pixels = getPixels();
+            int open = openColor.getRGB();
+            int closed = closedColor.getRGB();
+            
+            for (int i = 0; i < count; ++i) {
+                int event = events[i];
+                
+                if (BatchedGraphSearchListener.isClosed(event)) {
+                    pixels[~event] = closed;
+                } else {
+                    pixels[event] = open;
+                }
+            }
+        }
+
+        @Override
+        public void done(List<N> path) {
+            int[] pixels = getPixels();
+            int color = pathColor.getRGB();
+            
+            for (N node : path) {
+                pixels[node.getId()] = color;
+            }
+            
+            repaint();
+        }
+        
+        private int[] getPixels() {
+            return ((DataBufferInt) image.getRaster().getDataBuffer())
+                    .getData();
+        }
+    }
+    
     private final class SearchRunnerThread extends Thread {
         
         private final UndirectedGraphNode source;
@@ -11,7 +11,9 @@ public enum Heap {
     DARY      ("d-ary"),
     BINOMIAL  ("Binomial"),
     FIBONACCI ("Fibonacci"),
-    PAIRING   ("Pairing");
+    PAIRING   ("Pairing"),
+    RADIX     ("Radix"),
+    BUCKET    ("Bucket");
     
     private final String name;
     
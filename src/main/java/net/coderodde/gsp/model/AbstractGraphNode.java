@@ -19,6 +19,15 @@ public abstract class AbstractGraphNode<N extends AbstractGraphNode<N>> {
         this.id = id;
     }
     
+    /**
+     * Returns the integer ID of this node.
+     * 
+     * @return the ID of this node.
+     */
+    public int getId() {
+        return id;
+    }
+    
     /**
      * Makes {@code child} a child node of this node.
      * 
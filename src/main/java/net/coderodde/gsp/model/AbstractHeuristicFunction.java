@@ -1,7 +1,9 @@
 package net.coderodde.gsp.model;
 
 /**
- * This interface defines the API for heuristic functions.
+ * This interface defines the API for heuristic functions. The heuristic need 
+ * not be symmetric: the backward searches of the bidirectional path finders 
+ * are guided by {@code estimate(source, node)}.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 13, 2015)
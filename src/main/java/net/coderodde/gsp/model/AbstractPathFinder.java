@@ -1,15 +1,35 @@
 package net.coderodde.gsp.model;
 
-import net.coderodde.gsp.model.support.DirectedGraphNode;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import net.coderodde.gsp.model.queue.LazyMinimumPriorityQueue;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.support.BinaryHeap;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.support.HashSearchState;
 
 /**
  * This interface defines the API and a couple of utility functions for path
  * finding algorithms.
+ * <p>
+ * If a queue is set via {@link #setQueue(MinimumPriorityQueue)} or a search 
+ * state via {@link #setSearchState(AbstractSearchState)}, the implementations
+ * spawn their working copies once and reuse them in all subsequent searches,
+ * so such a finder must not run two searches concurrently. Otherwise, each 
+ * search allocates a fresh {@link DaryHeap} and a fresh 
+ * {@link HashSearchState}.
+ * <p>
+ * In lazy deletion mode (see {@link #setLazyDeletion(boolean)}), the finders 
+ * never decrease priorities in place: the queue must be a 
+ * {@link LazyMinimumPriorityQueue}, which stores duplicates, and the stale 
+ * duplicates of closed nodes are skipped on extraction.
+ * <p>
+ * A search may be bounded by a deadline, a budget of expanded nodes and a
+ * cancellation token via {@link #search(AbstractGraphNode, AbstractGraphNode,
+ * SearchLimits)}; the limits are checked once per expanded node, and a
+ * stopped search returns a result telling why it stopped.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 13, 2015)
@@ -19,6 +39,21 @@ public abstract class AbstractPathFinder<N extends AbstractGraphNode<N>> {
     
     protected GraphSearchListener<N> listener;
     protected MinimumPriorityQueue<N> queue;
+    protected AbstractSearchState<N> searchState;
+    protected boolean lazyDeletion;
+    
+    /**
+     * The reusable queues spawned from {@code queue}, indexed by slots.
+     */
+    private final MinimumPriorityQueue<N>[] spawnedQueues = 
+            new MinimumPriorityQueue[2];
+    
+    /**
+     * The reusable search states spawned from {@code searchState}, indexed by
+     * slots.
+     */
+    private final AbstractSearchState<N>[] spawnedSearchStates = 
+            new AbstractSearchState[2];
     
     public abstract String humanReadableName();
     
@@ -34,6 +69,23 @@ public abstract class AbstractPathFinder<N extends AbstractGraphNode<N>> {
      */
     public abstract List<N> search(N source, N target);
     
+    /**
+     * Performs a shortest path search from {@code source} to {@code target}
+     * within the limits {@code limits}. The default implementation ignores
+     * the limits and runs {@link #search(AbstractGraphNode, 
+     * AbstractGraphNode)} to completion, reporting no expanded nodes; the
+     * implementations override it.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     * @param limits the search limits.
+     * @return the search result.
+     */
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        SearchMonitor monitor = new SearchMonitor(limits, this);
+        return monitor.getResult(search(source, target));
+    }
+    
     public MinimumPriorityQueue<N> getQueue() {
         return queue;
     }
@@ -48,8 +100,123 @@ public abstract class AbstractPathFinder<N extends AbstractGraphNode<N>> {
     
     public AbstractPathFinder<N> setQueue(MinimumPriorityQueue<N> queue) {
         this.queue = queue;
+        spawnedQueues[0] = null;
+        spawnedQueues[1] = null;
         return this;
     }
+    
+    public boolean isLazyDeletion() {
+        return lazyDeletion;
+    }
+    
+    /**
+     * Turns the lazy deletion mode on or off. In lazy deletion mode, the 
+     * queue set via {@link #setQueue(MinimumPriorityQueue)} must be a 
+     * {@link LazyMinimumPriorityQueue}; if no queue is set, a 
+     * {@link BinaryHeap} is used.
+     * 
+     * @param lazyDeletion whether to use lazy deletion.
+     * @return this path finder.
+     * @throws UnsupportedOperationException if this finder does not support
+     *                                       lazy deletion.
+     */
+    public AbstractPathFinder<N> setLazyDeletion(boolean lazyDeletion) {
+        if (lazyDeletion && !supportsLazyDeletion()) {
+            throw new UnsupportedOperationException(
+                    humanReadableName() + " does not support lazy deletion.");
+        }
+        
+        this.lazyDeletion = lazyDeletion;
+        return this;
+    }
+    
+    /**
+     * Returns {@code true} if this finder tolerates stale duplicates in its
+     * queues. The default implementation returns {@code false}.
+     * 
+     * @return {@code true} if lazy deletion is supported.
+     */
+    protected boolean supportsLazyDeletion() {
+        return false;
+    }
+    
+    public AbstractSearchState<N> getSearchState() {
+        return searchState;
+    }
+    
+    /**
+     * Sets the search state prototype. Use 
+     * {@link net.coderodde.gsp.model.support.SearchState} for graphs with 
+     * dense node IDs in order to avoid allocating per search.
+     * 
+     * @param searchState the search state prototype, or {@code null} for 
+     *                    allocating a hash map based state per search.
+     * @return this path finder.
+     */
+    public AbstractPathFinder<N> 
+        setSearchState(AbstractSearchState<N> searchState) {
+        this.searchState = searchState;
+        spawnedSearchStates[0] = null;
+        spawnedSearchStates[1] = null;
+        return this;
+    }
+    
+    /**
+     * Returns an empty queue for the search direction {@code slot}, which is
+     * either 0 (forward) or 1 (backward).
+     * 
+     * @param slot the slot index.
+     * @return an empty queue.
+     * @throws IllegalStateException if the queue does not match the lazy 
+     *                               deletion mode.
+     */
+    protected MinimumPriorityQueue<N> obtainQueue(int slot) {
+        if (queue == null) {
+            return lazyDeletion ? new BinaryHeap<>() : new DaryHeap<>();
+        }
+        
+        if (lazyDeletion != (queue instanceof LazyMinimumPriorityQueue)) {
+            throw new IllegalStateException(
+                    lazyDeletion ? 
+                    "Lazy deletion requires a LazyMinimumPriorityQueue." :
+                    "A LazyMinimumPriorityQueue requires lazy deletion.");
+        }
+        
+        MinimumPriorityQueue<N> ret = spawnedQueues[slot];
+        
+        if (ret == null) {
+            ret = queue.spawn();
+            spawnedQueues[slot] = ret;
+        } else {
+            ret.clear();
+        }
+        
+        return ret;
+    }
+    
+    /**
+     * Returns an empty search state for the search direction {@code slot}, 
+     * which is either 0 (forward) or 1 (backward).
+     * 
+     * @param slot the slot index.
+     * @return an empty search state.
+     */
+    protected AbstractSearchState<N> obtainSearchState(int slot) {
+        if (searchState == null) {
+            return new HashSearchState<>();
+        }
+        
+        AbstractSearchState<N> ret = spawnedSearchStates[slot];
+        
+        if (ret == null) {
+            ret = searchState.spawn();
+            spawnedSearchStates[slot] = ret;
+        } else {
+            ret.reset();
+        }
+        
+        return ret;
+    }
         
     /**
      * Constructs a path found by a bidirectional pathfinding algorithm.
@@ -94,4 +261,48 @@ public abstract class AbstractPathFinder<N extends AbstractGraphNode<N>> {
     public List<N> tracebackPath(N target, Map<N, N> parents) {
         return tracebackPath(target, parents, null);
     }
+    
+    /**
+     * Constructs a path found by a bidirectional pathfinding algorithm.
+     * 
+     * @param touch  the node where the two search frontiers "meet".
+     * @param stateA the search state of the forward search.
+     * @param stateB the search state of the backward search.
+     * @return a shortest path.
+     */
+    public List<N> tracebackPath(N touch,
+                                 AbstractSearchState<N> stateA,
+                                 AbstractSearchState<N> stateB) {
+        N current = touch;
+        List<N> path = new ArrayList<>();
+        
+        while (current != null) {
+            path.add(current);
+            current = stateA.getParent(current);
+        }
+        
+        Collections.<N>reverse(path);
+        
+        if (stateB != null) {
+            current = stateB.getParent(touch);
+            
+            while (current != null) {
+                path.add(current);
+                current = stateB.getParent(current);
+            }
+        }
+        
+        return path;
+    }
+    
+    /**
+     * Constructs a path found by unidirectional pathfinding algorithms.
+     * 
+     * @param target the target node.
+     * @param state  the search state.
+     * @return a shortest path.
+     */
+    public List<N> tracebackPath(N target, AbstractSearchState<N> state) {
+        return tracebackPath(target, state, null);
+    }
 }
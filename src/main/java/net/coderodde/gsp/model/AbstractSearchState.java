@@ -0,0 +1,79 @@
+package net.coderodde.gsp.model;
+
+/**
+ * This abstract class defines the API for the per-search bookkeeping of path
+ * finding algorithms: the best known distance and the parent of each reached
+ * node, and whether a node is closed. An instance may be reused for any 
+ * number of searches by calling {@link #reset()} between them.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public abstract class AbstractSearchState<N extends AbstractGraphNode<N>> 
+implements Spawnable<AbstractSearchState<N>> {
+    
+    /**
+     * Forgets all the nodes reached so far.
+     */
+    public abstract void reset();
+    
+    /**
+     * Checks whether {@code node} has been reached, or namely, whether it has 
+     * a distance.
+     * 
+     * @param node the node to check.
+     * @return {@code true} if {@code node} is reached.
+     */
+    public abstract boolean isReached(N node);
+    
+    /**
+     * Returns the best known distance of {@code node}, or 
+     * {@link Double#POSITIVE_INFINITY} if the node is not reached.
+     * 
+     * @param node the node whose distance to return.
+     * @return the distance of {@code node}.
+     */
+    public abstract double getDistance(N node);
+    
+    /**
+     * Returns the parent of {@code node}, or {@code null} if the node has no
+     * parent.
+     * 
+     * @param node the node whose parent to return.
+     * @return the parent of {@code node}.
+     */
+    public abstract N getParent(N node);
+    
+    /**
+     * Marks {@code node} as reached with distance {@code distance} via the 
+     * parent node {@code parent}.
+     * 
+     * @param node     the reached node.
+     * @param distance the distance of {@code node}.
+     * @param parent   the parent node of {@code node}, or {@code null}.
+     */
+    public abstract void put(N node, double distance, N parent);
+    
+    /**
+     * Checks whether {@code node} is closed.
+     * 
+     * @param node the node to check.
+     * @return {@code true} if {@code node} is closed.
+     */
+    public abstract boolean isClosed(N node);
+    
+    /**
+     * Marks {@code node} as closed.
+     * 
+     * @param node the node to close.
+     */
+    public abstract void close(N node);
+    
+    /**
+     * Returns the amount of nodes reached since the last reset.
+     * 
+     * @return the amount of reached nodes.
+     */
+    public abstract int size();
+}
@@ -0,0 +1,78 @@
+package net.coderodde.gsp.model;
+
+import java.util.List;
+
+/**
+ * This interface defines the API for listening graph search progress in
+ * batches. Instead of a call per reached or closed node, the listener receives
+ * chunks of events, each event being an {@code int}: the ID of a reached node
+ * as is, or the bitwise complement of the ID of a closed node. Use
+ * {@link #isClosed(int)} and {@link #getNodeId(int)} for decoding. The node
+ * IDs must be non-negative.
+ * <p>
+ * A batched listener is attached to a path finder via a
+ * {@link GraphSearchEventBuffer}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node implementation type.
+ */
+public interface BatchedGraphSearchListener<N extends AbstractGraphNode<N>> {
+
+    /**
+     * Called when the graph search is about to begin.
+     */
+    public void begin();
+
+    /**
+     * Called with the next chunk of events, in the order they happened. The
+     * array is reused for the next chunk, so the listener must not keep it.
+     *
+     * @param events the event array.
+     * @param count  the amount of events at the beginning of the array.
+     */
+    public void events(int[] events, int count);
+
+    /**
+     * Called when a shortest path is computed, after all the events of the
+     * search. If the target node is not reachable from the source node, an
+     * empty node list is expected.
+     *
+     * @param path the shortest path or an empty list if target not reachable.
+     */
+    public void done(List<N> path);
+
+    /**
+     * Called by iterative deepening searches when an iteration is over, after
+     * all the events of the iteration. The default implementation does
+     * nothing.
+     *
+     * @param iteration     the index of the iteration, starting from zero.
+     * @param threshold     the cost threshold of the iteration.
+     * @param expandedNodes the amount of nodes expanded in the iteration.
+     */
+    public default void iteration(int iteration,
+                                  double threshold,
+                                  long expandedNodes) {}
+
+    /**
+     * Returns {@code true} if {@code event} closed its node, and
+     * {@code false} if it reached its node.
+     *
+     * @param event the event.
+     * @return whether the event is a closing event.
+     */
+    public static boolean isClosed(int event) {
+        return event < 0;
+    }
+
+    /**
+     * Returns the ID of the node of {@code event}.
+     *
+     * @param event the event.
+     * @return the node ID.
+     */
+    public static int getNodeId(int event) {
+        return event < 0 ? ~event : event;
+    }
+}
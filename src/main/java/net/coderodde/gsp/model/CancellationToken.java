@@ -0,0 +1,25 @@
+package net.coderodde.gsp.model;
+
+/**
+ * This class implements a flag for cancelling running searches from another
+ * thread. A token may be shared by any amount of searches, and stays
+ * cancelled once cancelled.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /**
+     * Requests the searches using this token to stop.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,117 @@
+package net.coderodde.gsp.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class collects the events of a graph search into chunks and passes
+ * them to a {@link BatchedGraphSearchListener}. Set it as the listener of a
+ * path finder: each reached or closed node costs only an array store, and the
+ * target listener is called once per chunk. The remaining events are flushed
+ * before the end of each iteration and before the search is done.
+ * <p>
+ * The chunks are delivered on the searching thread, so a buffer must not be
+ * shared by two concurrent searches.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node implementation type.
+ */
+public final class GraphSearchEventBuffer<N extends AbstractGraphNode<N>>
+implements GraphSearchListener<N> {
+
+    /**
+     * The default amount of events per chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final BatchedGraphSearchListener<N> listener;
+    private final int[] events;
+    private int size;
+
+    /**
+     * Constructs a buffer delivering chunks of {@link #DEFAULT_CHUNK_SIZE}
+     * events.
+     *
+     * @param listener the target listener.
+     */
+    public GraphSearchEventBuffer(BatchedGraphSearchListener<N> listener) {
+        this(listener, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs a buffer delivering chunks of {@code chunkSize} events.
+     *
+     * @param listener  the target listener.
+     * @param chunkSize the maximum amount of events per chunk.
+     */
+    public GraphSearchEventBuffer(BatchedGraphSearchListener<N> listener,
+                                  int chunkSize) {
+        this.listener = Objects.requireNonNull(listener,
+                                               "The listener is null.");
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                    "Bad chunk size: " + chunkSize + ".");
+        }
+
+        this.events = new int[chunkSize];
+    }
+
+    public BatchedGraphSearchListener<N> getListener() {
+        return listener;
+    }
+
+    public int getChunkSize() {
+        return events.length;
+    }
+
+    @Override
+    public void begin() {
+        size = 0;
+        listener.begin();
+    }
+
+    @Override
+    public void reached(N node) {
+        add(node.getId());
+    }
+
+    @Override
+    public void closed(N node) {
+        add(~node.getId());
+    }
+
+    @Override
+    public void done(List<N> path) {
+        flush();
+        listener.done(path);
+    }
+
+    @Override
+    public void iteration(int iteration,
+                          double threshold,
+                          long expandedNodes) {
+        flush();
+        listener.iteration(iteration, threshold, expandedNodes);
+    }
+
+    /**
+     * Passes the buffered events to the target listener.
+     */
+    public void flush() {
+        if (size > 0) {
+            int count = size;
+            size = 0;
+            listener.events(events, count);
+        }
+    }
+
+    private void add(int event) {
+        events[size] = event;
+
+        if (++size == events.length) {
+            flush();
+        }
+    }
+}
@@ -39,4 +39,16 @@ public interface GraphSearchListener<N extends AbstractGraphNode<N>> {
      * @param path the shortest path or an empty list if target not reachable.
      */
     public void done(List<N> path);
+    
+    /**
+     * Called by iterative deepening searches when an iteration is over. The 
+     * default implementation does nothing.
+     * 
+     * @param iteration     the index of the iteration, starting from zero.
+     * @param threshold     the cost threshold of the iteration.
+     * @param expandedNodes the amount of nodes expanded in the iteration.
+     */
+    public default void iteration(int iteration, 
+                                  double threshold, 
+                                  long expandedNodes) {}
 }
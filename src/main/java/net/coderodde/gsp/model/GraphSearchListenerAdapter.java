@@ -0,0 +1,70 @@
+package net.coderodde.gsp.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * This class adapts a legacy {@link GraphSearchListener} to the batched
+ * listener API by replaying each event of a chunk as a call to
+ * {@link GraphSearchListener#reached(AbstractGraphNode)} or
+ * {@link GraphSearchListener#closed(AbstractGraphNode)}. The nodes are looked
+ * up by their IDs.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node implementation type.
+ */
+public final class GraphSearchListenerAdapter<N extends AbstractGraphNode<N>>
+implements BatchedGraphSearchListener<N> {
+
+    private final GraphSearchListener<N> listener;
+    private final IntFunction<N> nodeFunction;
+
+    /**
+     * Constructs an adapter.
+     *
+     * @param listener     the legacy listener.
+     * @param nodeFunction maps the node IDs to the nodes.
+     */
+    public GraphSearchListenerAdapter(GraphSearchListener<N> listener,
+                                      IntFunction<N> nodeFunction) {
+        this.listener = Objects.requireNonNull(listener,
+                                               "The listener is null.");
+        this.nodeFunction = Objects.requireNonNull(
+                nodeFunction,
+                "The node function is null.");
+    }
+
+    @Override
+    public void begin() {
+        listener.begin();
+    }
+
+    @Override
+    public void events(int[] events, int count) {
+        for (int i = 0; i < count; ++i) {
+            int event = events[i];
+            N node = nodeFunction.apply(
+                    BatchedGraphSearchListener.getNodeId(event));
+
+            if (BatchedGraphSearchListener.isClosed(event)) {
+                listener.closed(node);
+            } else {
+                listener.reached(node);
+            }
+        }
+    }
+
+    @Override
+    public void done(List<N> path) {
+        listener.done(path);
+    }
+
+    @Override
+    public void iteration(int iteration,
+                          double threshold,
+                          long expandedNodes) {
+        listener.iteration(iteration, threshold, expandedNodes);
+    }
+}
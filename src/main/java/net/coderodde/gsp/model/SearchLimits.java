@@ -0,0 +1,141 @@
+package net.coderodde.gsp.model;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This class holds the limits of a search: a deadline, a maximum amount of
+ * expanded nodes and a cancellation token, each of which is optional. It
+ * also tells whether to collect the {@link SearchStatistics} of the search.
+ * The instances are immutable; the {@code with} methods return modified
+ * copies.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class SearchLimits {
+
+    /**
+     * No limits at all.
+     */
+    public static final SearchLimits NONE =
+            new SearchLimits(false, 0L, Long.MAX_VALUE, null, false);
+
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private final long maximumExpansions;
+    private final CancellationToken cancellationToken;
+    private final boolean collectingStatistics;
+
+    private SearchLimits(boolean hasDeadline,
+                         long deadlineNanos,
+                         long maximumExpansions,
+                         CancellationToken cancellationToken,
+                         boolean collectingStatistics) {
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+        this.maximumExpansions = maximumExpansions;
+        this.cancellationToken = cancellationToken;
+        this.collectingStatistics = collectingStatistics;
+    }
+
+    /**
+     * Returns these limits with the deadline {@code deadlineNanos}, in terms
+     * of {@link System#nanoTime()}.
+     *
+     * @param deadlineNanos the deadline.
+     * @return the new limits.
+     */
+    public SearchLimits withDeadline(long deadlineNanos) {
+        return new SearchLimits(true,
+                                deadlineNanos,
+                                maximumExpansions,
+                                cancellationToken,
+                                collectingStatistics);
+    }
+
+    /**
+     * Returns these limits with the deadline {@code timeout} from now.
+     *
+     * @param timeout the timeout.
+     * @param unit    the unit of {@code timeout}.
+     * @return the new limits.
+     */
+    public SearchLimits withTimeout(long timeout, TimeUnit unit) {
+        Objects.requireNonNull(unit, "The time unit is null.");
+        return withDeadline(System.nanoTime() + unit.toNanos(timeout));
+    }
+
+    /**
+     * Returns these limits with the maximum amount of expanded nodes
+     * {@code maximumExpansions}.
+     *
+     * @param maximumExpansions the maximum amount of expanded nodes.
+     * @return the new limits.
+     */
+    public SearchLimits withMaximumExpansions(long maximumExpansions) {
+        if (maximumExpansions < 0L) {
+            throw new IllegalArgumentException(
+                    "Bad maximum expansions: " + maximumExpansions + ".");
+        }
+
+        return new SearchLimits(hasDeadline,
+                                deadlineNanos,
+                                maximumExpansions,
+                                cancellationToken,
+                                collectingStatistics);
+    }
+
+    /**
+     * Returns these limits with the cancellation token
+     * {@code cancellationToken}.
+     *
+     * @param cancellationToken the cancellation token.
+     * @return the new limits.
+     */
+    public SearchLimits
+        withCancellationToken(CancellationToken cancellationToken) {
+        Objects.requireNonNull(cancellationToken,
+                               "The cancellation token is null.");
+        return new SearchLimits(hasDeadline,
+                                deadlineNanos,
+                                maximumExpansions,
+                                cancellationToken,
+                                collectingStatistics);
+    }
+
+    /**
+     * Returns these limits asking for the statistics of the search, or not.
+     * The statistics are not collected by default, which costs nothing.
+     *
+     * @param collectingStatistics whether to collect the statistics.
+     * @return the new limits.
+     */
+    public SearchLimits withStatistics(boolean collectingStatistics) {
+        return new SearchLimits(hasDeadline,
+                                deadlineNanos,
+                                maximumExpansions,
+                                cancellationToken,
+                                collectingStatistics);
+    }
+
+    public boolean hasDeadline() {
+        return hasDeadline;
+    }
+
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    public long getMaximumExpansions() {
+        return maximumExpansions;
+    }
+
+    public CancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    public boolean isCollectingStatistics() {
+        return collectingStatistics;
+    }
+}
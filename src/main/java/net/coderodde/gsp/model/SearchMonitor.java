@@ -0,0 +1,583 @@
+package net.coderodde.gsp.model;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.jfr.JfrEvents;
+import net.coderodde.gsp.model.queue.LazyMinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class enforces {@link SearchLimits} within a single search. The path
+ * finders call {@link #expand()} once per expanded node; the expansion
+ * budget is checked each time, while the clock and the cancellation token
+ * are polled only on the first and on every 256th expansion, so that the
+ * checks stay cheap. A monitor is used by one thread at a time.
+ * <p>
+ * If the limits ask for statistics, the monitor also collects the
+ * {@link SearchStatistics}: the finders pass their queues and search states
+ * through the {@code track} methods, which wrap them in counting decorators.
+ * Otherwise, the {@code track} methods return their arguments as is, so that
+ * a search not collecting statistics runs exactly as before. The parallel
+ * finders give each thread a monitor {@link #fork}ed from the monitor of the
+ * search and {@link #absorb} them back once the threads are joined.
+ * <p>
+ * A monitor constructed with its finder also reports the search as a
+ * search event to Flight Recorder, if available (see {@link JfrEvents}). The
+ * event is disabled by default; while it is enabled, the monitor collects the
+ * statistics for the event even if the limits do not ask for them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class SearchMonitor {
+
+    private static final long POLL_MASK = 0xff;
+
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private final long maximumExpansions;
+    private final CancellationToken cancellationToken;
+    private final boolean collectingStatistics;
+    private final boolean reportingStatistics;
+    private final AbstractPathFinder<?> finder;
+    private long expandedNodes;
+    private SearchResult.Status stopStatus;
+
+    // The statistics, collected only if asked for.
+    private long generatedNodes;
+    private long reopenedNodes;
+    private long openSize;
+    private long peakOpenSize;
+    private long insertions;
+    private long priorityDecreases;
+    private long extractions;
+    private long startNanos;
+    private long startCpuNanos;
+    private long wallNanos;
+    private long cpuNanos;
+    private boolean clockStopped;
+
+    /**
+     * The first queue tracked, naming the heap in the search event.
+     */
+    private MinimumPriorityQueue<?> trackedQueue;
+
+    /**
+     * The search event, or {@code null} if disabled or committed already.
+     */
+    private Object event;
+
+    /**
+     * The CPU time of the absorbed monitors, or -1 if unknown.
+     */
+    private long absorbedCpuNanos;
+
+    public SearchMonitor(SearchLimits limits) {
+        this(limits, null, false);
+    }
+
+    /**
+     * Constructs a monitor of a search run by {@code finder}, reporting the
+     * search to Flight Recorder if the search event is enabled.
+     *
+     * @param limits the search limits.
+     * @param finder the finder running the search.
+     */
+    public SearchMonitor(SearchLimits limits, AbstractPathFinder<?> finder) {
+        this(limits,
+             Objects.requireNonNull(finder, "The finder is null."),
+             false);
+    }
+
+    private SearchMonitor(SearchLimits limits,
+                          AbstractPathFinder<?> finder,
+                          boolean collectingStatistics) {
+        Objects.requireNonNull(limits, "The search limits are null.");
+        this.hasDeadline = limits.hasDeadline();
+        this.deadlineNanos = limits.getDeadlineNanos();
+        this.maximumExpansions = limits.getMaximumExpansions();
+        this.cancellationToken = limits.getCancellationToken();
+        this.finder = finder;
+        this.event = finder == null ? null : JfrEvents.beginSearch();
+        this.reportingStatistics = limits.isCollectingStatistics();
+        this.collectingStatistics = collectingStatistics ||
+                                    reportingStatistics ||
+                                    event != null;
+        startClock();
+    }
+
+    /**
+     * Returns a monitor for a thread of this search, enforcing
+     * {@code limits} and collecting statistics if this monitor does.
+     *
+     * @param limits the limits of the thread.
+     * @return the monitor of the thread.
+     */
+    public SearchMonitor fork(SearchLimits limits) {
+        return new SearchMonitor(limits, null, collectingStatistics);
+    }
+
+    public boolean isCollectingStatistics() {
+        return collectingStatistics;
+    }
+
+    /**
+     * Returns {@code queue} counting its operations and its size if
+     * collecting statistics, and {@code queue} itself otherwise. The queue
+     * must be empty.
+     *
+     * @param <E>   the element type.
+     * @param queue the queue to track.
+     * @return the queue to use in the search.
+     */
+    public <E> MinimumPriorityQueue<E> track(MinimumPriorityQueue<E> queue) {
+        if (!collectingStatistics) {
+            return queue;
+        }
+
+        if (trackedQueue == null) {
+            trackedQueue = queue;
+        }
+
+        if (queue instanceof LazyMinimumPriorityQueue) {
+            return new CountingLazyQueue<>(queue);
+        }
+
+        return new CountingQueue<>(queue);
+    }
+
+    /**
+     * Returns {@code state} counting the generated and the reopened nodes if
+     * collecting statistics, and {@code state} itself otherwise.
+     *
+     * @param <N>   the actual graph node type.
+     * @param state the search state to track.
+     * @return the search state to use in the search.
+     */
+    public <N extends AbstractGraphNode<N>> AbstractSearchState<N>
+        track(AbstractSearchState<N> state) {
+        return collectingStatistics ? new CountingSearchState<>(state) : state;
+    }
+
+    /**
+     * Counts a generated node, for the finders keeping no search state.
+     */
+    public void generate() {
+        ++generatedNodes;
+    }
+
+    /**
+     * Counts a reopened node, for the finders keeping no search state.
+     */
+    public void reopen() {
+        ++reopenedNodes;
+    }
+
+    /**
+     * Starts measuring the wall and the CPU time of the calling thread. Done
+     * on construction; does nothing unless collecting statistics.
+     */
+    public void startClock() {
+        if (!collectingStatistics) {
+            return;
+        }
+
+        startNanos = System.nanoTime();
+        startCpuNanos = getCurrentThreadCpuNanos();
+        clockStopped = false;
+    }
+
+    /**
+     * Stops measuring the time. Must be called by the thread that started
+     * the clock; done by {@link #getResult(List, double)} unless done
+     * already. Does nothing unless collecting statistics.
+     */
+    public void stopClock() {
+        if (!collectingStatistics) {
+            return;
+        }
+
+        long endCpuNanos = getCurrentThreadCpuNanos();
+        wallNanos = System.nanoTime() - startNanos;
+        cpuNanos = startCpuNanos < 0L ||
+                   endCpuNanos < 0L ||
+                   absorbedCpuNanos < 0L ?
+                   -1L :
+                   endCpuNanos - startCpuNanos + absorbedCpuNanos;
+        clockStopped = true;
+    }
+
+    /**
+     * Adds the expanded nodes, the statistics and the CPU time of the monitor
+     * {@code other}, whose clock must be stopped, to this monitor. The stop
+     * status of {@code other} is taken over unless this monitor is stopped.
+     *
+     * @param other the monitor of a thread of the search.
+     */
+    public void absorb(SearchMonitor other) {
+        expandedNodes += other.expandedNodes;
+
+        if (stopStatus == null) {
+            stopStatus = other.stopStatus;
+        }
+
+        generatedNodes += other.generatedNodes;
+        reopenedNodes += other.reopenedNodes;
+        peakOpenSize += other.peakOpenSize;
+        insertions += other.insertions;
+        priorityDecreases += other.priorityDecreases;
+        extractions += other.extractions;
+
+        if (trackedQueue == null) {
+            trackedQueue = other.trackedQueue;
+        }
+
+        if (other.collectingStatistics) {
+            absorbedCpuNanos = absorbedCpuNanos < 0L || other.cpuNanos < 0L ?
+                               -1L :
+                               absorbedCpuNanos + other.cpuNanos;
+        }
+    }
+
+    /**
+     * Counts an expansion of a node and checks the limits.
+     *
+     * @return {@code true} if the search must stop.
+     */
+    public boolean expand() {
+        if (expandedNodes == maximumExpansions) {
+            stopStatus = SearchResult.Status.EXPANSION_LIMIT_REACHED;
+            return true;
+        }
+
+        if ((expandedNodes++ & POLL_MASK) == 0L) {
+            return poll();
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks the cancellation token and the deadline.
+     *
+     * @return {@code true} if the search must stop.
+     */
+    public boolean poll() {
+        if (cancellationToken != null && cancellationToken.isCancelled()) {
+            stopStatus = SearchResult.Status.CANCELLED;
+            return true;
+        }
+
+        if (hasDeadline && System.nanoTime() - deadlineNanos >= 0L) {
+            stopStatus = SearchResult.Status.DEADLINE_EXCEEDED;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Stops the search on an interrupt.
+     */
+    public void interrupt() {
+        stopStatus = SearchResult.Status.INTERRUPTED;
+    }
+
+    public boolean isStopped() {
+        return stopStatus != null;
+    }
+
+    /**
+     * Returns the reason the search was stopped for, or {@code null} if it
+     * was not stopped.
+     *
+     * @return the stop status.
+     */
+    public SearchResult.Status getStopStatus() {
+        return stopStatus;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Returns the result of the search that returned {@code path}. The path
+     * cost in the statistics is unknown.
+     *
+     * @param <N>  the actual graph node type.
+     * @param path the path found, or an empty list.
+     * @return the search result.
+     */
+    public <N extends AbstractGraphNode<N>> SearchResult<N>
+        getResult(List<N> path) {
+        return getResult(path, Double.NaN);
+    }
+
+    /**
+     * Returns the result of the search that returned {@code path}, measuring
+     * the path with {@code weightFunction} if collecting statistics.
+     *
+     * @param <N>            the actual graph node type.
+     * @param path           the path found, or an empty list.
+     * @param weightFunction the weight function of the graph.
+     * @return the search result.
+     */
+    public <N extends AbstractGraphNode<N>> SearchResult<N>
+        getResult(List<N> path, AbstractGraphWeightFunction<N> weightFunction) {
+        return getResult(path,
+                         collectingStatistics ?
+                         getPathCost(path, weightFunction) :
+                         Double.NaN);
+    }
+
+    /**
+     * Returns the result of the search that returned {@code path} of cost
+     * {@code pathCost}.
+     *
+     * @param <N>      the actual graph node type.
+     * @param path     the path found, or an empty list.
+     * @param pathCost the cost of the path.
+     * @return the search result.
+     */
+    public <N extends AbstractGraphNode<N>> SearchResult<N>
+        getResult(List<N> path, double pathCost) {
+        SearchResult.Status status;
+
+        if (stopStatus != null) {
+            path = Collections.<N>emptyList();
+            status = stopStatus;
+            pathCost = Double.NaN;
+        } else if (path.isEmpty()) {
+            status = SearchResult.Status.UNREACHABLE;
+            pathCost = Double.POSITIVE_INFINITY;
+        } else {
+            status = SearchResult.Status.FOUND;
+        }
+
+        if (!collectingStatistics) {
+            return new SearchResult<>(path, status, expandedNodes);
+        }
+
+        if (!clockStopped) {
+            stopClock();
+        }
+
+        if (event != null) {
+            commitEvent(status, path.size(), pathCost);
+        }
+
+        if (!reportingStatistics) {
+            return new SearchResult<>(path, status, expandedNodes);
+        }
+
+        return new SearchResult<>(path,
+                                  status,
+                                  expandedNodes,
+                                  new SearchStatistics(pathCost,
+                                                       expandedNodes,
+                                                       generatedNodes,
+                                                       reopenedNodes,
+                                                       peakOpenSize,
+                                                       insertions,
+                                                       priorityDecreases,
+                                                       extractions,
+                                                       wallNanos,
+                                                       cpuNanos));
+    }
+
+    private void commitEvent(SearchResult.Status status,
+                             int pathNodes,
+                             double pathCost) {
+        JfrEvents.commitSearch(event,
+                               finder.humanReadableName(),
+                               trackedQueue == null ?
+                               null :
+                               trackedQueue.toString(),
+                               status.name(),
+                               expandedNodes,
+                               generatedNodes,
+                               reopenedNodes,
+                               peakOpenSize,
+                               pathNodes,
+                               pathCost);
+        event = null;
+    }
+
+    private static <N extends AbstractGraphNode<N>> double
+        getPathCost(List<N> path,
+                    AbstractGraphWeightFunction<N> weightFunction) {
+        double cost = 0.0;
+        Iterator<N> iterator = path.iterator();
+
+        if (!iterator.hasNext()) {
+            return cost;
+        }
+
+        for (N previous = iterator.next(); iterator.hasNext();) {
+            N next = iterator.next();
+            cost += weightFunction.get(previous, next);
+            previous = next;
+        }
+
+        return cost;
+    }
+
+    private static long getCurrentThreadCpuNanos() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean.isCurrentThreadCpuTimeSupported() ?
+               bean.getCurrentThreadCpuTime() :
+               -1L;
+    }
+
+    private void resize(long delta) {
+        openSize += delta;
+
+        if (peakOpenSize < openSize) {
+            peakOpenSize = openSize;
+        }
+    }
+
+    /**
+     * Counts the operations of a queue and the elements in it.
+     */
+    private class CountingQueue<E> implements MinimumPriorityQueue<E> {
+
+        final MinimumPriorityQueue<E> queue;
+
+        CountingQueue(MinimumPriorityQueue<E> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public void add(E element, double priority) {
+            int size = queue.size();
+            ++insertions;
+            queue.add(element, priority);
+            resize(queue.size() - size);
+        }
+
+        @Override
+        public void decreasePriority(E element, double newPriority) {
+            int size = queue.size();
+            ++priorityDecreases;
+            queue.decreasePriority(element, newPriority);
+            resize(queue.size() - size);
+        }
+
+        @Override
+        public E extractMinimum() {
+            E element = queue.extractMinimum();
+            ++extractions;
+            resize(-1L);
+            return element;
+        }
+
+        @Override
+        public E min() {
+            return queue.min();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            resize(-queue.size());
+            queue.clear();
+        }
+
+        @Override
+        public MinimumPriorityQueue<E> spawn() {
+            return queue.spawn();
+        }
+
+        @Override
+        public String toString() {
+            return queue.toString();
+        }
+    }
+
+    private final class CountingLazyQueue<E> extends CountingQueue<E>
+    implements LazyMinimumPriorityQueue<E> {
+
+        CountingLazyQueue(MinimumPriorityQueue<E> queue) {
+            super(queue);
+        }
+    }
+
+    /**
+     * Counts the generated and the reopened nodes of a search state.
+     */
+    private final class CountingSearchState<N extends AbstractGraphNode<N>>
+    extends AbstractSearchState<N> {
+
+        private final AbstractSearchState<N> state;
+
+        CountingSearchState(AbstractSearchState<N> state) {
+            this.state = state;
+        }
+
+        @Override
+        public void reset() {
+            state.reset();
+        }
+
+        @Override
+        public boolean isReached(N node) {
+            return state.isReached(node);
+        }
+
+        @Override
+        public double getDistance(N node) {
+            return state.getDistance(node);
+        }
+
+        @Override
+        public N getParent(N node) {
+            return state.getParent(node);
+        }
+
+        @Override
+        public void put(N node, double distance, N parent) {
+            if (!state.isReached(node)) {
+                ++generatedNodes;
+            } else if (state.isClosed(node)) {
+                ++reopenedNodes;
+            }
+
+            state.put(node, distance, parent);
+        }
+
+        @Override
+        public boolean isClosed(N node) {
+            return state.isClosed(node);
+        }
+
+        @Override
+        public void close(N node) {
+            state.close(node);
+        }
+
+        @Override
+        public int size() {
+            return state.size();
+        }
+
+        @Override
+        public AbstractSearchState<N> spawn() {
+            return state.spawn();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package net.coderodde.gsp.model;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This class holds the outcome of a search run under {@link SearchLimits}:
+ * the path, the reason the search stopped, the amount of nodes expanded and,
+ * if asked for, the statistics of the search. The path is empty unless the
+ * status is {@link Status#FOUND}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class SearchResult<N extends AbstractGraphNode<N>> {
+
+    /**
+     * The reasons for a search to stop.
+     */
+    public enum Status {
+
+        /**
+         * A shortest path was found.
+         */
+        FOUND,
+
+        /**
+         * The target is not reachable from the source.
+         */
+        UNREACHABLE,
+
+        /**
+         * The cancellation token was cancelled.
+         */
+        CANCELLED,
+
+        /**
+         * The deadline passed.
+         */
+        DEADLINE_EXCEEDED,
+
+        /**
+         * The maximum amount of expanded nodes was reached.
+         */
+        EXPANSION_LIMIT_REACHED,
+
+        /**
+         * The thread running the search was interrupted.
+         */
+        INTERRUPTED
+    }
+
+    private final List<N> path;
+    private final Status status;
+    private final long expandedNodes;
+    private final SearchStatistics statistics;
+
+    public SearchResult(List<N> path, Status status, long expandedNodes) {
+        this(path, status, expandedNodes, null);
+    }
+
+    public SearchResult(List<N> path,
+                        Status status,
+                        long expandedNodes,
+                        SearchStatistics statistics) {
+        this.path = Objects.requireNonNull(path, "The path is null.");
+        this.status = Objects.requireNonNull(status, "The status is null.");
+        this.expandedNodes = expandedNodes;
+        this.statistics = statistics;
+    }
+
+    public List<N> getPath() {
+        return path;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Returns the statistics of the search, or {@code null} if they were not
+     * collected.
+     *
+     * @return the search statistics.
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Returns {@code true} if the search ran to completion, that is, found a
+     * path or proved that there is none.
+     *
+     * @return {@code true} if the search completed.
+     */
+    public boolean isComplete() {
+        return status == Status.FOUND || status == Status.UNREACHABLE;
+    }
+
+    @Override
+    public String toString() {
+        return status + " after " + expandedNodes + " expansions: " + path;
+    }
+}
@@ -0,0 +1,132 @@
+package net.coderodde.gsp.model;
+
+/**
+ * This class holds the statistics of a single search, collected if the
+ * search limits ask for them via {@link SearchLimits#withStatistics(boolean)}.
+ * <p>
+ * The generated nodes are the nodes reached for the first time, and the
+ * reopened nodes are the closed nodes reached again via a shorter path. The
+ * open size counts the elements of all the open lists of the search,
+ * including the stale duplicates in lazy deletion mode; for the parallel
+ * finders, it is the sum of the peak sizes of the open lists of the threads,
+ * and the CPU time is the sum of the CPU times of the threads. The CPU time
+ * is -1 if the JVM does not measure the CPU time of threads.
+ * <p>
+ * The finders that work over primitive arrays instead of queues and search
+ * states, such as the contraction hierarchy finder, report no generated
+ * nodes and no queue operations.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class SearchStatistics {
+
+    private final double pathCost;
+    private final long expandedNodes;
+    private final long generatedNodes;
+    private final long reopenedNodes;
+    private final long peakOpenSize;
+    private final long insertions;
+    private final long priorityDecreases;
+    private final long extractions;
+    private final long wallNanos;
+    private final long cpuNanos;
+
+    SearchStatistics(double pathCost,
+                     long expandedNodes,
+                     long generatedNodes,
+                     long reopenedNodes,
+                     long peakOpenSize,
+                     long insertions,
+                     long priorityDecreases,
+                     long extractions,
+                     long wallNanos,
+                     long cpuNanos) {
+        this.pathCost = pathCost;
+        this.expandedNodes = expandedNodes;
+        this.generatedNodes = generatedNodes;
+        this.reopenedNodes = reopenedNodes;
+        this.peakOpenSize = peakOpenSize;
+        this.insertions = insertions;
+        this.priorityDecreases = priorityDecreases;
+        this.extractions = extractions;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+    }
+
+    /**
+     * Returns the cost of the path found, {@link Double#POSITIVE_INFINITY} if
+     * the target is unreachable, or {@link Double#NaN} if the search was
+     * stopped or the finder could not compute the cost.
+     *
+     * @return the path cost.
+     */
+    public double getPathCost() {
+        return pathCost;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public long getGeneratedNodes() {
+        return generatedNodes;
+    }
+
+    public long getReopenedNodes() {
+        return reopenedNodes;
+    }
+
+    public long getPeakOpenSize() {
+        return peakOpenSize;
+    }
+
+    /**
+     * Returns the amount of insertions in the open lists.
+     *
+     * @return the amount of insertions.
+     */
+    public long getInsertions() {
+        return insertions;
+    }
+
+    /**
+     * Returns the amount of priority decreases in the open lists.
+     *
+     * @return the amount of priority decreases.
+     */
+    public long getPriorityDecreases() {
+        return priorityDecreases;
+    }
+
+    /**
+     * Returns the amount of extractions in the open lists.
+     *
+     * @return the amount of extractions.
+     */
+    public long getExtractions() {
+        return extractions;
+    }
+
+    public long getWallNanos() {
+        return wallNanos;
+    }
+
+    public long getCpuNanos() {
+        return cpuNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "cost " + pathCost +
+               ", expanded " + expandedNodes +
+               ", generated " + generatedNodes +
+               ", reopened " + reopenedNodes +
+               ", peak open " + peakOpenSize +
+               ", insertions " + insertions +
+               ", decreases " + priorityDecreases +
+               ", extractions " + extractions +
+               ", wall " + wallNanos + " ns" +
+               ", CPU " + cpuNanos + " ns";
+    }
+}
@@ -0,0 +1,209 @@
+package net.coderodde.gsp.model.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractPathFinder;
+
+/**
+ * This class runs batches of path queries over a shared graph on an
+ * {@link ExecutorService}. Each batch is served by a handful of worker tasks
+ * pulling the queries off a shared counter, so that long queries do not
+ * hold the others up.
+ * <p>
+ * A path finder must not run two searches at a time, so each worker borrows
+ * a finder from a pool of idle ones for the duration of the batch and
+ * returns it afterwards; the factory is called only when the pool is empty.
+ * The finders are thus reused across the batches along with the queues and
+ * the search states they spawn, and the amount of finders never exceeds the
+ * amount of concurrently running workers. As the finders are not tied to
+ * threads, the executor may as well start a new thread per task, such as
+ * the virtual thread executor of Java 21.
+ * <p>
+ * The graph, the weight function and the heuristic function are shared by
+ * all the finders and must be safe to read concurrently.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class BatchPathQueryEngine<N extends AbstractGraphNode<N>> {
+
+    private final Supplier<? extends AbstractPathFinder<N>> finderFactory;
+    private final ExecutorService executor;
+    private final ConcurrentLinkedDeque<AbstractPathFinder<N>> IDLE_FINDERS =
+            new ConcurrentLinkedDeque<>();
+    private final AtomicInteger finderCount = new AtomicInteger();
+    private volatile int parallelism =
+            Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Constructs an engine running the queries on {@code executor}. The
+     * executor is not shut down by the engine.
+     *
+     * @param finderFactory creates a new, possibly preconfigured, finder.
+     * @param executor      the executor running the workers.
+     */
+    public BatchPathQueryEngine(
+            Supplier<? extends AbstractPathFinder<N>> finderFactory,
+            ExecutorService executor) {
+        this.finderFactory = Objects.requireNonNull(finderFactory,
+                                                    "The factory is null.");
+        this.executor = Objects.requireNonNull(executor,
+                                               "The executor is null.");
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Sets the amount of worker tasks per batch. Defaults to the amount of
+     * available processors.
+     *
+     * @param parallelism the amount of workers.
+     * @return this engine.
+     */
+    public BatchPathQueryEngine<N> setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad parallelism: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Returns the amount of finders created so far.
+     *
+     * @return the amount of finders.
+     */
+    public int getFinderCount() {
+        return finderCount.get();
+    }
+
+    /**
+     * Runs the queries and waits for them to complete. If a search throws,
+     * the remaining queries are skipped.
+     *
+     * @param queries the queries.
+     * @return the paths in the order of the queries, and the statistics.
+     * @throws InterruptedException if interrupted while waiting; the
+     *                              remaining queries are skipped.
+     * @throws ExecutionException   if a search throws.
+     */
+    public BatchResult<N> run(List<PathQuery<N>> queries)
+    throws InterruptedException, ExecutionException {
+        Objects.requireNonNull(queries, "The query list is null.");
+
+        for (PathQuery<N> query : queries) {
+            Objects.requireNonNull(query, "A query is null.");
+        }
+
+        Batch<N> batch = new Batch<>(queries);
+        int workerCount = Math.min(parallelism, queries.size());
+        List<Future<?>> futures = new ArrayList<>(workerCount);
+        long startTime = System.nanoTime();
+
+        for (int i = 0; i < workerCount; ++i) {
+            futures.add(executor.submit(() -> work(batch)));
+        }
+
+        ExecutionException failure = null;
+
+        try {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException ex) {
+                    batch.cancel();
+
+                    if (failure == null) {
+                        failure = ex;
+                    }
+                }
+            }
+        } catch (InterruptedException ex) {
+            batch.cancel();
+            throw ex;
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+
+        if (failure != null) {
+            throw failure;
+        }
+
+        List<List<N>> paths = new ArrayList<>(queries.size());
+
+        for (Object path : batch.paths) {
+            paths.add((List<N>) path);
+        }
+
+        return new BatchResult<>(paths, batch.latencies, elapsedNanos);
+    }
+
+    private void work(Batch<N> batch) {
+        AbstractPathFinder<N> finder = IDLE_FINDERS.pollFirst();
+
+        if (finder == null) {
+            finder = finderFactory.get();
+            finderCount.incrementAndGet();
+        }
+
+        try {
+            int index;
+
+            while ((index = batch.next()) >= 0) {
+                PathQuery<N> query = batch.queries.get(index);
+                long startTime = System.nanoTime();
+                batch.paths[index] = finder.search(query.getSource(),
+                                                   query.getTarget());
+                batch.latencies[index] = System.nanoTime() - startTime;
+            }
+        } finally {
+            // The most recently used finders come first, as their memory is
+            // the most likely to be cached.
+            IDLE_FINDERS.addFirst(finder);
+        }
+    }
+
+    /**
+     * The shared state of a running batch. The workers write disjoint
+     * entries of the arrays, which are read once all the workers complete.
+     */
+    private static final class Batch<N extends AbstractGraphNode<N>> {
+
+        final List<PathQuery<N>> queries;
+        final Object[] paths;
+        final long[] latencies;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Batch(List<PathQuery<N>> queries) {
+            this.queries = queries;
+            this.paths = new Object[queries.size()];
+            this.latencies = new long[queries.size()];
+        }
+
+        /**
+         * Returns the index of the next query to run, or -1 if none is
+         * left.
+         */
+        int next() {
+            int index = cursor.getAndIncrement();
+            return index < paths.length ? index : -1;
+        }
+
+        void cancel() {
+            cursor.set(paths.length);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package net.coderodde.gsp.model.batch;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.coderodde.gsp.model.AbstractGraphNode;
+
+/**
+ * This class holds the paths found for a batch of queries, in the order of
+ * the queries, along with the elapsed time of the batch and the latency of
+ * each query.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class BatchResult<N extends AbstractGraphNode<N>> {
+
+    private final List<List<N>> paths;
+    private final long[] latencies;
+    private final long[] sortedLatencies;
+    private final long elapsedNanos;
+
+    BatchResult(List<List<N>> paths, long[] latencies, long elapsedNanos) {
+        this.paths = Collections.unmodifiableList(paths);
+        this.latencies = latencies;
+        this.sortedLatencies = latencies.clone();
+        this.elapsedNanos = elapsedNanos;
+        Arrays.sort(sortedLatencies);
+    }
+
+    /**
+     * Returns the paths in the order of the queries. An unreachable target
+     * yields an empty path.
+     *
+     * @return the paths.
+     */
+    public List<List<N>> getPaths() {
+        return paths;
+    }
+
+    public List<N> getPath(int index) {
+        return paths.get(index);
+    }
+
+    public int getQueryCount() {
+        return paths.size();
+    }
+
+    public long getLatencyNanos(int index) {
+        return latencies[index];
+    }
+
+    /**
+     * Returns the wall-clock time of the whole batch.
+     *
+     * @return the elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the amount of queries answered per second.
+     *
+     * @return the throughput.
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0L ?
+               0.0 :
+               paths.size() * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the latency at the percentile {@code percentile} by the
+     * nearest-rank method; for example, {@code 50.0} yields the median and
+     * {@code 100.0} the maximum latency.
+     *
+     * @param percentile the percentile within {@code (0, 100]}.
+     * @return the latency in nanoseconds, or 0 for an empty batch.
+     */
+    public long getLatencyPercentileNanos(double percentile) {
+        if (!(percentile > 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException(
+                    "Bad percentile: " + percentile + ".");
+        }
+
+        if (sortedLatencies.length == 0) {
+            return 0L;
+        }
+
+        int rank = (int) Math.ceil(percentile / 100.0 *
+                                   sortedLatencies.length);
+        return sortedLatencies[Math.max(rank, 1) - 1];
+    }
+
+    public long getMedianLatencyNanos() {
+        return getLatencyPercentileNanos(50.0);
+    }
+
+    public long get99thPercentileLatencyNanos() {
+        return getLatencyPercentileNanos(99.0);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d queries in %.3f ms: %.1f queries/s, " +
+                             "p50 %.3f ms, p99 %.3f ms",
+                             paths.size(),
+                             elapsedNanos / 1e6,
+                             getThroughput(),
+                             getMedianLatencyNanos() / 1e6,
+                             get99thPercentileLatencyNanos() / 1e6);
+    }
+}
@@ -0,0 +1,37 @@
+package net.coderodde.gsp.model.batch;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+
+/**
+ * This class holds a single source/target pair of a batch.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class PathQuery<N extends AbstractGraphNode<N>> {
+
+    private final N source;
+    private final N target;
+
+    public PathQuery(N source, N target) {
+        this.source = Objects.requireNonNull(source,
+                                             "The source node is null.");
+        this.target = Objects.requireNonNull(target,
+                                             "The target node is null.");
+    }
+
+    public N getSource() {
+        return source;
+    }
+
+    public N getTarget() {
+        return target;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + source + " -> " + target + ")";
+    }
+}
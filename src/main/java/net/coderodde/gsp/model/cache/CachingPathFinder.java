@@ -0,0 +1,156 @@
+package net.coderodde.gsp.model.cache;
+
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class decorates a path finder with a {@link PathCache}. A search
+ * looks the node pair up first, and runs the decorated finder only on a
+ * miss; the complete results, found or unreachable, are cached, while the
+ * searches stopped by their limits are not. A hit reports no expanded nodes
+ * and does not notify the search listener.
+ * <p>
+ * The searches asking for statistics bypass the lookup, since a cached path
+ * has none, but still cache their results. The configuration methods are
+ * forwarded to the decorated finder. Like any finder, a caching finder must
+ * not run two searches at a time; share a cache between several caching
+ * finders for serving concurrent requests.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class CachingPathFinder<N extends AbstractGraphNode<N>>
+extends AbstractPathFinder<N> {
+
+    private final AbstractPathFinder<N> finder;
+    private final PathCache<N> cache;
+
+    /**
+     * Constructs a caching finder over a cache of its own, holding at most
+     * {@code maximumEntries} paths.
+     *
+     * @param finder         the finder to decorate.
+     * @param maximumEntries the maximum amount of cached paths.
+     */
+    public CachingPathFinder(AbstractPathFinder<N> finder,
+                             long maximumEntries) {
+        this(finder, new PathCache<>(maximumEntries));
+    }
+
+    /**
+     * Constructs a caching finder over the cache {@code cache}, which may be
+     * shared with other caching finders over the same graph.
+     *
+     * @param finder the finder to decorate.
+     * @param cache  the path cache.
+     */
+    public CachingPathFinder(AbstractPathFinder<N> finder,
+                             PathCache<N> cache) {
+        this.finder = Objects.requireNonNull(finder, "The finder is null.");
+        this.cache = Objects.requireNonNull(cache, "The cache is null.");
+    }
+
+    public AbstractPathFinder<N> getFinder() {
+        return finder;
+    }
+
+    public PathCache<N> getCache() {
+        return cache;
+    }
+
+    @Override
+    public String humanReadableName() {
+        return finder.humanReadableName();
+    }
+
+    @Override
+    public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        Objects.requireNonNull(limits, "The search limits are null.");
+
+        if (!limits.isCollectingStatistics()) {
+            List<N> path = cache.get(source, target);
+
+            if (path != null) {
+                return new SearchResult<>(path,
+                                          path.isEmpty() ?
+                                          SearchResult.Status.UNREACHABLE :
+                                          SearchResult.Status.FOUND,
+                                          0L);
+            }
+        }
+
+        long epoch = cache.getEpoch();
+        SearchResult<N> result = finder.search(source, target, limits);
+
+        switch (result.getStatus()) {
+            case FOUND:
+            case UNREACHABLE:
+                cache.put(source, target, result.getPath(), epoch);
+                break;
+
+            default:
+                break;
+        }
+
+        return result;
+    }
+
+    @Override
+    public MinimumPriorityQueue<N> getQueue() {
+        return finder.getQueue();
+    }
+
+    @Override
+    public CachingPathFinder<N> setQueue(MinimumPriorityQueue<N> queue) {
+        finder.setQueue(queue);
+        return this;
+    }
+
+    @Override
+    public GraphSearchListener<N> getGraphSearchListener() {
+        return finder.getGraphSearchListener();
+    }
+
+    @Override
+    public void setGraphSearchListener(GraphSearchListener<N> listener) {
+        finder.setGraphSearchListener(listener);
+    }
+
+    @Override
+    public boolean isLazyDeletion() {
+        return finder.isLazyDeletion();
+    }
+
+    @Override
+    public CachingPathFinder<N> setLazyDeletion(boolean lazyDeletion) {
+        finder.setLazyDeletion(lazyDeletion);
+        return this;
+    }
+
+    @Override
+    public AbstractSearchState<N> getSearchState() {
+        return finder.getSearchState();
+    }
+
+    @Override
+    public CachingPathFinder<N>
+        setSearchState(AbstractSearchState<N> searchState) {
+        finder.setSearchState(searchState);
+        return this;
+    }
+}
@@ -0,0 +1,634 @@
+package net.coderodde.gsp.model.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import net.coderodde.gsp.model.AbstractGraphNode;
+
+/**
+ * This class caches the shortest paths of a graph by the IDs of their source
+ * and target nodes. An empty path stands for an unreachable target.
+ * <p>
+ * The cache is effective only if the IDs of the nodes are unique, as the
+ * node pairs with equal IDs share a single entry. Such pairs, for example
+ * those of the puzzle graphs, whose nodes all have the ID 0, do not get the
+ * paths of each other, since each entry keeps its endpoints and a lookup
+ * hits only if they are {@link Object#equals(Object) equal} to the queried
+ * ones, yet they keep replacing each other in the cache.
+ * <p>
+ * The cache is split into stripes by the hash of the node ID pair, each
+ * stripe having a lock, a weight budget and an eviction policy of its own,
+ * so that the lookups of different pairs rarely wait for each other. The
+ * weight of an entry is either 1 ({@link Bound#ENTRIES}) or an estimate of
+ * its memory footprint in bytes ({@link Bound#BYTES}). The eviction policy is
+ * either the least recently used one ({@link Eviction#LRU}) or W-TinyLFU
+ * ({@link Eviction#TINY_LFU}): the new entries enter a small LRU window, and
+ * leaving it, replace the least recently used entry of the main space only if
+ * they were accessed more often, as estimated by a {@link FrequencySketch}.
+ * The main space is a segmented LRU, where the entries accessed again are
+ * protected from eviction by the new ones. W-TinyLFU keeps the hot pairs of
+ * a skewed workload far better than LRU.
+ * <p>
+ * The cache does not watch the graph. When the graph changes, call
+ * {@link #arcAdded}, {@link #arcRemoved} or {@link #invalidateAll()}. A path
+ * computed before an invalidation is not cached after it, even if its search
+ * was still running at the time; see {@link #getEpoch()}.
+ * <p>
+ * A cache may be shared by several {@link CachingPathFinder}s over the same
+ * graph, such as a pool of finders serving concurrent requests.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class PathCache<N extends AbstractGraphNode<N>> {
+
+    /**
+     * The eviction policies.
+     */
+    public enum Eviction {
+        LRU,
+        TINY_LFU
+    }
+
+    /**
+     * The units of the maximum size of a cache.
+     */
+    public enum Bound {
+        ENTRIES,
+        BYTES
+    }
+
+    /**
+     * The estimated bytes of an entry besides its path nodes: the entry, the
+     * hash map node, the boxed key and the path list.
+     */
+    static final long ENTRY_BYTES = 128L;
+
+    /**
+     * The estimated bytes per path node: a reference in the path array. The
+     * nodes themselves belong to the graph.
+     */
+    static final long NODE_BYTES = 8L;
+
+    private static final int MAXIMUM_STRIPES = 16;
+
+    /**
+     * The least weight per stripe, so that small caches are not split into
+     * too small stripes.
+     */
+    private static final long MINIMUM_STRIPE_ENTRIES = 64L;
+
+    private final Eviction eviction;
+    private final Bound bound;
+    private final long maximumSize;
+    private final Stripe<N>[] stripes;
+    private final int stripeMask;
+    private final AtomicLong epoch = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructs a W-TinyLFU cache of at most {@code maximumEntries}
+     * entries.
+     *
+     * @param maximumEntries the maximum amount of entries.
+     */
+    public PathCache(long maximumEntries) {
+        this(Eviction.TINY_LFU, Bound.ENTRIES, maximumEntries);
+    }
+
+    /**
+     * Constructs a cache.
+     *
+     * @param eviction    the eviction policy.
+     * @param bound       the units of {@code maximumSize}.
+     * @param maximumSize the maximum total weight of the entries.
+     */
+    public PathCache(Eviction eviction, Bound bound, long maximumSize) {
+        this.eviction = Objects.requireNonNull(eviction,
+                                               "The eviction is null.");
+        this.bound = Objects.requireNonNull(bound, "The bound is null.");
+
+        if (maximumSize < 1L) {
+            throw new IllegalArgumentException(
+                    "Bad maximum size: " + maximumSize + ".");
+        }
+
+        this.maximumSize = maximumSize;
+
+        long expectedEntries = bound == Bound.ENTRIES ?
+                               maximumSize :
+                               maximumSize / (ENTRY_BYTES + 16 * NODE_BYTES);
+        int processors = Runtime.getRuntime().availableProcessors();
+        long stripeCount =
+                Math.min(Math.min(MAXIMUM_STRIPES, 2L * processors),
+                         Math.max(1L,
+                                  expectedEntries / MINIMUM_STRIPE_ENTRIES));
+        stripeCount = Long.highestOneBit(stripeCount);
+        this.stripes = new Stripe[(int) stripeCount];
+        this.stripeMask = stripes.length - 1;
+
+        for (int i = 0; i < stripes.length; ++i) {
+            // Spread the remainder of the budget over the first stripes.
+            long stripeSize = maximumSize / stripeCount +
+                              (i < maximumSize % stripeCount ? 1 : 0);
+            stripes[i] = new Stripe<>(this,
+                                      stripeSize,
+                                      eviction == Eviction.TINY_LFU ?
+                                      new FrequencySketch(
+                                              expectedEntries / stripeCount) :
+                                      null);
+        }
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    public Bound getBound() {
+        return bound;
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns a copy of the cached path from {@code source} to
+     * {@code target}, or {@code null} if not cached. An empty path means that
+     * {@code target} is not reachable from {@code source}.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     * @return the cached path, or {@code null}.
+     */
+    public List<N> get(N source, N target) {
+        long key = getKey(source, target);
+        List<N> path = getStripe(key).get(key, source, target);
+
+        if (path == null) {
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return new ArrayList<>(path);
+    }
+
+    /**
+     * Caches the path from {@code source} to {@code target}, unless the cache
+     * was invalidated since the epoch {@code epoch}.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     * @param path   the shortest path, or an empty list if {@code target} is
+     *               not reachable from {@code source}.
+     * @param epoch  the epoch read before computing the path.
+     */
+    public void put(N source, N target, List<N> path, long epoch) {
+        Objects.requireNonNull(path, "The path is null.");
+        long key = getKey(source, target);
+        List<N> copy = Collections.unmodifiableList(new ArrayList<>(path));
+        long weight = bound == Bound.ENTRIES ?
+                      1L :
+                      ENTRY_BYTES + NODE_BYTES * path.size();
+        getStripe(key).put(key, source, target, copy, weight, epoch);
+    }
+
+    /**
+     * Returns the epoch of this cache, incremented on each invalidation. Read
+     * it before computing a path to cache.
+     *
+     * @return the epoch.
+     */
+    public long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Removes the path from {@code source} to {@code target}.
+     *
+     * @param source the source node.
+     * @param target the target node.
+     */
+    public void invalidate(N source, N target) {
+        long key = getKey(source, target);
+        getStripe(key).remove(key, source, target);
+    }
+
+    /**
+     * Removes all the paths. Call it whenever the arc weights change.
+     */
+    public void invalidateAll() {
+        epoch.incrementAndGet();
+
+        for (Stripe<N> stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    /**
+     * Tells the cache about a new arc. An arc may shorten any path and make
+     * any unreachable target reachable, so all the paths are removed.
+     *
+     * @param tail the tail node of the arc.
+     * @param head the head node of the arc.
+     */
+    public void arcAdded(N tail, N head) {
+        Objects.requireNonNull(tail, "The tail node is null.");
+        Objects.requireNonNull(head, "The head node is null.");
+        invalidateAll();
+    }
+
+    /**
+     * Tells the cache about a removed arc. Only the paths running through
+     * the arc are removed, as the others remain the shortest ones.
+     *
+     * @param tail the tail node of the arc.
+     * @param head the head node of the arc.
+     */
+    public void arcRemoved(N tail, N head) {
+        Objects.requireNonNull(tail, "The tail node is null.");
+        Objects.requireNonNull(head, "The head node is null.");
+        epoch.incrementAndGet();
+
+        for (Stripe<N> stripe : stripes) {
+            stripe.removeArc(tail, head);
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the share of the lookups that hit, or zero if there were none.
+     *
+     * @return the hit rate.
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        return lookups == 0L ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Returns the amount of cached paths.
+     *
+     * @return the amount of entries.
+     */
+    public long size() {
+        long size = 0L;
+
+        for (Stripe<N> stripe : stripes) {
+            size += stripe.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * Returns the total weight of the cached paths, in the units of the
+     * bound.
+     *
+     * @return the total weight.
+     */
+    public long getWeight() {
+        long weight = 0L;
+
+        for (Stripe<N> stripe : stripes) {
+            weight += stripe.getWeight();
+        }
+
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "PathCache: " + eviction + ", " + size() + " entries, " +
+               "weight " + getWeight() + " / " + maximumSize + " " + bound +
+               ", hit rate " + getHitRate();
+    }
+
+    private static long getKey(AbstractGraphNode<?> source,
+                               AbstractGraphNode<?> target) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        return ((long) source.getId() << 32) | (target.getId() & 0xffffffffL);
+    }
+
+    private Stripe<N> getStripe(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (hash >>> 32) & stripeMask];
+    }
+
+    /**
+     * A cached path, linked into one of the access queues of its stripe.
+     */
+    private static final class Entry<N> {
+
+        final long key;
+        N source;
+        N target;
+        List<N> path;
+        long weight;
+        AccessQueue<N> queue;
+        Entry<N> previous;
+        Entry<N> next;
+
+        Entry(long key, N source, N target, List<N> path, long weight) {
+            this.key = key;
+            this.source = source;
+            this.target = target;
+            this.path = path;
+            this.weight = weight;
+        }
+
+        boolean matches(N source, N target) {
+            return this.source.equals(source) && this.target.equals(target);
+        }
+    }
+
+    /**
+     * A queue of entries from the least to the most recently used one.
+     */
+    private static final class AccessQueue<N> {
+
+        Entry<N> head;
+        Entry<N> tail;
+        long weight;
+
+        void add(Entry<N> entry) {
+            entry.queue = this;
+            entry.previous = tail;
+            entry.next = null;
+
+            if (tail == null) {
+                head = entry;
+            } else {
+                tail.next = entry;
+            }
+
+            tail = entry;
+            weight += entry.weight;
+        }
+
+        void remove(Entry<N> entry) {
+            if (entry.previous == null) {
+                head = entry.next;
+            } else {
+                entry.previous.next = entry.next;
+            }
+
+            if (entry.next == null) {
+                tail = entry.previous;
+            } else {
+                entry.next.previous = entry.previous;
+            }
+
+            entry.queue = null;
+            entry.previous = null;
+            entry.next = null;
+            weight -= entry.weight;
+        }
+
+        void moveToTail(Entry<N> entry) {
+            if (entry != tail) {
+                remove(entry);
+                add(entry);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            weight = 0L;
+        }
+    }
+
+    /**
+     * A stripe of the cache. With LRU eviction, all the entries are in the
+     * window queue.
+     */
+    private static final class Stripe<N extends AbstractGraphNode<N>> {
+
+        private final PathCache<N> cache;
+        private final FrequencySketch sketch;
+        private final long maximumWeight;
+        private final long maximumWindowWeight;
+        private final long maximumMainWeight;
+        private final long maximumProtectedWeight;
+        private final Map<Long, Entry<N>> map = new HashMap<>();
+        private final AccessQueue<N> window = new AccessQueue<>();
+        private final AccessQueue<N> probation = new AccessQueue<>();
+        private final AccessQueue<N> protectedQueue = new AccessQueue<>();
+
+        Stripe(PathCache<N> cache, long maximumWeight, FrequencySketch sketch) {
+            this.cache = cache;
+            this.sketch = sketch;
+            this.maximumWeight = maximumWeight;
+
+            if (sketch == null) {
+                this.maximumWindowWeight = maximumWeight;
+            } else {
+                this.maximumWindowWeight = Math.max(1L, maximumWeight / 100);
+            }
+
+            this.maximumMainWeight = maximumWeight - maximumWindowWeight;
+            this.maximumProtectedWeight = maximumMainWeight * 4 / 5;
+        }
+
+        synchronized List<N> get(long key, N source, N target) {
+            if (sketch != null) {
+                sketch.increment(key);
+            }
+
+            Entry<N> entry = map.get(key);
+
+            if (entry == null || !entry.matches(source, target)) {
+                return null;
+            }
+
+            access(entry);
+            return entry.path;
+        }
+
+        synchronized void put(long key,
+                              N source,
+                              N target,
+                              List<N> path,
+                              long weight,
+                              long epoch) {
+            if (epoch != cache.epoch.get()) {
+                return;
+            }
+
+            Entry<N> entry = map.get(key);
+
+            if (entry != null) {
+                // Either the same pair or another one with equal IDs; the
+                // entry is taken over by the latest pair.
+                entry.queue.weight += weight - entry.weight;
+                entry.weight = weight;
+                entry.source = source;
+                entry.target = target;
+                entry.path = path;
+                access(entry);
+            } else if (weight <= maximumWeight) {
+                entry = new Entry<>(key, source, target, path, weight);
+                map.put(key, entry);
+                window.add(entry);
+            } else {
+                return;
+            }
+
+            evict();
+        }
+
+        synchronized void remove(long key, N source, N target) {
+            Entry<N> entry = map.get(key);
+
+            if (entry != null && entry.matches(source, target)) {
+                map.remove(key);
+                entry.queue.remove(entry);
+            }
+        }
+
+        synchronized void removeArc(N tail, N head) {
+            Iterator<Entry<N>> iterator = map.values().iterator();
+
+            while (iterator.hasNext()) {
+                Entry<N> entry = iterator.next();
+
+                if (containsArc(entry.path, tail, head)) {
+                    iterator.remove();
+                    entry.queue.remove(entry);
+                }
+            }
+        }
+
+        synchronized void clear() {
+            map.clear();
+            window.clear();
+            probation.clear();
+            protectedQueue.clear();
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+
+        synchronized long getWeight() {
+            return window.weight + probation.weight + protectedQueue.weight;
+        }
+
+        private void access(Entry<N> entry) {
+            if (entry.queue != probation) {
+                entry.queue.moveToTail(entry);
+                return;
+            }
+
+            // Protect the entry accessed again.
+            probation.remove(entry);
+            protectedQueue.add(entry);
+            demote();
+        }
+
+        /**
+         * Makes room in the protected queue by moving its least recently 
+         * used entries back to probation.
+         */
+        private void demote() {
+            while (protectedQueue.weight > maximumProtectedWeight) {
+                Entry<N> demoted = protectedQueue.head;
+                protectedQueue.remove(demoted);
+                probation.add(demoted);
+            }
+        }
+
+        private void evict() {
+            while (window.weight > maximumWindowWeight) {
+                Entry<N> candidate = window.head;
+                window.remove(candidate);
+
+                if (sketch == null) {
+                    evict(candidate);
+                } else {
+                    admit(candidate);
+                }
+            }
+
+            // The main space outgrows its budget when an entry in it is
+            // replaced by a heavier path.
+            demote();
+
+            while (probation.weight +
+                   protectedQueue.weight > maximumMainWeight) {
+                Entry<N> victim = probation.head != null ?
+                                  probation.head :
+                                  protectedQueue.head;
+                victim.queue.remove(victim);
+                evict(victim);
+            }
+        }
+
+        /**
+         * Moves {@code candidate} from the window to the main space if it is
+         * accessed more often than the entries it would evict.
+         */
+        private void admit(Entry<N> candidate) {
+            while (probation.weight +
+                   protectedQueue.weight +
+                   candidate.weight > maximumMainWeight) {
+                Entry<N> victim = probation.head != null ?
+                                  probation.head :
+                                  protectedQueue.head;
+
+                if (victim == null ||
+                        sketch.frequency(candidate.key) <=
+                        sketch.frequency(victim.key)) {
+                    evict(candidate);
+                    return;
+                }
+
+                victim.queue.remove(victim);
+                evict(victim);
+            }
+
+            probation.add(candidate);
+        }
+
+        private void evict(Entry<N> entry) {
+            map.remove(entry.key);
+            cache.evictions.increment();
+        }
+
+        private static <N extends AbstractGraphNode<N>> boolean
+            containsArc(List<N> path, N tail, N head) {
+            for (int i = 1; i < path.size(); ++i) {
+                if (path.get(i - 1).equals(tail) &&
+                        path.get(i).equals(head)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package net.coderodde.gsp.model.ch;
+
+import java.util.Collection;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class holds a contraction hierarchy: the nodes ranked by the order of
+ * contraction, and the upward arcs, namely the original arcs and the
+ * shortcuts that lead from a lower ranked node to a higher ranked one. The
+ * arcs are stored in the compressed sparse row format: the upward arcs
+ * leaving {@code u} are kept apart from the upward arcs entering {@code u},
+ * the latter being searched by the backward half of the query. Each shortcut
+ * remembers the node it bypasses, so that the paths may be unpacked to the
+ * original arcs.
+ * <p>
+ * Instances are immutable and may be shared by any amount of
+ * {@link ContractionHierarchyPathFinder}s. Use
+ * {@link ContractionHierarchyBuilder} in order to build one.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class ContractionHierarchy<N extends AbstractGraphNode<N>> {
+
+    /**
+     * Marks an original arc, which bypasses no node.
+     */
+    static final int NO_MIDDLE = -1;
+
+    /**
+     * Maps node IDs to the node objects.
+     */
+    final Object[] nodes;
+
+    /**
+     * The rank of each node; the nodes contracted first have the lowest
+     * ranks.
+     */
+    final int[] rank;
+
+    /**
+     * The upward arcs leaving the node {@code u} are stored at indices
+     * {@code upOffsets[u], ..., upOffsets[u + 1] - 1}.
+     */
+    final int[] upOffsets;
+    final int[] upHeads;
+    final double[] upWeights;
+    final int[] upMiddles;
+
+    /**
+     * The upward arcs entering the node {@code u}, that is, the arcs from
+     * higher ranked nodes to {@code u}, are stored at indices
+     * {@code downOffsets[u], ..., downOffsets[u + 1] - 1}.
+     */
+    final int[] downOffsets;
+    final int[] downTails;
+    final double[] downWeights;
+    final int[] downMiddles;
+
+    /**
+     * The amount of shortcut arcs.
+     */
+    private final int shortcutCount;
+
+    ContractionHierarchy(Object[] nodes,
+                         int[] rank,
+                         int[] upOffsets,
+                         int[] upHeads,
+                         double[] upWeights,
+                         int[] upMiddles,
+                         int[] downOffsets,
+                         int[] downTails,
+                         double[] downWeights,
+                         int[] downMiddles) {
+        this.nodes = nodes;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upHeads = upHeads;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downTails = downTails;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+
+        int shortcuts = 0;
+
+        for (int middle : upMiddles) {
+            if (middle != NO_MIDDLE) {
+                ++shortcuts;
+            }
+        }
+
+        for (int middle : downMiddles) {
+            if (middle != NO_MIDDLE) {
+                ++shortcuts;
+            }
+        }
+
+        this.shortcutCount = shortcuts;
+    }
+
+    /**
+     * Builds a contraction hierarchy with default settings.
+     *
+     * @param <N>            the actual graph node type.
+     * @param nodes          all the nodes of the graph.
+     * @param weightFunction the weight function of the graph.
+     * @return a contraction hierarchy.
+     */
+    public static <N extends AbstractGraphNode<N>> ContractionHierarchy<N>
+        build(Collection<N> nodes,
+              AbstractGraphWeightFunction<N> weightFunction) {
+        return new ContractionHierarchyBuilder<>(nodes, weightFunction)
+                   .build();
+    }
+
+    public int getNodeCount() {
+        return nodes.length;
+    }
+
+    public int getShortcutCount() {
+        return shortcutCount;
+    }
+
+    /**
+     * Returns the rank of {@code node}. The nodes contracted first have the
+     * lowest ranks.
+     *
+     * @param node the node.
+     * @return the rank of the node.
+     */
+    public int getRank(N node) {
+        return rank[node.getId()];
+    }
+
+    N getNode(int id) {
+        return (N) nodes[id];
+    }
+}
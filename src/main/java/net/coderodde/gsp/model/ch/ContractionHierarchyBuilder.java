@@ -0,0 +1,623 @@
+package net.coderodde.gsp.model.ch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.queue.support.IntDaryHeap;
+
+/**
+ * This class builds {@link ContractionHierarchy}s. The nodes are ordered by
+ * the edge difference (the amount of shortcuts the contraction of a node
+ * would add minus the amount of arcs it would remove), plus the amount of
+ * already contracted neighbours, which spreads the contraction evenly over
+ * the graph.
+ * <p>
+ * The contraction proceeds in rounds. Each round contracts an independent
+ * set of nodes: the nodes whose priority is lower than that of every
+ * uncontracted neighbour. As no two nodes of the set are adjacent, their
+ * witness searches and priority updates run in parallel; the witness
+ * searches avoid all the nodes of the current set, so that no shortcut is
+ * omitted because of a witness path through a node contracted in the same
+ * round. The witness searches are limited by the amount of settled nodes; a
+ * witness search that gives up early only adds superfluous shortcuts.
+ * <p>
+ * The node IDs must be exactly {@code 0, 1, ..., n - 1}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class ContractionHierarchyBuilder<N extends AbstractGraphNode<N>> {
+
+    /**
+     * The default limit of settled nodes per witness search.
+     */
+    private static final int DEFAULT_WITNESS_SEARCH_LIMIT = 500;
+
+    /**
+     * The limit of settled nodes per witness search when merely estimating
+     * the priority of a node. Such estimates are recomputed after each round
+     * for all the neighbours of the contracted nodes, so they are kept cheap;
+     * the actual contraction uses the full limit.
+     */
+    private static final int PRIORITY_WITNESS_SEARCH_LIMIT = 20;
+
+    /**
+     * An arc of the graph being contracted.
+     */
+    private static final class Arc {
+
+        /**
+         * The other end node of the arc: the head for outgoing arcs, and the
+         * tail for incoming arcs.
+         */
+        final int node;
+
+        double weight;
+
+        /**
+         * The node bypassed by this shortcut, or
+         * {@link ContractionHierarchy#NO_MIDDLE}.
+         */
+        int middle;
+
+        Arc(int node, double weight, int middle) {
+            this.node = node;
+            this.weight = weight;
+            this.middle = middle;
+        }
+    }
+
+    /**
+     * A shortcut to be added.
+     */
+    private static final class Shortcut {
+
+        final int tail;
+        final int head;
+        final double weight;
+        final int middle;
+
+        Shortcut(int tail, int head, double weight, int middle) {
+            this.tail = tail;
+            this.head = head;
+            this.weight = weight;
+            this.middle = middle;
+        }
+    }
+
+    /**
+     * A bounded Dijkstra search over the uncontracted nodes. Each worker
+     * thread owns one.
+     */
+    private final class WitnessSearch {
+
+        private final IntDaryHeap OPEN;
+        private final double[] distance;
+        private final int[] stamp;
+        private final int[] targetStamp;
+        private int generation;
+
+        WitnessSearch() {
+            this.OPEN = new IntDaryHeap(nodeCount);
+            this.distance = new double[nodeCount];
+            this.stamp = new int[nodeCount];
+            this.targetStamp = new int[nodeCount];
+        }
+
+        /**
+         * Computes the distances from {@code source} to the nodes at
+         * distance at most {@code maximumDistance}, avoiding the node
+         * {@code avoid} and the nodes of the current round. The search stops
+         * as soon as all the heads of {@code targets} are settled, or
+         * {@code limit} nodes are settled.
+         */
+        void run(int source,
+                 int avoid,
+                 double maximumDistance,
+                 List<Arc> targets,
+                 int limit) {
+            ++generation;
+            int remainingTargets = 0;
+
+            for (Arc arc : targets) {
+                if (targetStamp[arc.node] != generation) {
+                    targetStamp[arc.node] = generation;
+                    ++remainingTargets;
+                }
+            }
+
+            OPEN.clear();
+            OPEN.add(source, 0.0);
+            stamp[source] = generation;
+            distance[source] = 0.0;
+            int settled = 0;
+
+            while (!OPEN.isEmpty() && settled++ < limit) {
+                if (OPEN.minPriority() > maximumDistance) {
+                    break;
+                }
+
+                int current = OPEN.extractMinimum();
+
+                if (targetStamp[current] == generation &&
+                        --remainingTargets == 0) {
+                    break;
+                }
+
+                for (Arc arc : out[current]) {
+                    int child = arc.node;
+
+                    if (child == avoid ||
+                            roundStamp[child] == round) {
+                        continue;
+                    }
+
+                    double tentativeDistance = distance[current] + arc.weight;
+
+                    if (stamp[child] != generation) {
+                        stamp[child] = generation;
+                        distance[child] = tentativeDistance;
+                        OPEN.add(child, tentativeDistance);
+                    } else if (distance[child] > tentativeDistance) {
+                        distance[child] = tentativeDistance;
+
+                        if (OPEN.contains(child)) {
+                            OPEN.decreasePriority(child, tentativeDistance);
+                        }
+                    }
+                }
+            }
+        }
+
+        double getDistance(int node) {
+            return stamp[node] == generation ?
+                   distance[node] :
+                   Double.POSITIVE_INFINITY;
+        }
+    }
+
+    private final int nodeCount;
+    private final Object[] nodes;
+    private final AbstractGraphWeightFunction<N> weightFunction;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private int witnessSearchLimit = DEFAULT_WITNESS_SEARCH_LIMIT;
+
+    // The state of the contraction.
+    private List<Arc>[] out;
+    private List<Arc>[] in;
+    private boolean[] contracted;
+    private int[] contractedNeighbors;
+    private int[] priority;
+    private int[] roundStamp;
+    private int round;
+    private ThreadLocal<WitnessSearch> witnessSearches;
+
+    /**
+     * Prepares building the contraction hierarchy of the graph consisting of
+     * the nodes {@code nodes}.
+     *
+     * @param nodes          all the nodes of the graph.
+     * @param weightFunction the weight function of the graph.
+     * @throws IllegalArgumentException if the node IDs are not
+     *                                  {@code 0, 1, ..., n - 1}.
+     */
+    public ContractionHierarchyBuilder(
+            Collection<N> nodes,
+            AbstractGraphWeightFunction<N> weightFunction) {
+        Objects.requireNonNull(nodes, "The node collection is null.");
+        Objects.requireNonNull(weightFunction, "The weight function is null.");
+        this.nodeCount = nodes.size();
+        this.nodes = new Object[nodeCount];
+        this.weightFunction = weightFunction;
+
+        for (N node : nodes) {
+            int id = node.getId();
+
+            if (id < 0 || id >= nodeCount) {
+                throw new IllegalArgumentException(
+                        "The node ID " + id + " is out of range [0, " +
+                        nodeCount + ").");
+            }
+
+            if (this.nodes[id] != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate node ID: " + id + ".");
+            }
+
+            this.nodes[id] = node;
+        }
+    }
+
+    /**
+     * Sets the amount of threads contracting the nodes.
+     *
+     * @param parallelism the amount of threads.
+     * @return this builder.
+     */
+    public ContractionHierarchyBuilder<N> setParallelism(int parallelism) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad parallelism: " + parallelism + ".");
+        }
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Sets the maximum amount of nodes settled by a witness search.
+     *
+     * @param witnessSearchLimit the witness search limit.
+     * @return this builder.
+     */
+    public ContractionHierarchyBuilder<N>
+        setWitnessSearchLimit(int witnessSearchLimit) {
+        if (witnessSearchLimit <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad witness search limit: " + witnessSearchLimit + ".");
+        }
+
+        this.witnessSearchLimit = witnessSearchLimit;
+        return this;
+    }
+
+    /**
+     * Contracts all the nodes and returns the resulting hierarchy.
+     *
+     * @return the contraction hierarchy.
+     */
+    public ContractionHierarchy<N> build() {
+        loadGraph();
+        contracted = new boolean[nodeCount];
+        contractedNeighbors = new int[nodeCount];
+        priority = new int[nodeCount];
+        roundStamp = new int[nodeCount];
+        // No node carries the stamp of the initial priority computation.
+        round = 1;
+        witnessSearches = ThreadLocal.withInitial(WitnessSearch::new);
+
+        int[] rank = new int[nodeCount];
+        int nextRank = 0;
+        ForkJoinPool pool = parallelism > 1 ?
+                            new ForkJoinPool(parallelism) :
+                            null;
+
+        try {
+            forEach(pool, allNodes(), (v) -> priority[v] = computePriority(v));
+
+            while (nextRank < nodeCount) {
+                int[] batch = selectIndependentSet();
+                List<Shortcut>[] shortcuts = new List[batch.length];
+                ++round;
+
+                for (int v : batch) {
+                    roundStamp[v] = round;
+                }
+
+                forEach(pool,
+                        indices(batch.length),
+                        (i) -> shortcuts[i] =
+                                findShortcuts(batch[i], witnessSearchLimit));
+
+                for (int v : batch) {
+                    contracted[v] = true;
+                    rank[v] = nextRank++;
+                    unlink(v);
+                }
+
+                for (List<Shortcut> list : shortcuts) {
+                    for (Shortcut shortcut : list) {
+                        addArc(shortcut.tail,
+                               shortcut.head,
+                               shortcut.weight,
+                               shortcut.middle);
+                    }
+                }
+
+                int[] neighbors = collectNeighbors(batch);
+                forEach(pool,
+                        neighbors,
+                        (v) -> priority[v] = computePriority(v));
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+
+        return freeze(rank);
+    }
+
+    private void loadGraph() {
+        out = new List[nodeCount];
+        in = new List[nodeCount];
+
+        for (int i = 0; i < nodeCount; ++i) {
+            out[i] = new ArrayList<>();
+            in[i] = new ArrayList<>();
+        }
+
+        for (Object o : nodes) {
+            N node = (N) o;
+
+            for (N child : node.children()) {
+                if (!child.equals(node)) {
+                    addArc(node.getId(),
+                           child.getId(),
+                           weightFunction.get(node, child),
+                           ContractionHierarchy.NO_MIDDLE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the arc {@code (tail, head)}, or lowers the weight of the
+     * existing one.
+     */
+    private void addArc(int tail, int head, double weight, int middle) {
+        if (!(weight >= 0.0)) {
+            throw new IllegalArgumentException("Bad arc weight: " +
+                                               weight + ".");
+        }
+
+        for (Arc arc : out[tail]) {
+            if (arc.node == head) {
+                if (arc.weight > weight) {
+                    arc.weight = weight;
+                    arc.middle = middle;
+
+                    for (Arc reverseArc : in[head]) {
+                        if (reverseArc.node == tail) {
+                            reverseArc.weight = weight;
+                            reverseArc.middle = middle;
+                            break;
+                        }
+                    }
+                }
+
+                return;
+            }
+        }
+
+        out[tail].add(new Arc(head, weight, middle));
+        in[head].add(new Arc(tail, weight, middle));
+    }
+
+    /**
+     * Removes the arcs incident to the contracted node {@code node} from the
+     * lists of its neighbours. The own lists of {@code node} are left intact:
+     * they lead to higher ranked nodes only, and become its upward arcs.
+     */
+    private void unlink(int node) {
+        for (Arc arc : out[node]) {
+            removeArc(in[arc.node], node);
+        }
+
+        for (Arc arc : in[node]) {
+            removeArc(out[arc.node], node);
+        }
+    }
+
+    private static void removeArc(List<Arc> arcs, int node) {
+        for (int i = 0; i < arcs.size(); ++i) {
+            if (arcs.get(i).node == node) {
+                // Order does not matter, so move the last arc into the gap.
+                arcs.set(i, arcs.get(arcs.size() - 1));
+                arcs.remove(arcs.size() - 1);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Computes the shortcuts needed in order to contract {@code node}, using
+     * witness searches settling at most {@code limit} nodes.
+     */
+    private List<Shortcut> findShortcuts(int node, int limit) {
+        List<Shortcut> shortcuts = new ArrayList<>();
+        WitnessSearch witnessSearch = witnessSearches.get();
+        double maximumOutWeight = 0.0;
+
+        for (Arc outArc : out[node]) {
+            maximumOutWeight = Math.max(maximumOutWeight, outArc.weight);
+        }
+
+        for (Arc inArc : in[node]) {
+            int tail = inArc.node;
+            witnessSearch.run(tail,
+                              node,
+                              inArc.weight + maximumOutWeight,
+                              out[node],
+                              limit);
+
+            for (Arc outArc : out[node]) {
+                int head = outArc.node;
+
+                if (head == tail) {
+                    continue;
+                }
+
+                double viaDistance = inArc.weight + outArc.weight;
+
+                if (witnessSearch.getDistance(head) > viaDistance) {
+                    shortcuts.add(new Shortcut(tail, head, viaDistance, node));
+                }
+            }
+        }
+
+        return shortcuts;
+    }
+
+    /**
+     * Returns the edge difference of {@code node} plus the amount of its
+     * contracted neighbours.
+     */
+    private int computePriority(int node) {
+        int removedArcs = out[node].size() + in[node].size();
+        int limit = Math.min(witnessSearchLimit,
+                             PRIORITY_WITNESS_SEARCH_LIMIT);
+        return findShortcuts(node, limit).size() - removedArcs +
+               contractedNeighbors[node];
+    }
+
+    /**
+     * Returns the uncontracted nodes whose priority is lower than that of
+     * each uncontracted neighbour. Ties are broken by node IDs.
+     */
+    private int[] selectIndependentSet() {
+        return IntStream.range(0, nodeCount)
+                        .filter((v) -> !contracted[v] && isLocalMinimum(v))
+                        .toArray();
+    }
+
+    private boolean isLocalMinimum(int node) {
+        return isLocalMinimum(node, out[node]) &&
+               isLocalMinimum(node, in[node]);
+    }
+
+    private boolean isLocalMinimum(int node, List<Arc> arcs) {
+        for (Arc arc : arcs) {
+            int other = arc.node;
+
+            if (priority[other] < priority[node] ||
+                    (priority[other] == priority[node] && other < node)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the uncontracted neighbours of the nodes in {@code batch} and
+     * counts the contracted neighbours.
+     */
+    private int[] collectNeighbors(int[] batch) {
+        boolean[] collected = new boolean[nodeCount];
+        IntStream.Builder neighbors = IntStream.builder();
+
+        for (int v : batch) {
+            for (List<Arc> arcs : new List[]{ out[v], in[v] }) {
+                for (Arc arc : arcs) {
+                    int other = arc.node;
+
+                    if (!collected[other]) {
+                        collected[other] = true;
+                        ++contractedNeighbors[other];
+                        neighbors.add(other);
+                    }
+                }
+            }
+        }
+
+        return neighbors.build().toArray();
+    }
+
+    private int[] allNodes() {
+        return indices(nodeCount);
+    }
+
+    private static int[] indices(int count) {
+        return IntStream.range(0, count).toArray();
+    }
+
+    /**
+     * Runs {@code action} on each of {@code values}, in parallel if
+     * {@code pool} is not {@code null}. The actions must touch disjoint
+     * state.
+     */
+    private static void forEach(ForkJoinPool pool,
+                                int[] values,
+                                IntConsumer action) {
+        if (pool == null) {
+            for (int value : values) {
+                action.accept(value);
+            }
+
+            return;
+        }
+
+        pool.submit(() -> IntStream.of(values).parallel().forEach(action))
+            .join();
+    }
+
+    /**
+     * Converts the arcs into the upward CSR arrays.
+     */
+    private ContractionHierarchy<N> freeze(int[] rank) {
+        int[] upOffsets = new int[nodeCount + 1];
+        int[] downOffsets = new int[nodeCount + 1];
+
+        for (int u = 0; u < nodeCount; ++u) {
+            for (Arc arc : out[u]) {
+                if (rank[arc.node] > rank[u]) {
+                    ++upOffsets[u + 1];
+                }
+            }
+
+            for (Arc arc : in[u]) {
+                if (rank[arc.node] > rank[u]) {
+                    ++downOffsets[u + 1];
+                }
+            }
+        }
+
+        for (int u = 0; u < nodeCount; ++u) {
+            upOffsets[u + 1] += upOffsets[u];
+            downOffsets[u + 1] += downOffsets[u];
+        }
+
+        int[] upHeads = new int[upOffsets[nodeCount]];
+        double[] upWeights = new double[upHeads.length];
+        int[] upMiddles = new int[upHeads.length];
+        int[] downTails = new int[downOffsets[nodeCount]];
+        double[] downWeights = new double[downTails.length];
+        int[] downMiddles = new int[downTails.length];
+
+        for (int u = 0; u < nodeCount; ++u) {
+            int index = upOffsets[u];
+
+            for (Arc arc : out[u]) {
+                if (rank[arc.node] > rank[u]) {
+                    upHeads[index] = arc.node;
+                    upWeights[index] = arc.weight;
+                    upMiddles[index] = arc.middle;
+                    ++index;
+                }
+            }
+
+            index = downOffsets[u];
+
+            for (Arc arc : in[u]) {
+                if (rank[arc.node] > rank[u]) {
+                    downTails[index] = arc.node;
+                    downWeights[index] = arc.weight;
+                    downMiddles[index] = arc.middle;
+                    ++index;
+                }
+            }
+        }
+
+        out = null;
+        in = null;
+
+        return new ContractionHierarchy<>(nodes,
+                                          rank,
+                                          upOffsets,
+                                          upHeads,
+                                          upWeights,
+                                          upMiddles,
+                                          downOffsets,
+                                          downTails,
+                                          downWeights,
+                                          downMiddles);
+    }
+}
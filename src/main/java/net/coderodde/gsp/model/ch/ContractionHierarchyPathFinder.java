@@ -0,0 +1,339 @@
+package net.coderodde.gsp.model.ch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.support.IntDaryHeap;
+
+/**
+ * This class implements the query of contraction hierarchies: a
+ * bidirectional Dijkstra search in which both directions only climb the
+ * upward arcs. A direction stops as soon as its minimum key is not below the
+ * best path found so far. The path found consists of upward arcs, including
+ * shortcuts, and is unpacked to the original nodes before being returned.
+ * <p>
+ * The queue and the search state settings are ignored, since this finder
+ * works over the node IDs. The working arrays are allocated once, so an
+ * instance must not run two searches concurrently.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class ContractionHierarchyPathFinder<N extends AbstractGraphNode<N>>
+extends AbstractPathFinder<N> {
+
+    private static final int NO_PARENT = -1;
+
+    private final ContractionHierarchy<N> hierarchy;
+
+    private final IntDaryHeap OPENA;
+    private final IntDaryHeap OPENB;
+    private final double[] DISTANCEA;
+    private final double[] DISTANCEB;
+    private final int[] PARENTSA;
+    private final int[] PARENTSB;
+
+    /**
+     * The generation stamps marking the entries of the above arrays that are
+     * valid in the current search.
+     */
+    private final int[] STAMPA;
+    private final int[] STAMPB;
+    private int generation;
+
+    /**
+     * The stack of arcs to unpack, holding tail/head pairs.
+     */
+    private final int[] UNPACK_STACK;
+
+    public ContractionHierarchyPathFinder(ContractionHierarchy<N> hierarchy) {
+        this.hierarchy = Objects.requireNonNull(hierarchy,
+                                                "The hierarchy is null.");
+        int n = hierarchy.getNodeCount();
+        this.OPENA = new IntDaryHeap(n);
+        this.OPENB = new IntDaryHeap(n);
+        this.DISTANCEA = new double[n];
+        this.DISTANCEB = new double[n];
+        this.PARENTSA = new int[n];
+        this.PARENTSB = new int[n];
+        this.STAMPA = new int[n];
+        this.STAMPB = new int[n];
+        this.UNPACK_STACK = new int[4 * n + 4];
+    }
+
+    @Override
+    public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
+        int sourceId = checkNode(source);
+        int targetId = checkNode(target);
+
+        if (listener != null) {
+            listener.begin();
+        }
+
+        if (sourceId == targetId) {
+            List<N> path = new ArrayList<>(1);
+            path.add(source);
+
+            if (listener != null) {
+                listener.done(path);
+            }
+
+            return monitor.getResult(path, 0.0);
+        }
+
+        if (++generation == 0) {
+            // The stamps wrapped around; start over.
+            Arrays.fill(STAMPA, 0);
+            Arrays.fill(STAMPB, 0);
+            generation = 1;
+        }
+
+        OPENA.clear();
+        OPENB.clear();
+        reach(OPENA, DISTANCEA, PARENTSA, STAMPA, sourceId, 0.0, NO_PARENT);
+        reach(OPENB, DISTANCEB, PARENTSB, STAMPB, targetId, 0.0, NO_PARENT);
+
+        double bestPathLength = Double.POSITIVE_INFINITY;
+        int touchNode = NO_PARENT;
+
+        while (!OPENA.isEmpty() || !OPENB.isEmpty()) {
+            boolean forward =
+                    OPENB.isEmpty() ||
+                    (!OPENA.isEmpty() &&
+                     OPENA.minPriority() <= OPENB.minPriority());
+            IntDaryHeap OPEN = forward ? OPENA : OPENB;
+
+            if (OPEN.minPriority() >= bestPathLength) {
+                // The other queue has a minimum key at least as large.
+                break;
+            }
+
+            if (monitor.expand()) {
+                break;
+            }
+
+            int current = OPEN.extractMinimum();
+
+            if (listener != null) {
+                listener.closed(hierarchy.getNode(current));
+            }
+
+            int candidate = forward ?
+                    expand(current,
+                           hierarchy.upOffsets,
+                           hierarchy.upHeads,
+                           hierarchy.upWeights,
+                           OPENA, DISTANCEA, PARENTSA, STAMPA,
+                           DISTANCEB, STAMPB,
+                           bestPathLength) :
+                    expand(current,
+                           hierarchy.downOffsets,
+                           hierarchy.downTails,
+                           hierarchy.downWeights,
+                           OPENB, DISTANCEB, PARENTSB, STAMPB,
+                           DISTANCEA, STAMPA,
+                           bestPathLength);
+
+            if (candidate != NO_PARENT) {
+                touchNode = candidate;
+                bestPathLength = DISTANCEA[touchNode] + DISTANCEB[touchNode];
+            }
+        }
+
+        List<N> path = touchNode == NO_PARENT || monitor.isStopped() ?
+                       Collections.<N>emptyList() :
+                       unpackPath(touchNode);
+
+        if (listener != null) {
+            listener.done(path);
+        }
+
+        return monitor.getResult(path, bestPathLength);
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "Contraction hierarchies";
+    }
+
+    private int checkNode(N node) {
+        int id = node.getId();
+
+        if (id < 0 ||
+                id >= hierarchy.getNodeCount() ||
+                hierarchy.nodes[id] != node) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " is not in the hierarchy.");
+        }
+
+        return id;
+    }
+
+    /**
+     * Relaxes the arcs of {@code current} in one direction. Returns the
+     * node at which the best path was improved, or {@link #NO_PARENT} if it
+     * was not.
+     */
+    private int expand(int current,
+                       int[] offsets,
+                       int[] others,
+                       double[] weights,
+                       IntDaryHeap OPEN,
+                       double[] DISTANCE,
+                       int[] PARENTS,
+                       int[] STAMP,
+                       double[] OPPOSITE_DISTANCE,
+                       int[] OPPOSITE_STAMP,
+                       double bestPathLength) {
+        int improvedAt = NO_PARENT;
+        double currentDistance = DISTANCE[current];
+
+        if (OPPOSITE_STAMP[current] == generation &&
+                currentDistance + OPPOSITE_DISTANCE[current] < bestPathLength) {
+            bestPathLength = currentDistance + OPPOSITE_DISTANCE[current];
+            improvedAt = current;
+        }
+
+        for (int arc = offsets[current]; arc < offsets[current + 1]; ++arc) {
+            int child = others[arc];
+            double tentativeDistance = currentDistance + weights[arc];
+
+            if (STAMP[child] != generation) {
+                reach(OPEN, DISTANCE, PARENTS, STAMP,
+                      child, tentativeDistance, current);
+            } else if (DISTANCE[child] > tentativeDistance &&
+                       OPEN.contains(child)) {
+                DISTANCE[child] = tentativeDistance;
+                PARENTS[child] = current;
+                OPEN.decreasePriority(child, tentativeDistance);
+            } else {
+                continue;
+            }
+
+            if (OPPOSITE_STAMP[child] == generation &&
+                    tentativeDistance + OPPOSITE_DISTANCE[child]
+                    < bestPathLength) {
+                bestPathLength = tentativeDistance + OPPOSITE_DISTANCE[child];
+                improvedAt = child;
+            }
+        }
+
+        return improvedAt;
+    }
+
+    private void reach(IntDaryHeap OPEN,
+                       double[] DISTANCE,
+                       int[] PARENTS,
+                       int[] STAMP,
+                       int node,
+                       double distance,
+                       int parent) {
+        STAMP[node] = generation;
+        DISTANCE[node] = distance;
+        PARENTS[node] = parent;
+        OPEN.add(node, distance);
+
+        if (listener != null && parent != NO_PARENT) {
+            listener.reached(hierarchy.getNode(node));
+        }
+    }
+
+    /**
+     * Builds the path of original nodes through {@code touchNode}.
+     */
+    private List<N> unpackPath(int touchNode) {
+        List<Integer> upwardPath = new ArrayList<>();
+
+        for (int node = touchNode; node != NO_PARENT; node = PARENTSA[node]) {
+            upwardPath.add(node);
+        }
+
+        Collections.reverse(upwardPath);
+
+        for (int node = PARENTSB[touchNode];
+                node != NO_PARENT;
+                node = PARENTSB[node]) {
+            upwardPath.add(node);
+        }
+
+        List<N> path = new ArrayList<>();
+        path.add(hierarchy.getNode(upwardPath.get(0)));
+
+        for (int i = 1; i < upwardPath.size(); ++i) {
+            unpackArc(upwardPath.get(i - 1), upwardPath.get(i), path);
+        }
+
+        return path;
+    }
+
+    /**
+     * Appends the original nodes of the arc {@code (tail, head)}, except the
+     * tail, to {@code path}.
+     */
+    private void unpackArc(int tail, int head, List<N> path) {
+        int[] stack = UNPACK_STACK;
+        int size = 0;
+        stack[size++] = tail;
+        stack[size++] = head;
+
+        while (size > 0) {
+            int b = stack[--size];
+            int a = stack[--size];
+            int middle = findMiddle(a, b);
+
+            if (middle == ContractionHierarchy.NO_MIDDLE) {
+                path.add(hierarchy.getNode(b));
+            } else {
+                // Push the second half first, so that the first half is
+                // unpacked first.
+                stack[size++] = middle;
+                stack[size++] = b;
+                stack[size++] = a;
+                stack[size++] = middle;
+            }
+        }
+    }
+
+    /**
+     * Returns the node bypassed by the arc {@code (tail, head)}. The arc is
+     * stored at the lower ranked one of its end nodes.
+     */
+    private int findMiddle(int tail, int head) {
+        if (hierarchy.rank[tail] < hierarchy.rank[head]) {
+            for (int arc = hierarchy.upOffsets[tail];
+                    arc < hierarchy.upOffsets[tail + 1];
+                    ++arc) {
+                if (hierarchy.upHeads[arc] == head) {
+                    return hierarchy.upMiddles[arc];
+                }
+            }
+        } else {
+            for (int arc = hierarchy.downOffsets[head];
+                    arc < hierarchy.downOffsets[head + 1];
+                    ++arc) {
+                if (hierarchy.downTails[arc] == tail) {
+                    return hierarchy.downMiddles[arc];
+                }
+            }
+        }
+
+        throw new IllegalStateException(
+                "No arc (" + tail + ", " + head + ") in the hierarchy.");
+    }
+}
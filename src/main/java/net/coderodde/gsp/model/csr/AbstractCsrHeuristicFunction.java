@@ -0,0 +1,22 @@
+package net.coderodde.gsp.model.csr;
+
+/**
+ * This abstract class defines the API for heuristic functions over 
+ * {@link CsrGraph}s.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public abstract class AbstractCsrHeuristicFunction {
+    
+    /**
+     * Returns a distance estimate for a path from {@code source} to 
+     * {@code target}.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     * @return a shortest path estimate for a path from {@code source} to 
+     *         {@code target}.
+     */
+    public abstract double estimate(int source, int target);
+}
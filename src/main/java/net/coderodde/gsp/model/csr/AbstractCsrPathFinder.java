@@ -0,0 +1,200 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
+
+/**
+ * This abstract class defines the API for path finding algorithms running on
+ * {@link CsrGraph}s. A path is returned as an array of node indices; if the 
+ * target node is not reachable from the source node, an empty array is 
+ * returned. The implementations reuse their internal arrays between searches
+ * and, thus, are not thread-safe. Instead of clearing the arrays, each search
+ * stamps the entries it writes with its own generation, so that a search
+ * touches only the nodes it reaches.
+ * <p>
+ * A search may be bounded by {@link SearchLimits}, enforced by a 
+ * {@link SearchMonitor} checked once per expanded node. The CSR finders do
+ * not collect {@link net.coderodde.gsp.model.SearchStatistics}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public abstract class AbstractCsrPathFinder {
+    
+    /**
+     * The empty path.
+     */
+    protected static final int[] EMPTY_PATH = new int[0];
+    
+    /**
+     * Marks the absence of a parent node.
+     */
+    protected static final int NO_PARENT = -1;
+    
+    /**
+     * The graph to search in.
+     */
+    protected final CsrGraph graph;
+    
+    /**
+     * The generation of the current search.
+     */
+    protected int generation;
+    
+    protected AbstractCsrPathFinder(CsrGraph graph) {
+        this.graph = Objects.requireNonNull(graph, "The graph is null.");
+    }
+    
+    public abstract String humanReadableName();
+    
+    /**
+     * Performs a shortest path search from {@code source} to {@code target}.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     * @return an array of nodes constituting the shortest path from 
+     *         {@code source} to {@code target}, or an empty array if 
+     *         {@code target} is not reachable from {@code source}.
+     */
+    public int[] search(int source, int target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+    
+    /**
+     * Performs a shortest path search from {@code source} to {@code target}
+     * within the limits {@code limits}.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     * @param limits the search limits.
+     * @return the search result.
+     */
+    public abstract CsrSearchResult search(int source, 
+                                           int target, 
+                                           SearchLimits limits);
+    
+    public CsrGraph getGraph() {
+        return graph;
+    }
+    
+    /**
+     * Checks that both {@code source} and {@code target} are valid nodes.
+     * 
+     * @param source the source node.
+     * @param target the target node.
+     */
+    protected void checkTerminals(int source, int target) {
+        if (source < 0 || source >= graph.nodeCount) {
+            throw new IllegalArgumentException(
+                    "The source node is out of range: " + source + ".");
+        }
+        
+        if (target < 0 || target >= graph.nodeCount) {
+            throw new IllegalArgumentException(
+                    "The target node is out of range: " + target + ".");
+        }
+    }
+    
+    /**
+     * Begins a new search generation. If the generations wrap around, clears
+     * the stamp arrays {@code stamps}, so that no stale stamp matches a later
+     * generation.
+     * 
+     * @param stamps the stamp arrays of the finder.
+     */
+    protected void nextGeneration(int[]... stamps) {
+        if (++generation == 0) {
+            // The stamps wrapped around; start over.
+            for (int[] stamp : stamps) {
+                Arrays.fill(stamp, 0);
+            }
+            
+            generation = 1;
+        }
+    }
+    
+    /**
+     * Returns the result of the search monitored by {@code monitor} that
+     * returned {@code path}.
+     * 
+     * @param monitor the monitor of the search.
+     * @param path    the path found, or an empty array.
+     * @return the search result.
+     */
+    protected static CsrSearchResult getResult(SearchMonitor monitor, 
+                                               int[] path) {
+        SearchResult.Status status;
+        
+        if (monitor.isStopped()) {
+            path = EMPTY_PATH;
+            status = monitor.getStopStatus();
+        } else if (path.length == 0) {
+            status = SearchResult.Status.UNREACHABLE;
+        } else {
+            status = SearchResult.Status.FOUND;
+        }
+        
+        return new CsrSearchResult(path, status, monitor.getExpandedNodes());
+    }
+    
+    /**
+     * Constructs a path found by a bidirectional pathfinding algorithm.
+     * 
+     * @param touch    the node where the two search frontiers "meet".
+     * @param parentsA the parent array in forward search.
+     * @param parentsB the parent array in backward search, or {@code null}.
+     * @return a shortest path.
+     */
+    protected static int[] tracebackPath(int touch, 
+                                         int[] parentsA, 
+                                         int[] parentsB) {
+        int length = 0;
+        
+        for (int node = touch; node != NO_PARENT; node = parentsA[node]) {
+            ++length;
+        }
+        
+        int forwardLength = length;
+        
+        if (parentsB != null) {
+            for (int node = parentsB[touch]; 
+                    node != NO_PARENT;
+                    node = parentsB[node]) {
+                ++length;
+            }
+        }
+        
+        int[] path = new int[length];
+        int index = forwardLength;
+        
+        for (int node = touch; node != NO_PARENT; node = parentsA[node]) {
+            path[--index] = node;
+        }
+        
+        if (parentsB != null) {
+            index = forwardLength;
+            
+            for (int node = parentsB[touch]; 
+                    node != NO_PARENT; 
+                    node = parentsB[node]) {
+                path[index++] = node;
+            }
+        }
+        
+        return path;
+    }
+    
+    /**
+     * Constructs a path found by unidirectional pathfinding algorithms.
+     * 
+     * @param target  the target node.
+     * @param parents the parent array.
+     * @return a shortest path.
+     */
+    protected static int[] tracebackPath(int target, int[] parents) {
+        return tracebackPath(target, parents, null);
+    }
+}
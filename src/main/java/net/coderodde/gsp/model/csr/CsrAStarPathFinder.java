@@ -0,0 +1,109 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.queue.support.IntDaryHeap;
+
+/**
+ * This class implements A* pathfinding algorithm over {@link CsrGraph}s.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class CsrAStarPathFinder extends AbstractCsrPathFinder {
+
+    private final IntDaryHeap OPEN;
+    private final int[] PARENTS;
+    private final double[] DISTANCE;
+    
+    /**
+     * The generation stamps of the nodes reached, whose entries in the above
+     * arrays are valid, and of the nodes closed in the current search.
+     */
+    private final int[] STAMP;
+    private final int[] CLOSED;
+    
+    private final AbstractCsrHeuristicFunction heuristicFunction;
+    
+    public CsrAStarPathFinder(CsrGraph graph, 
+                              AbstractCsrHeuristicFunction heuristicFunction) {
+        super(graph);
+        Objects.requireNonNull(heuristicFunction, 
+                               "The heuristic function is null.");
+        int n = graph.getNodeCount();
+        this.OPEN = new IntDaryHeap(n);
+        this.PARENTS = new int[n];
+        this.DISTANCE = new double[n];
+        this.STAMP = new int[n];
+        this.CLOSED = new int[n];
+        this.heuristicFunction = heuristicFunction;
+    }
+    
+    @Override
+    public CsrSearchResult search(int source, 
+                                  int target, 
+                                  SearchLimits limits) {
+        SearchMonitor monitor = new SearchMonitor(limits);
+        checkTerminals(source, target);
+        
+        OPEN.clear();
+        nextGeneration(STAMP, CLOSED);
+        
+        OPEN.add(source, heuristicFunction.estimate(source, target));
+        STAMP[source] = generation;
+        PARENTS[source] = NO_PARENT;
+        DISTANCE[source] = 0.0;
+        
+        int[] offsets = graph.offsets;
+        int[] heads = graph.heads;
+        double[] weights = graph.weights;
+        
+        while (!OPEN.isEmpty()) {
+            int current = OPEN.extractMinimum();
+            
+            if (current == target) {
+                return getResult(monitor, tracebackPath(current, PARENTS));
+            }
+            
+            if (monitor.expand()) {
+                break;
+            }
+            
+            CLOSED[current] = generation;
+            double currentDistance = DISTANCE[current];
+            
+            for (int arc = offsets[current];
+                    arc < offsets[current + 1]; 
+                    ++arc) {
+                int child = heads[arc];
+                
+                if (CLOSED[child] == generation) {
+                    continue;
+                }
+                
+                double tentativeCost = currentDistance + weights[arc];
+                
+                if (STAMP[child] != generation) {
+                    STAMP[child] = generation;
+                    DISTANCE[child] = tentativeCost;
+                    PARENTS[child] = current;
+                    OPEN.add(child, tentativeCost + 
+                             heuristicFunction.estimate(child, target));
+                } else if (DISTANCE[child] > tentativeCost) {
+                    DISTANCE[child] = tentativeCost;
+                    PARENTS[child] = current;
+                    OPEN.decreasePriority(child, tentativeCost + 
+                            heuristicFunction.estimate(child, target));
+                }
+            }
+        }
+        
+        return getResult(monitor, EMPTY_PATH);
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "CSR A*";
+    }
+}
@@ -0,0 +1,44 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Objects;
+
+/**
+ * This class implements a heuristic function over {@link CsrGraph}s based on
+ * the Euclidean distance between the planar coordinates of the nodes.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class CsrEuclideanHeuristicFunction 
+extends AbstractCsrHeuristicFunction {
+
+    private final double[] x;
+    private final double[] y;
+    
+    /**
+     * Constructs this heuristic function. The coordinates of node {@code u}
+     * are {@code (x[u], y[u])}. The arrays are not copied.
+     * 
+     * @param x the x-coordinates of the nodes.
+     * @param y the y-coordinates of the nodes.
+     */
+    public CsrEuclideanHeuristicFunction(double[] x, double[] y) {
+        Objects.requireNonNull(x, "The x-coordinate array is null.");
+        Objects.requireNonNull(y, "The y-coordinate array is null.");
+        
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The coordinate arrays are of different lengths.");
+        }
+        
+        this.x = x;
+        this.y = y;
+    }
+    
+    @Override
+    public double estimate(int source, int target) {
+        double dx = x[source] - x[target];
+        double dy = y[source] - y[target];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
@@ -0,0 +1,358 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Collection;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class implements an immutable directed graph in the compressed sparse
+ * row (CSR) format. The nodes are identified by integers
+ * {@code 0, 1, ..., n - 1}. The outgoing arcs of node {@code u} occupy the
+ * arc indices {@code outArcBegin(u), ..., outArcEnd(u) - 1}, and the incoming
+ * arcs of {@code u} occupy the indices
+ * {@code inArcBegin(u), ..., inArcEnd(u) - 1} in the reverse adjacency.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class CsrGraph {
+
+    /**
+     * The amount of nodes in this graph.
+     */
+    final int nodeCount;
+
+    /**
+     * The forward adjacency offsets. The outgoing arcs of node {@code u} are
+     * stored at indices {@code offsets[u], ..., offsets[u + 1] - 1}.
+     */
+    final int[] offsets;
+
+    /**
+     * The head nodes of the forward arcs.
+     */
+    final int[] heads;
+
+    /**
+     * The weights of the forward arcs.
+     */
+    final double[] weights;
+
+    /**
+     * The reverse adjacency offsets. The incoming arcs of node {@code u} are
+     * stored at indices {@code reverseOffsets[u], ...,
+     * reverseOffsets[u + 1] - 1}.
+     */
+    final int[] reverseOffsets;
+
+    /**
+     * The tail nodes of the reverse arcs.
+     */
+    final int[] tails;
+
+    /**
+     * The weights of the reverse arcs.
+     */
+    final double[] reverseWeights;
+
+    private CsrGraph(int nodeCount,
+                     int[] offsets,
+                     int[] heads,
+                     double[] weights,
+                     int[] reverseOffsets,
+                     int[] tails,
+                     double[] reverseWeights) {
+        this.nodeCount = nodeCount;
+        this.offsets = offsets;
+        this.heads = heads;
+        this.weights = weights;
+        this.reverseOffsets = reverseOffsets;
+        this.tails = tails;
+        this.reverseWeights = reverseWeights;
+    }
+
+    /**
+     * Builds a CSR graph out of the graph consisting of the nodes
+     * {@code nodes}. The node IDs must be exactly {@code 0, 1, ..., n - 1},
+     * where {@code n} is the amount of nodes. The CSR index of each node is
+     * its ID.
+     *
+     * @param <N>            the actual graph node type.
+     * @param nodes          all the nodes of the graph.
+     * @param weightFunction the weight function of the graph.
+     * @return a CSR graph.
+     */
+    public static <N extends AbstractGraphNode<N>> CsrGraph
+        fromGraph(Collection<N> nodes,
+                  AbstractGraphWeightFunction<N> weightFunction) {
+        Objects.requireNonNull(nodes, "The node collection is null.");
+        Objects.requireNonNull(weightFunction, "The weight function is null.");
+
+        int nodeCount = nodes.size();
+        boolean[] seen = new boolean[nodeCount];
+        long arcCount = 0L;
+
+        for (N node : nodes) {
+            int id = node.getId();
+
+            if (id < 0 || id >= nodeCount) {
+                throw new IllegalArgumentException(
+                        "The node ID " + id + " is out of range [0, " +
+                        nodeCount + ").");
+            }
+
+            if (seen[id]) {
+                throw new IllegalArgumentException(
+                        "Duplicate node ID: " + id + ".");
+            }
+
+            seen[id] = true;
+            arcCount += node.children().size();
+        }
+
+        if (arcCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "Too many arcs: " + arcCount + ".");
+        }
+
+        int[] tails = new int[(int) arcCount];
+        int[] heads = new int[(int) arcCount];
+        double[] weights = new double[(int) arcCount];
+        int arc = 0;
+
+        for (N node : nodes) {
+            for (N child : node.children()) {
+                tails[arc] = node.getId();
+                heads[arc] = child.getId();
+                weights[arc] = weightFunction.get(node, child);
+                ++arc;
+            }
+        }
+
+        return fromArcs(nodeCount, tails, heads, weights);
+    }
+
+    /**
+     * Builds a CSR graph out of raw arc arrays. The arc {@code i} leads from
+     * {@code tails[i]} to {@code heads[i]} and has weight {@code weights[i]}.
+     * The input arrays are not retained.
+     *
+     * @param nodeCount the amount of nodes in the graph.
+     * @param tails     the tail nodes of the arcs.
+     * @param heads     the head nodes of the arcs.
+     * @param weights   the weights of the arcs.
+     * @return a CSR graph.
+     */
+    public static CsrGraph fromArcs(int nodeCount,
+                                    int[] tails,
+                                    int[] heads,
+                                    double[] weights) {
+        Objects.requireNonNull(tails, "The tail array is null.");
+        Objects.requireNonNull(heads, "The head array is null.");
+        Objects.requireNonNull(weights, "The weight array is null.");
+
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException(
+                    "The node count is negative: " + nodeCount + ".");
+        }
+
+        if (tails.length != heads.length || tails.length != weights.length) {
+            throw new IllegalArgumentException(
+                    "The arc arrays are of different lengths.");
+        }
+
+        int arcCount = tails.length;
+        int[] offsets = new int[nodeCount + 1];
+        int[] reverseOffsets = new int[nodeCount + 1];
+
+        for (int i = 0; i < arcCount; ++i) {
+            checkNode(tails[i], nodeCount);
+            checkNode(heads[i], nodeCount);
+
+            if (!(weights[i] >= 0.0)) {
+                throw new IllegalArgumentException(
+                        "Bad arc weight: " + weights[i] + ".");
+            }
+
+            ++offsets[tails[i] + 1];
+            ++reverseOffsets[heads[i] + 1];
+        }
+
+        for (int i = 0; i < nodeCount; ++i) {
+            offsets[i + 1] += offsets[i];
+            reverseOffsets[i + 1] += reverseOffsets[i];
+        }
+
+        int[] forwardCursors = new int[nodeCount];
+        int[] reverseCursors = new int[nodeCount];
+        int[] forwardHeads = new int[arcCount];
+        double[] forwardWeights = new double[arcCount];
+        int[] reverseTails = new int[arcCount];
+        double[] reverseWeights = new double[arcCount];
+
+        System.arraycopy(offsets, 0, forwardCursors, 0, nodeCount);
+        System.arraycopy(reverseOffsets, 0, reverseCursors, 0, nodeCount);
+
+        for (int i = 0; i < arcCount; ++i) {
+            int forwardIndex = forwardCursors[tails[i]]++;
+            forwardHeads[forwardIndex] = heads[i];
+            forwardWeights[forwardIndex] = weights[i];
+
+            int reverseIndex = reverseCursors[heads[i]]++;
+            reverseTails[reverseIndex] = tails[i];
+            reverseWeights[reverseIndex] = weights[i];
+        }
+
+        return new CsrGraph(nodeCount,
+                            offsets,
+                            forwardHeads,
+                            forwardWeights,
+                            reverseOffsets,
+                            reverseTails,
+                            reverseWeights);
+    }
+
+    /**
+     * Returns the amount of nodes in this graph.
+     *
+     * @return the amount of nodes.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the amount of arcs in this graph.
+     *
+     * @return the amount of arcs.
+     */
+    public int getArcCount() {
+        return heads.length;
+    }
+
+    /**
+     * Returns the index of the first outgoing arc of {@code node}.
+     *
+     * @param node the tail node.
+     * @return the index of the first outgoing arc.
+     */
+    public int outArcBegin(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Returns the index one past the last outgoing arc of {@code node}.
+     *
+     * @param node the tail node.
+     * @return the index one past the last outgoing arc.
+     */
+    public int outArcEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    /**
+     * Returns the head node of the forward arc {@code arc}.
+     *
+     * @param arc the index of the forward arc.
+     * @return the head node of the arc.
+     */
+    public int arcHead(int arc) {
+        return heads[arc];
+    }
+
+    /**
+     * Returns the weight of the forward arc {@code arc}.
+     *
+     * @param arc the index of the forward arc.
+     * @return the weight of the arc.
+     */
+    public double arcWeight(int arc) {
+        return weights[arc];
+    }
+
+    /**
+     * Returns the index of the first incoming arc of {@code node}.
+     *
+     * @param node the head node.
+     * @return the index of the first incoming arc.
+     */
+    public int inArcBegin(int node) {
+        return reverseOffsets[node];
+    }
+
+    /**
+     * Returns the index one past the last incoming arc of {@code node}.
+     *
+     * @param node the head node.
+     * @return the index one past the last incoming arc.
+     */
+    public int inArcEnd(int node) {
+        return reverseOffsets[node + 1];
+    }
+
+    /**
+     * Returns the tail node of the reverse arc {@code arc}.
+     *
+     * @param arc the index of the reverse arc.
+     * @return the tail node of the arc.
+     */
+    public int arcTail(int arc) {
+        return tails[arc];
+    }
+
+    /**
+     * Returns the weight of the reverse arc {@code arc}.
+     *
+     * @param arc the index of the reverse arc.
+     * @return the weight of the arc.
+     */
+    public double inArcWeight(int arc) {
+        return reverseWeights[arc];
+    }
+
+    /**
+     * Returns the weight of the lightest arc from {@code tail} to
+     * {@code head}, or {@link Double#NaN} if there is no such arc.
+     *
+     * @param tail the tail node.
+     * @param head the head node.
+     * @return the weight of the lightest arc.
+     */
+    public double getWeight(int tail, int head) {
+        double best = Double.NaN;
+
+        for (int arc = offsets[tail]; arc < offsets[tail + 1]; ++arc) {
+            if (heads[arc] == head && !(best <= weights[arc])) {
+                best = weights[arc];
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Computes the cost of the path {@code path}. If {@code path} is not a
+     * valid path in this graph, {@link Double#NaN} is returned.
+     *
+     * @param path the path to evaluate.
+     * @return the cost of the path.
+     */
+    public double getPathCost(int[] path) {
+        double cost = 0.0;
+
+        for (int i = 0; i < path.length - 1; ++i) {
+            cost += getWeight(path[i], path[i + 1]);
+        }
+
+        return cost;
+    }
+
+    private static void checkNode(int node, int nodeCount) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException(
+                    "The node " + node + " is out of range [0, " +
+                    nodeCount + ").");
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.queue.support.IntDaryHeap;
+
+/**
+ * This class implements the NBA* algorithm by Wim Pijls and Henk Post over
+ * {@link CsrGraph}s. The backward search is guided by 
+ * {@code estimate(source, node)}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class CsrNewBidirectionalAStarPathFinder extends AbstractCsrPathFinder {
+
+    private final IntDaryHeap OPENA;
+    private final IntDaryHeap OPENB;
+    private final int[] PARENTSA;
+    private final int[] PARENTSB;
+    private final double[] DISTANCEA;
+    private final double[] DISTANCEB;
+    
+    /**
+     * The generation stamps of the nodes reached by each of the searches,
+     * whose entries in the above arrays are valid, and of the nodes closed in
+     * the current search.
+     */
+    private final int[] STAMPA;
+    private final int[] STAMPB;
+    private final int[] CLOSED;
+    
+    private final AbstractCsrHeuristicFunction heuristicFunction;
+    
+    public CsrNewBidirectionalAStarPathFinder(
+            CsrGraph graph,
+            AbstractCsrHeuristicFunction heuristicFunction) {
+        super(graph);
+        Objects.requireNonNull(heuristicFunction, 
+                               "The heuristic function is null.");
+        int n = graph.getNodeCount();
+        this.OPENA = new IntDaryHeap(n);
+        this.OPENB = new IntDaryHeap(n);
+        this.PARENTSA = new int[n];
+        this.PARENTSB = new int[n];
+        this.DISTANCEA = new double[n];
+        this.DISTANCEB = new double[n];
+        this.STAMPA = new int[n];
+        this.STAMPB = new int[n];
+        this.CLOSED = new int[n];
+        this.heuristicFunction = heuristicFunction;
+    }
+    
+    @Override
+    public CsrSearchResult search(int source, 
+                                  int target, 
+                                  SearchLimits limits) {
+        SearchMonitor monitor = new SearchMonitor(limits);
+        checkTerminals(source, target);
+        
+        if (source == target) {
+            return getResult(monitor, new int[]{ source });
+        }
+        
+        OPENA.clear();
+        OPENB.clear();
+        nextGeneration(STAMPA, STAMPB, CLOSED);
+        
+        double bestPathLength = Double.POSITIVE_INFINITY;
+        double fA = heuristicFunction.estimate(source, target);
+        double fB = fA;
+        double hAtTarget = heuristicFunction.estimate(target, target);
+        double hAtSource = heuristicFunction.estimate(source, source);
+        int touchNode = NO_PARENT;
+        
+        OPENA.add(source, fA);
+        OPENB.add(target, fB);
+        STAMPA[source] = generation;
+        STAMPB[target] = generation;
+        PARENTSA[source] = NO_PARENT;
+        PARENTSB[target] = NO_PARENT;
+        DISTANCEA[source] = 0.0;
+        DISTANCEB[target] = 0.0;
+        
+        while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
+            if (monitor.expand()) {
+                break;
+            }
+            
+            if (OPENA.size() < OPENB.size()) {
+                int current = OPENA.extractMinimum();
+                CLOSED[current] = generation;
+                double g = DISTANCEA[current];
+                
+                if (g + heuristicFunction.estimate(current, target) - hAtTarget 
+                        < bestPathLength
+                        &&
+                        g + fB - heuristicFunction.estimate(source, current) 
+                        < bestPathLength) {
+                    // Stabilize the node 'current'.
+                    int[] offsets = graph.offsets;
+                    int[] heads = graph.heads;
+                    double[] weights = graph.weights;
+                    
+                    for (int arc = offsets[current]; 
+                            arc < offsets[current + 1];
+                            ++arc) {
+                        int child = heads[arc];
+                        
+                        if (CLOSED[child] == generation) {
+                            continue;
+                        }
+                        
+                        double tentativeScore = g + weights[arc];
+                        
+                        if (STAMPA[child] != generation) {
+                            STAMPA[child] = generation;
+                            DISTANCEA[child] = Double.POSITIVE_INFINITY;
+                        }
+                        
+                        if (DISTANCEA[child] > tentativeScore) {
+                            if (DISTANCEA[child] == Double.POSITIVE_INFINITY) {
+                                DISTANCEA[child] = tentativeScore;
+                                PARENTSA[child] = current;
+                                OPENA.add(child, 
+                                          tentativeScore + 
+                                          heuristicFunction
+                                                  .estimate(child, target));
+                            } else {
+                                DISTANCEA[child] = tentativeScore;
+                                PARENTSA[child] = current;
+                                OPENA.decreasePriority(
+                                        child, 
+                                        tentativeScore + 
+                                        heuristicFunction
+                                                .estimate(child, target));
+                            }
+                            
+                            if (STAMPB[child] != generation) {
+                                // Not reached by the backward search.
+                                continue;
+                            }
+                            
+                            double pathLength = tentativeScore + 
+                                                DISTANCEB[child];
+                            
+                            if (bestPathLength > pathLength) {
+                                bestPathLength = pathLength;
+                                touchNode = child;
+                            }
+                        }
+                    }
+                }
+                
+                if (!OPENA.isEmpty()) {
+                    fA = OPENA.minPriority();
+                }
+            } else {
+                int current = OPENB.extractMinimum();
+                CLOSED[current] = generation;
+                double g = DISTANCEB[current];
+                
+                if (g + heuristicFunction.estimate(source, current) - hAtSource
+                        < bestPathLength
+                        &&
+                        g + fA - heuristicFunction.estimate(current, target) 
+                        < bestPathLength) {
+                    // Stabilize the node 'current'.
+                    int[] offsets = graph.reverseOffsets;
+                    int[] tails = graph.tails;
+                    double[] weights = graph.reverseWeights;
+                    
+                    for (int arc = offsets[current]; 
+                            arc < offsets[current + 1];
+                            ++arc) {
+                        int parent = tails[arc];
+                        
+                        if (CLOSED[parent] == generation) {
+                            continue;
+                        }
+                        
+                        double tentativeScore = g + weights[arc];
+                        
+                        if (STAMPB[parent] != generation) {
+                            STAMPB[parent] = generation;
+                            DISTANCEB[parent] = Double.POSITIVE_INFINITY;
+                        }
+                        
+                        if (DISTANCEB[parent] > tentativeScore) {
+                            if (DISTANCEB[parent] == Double.POSITIVE_INFINITY) {
+                                DISTANCEB[parent] = tentativeScore;
+                                PARENTSB[parent] = current;
+                                OPENB.add(parent, 
+                                          tentativeScore + 
+                                          heuristicFunction
+                                                  .estimate(source, parent));
+                            } else {
+                                DISTANCEB[parent] = tentativeScore;
+                                PARENTSB[parent] = current;
+                                OPENB.decreasePriority(
+                                        parent,
+                                        tentativeScore + 
+                                        heuristicFunction
+                                                .estimate(source, parent));
+                            }
+                            
+                            if (STAMPA[parent] != generation) {
+                                // Not reached by the forward search.
+                                continue;
+                            }
+                            
+                            double pathLength = tentativeScore + 
+                                                DISTANCEA[parent];
+                            
+                            if (bestPathLength > pathLength) {
+                                bestPathLength = pathLength;
+                                touchNode = parent;
+                            }
+                        }
+                    }
+                }
+                
+                if (!OPENB.isEmpty()) {
+                    fB = OPENB.minPriority();
+                }
+            }
+        }
+        
+        if (touchNode == NO_PARENT || monitor.isStopped()) {
+            return getResult(monitor, EMPTY_PATH);
+        }
+        
+        return getResult(monitor, 
+                         tracebackPath(touchNode, PARENTSA, PARENTSB));
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "CSR NBA*";
+    }
+}
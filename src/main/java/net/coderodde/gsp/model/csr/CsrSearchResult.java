@@ -0,0 +1,59 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.coderodde.gsp.model.SearchResult;
+
+/**
+ * This class holds the outcome of a search run by an
+ * {@link AbstractCsrPathFinder} under
+ * {@link net.coderodde.gsp.model.SearchLimits}: the path as an array of node
+ * indices, the reason the search stopped and the amount of nodes expanded.
+ * The path is empty unless the status is {@link SearchResult.Status#FOUND}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class CsrSearchResult {
+
+    private final int[] path;
+    private final SearchResult.Status status;
+    private final long expandedNodes;
+
+    public CsrSearchResult(int[] path,
+                           SearchResult.Status status,
+                           long expandedNodes) {
+        this.path = Objects.requireNonNull(path, "The path is null.");
+        this.status = Objects.requireNonNull(status, "The status is null.");
+        this.expandedNodes = expandedNodes;
+    }
+
+    public int[] getPath() {
+        return path;
+    }
+
+    public SearchResult.Status getStatus() {
+        return status;
+    }
+
+    public long getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * Returns {@code true} if the search ran to completion, that is, found a
+     * path or proved that there is none.
+     *
+     * @return {@code true} if the search completed.
+     */
+    public boolean isComplete() {
+        return status == SearchResult.Status.FOUND ||
+               status == SearchResult.Status.UNREACHABLE;
+    }
+
+    @Override
+    public String toString() {
+        return status + " after " + expandedNodes + " expansions: " +
+               Arrays.toString(path);
+    }
+}
@@ -0,0 +1,429 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class computes the shortest paths from a source node to all the nodes
+ * of a {@link CsrGraph} by the delta-stepping algorithm of Meyer and Sanders.
+ * <p>
+ * The tentative distances are kept in buckets of width {@code delta}. The
+ * buckets are processed in increasing order; the nodes of the current bucket
+ * relax their light arcs (of weight at most {@code delta}) in parallel, which
+ * may put more nodes into the same bucket, until the bucket stays empty.
+ * Then all the nodes removed from the bucket relax their heavy arcs in
+ * parallel once. A small {@code delta} approaches Dijkstra's algorithm, and a
+ * large one approaches the Bellman-Ford algorithm: the former does less work
+ * in total, the latter has more work to share between the threads per phase.
+ * <p>
+ * The relaxations run on a {@link ForkJoinPool}. The distance of each node is
+ * updated by a compare-and-set of its bits, the sign bit locking the node
+ * while its parent is written, so that the final parent of a node is always
+ * the one that produced its final distance. The buckets are maintained by
+ * the calling thread between the phases.
+ * <p>
+ * An instance must not run two computations at a time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class DeltaSteppingShortestPaths {
+
+    /**
+     * The maximum amount of frontier nodes relaxed by a single task.
+     */
+    private static final int TASK_SIZE = 128;
+
+    /**
+     * Locks a node in the distance bits. The distances are non-negative, so
+     * the sign bit is free.
+     */
+    private static final long LOCK_BIT = Long.MIN_VALUE;
+
+    private static final long INFINITY_BITS =
+            Double.doubleToLongBits(Double.POSITIVE_INFINITY);
+
+    private final CsrGraph graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * The bucket width, or {@link Double#NaN} for choosing it automatically.
+     */
+    private double delta = Double.NaN;
+
+    /**
+     * The automatic bucket width, or {@link Double#NaN} if not computed yet.
+     */
+    private double defaultDelta = Double.NaN;
+
+    /**
+     * The arcs of the graph, the light arcs of each node coming before its
+     * heavy arcs. Rebuilt whenever the bucket width changes.
+     */
+    private double partitionDelta = Double.NaN;
+    private int[] heads;
+    private double[] weights;
+    private int[] lightEnds;
+
+    /**
+     * Constructs an engine running on the common fork-join pool.
+     *
+     * @param graph the graph.
+     */
+    public DeltaSteppingShortestPaths(CsrGraph graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs an engine running on {@code pool}. The pool is not shut down
+     * by the engine.
+     *
+     * @param graph the graph.
+     * @param pool  the pool relaxing the arcs.
+     */
+    public DeltaSteppingShortestPaths(CsrGraph graph, ForkJoinPool pool) {
+        this.graph = Objects.requireNonNull(graph, "The graph is null.");
+        this.pool = Objects.requireNonNull(pool, "The pool is null.");
+    }
+
+    /**
+     * Constructs an engine over the graph consisting of the nodes
+     * {@code nodes}, running on the common fork-join pool. The node IDs must
+     * be exactly {@code 0, 1, ..., n - 1}, and they serve as the node
+     * indices of the computed trees.
+     *
+     * @param <N>            the actual graph node type.
+     * @param nodes          all the nodes of the graph.
+     * @param weightFunction the weight function of the graph.
+     */
+    public <N extends AbstractGraphNode<N>> DeltaSteppingShortestPaths(
+            Collection<N> nodes,
+            AbstractGraphWeightFunction<N> weightFunction) {
+        this(CsrGraph.fromGraph(nodes, weightFunction));
+    }
+
+    public CsrGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Returns the bucket width used by the next computation.
+     *
+     * @return the bucket width.
+     */
+    public double getDelta() {
+        return Double.isNaN(delta) ? getDefaultDelta() : delta;
+    }
+
+    /**
+     * Sets the bucket width. Defaults to the maximum arc weight divided by
+     * the average out-degree.
+     *
+     * @param delta the bucket width; may be infinite.
+     * @return this engine.
+     */
+    public DeltaSteppingShortestPaths setDelta(double delta) {
+        if (!(delta > 0.0)) {
+            throw new IllegalArgumentException("Bad delta: " + delta + ".");
+        }
+
+        this.delta = delta;
+        return this;
+    }
+
+    /**
+     * Computes the shortest paths from {@code source} to all the nodes.
+     *
+     * @param source the source node.
+     * @return the shortest path tree rooted at {@code source}.
+     */
+    public ShortestPathTree compute(int source) {
+        if (source < 0 || source >= graph.nodeCount) {
+            throw new IllegalArgumentException(
+                    "The source node is out of range: " + source + ".");
+        }
+
+        double currentDelta = getDelta();
+
+        if (Double.compare(currentDelta, partitionDelta) != 0) {
+            partitionArcs(currentDelta);
+        }
+
+        return new Computation(currentDelta).run(source);
+    }
+
+    private double getDefaultDelta() {
+        if (Double.isNaN(defaultDelta)) {
+            defaultDelta = computeDefaultDelta();
+        }
+
+        return defaultDelta;
+    }
+
+    private double computeDefaultDelta() {
+        double maximumWeight = 0.0;
+
+        for (double weight : graph.weights) {
+            maximumWeight = Math.max(maximumWeight, weight);
+        }
+
+        if (maximumWeight == 0.0) {
+            return 1.0;
+        }
+
+        double averageDegree = (double) graph.getArcCount() / graph.nodeCount;
+        return maximumWeight / Math.max(1.0, averageDegree);
+    }
+
+    private void partitionArcs(double delta) {
+        int[] offsets = graph.offsets;
+        int arcCount = graph.getArcCount();
+        heads = new int[arcCount];
+        weights = new double[arcCount];
+        lightEnds = new int[graph.nodeCount];
+
+        for (int node = 0; node < graph.nodeCount; ++node) {
+            int light = offsets[node];
+            int heavy = offsets[node + 1];
+
+            for (int arc = offsets[node]; arc < offsets[node + 1]; ++arc) {
+                int index = graph.weights[arc] <= delta ? light++ : --heavy;
+                heads[index] = graph.heads[arc];
+                weights[index] = graph.weights[arc];
+            }
+
+            lightEnds[node] = light;
+        }
+
+        partitionDelta = delta;
+    }
+
+    /**
+     * A growable array of node indices.
+     */
+    private static final class IntList {
+
+        int[] array = new int[16];
+        int size;
+
+        void add(int value) {
+            if (size == array.length) {
+                array = Arrays.copyOf(array, 2 * size);
+            }
+
+            array[size++] = value;
+        }
+    }
+
+    /**
+     * The state of a single computation.
+     */
+    private final class Computation {
+
+        private final double delta;
+        private final AtomicLongArray distanceBits;
+        private final int[] parents;
+
+        /**
+         * The buckets by their indices. Contain stale entries of the nodes
+         * moved to a lower bucket since.
+         */
+        private final TreeMap<Long, IntList> buckets = new TreeMap<>();
+
+        /**
+         * The lists of nodes improved by the tasks of the current phase.
+         */
+        private final ConcurrentLinkedQueue<IntList> improved =
+                new ConcurrentLinkedQueue<>();
+
+        /**
+         * Deduplicates the frontier of a phase and the nodes removed from a
+         * bucket.
+         */
+        private final int[] frontierStamps;
+        private final int[] settledStamps;
+        private int frontierStamp;
+        private int settledStamp;
+
+        Computation(double delta) {
+            long[] bits = new long[graph.nodeCount];
+            Arrays.fill(bits, INFINITY_BITS);
+            this.delta = delta;
+            this.distanceBits = new AtomicLongArray(bits);
+            this.parents = new int[graph.nodeCount];
+            this.frontierStamps = new int[graph.nodeCount];
+            this.settledStamps = new int[graph.nodeCount];
+            Arrays.fill(parents, AbstractCsrPathFinder.NO_PARENT);
+        }
+
+        ShortestPathTree run(int source) {
+            distanceBits.set(source, Double.doubleToLongBits(0.0));
+            IntList sourceList = new IntList();
+            sourceList.add(source);
+            buckets.put(0L, sourceList);
+
+            while (!buckets.isEmpty()) {
+                Map.Entry<Long, IntList> entry = buckets.pollFirstEntry();
+                long index = entry.getKey();
+                IntList bucket = entry.getValue();
+                IntList settled = new IntList();
+                ++settledStamp;
+
+                while (bucket != null) {
+                    IntList frontier = new IntList();
+                    ++frontierStamp;
+
+                    for (int i = 0; i < bucket.size; ++i) {
+                        int node = bucket.array[i];
+
+                        if (frontierStamps[node] == frontierStamp ||
+                                getBucketIndex(node) != index) {
+                            continue;
+                        }
+
+                        frontierStamps[node] = frontierStamp;
+                        frontier.add(node);
+
+                        if (settledStamps[node] != settledStamp) {
+                            settledStamps[node] = settledStamp;
+                            settled.add(node);
+                        }
+                    }
+
+                    relax(frontier, true);
+                    bucket = buckets.remove(index);
+                }
+
+                relax(settled, false);
+            }
+
+            double[] distances = new double[graph.nodeCount];
+
+            for (int node = 0; node < distances.length; ++node) {
+                distances[node] = getDistance(node);
+            }
+
+            return new ShortestPathTree(source, distances, parents);
+        }
+
+        /**
+         * Relaxes the light or the heavy arcs of the nodes {@code nodes} and
+         * puts the improved nodes into their buckets.
+         */
+        private void relax(IntList nodes, boolean light) {
+            if (nodes.size <= TASK_SIZE) {
+                relax(nodes.array, 0, nodes.size, light);
+            } else {
+                pool.invoke(new RelaxTask(nodes.array, 0, nodes.size, light));
+            }
+
+            IntList list;
+
+            while ((list = improved.poll()) != null) {
+                for (int i = 0; i < list.size; ++i) {
+                    int node = list.array[i];
+                    buckets.computeIfAbsent(getBucketIndex(node),
+                                            (index) -> new IntList())
+                           .add(node);
+                }
+            }
+        }
+
+        private void relax(int[] nodes, int from, int to, boolean light) {
+            IntList list = new IntList();
+
+            for (int i = from; i < to; ++i) {
+                int node = nodes[i];
+                double distance = getDistance(node);
+                int begin = light ? graph.offsets[node] : lightEnds[node];
+                int end = light ? lightEnds[node] : graph.offsets[node + 1];
+
+                for (int arc = begin; arc < end; ++arc) {
+                    if (improve(heads[arc], node, distance + weights[arc])) {
+                        list.add(heads[arc]);
+                    }
+                }
+            }
+
+            if (list.size > 0) {
+                improved.add(list);
+            }
+        }
+
+        /**
+         * Lowers the distance of {@code node} to {@code distance} and sets
+         * its parent, unless the distance is not lower.
+         *
+         * @return {@code true} if the distance was lowered.
+         */
+        private boolean improve(int node, int parent, double distance) {
+            long newBits = Double.doubleToLongBits(distance);
+
+            for (;;) {
+                long bits = distanceBits.get(node);
+
+                if (bits < 0L) {
+                    // Another thread is writing the parent.
+                    continue;
+                }
+
+                if (distance >= Double.longBitsToDouble(bits)) {
+                    return false;
+                }
+
+                if (distanceBits.compareAndSet(node,
+                                               bits,
+                                               newBits | LOCK_BIT)) {
+                    parents[node] = parent;
+                    distanceBits.set(node, newBits);
+                    return true;
+                }
+            }
+        }
+
+        private double getDistance(int node) {
+            return Double.longBitsToDouble(distanceBits.get(node) &
+                                           ~LOCK_BIT);
+        }
+
+        private long getBucketIndex(int node) {
+            return (long) (getDistance(node) / delta);
+        }
+
+        private final class RelaxTask extends RecursiveAction {
+
+            private final int[] nodes;
+            private final int from;
+            private final int to;
+            private final boolean light;
+
+            RelaxTask(int[] nodes, int from, int to, boolean light) {
+                this.nodes = nodes;
+                this.from = from;
+                this.to = to;
+                this.light = light;
+            }
+
+            @Override
+            protected void compute() {
+                if (to - from <= TASK_SIZE) {
+                    relax(nodes, from, to, light);
+                    return;
+                }
+
+                int middle = (from + to) >>> 1;
+                invokeAll(new RelaxTask(nodes, from, middle, light),
+                          new RelaxTask(nodes, middle, to, light));
+            }
+        }
+    }
+}
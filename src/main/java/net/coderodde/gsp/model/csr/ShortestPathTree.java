@@ -0,0 +1,78 @@
+package net.coderodde.gsp.model.csr;
+
+/**
+ * This class holds the shortest paths from a single source node to all the
+ * nodes of a {@link CsrGraph}: the distance and the parent of each node,
+ * indexed by the node index. The distance of an unreachable node is
+ * {@link Double#POSITIVE_INFINITY}, and the parent of the source node and of
+ * the unreachable nodes is {@code -1}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class ShortestPathTree {
+
+    private final int source;
+    private final double[] distances;
+    private final int[] parents;
+
+    ShortestPathTree(int source, double[] distances, int[] parents) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    public int getSource() {
+        return source;
+    }
+
+    public double getDistance(int node) {
+        return distances[node];
+    }
+
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    public boolean isReachable(int node) {
+        return distances[node] != Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns the distance array itself, not a copy.
+     *
+     * @return the distances of all the nodes.
+     */
+    public double[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * Returns the parent array itself, not a copy.
+     *
+     * @return the parents of all the nodes.
+     */
+    public int[] getParents() {
+        return parents;
+    }
+
+    /**
+     * Returns the shortest path from the source node to {@code target}.
+     *
+     * @param target the target node.
+     * @return the path, or an empty array if {@code target} is not
+     *         reachable.
+     */
+    public int[] getPath(int target) {
+        if (target < 0 || target >= distances.length) {
+            throw new IllegalArgumentException(
+                    "The target node is out of range: " + target + ".");
+        }
+
+        if (!isReachable(target)) {
+            return AbstractCsrPathFinder.EMPTY_PATH;
+        }
+
+        return AbstractCsrPathFinder.tracebackPath(target, parents);
+    }
+}
@@ -0,0 +1,269 @@
+package net.coderodde.gsp.model.grid;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.support.GridGraphConfiguration;
+import net.coderodde.gsp.model.support.GridGraphNode;
+
+/**
+ * This class implements a compact grid map. The cell at {@code (x, y)} has 
+ * the index {@code y * width + x}, and the walls are stored as a bitset of 
+ * {@code long}s, one bit per cell, so that a 4096 x 4096 map takes 2 MB. The
+ * neighbours of a cell are enumerated into a caller-supplied buffer, so no 
+ * objects are allocated while searching.
+ * <p>
+ * The movement rules are those of {@link GridGraphConfiguration}: diagonal 
+ * moves may be disallowed, and if crossing corners is disallowed, a diagonal 
+ * move requires both adjacent orthogonal cells to be passable. In order to
+ * run the {@link net.coderodde.gsp.model.AbstractPathFinder}s over the grid,
+ * use {@link PackedGridNode}s obtained via {@link #getNode(int, int)}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class PackedGrid {
+    
+    /**
+     * The minimum length of the buffers passed to 
+     * {@link #getNeighbors(int, int[])}.
+     */
+    public static final int MAXIMUM_NEIGHBORS = 8;
+    
+    private final int width;
+    private final int height;
+    
+    /**
+     * The bit {@code i} is set if and only if the cell {@code i} is a wall.
+     */
+    private final long[] walls;
+    
+    private boolean allowDiagonals = true;
+    private boolean crossCorners = true;
+    
+    /**
+     * Constructs a grid with all cells passable.
+     * 
+     * @param width  the width of the grid.
+     * @param height the height of the grid.
+     */
+    public PackedGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad grid dimensions: " + width + " x " + height + ".");
+        }
+        
+        long cells = (long) width * height;
+        
+        if (cells > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The grid " + width + " x " + height + " is too large.");
+        }
+        
+        this.width = width;
+        this.height = height;
+        this.walls = new long[(int)((cells + 63) >>> 6)];
+    }
+    
+    /**
+     * Builds a packed copy of the grid graph {@code grid}, in which 
+     * {@code grid[y][x]} is the node at {@code (x, y)}.
+     * 
+     * @param grid          the grid graph.
+     * @param configuration the configuration of the grid graph.
+     * @return a packed grid.
+     */
+    public static PackedGrid of(GridGraphNode[][] grid,
+                                GridGraphConfiguration configuration) {
+        Objects.requireNonNull(grid, "The grid is null.");
+        Objects.requireNonNull(configuration, "The configuration is null.");
+        
+        PackedGrid packedGrid = new PackedGrid(grid[0].length, grid.length);
+        packedGrid.setAllowDiagonals(configuration.diagonalsAllowed());
+        packedGrid.setCrossCorners(configuration.crossingCornersAllowed());
+        
+        for (int y = 0; y < grid.length; ++y) {
+            for (int x = 0; x < grid[y].length; ++x) {
+                if (configuration.isWallNode(grid[y][x])) {
+                    packedGrid.setWall(x, y, true);
+                }
+            }
+        }
+        
+        return packedGrid;
+    }
+    
+    public int getWidth() {
+        return width;
+    }
+    
+    public int getHeight() {
+        return height;
+    }
+    
+    public int getCellCount() {
+        return width * height;
+    }
+    
+    public int getCell(int x, int y) {
+        checkCoordinates(x, y);
+        return y * width + x;
+    }
+    
+    public int getX(int cell) {
+        return cell % width;
+    }
+    
+    public int getY(int cell) {
+        return cell / width;
+    }
+    
+    /**
+     * Returns the adapter node for the cell at {@code (x, y)}.
+     * 
+     * @param x the x-coordinate of the cell.
+     * @param y the y-coordinate of the cell.
+     * @return the node of the cell.
+     */
+    public PackedGridNode getNode(int x, int y) {
+        return new PackedGridNode(this, getCell(x, y));
+    }
+    
+    public void setWall(int x, int y, boolean wall) {
+        int cell = getCell(x, y);
+        
+        if (wall) {
+            walls[cell >>> 6] |= 1L << cell;
+        } else {
+            walls[cell >>> 6] &= ~(1L << cell);
+        }
+    }
+    
+    public boolean isWall(int cell) {
+        return (walls[cell >>> 6] & (1L << cell)) != 0L;
+    }
+    
+    /**
+     * Checks whether {@code (x, y)} lies within this grid and is not a wall.
+     * 
+     * @param x the x-coordinate.
+     * @param y the y-coordinate.
+     * @return {@code true} if the cell at {@code (x, y)} is passable.
+     */
+    public boolean isPassable(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height 
+                && !isWall(y * width + x);
+    }
+    
+    public void setAllowDiagonals(boolean allowDiagonals) {
+        this.allowDiagonals = allowDiagonals;
+    }
+    
+    public void setCrossCorners(boolean crossCorners) {
+        this.crossCorners = crossCorners;
+    }
+    
+    public boolean diagonalsAllowed() {
+        return allowDiagonals;
+    }
+    
+    public boolean crossingCornersAllowed() {
+        return crossCorners;
+    }
+    
+    /**
+     * Stores the passable neighbours of the cell {@code cell} in 
+     * {@code buffer}, in the order north, east, south, west, north-east, 
+     * south-east, south-west and north-west.
+     * 
+     * @param cell   the cell whose neighbours to load.
+     * @param buffer the buffer of length at least {@link #MAXIMUM_NEIGHBORS}.
+     * @return the amount of neighbours stored in {@code buffer}.
+     */
+    public int getNeighbors(int cell, int[] buffer) {
+        int x = cell % width;
+        int y = cell / width;
+        int count = 0;
+        
+        boolean north = isPassable(x, y - 1);
+        boolean east  = isPassable(x + 1, y);
+        boolean south = isPassable(x, y + 1);
+        boolean west  = isPassable(x - 1, y);
+        
+        if (north) {
+            buffer[count++] = cell - width;
+        }
+        
+        if (east) {
+            buffer[count++] = cell + 1;
+        }
+        
+        if (south) {
+            buffer[count++] = cell + width;
+        }
+        
+        if (west) {
+            buffer[count++] = cell - 1;
+        }
+        
+        if (!allowDiagonals) {
+            return count;
+        }
+        
+        if (isPassable(x + 1, y - 1) && (crossCorners || north && east)) {
+            buffer[count++] = cell - width + 1;
+        }
+        
+        if (isPassable(x + 1, y + 1) && (crossCorners || south && east)) {
+            buffer[count++] = cell + width + 1;
+        }
+        
+        if (isPassable(x - 1, y + 1) && (crossCorners || south && west)) {
+            buffer[count++] = cell + width - 1;
+        }
+        
+        if (isPassable(x - 1, y - 1) && (crossCorners || north && west)) {
+            buffer[count++] = cell - width - 1;
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Checks whether the cell {@code other} is among the neighbours loaded by
+     * {@link #getNeighbors(int, int[])} for the cell {@code cell}, without 
+     * enumerating them.
+     * 
+     * @param cell  the cell whose neighbours to consider.
+     * @param other the candidate neighbour.
+     * @return {@code true} if {@code other} is a neighbour of {@code cell}.
+     */
+    public boolean isNeighbor(int cell, int other) {
+        int x = cell % width;
+        int y = cell / width;
+        int dx = other % width - x;
+        int dy = other / width - y;
+        
+        if (dx < -1 || dx > 1 || dy < -1 || dy > 1 || (dx | dy) == 0) {
+            return false;
+        }
+        
+        if (!isPassable(x + dx, y + dy)) {
+            return false;
+        }
+        
+        if (dx == 0 || dy == 0) {
+            return true;
+        }
+        
+        return allowDiagonals
+                && (crossCorners || isPassable(x + dx, y) 
+                                 && isPassable(x, y + dy));
+    }
+    
+    private void checkCoordinates(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IndexOutOfBoundsException(
+                    "The cell (" + x + ", " + y + ") is outside the " + 
+                    width + " x " + height + " grid.");
+        }
+    }
+}
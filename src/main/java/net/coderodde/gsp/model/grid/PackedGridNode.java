@@ -0,0 +1,97 @@
+package net.coderodde.gsp.model.grid;
+
+import java.util.Arrays;
+import java.util.Collection;
+import net.coderodde.gsp.model.AbstractGraphNode;
+
+/**
+ * This class adapts a cell of a {@link PackedGrid} to the 
+ * {@link AbstractGraphNode} API. The nodes are lightweight views created on
+ * demand; two nodes are equal if they denote the same cell. As the ID of a 
+ * node is its cell index, the nodes may be used with 
+ * {@link net.coderodde.gsp.model.support.SearchState} and
+ * {@link net.coderodde.gsp.model.queue.support.IndexedDaryHeap} with capacity
+ * {@link PackedGrid#getCellCount()}.
+ * <p>
+ * The neighbour cells are enumerated into a scratch buffer reused by all the 
+ * expansions of the calling thread, and {@link #hasChild(PackedGridNode)} 
+ * tests the adjacency directly; apart from the returned collection, only the 
+ * child nodes themselves, which the finders retain, are allocated.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class PackedGridNode extends AbstractGraphNode<PackedGridNode> {
+
+    /**
+     * The neighbour buffer of each thread.
+     */
+    private static final ThreadLocal<int[]> NEIGHBOR_BUFFER = 
+            ThreadLocal.withInitial(
+                    () -> new int[PackedGrid.MAXIMUM_NEIGHBORS]);
+    
+    private final PackedGrid grid;
+    
+    PackedGridNode(PackedGrid grid, int cell) {
+        super(cell);
+        this.grid = grid;
+    }
+    
+    public PackedGrid getGrid() {
+        return grid;
+    }
+    
+    public int getX() {
+        return grid.getX(id);
+    }
+    
+    public int getY() {
+        return grid.getY(id);
+    }
+    
+    @Override
+    public void addChild(PackedGridNode child) {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedGridNode.");
+    }
+
+    @Override
+    public boolean hasChild(PackedGridNode child) {
+        return child.grid == grid && grid.isNeighbor(id, child.id);
+    }
+
+    @Override
+    public void removeChild(PackedGridNode child) {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedGridNode.");
+    }
+
+    @Override
+    public Collection<PackedGridNode> children() {
+        int[] buffer = NEIGHBOR_BUFFER.get();
+        int count = grid.getNeighbors(id, buffer);
+        PackedGridNode[] children = new PackedGridNode[count];
+        
+        for (int i = 0; i < count; ++i) {
+            children[i] = new PackedGridNode(grid, buffer[i]);
+        }
+        
+        return Arrays.asList(children);
+    }
+
+    @Override
+    public Collection<PackedGridNode> parents() {
+        return children();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedGridNode.");
+    }
+    
+    @Override
+    public String toString() {
+        return "[PackedGridNode (" + getX() + ", " + getY() + ")]";
+    }
+}
@@ -0,0 +1,23 @@
+package net.coderodde.gsp.model.grid;
+
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+
+/**
+ * This class implements a heuristic function based on the octile distance 
+ * over packed grids.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PackedGridOctileHeuristicFunction 
+extends AbstractHeuristicFunction<PackedGridNode> {
+
+    private static final double FACTOR = Math.sqrt(2.0) - 1.0;
+    
+    @Override
+    public double estimate(PackedGridNode source, PackedGridNode target) {
+        double dx = Math.abs(source.getX() - target.getX());
+        double dy = Math.abs(source.getY() - target.getY());
+        return Math.max(dx, dy) + FACTOR * Math.min(dx, dy);
+    }
+}
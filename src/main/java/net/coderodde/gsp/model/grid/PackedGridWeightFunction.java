@@ -0,0 +1,35 @@
+package net.coderodde.gsp.model.grid;
+
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class implements the weight function of packed grids: straight moves
+ * cost 1 and diagonal moves cost {@code sqrt(2)}.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PackedGridWeightFunction 
+extends AbstractGraphWeightFunction<PackedGridNode> {
+
+    private static final double SQRT2 = Math.sqrt(2.0);
+    
+    @Override
+    public void put(PackedGridNode tail, PackedGridNode head, double weight) {
+        throw new UnsupportedOperationException(
+                "The edges of PackedGridNodes are implicitly weighted.");
+    }
+
+    @Override
+    public double get(PackedGridNode tail, PackedGridNode head) {
+        int dx = Math.abs(tail.getX() - head.getX());
+        int dy = Math.abs(tail.getY() - head.getY());
+        
+        if (dx > 1 || dy > 1) {
+            throw new IllegalArgumentException(
+                    "The head and the tail nodes are not adjacent.");
+        }
+        
+        return dx + dy == 2 ? SQRT2 : dx + dy;
+    }
+}
@@ -0,0 +1,35 @@
+package net.coderodde.gsp.model.jfr;
+
+/**
+ * This interface is the boundary between the library and Flight Recorder.
+ * Its only implementation, {@code FlightRecorderEvents}, lives in the
+ * {@code src/main/jfr} source root, which is compiled only on a JDK having
+ * {@code jdk.jfr}; {@link JfrEvents} loads it reflectively. The events are
+ * passed around as plain objects, so that no other class of the library
+ * depends on {@code jdk.jfr}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+interface EventRecorder {
+
+    Object beginSearch();
+
+    void commitSearch(Object event,
+                      String algorithm,
+                      String heap,
+                      String status,
+                      long expandedNodes,
+                      long generatedNodes,
+                      long reopenedNodes,
+                      long peakOpenSize,
+                      int pathNodes,
+                      double pathCost);
+
+    Object beginHeapResize();
+
+    void commitHeapResize(Object event,
+                          String heap,
+                          int oldCapacity,
+                          int newCapacity);
+}
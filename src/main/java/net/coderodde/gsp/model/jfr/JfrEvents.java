@@ -0,0 +1,126 @@
+package net.coderodde.gsp.model.jfr;
+
+/**
+ * This class begins and commits the Flight Recorder events of the library.
+ * The {@code begin} methods return {@code null} unless the event is enabled
+ * in a running recording, so that a disabled event costs a single check;
+ * the event objects are then never published and the JIT compiler removes
+ * their allocation.
+ * <p>
+ * The events themselves depend on {@code jdk.jfr} and are compiled from a
+ * separate source root on JDK 11 or newer only, which keeps the rest of the
+ * library buildable with {@code --release 8}. They are loaded reflectively;
+ * on a runtime without Flight Recorder, or from a build without the events,
+ * the {@code begin} methods always return {@code null}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class JfrEvents {
+
+    /**
+     * The name of the class implementing the events on Flight Recorder.
+     */
+    private static final String RECORDER_CLASS_NAME =
+            "net.coderodde.gsp.model.jfr.FlightRecorderEvents";
+
+    /**
+     * The recorder, or {@code null} if Flight Recorder is not available.
+     */
+    private static final EventRecorder RECORDER = loadRecorder();
+
+    private JfrEvents() {}
+
+    /**
+     * Returns {@code true} if the events can be recorded, that is, if the
+     * runtime has Flight Recorder and the library was built with the events.
+     *
+     * @return {@code true} if the events are available.
+     */
+    public static boolean isAvailable() {
+        return RECORDER != null;
+    }
+
+    /**
+     * Begins a search event if enabled.
+     *
+     * @return the event, or {@code null} if disabled.
+     */
+    public static Object beginSearch() {
+        return RECORDER == null ? null : RECORDER.beginSearch();
+    }
+
+    /**
+     * Ends and commits a search event.
+     *
+     * @param event          the event begun by {@link #beginSearch()}.
+     * @param algorithm      the name of the algorithm.
+     * @param heap           the name of the heap, or {@code null}.
+     * @param status         the status of the search.
+     * @param expandedNodes  the amount of expanded nodes.
+     * @param generatedNodes the amount of generated nodes.
+     * @param reopenedNodes  the amount of reopened nodes.
+     * @param peakOpenSize   the peak size of the open lists.
+     * @param pathNodes      the amount of nodes on the path found.
+     * @param pathCost       the cost of the path found.
+     */
+    public static void commitSearch(Object event,
+                                    String algorithm,
+                                    String heap,
+                                    String status,
+                                    long expandedNodes,
+                                    long generatedNodes,
+                                    long reopenedNodes,
+                                    long peakOpenSize,
+                                    int pathNodes,
+                                    double pathCost) {
+        RECORDER.commitSearch(event,
+                              algorithm,
+                              heap,
+                              status,
+                              expandedNodes,
+                              generatedNodes,
+                              reopenedNodes,
+                              peakOpenSize,
+                              pathNodes,
+                              pathCost);
+    }
+
+    /**
+     * Begins a heap resize event if enabled.
+     *
+     * @return the event, or {@code null} if disabled.
+     */
+    public static Object beginHeapResize() {
+        return RECORDER == null ? null : RECORDER.beginHeapResize();
+    }
+
+    /**
+     * Ends and commits a heap resize event.
+     *
+     * @param event       the event begun by {@link #beginHeapResize()}.
+     * @param heap        the resized heap.
+     * @param oldCapacity the capacity before the resize.
+     * @param newCapacity the capacity after the resize.
+     */
+    public static void commitHeapResize(Object event,
+                                        Object heap,
+                                        int oldCapacity,
+                                        int newCapacity) {
+        RECORDER.commitHeapResize(event,
+                                  heap.toString(),
+                                  oldCapacity,
+                                  newCapacity);
+    }
+
+    private static EventRecorder loadRecorder() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (EventRecorder) Class.forName(RECORDER_CLASS_NAME)
+                                        .getDeclaredConstructor()
+                                        .newInstance();
+        } catch (ReflectiveOperationException | LinkageError ex) {
+            return null;
+        }
+    }
+}
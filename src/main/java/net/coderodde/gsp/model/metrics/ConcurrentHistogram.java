@@ -0,0 +1,137 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class implements a histogram of non-negative values recorded
+ * concurrently. As in HdrHistogram, the buckets are log-linear: the values
+ * below 128 have a bucket each, and each further power of two is split into
+ * 64 buckets, so that a value is known within 1/64 of itself. The values
+ * above {@link #MAXIMUM_VALUE} are counted as {@link #MAXIMUM_VALUE}.
+ * <p>
+ * The bucket counts are striped by thread so that the threads recording at
+ * the same time rarely update the same counter; a snapshot sums the stripes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class ConcurrentHistogram {
+
+    /**
+     * The largest value told apart from the larger ones: about 36 minutes
+     * in nanoseconds.
+     */
+    public static final long MAXIMUM_VALUE = (1L << 41) - 1;
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAXIMUM_STRIPES = 16;
+
+    static final int BUCKET_COUNT = getIndex(MAXIMUM_VALUE) + 1;
+
+    private final AtomicLongArray[] stripes;
+    private final int stripeMask;
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator maximum = new LongAccumulator(Math::max, 0L);
+
+    public ConcurrentHistogram() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = Math.min(MAXIMUM_STRIPES,
+                                   Integer.highestOneBit(2 * processors - 1));
+        this.stripes = new AtomicLongArray[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        for (int i = 0; i < stripeCount; ++i) {
+            stripes[i] = new AtomicLongArray(BUCKET_COUNT);
+        }
+    }
+
+    /**
+     * Records the value {@code value}.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        if (value < 0L) {
+            throw new IllegalArgumentException("Bad value: " + value + ".");
+        }
+
+        value = Math.min(value, MAXIMUM_VALUE);
+        stripes[getStripe()].incrementAndGet(getIndex(value));
+        sum.add(value);
+        maximum.accumulate(value);
+    }
+
+    /**
+     * Returns the counts recorded so far.
+     *
+     * @return a snapshot of this histogram.
+     */
+    public HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                counts[i] += stripe.get(i);
+            }
+        }
+
+        return new HistogramSnapshot(counts, sum.sum(), maximum.get());
+    }
+
+    /**
+     * Returns the counts recorded so far and clears them. The values
+     * recorded during the call go to either this or the next snapshot.
+     *
+     * @return a snapshot of this histogram.
+     */
+    public HistogramSnapshot snapshotAndReset() {
+        long[] counts = new long[BUCKET_COUNT];
+
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; ++i) {
+                counts[i] += stripe.getAndSet(i, 0L);
+            }
+        }
+
+        return new HistogramSnapshot(counts,
+                                     sum.sumThenReset(),
+                                     maximum.getThenReset());
+    }
+
+    /**
+     * Returns the index of the bucket of {@code value}.
+     */
+    static int getIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) +
+               (int) (value >>> shift) -
+               SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the largest value in the bucket {@code index}.
+     */
+    static long getUpperBound(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) ((index & (SUB_BUCKET_COUNT - 1)) +
+                                  SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    private int getStripe() {
+        long id = Thread.currentThread().getId();
+        // Spread the consecutive thread IDs over the stripes.
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & stripeMask;
+    }
+}
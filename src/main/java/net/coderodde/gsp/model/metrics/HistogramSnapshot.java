@@ -0,0 +1,78 @@
+package net.coderodde.gsp.model.metrics;
+
+/**
+ * This class holds the counts of a {@link ConcurrentHistogram} at a moment.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long maximum;
+
+    HistogramSnapshot(long[] counts, long sum, long maximum) {
+        long count = 0L;
+
+        for (long bucketCount : counts) {
+            count += bucketCount;
+        }
+
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.maximum = maximum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaximum() {
+        return maximum;
+    }
+
+    /**
+     * Returns the mean of the values, or zero if there are none.
+     *
+     * @return the mean.
+     */
+    public double getMean() {
+        return count == 0L ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns a value such that {@code percentile} percent of the values are
+     * not larger, within the precision of the histogram, or zero if there
+     * are no values.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return the value at the percentile.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException(
+                    "Bad percentile: " + percentile + ".");
+        }
+
+        if (count == 0L) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+
+        for (int i = 0; i < counts.length; ++i) {
+            seen += counts[i];
+
+            if (seen >= rank) {
+                return Math.min(ConcurrentHistogram.getUpperBound(i),
+                                maximum);
+            }
+        }
+
+        return maximum;
+    }
+}
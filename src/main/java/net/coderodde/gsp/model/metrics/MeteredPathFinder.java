@@ -0,0 +1,112 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class decorates a path finder, recording the outcome, the latency and
+ * the expanded nodes of each search in a {@link PathFinderMetrics}. The
+ * configuration methods are forwarded to the decorated finder.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public final class MeteredPathFinder<N extends AbstractGraphNode<N>>
+extends AbstractPathFinder<N> {
+
+    private final AbstractPathFinder<N> finder;
+    private final PathFinderMetrics metrics;
+
+    public MeteredPathFinder(AbstractPathFinder<N> finder,
+                             PathFinderMetrics metrics) {
+        this.finder = Objects.requireNonNull(finder, "The finder is null.");
+        this.metrics = Objects.requireNonNull(metrics,
+                                              "The metrics are null.");
+    }
+
+    public AbstractPathFinder<N> getFinder() {
+        return finder;
+    }
+
+    public PathFinderMetrics getMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public String humanReadableName() {
+        return finder.humanReadableName();
+    }
+
+    @Override
+    public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        long startNanos = System.nanoTime();
+        SearchResult<N> result;
+
+        try {
+            result = finder.search(source, target, limits);
+        } catch (RuntimeException | Error ex) {
+            metrics.recordFailure(System.nanoTime() - startNanos);
+            throw ex;
+        }
+
+        metrics.record(result, System.nanoTime() - startNanos);
+        return result;
+    }
+
+    @Override
+    public MinimumPriorityQueue<N> getQueue() {
+        return finder.getQueue();
+    }
+
+    @Override
+    public MeteredPathFinder<N> setQueue(MinimumPriorityQueue<N> queue) {
+        finder.setQueue(queue);
+        return this;
+    }
+
+    @Override
+    public GraphSearchListener<N> getGraphSearchListener() {
+        return finder.getGraphSearchListener();
+    }
+
+    @Override
+    public void setGraphSearchListener(GraphSearchListener<N> listener) {
+        finder.setGraphSearchListener(listener);
+    }
+
+    @Override
+    public boolean isLazyDeletion() {
+        return finder.isLazyDeletion();
+    }
+
+    @Override
+    public MeteredPathFinder<N> setLazyDeletion(boolean lazyDeletion) {
+        finder.setLazyDeletion(lazyDeletion);
+        return this;
+    }
+
+    @Override
+    public AbstractSearchState<N> getSearchState() {
+        return finder.getSearchState();
+    }
+
+    @Override
+    public MeteredPathFinder<N>
+        setSearchState(AbstractSearchState<N> searchState) {
+        finder.setSearchState(searchState);
+        return this;
+    }
+}
@@ -0,0 +1,203 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentSkipListMap;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractPathFinder;
+
+/**
+ * This class keeps the {@link PathFinderMetrics} of a service by their names.
+ * The finders wrapped via {@link #wrap(AbstractPathFinder)} share the metrics
+ * of their algorithm and heap, so that a pool of equally configured finders
+ * reports as one. The metrics are exported as a text snapshot via
+ * {@link #toText()} or as MBeans via {@link #registerMBeans(String)}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class MetricsRegistry {
+
+    private final Map<String, PathFinderMetrics> metricsMap =
+            new ConcurrentSkipListMap<>();
+
+    /**
+     * The server and the domain the MBeans are registered in, or
+     * {@code null} if not registered.
+     */
+    private MBeanServer server;
+    private String domain;
+
+    /**
+     * Returns the metrics named {@code name}, creating them if needed.
+     *
+     * @param name the name of the metrics.
+     * @return the metrics.
+     */
+    public PathFinderMetrics getMetrics(String name) {
+        Objects.requireNonNull(name, "The name is null.");
+        PathFinderMetrics metrics = metricsMap.get(name);
+
+        if (metrics != null) {
+            return metrics;
+        }
+
+        synchronized (this) {
+            metrics = metricsMap.get(name);
+
+            if (metrics == null) {
+                metrics = new PathFinderMetrics(name);
+
+                if (server != null) {
+                    register(metrics);
+                }
+
+                metricsMap.put(name, metrics);
+            }
+
+            return metrics;
+        }
+    }
+
+    /**
+     * Wraps {@code finder} into a decorator recording into the metrics
+     * named after its algorithm and its heap, as configured at the moment.
+     *
+     * @param <N>    the actual graph node type.
+     * @param finder the finder to wrap.
+     * @return the metered finder.
+     */
+    public <N extends AbstractGraphNode<N>> MeteredPathFinder<N>
+        wrap(AbstractPathFinder<N> finder) {
+        Objects.requireNonNull(finder, "The finder is null.");
+        String heap = finder.getQueue() == null ?
+                      "default heap" :
+                      finder.getQueue().toString();
+        return new MeteredPathFinder<>(
+                finder,
+                getMetrics(finder.humanReadableName() + " / " + heap));
+    }
+
+    /**
+     * Returns the snapshots of all the metrics, ordered by name.
+     *
+     * @return the snapshots.
+     */
+    public List<MetricsSnapshot> snapshot() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>();
+
+        for (PathFinderMetrics metrics : metricsMap.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * Returns the snapshots of all the metrics, ordered by name, and starts
+     * a new interval for each.
+     *
+     * @return the snapshots.
+     */
+    public List<MetricsSnapshot> snapshotAndReset() {
+        List<MetricsSnapshot> snapshots = new ArrayList<>();
+
+        for (PathFinderMetrics metrics : metricsMap.values()) {
+            snapshots.add(metrics.snapshotAndReset());
+        }
+
+        return snapshots;
+    }
+
+    /**
+     * Returns a snapshot of all the metrics as text, a line per metrics.
+     *
+     * @return the text snapshot.
+     */
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+
+        for (MetricsSnapshot snapshot : snapshot()) {
+            sb.append(snapshot).append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Registers all the metrics, including the ones created later, as MBeans
+     * in the platform MBean server under the domain {@code domain}.
+     *
+     * @param domain the domain of the MBeans.
+     * @throws JMException if the registration fails.
+     */
+    public synchronized void registerMBeans(String domain)
+    throws JMException {
+        Objects.requireNonNull(domain, "The domain is null.");
+
+        if (server != null) {
+            throw new IllegalStateException(
+                    "The MBeans are registered already.");
+        }
+
+        this.server = ManagementFactory.getPlatformMBeanServer();
+        this.domain = domain;
+
+        for (PathFinderMetrics metrics : metricsMap.values()) {
+            server.registerMBean(metrics, getObjectName(metrics));
+        }
+    }
+
+    /**
+     * Unregisters the MBeans registered via {@link #registerMBeans(String)}.
+     *
+     * @throws JMException if the unregistration fails.
+     */
+    public synchronized void unregisterMBeans() throws JMException {
+        if (server == null) {
+            return;
+        }
+
+        for (PathFinderMetrics metrics : metricsMap.values()) {
+            server.unregisterMBean(getObjectName(metrics));
+        }
+
+        server = null;
+        domain = null;
+    }
+
+    /**
+     * Returns the name of the MBean of {@code metrics}.
+     *
+     * @param metrics the metrics.
+     * @return the object name.
+     * @throws JMException if the name is malformed.
+     */
+    public synchronized ObjectName getObjectName(PathFinderMetrics metrics)
+    throws JMException {
+        if (domain == null) {
+            throw new IllegalStateException("The MBeans are not registered.");
+        }
+
+        return new ObjectName(domain +
+                              ":type=PathFinderMetrics,name=" +
+                              ObjectName.quote(metrics.getName()));
+    }
+
+    private void register(PathFinderMetrics metrics) {
+        try {
+            server.registerMBean(metrics, getObjectName(metrics));
+        } catch (JMException ex) {
+            throw new IllegalStateException(
+                    "Could not register the MBean of " + metrics.getName() +
+                    ".",
+                    ex);
+        }
+    }
+}
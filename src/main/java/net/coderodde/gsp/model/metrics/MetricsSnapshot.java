@@ -0,0 +1,140 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.util.Locale;
+
+/**
+ * This class holds the metrics of a path finder over an interval: the
+ * amount of queries by their outcome, their latencies in nanoseconds and
+ * their expanded nodes. The failed queries are the ones that threw; the
+ * stopped ones hit their search limits.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class MetricsSnapshot {
+
+    private final String name;
+    private final long intervalNanos;
+    private final long foundQueries;
+    private final long unreachableQueries;
+    private final long stoppedQueries;
+    private final long failedQueries;
+    private final HistogramSnapshot latencies;
+    private final HistogramSnapshot expansions;
+
+    MetricsSnapshot(String name,
+                    long intervalNanos,
+                    long foundQueries,
+                    long unreachableQueries,
+                    long stoppedQueries,
+                    long failedQueries,
+                    HistogramSnapshot latencies,
+                    HistogramSnapshot expansions) {
+        this.name = name;
+        this.intervalNanos = intervalNanos;
+        this.foundQueries = foundQueries;
+        this.unreachableQueries = unreachableQueries;
+        this.stoppedQueries = stoppedQueries;
+        this.failedQueries = failedQueries;
+        this.latencies = latencies;
+        this.expansions = expansions;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getIntervalNanos() {
+        return intervalNanos;
+    }
+
+    public long getQueries() {
+        return foundQueries + unreachableQueries + stoppedQueries +
+               failedQueries;
+    }
+
+    public long getFoundQueries() {
+        return foundQueries;
+    }
+
+    public long getUnreachableQueries() {
+        return unreachableQueries;
+    }
+
+    public long getStoppedQueries() {
+        return stoppedQueries;
+    }
+
+    public long getFailedQueries() {
+        return failedQueries;
+    }
+
+    /**
+     * Returns the amount of queries per second over the interval.
+     *
+     * @return the query rate.
+     */
+    public double getQueryRate() {
+        return intervalNanos <= 0L ? 0.0 : 1e9 * getQueries() / intervalNanos;
+    }
+
+    public double getUnreachableRate() {
+        return getShare(unreachableQueries);
+    }
+
+    public double getStoppedRate() {
+        return getShare(stoppedQueries);
+    }
+
+    public double getFailureRate() {
+        return getShare(failedQueries);
+    }
+
+    /**
+     * Returns the latencies of all the queries, in nanoseconds.
+     *
+     * @return the latency histogram.
+     */
+    public HistogramSnapshot getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Returns the expanded nodes of the queries that did not fail.
+     *
+     * @return the expansion histogram.
+     */
+    public HistogramSnapshot getExpansions() {
+        return expansions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                Locale.ROOT,
+                "%s: %d queries (%.1f/s), found %d, unreachable %d, " +
+                "stopped %d, failed %d; latency us mean %.1f, p50 %.1f, " +
+                "p90 %.1f, p99 %.1f, p99.9 %.1f, max %.1f; expansions " +
+                "mean %.1f, p99 %d",
+                name,
+                getQueries(),
+                getQueryRate(),
+                foundQueries,
+                unreachableQueries,
+                stoppedQueries,
+                failedQueries,
+                latencies.getMean() / 1e3,
+                latencies.getValueAtPercentile(50.0) / 1e3,
+                latencies.getValueAtPercentile(90.0) / 1e3,
+                latencies.getValueAtPercentile(99.0) / 1e3,
+                latencies.getValueAtPercentile(99.9) / 1e3,
+                latencies.getMaximum() / 1e3,
+                expansions.getMean(),
+                expansions.getValueAtPercentile(99.0));
+    }
+
+    private double getShare(long queries) {
+        long total = getQueries();
+        return total == 0L ? 0.0 : (double) queries / total;
+    }
+}
@@ -0,0 +1,196 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import net.coderodde.gsp.model.SearchResult;
+
+/**
+ * This class collects the metrics of the queries of a path finder, or of a
+ * group of equally configured finders sharing it. The counters are striped,
+ * so that any amount of threads may record at the same time with little
+ * contention. The metrics cover an interval starting at the construction or
+ * at the last reset.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class PathFinderMetrics implements PathFinderMetricsMXBean {
+
+    private final String name;
+    private final LongAdder foundQueries = new LongAdder();
+    private final LongAdder unreachableQueries = new LongAdder();
+    private final LongAdder stoppedQueries = new LongAdder();
+    private final LongAdder failedQueries = new LongAdder();
+    private final ConcurrentHistogram latencies = new ConcurrentHistogram();
+    private final ConcurrentHistogram expansions = new ConcurrentHistogram();
+    private volatile long intervalStartNanos = System.nanoTime();
+
+    public PathFinderMetrics(String name) {
+        this.name = Objects.requireNonNull(name, "The name is null.");
+    }
+
+    /**
+     * Records a query that returned {@code result} after
+     * {@code latencyNanos} nanoseconds.
+     *
+     * @param result       the result of the query.
+     * @param latencyNanos the latency of the query.
+     */
+    public void record(SearchResult<?> result, long latencyNanos) {
+        switch (result.getStatus()) {
+            case FOUND:
+                foundQueries.increment();
+                break;
+
+            case UNREACHABLE:
+                unreachableQueries.increment();
+                break;
+
+            default:
+                stoppedQueries.increment();
+                break;
+        }
+
+        latencies.record(latencyNanos);
+        expansions.record(result.getExpandedNodes());
+    }
+
+    /**
+     * Records a query that threw after {@code latencyNanos} nanoseconds.
+     *
+     * @param latencyNanos the latency of the query.
+     */
+    public void recordFailure(long latencyNanos) {
+        failedQueries.increment();
+        latencies.record(latencyNanos);
+    }
+
+    /**
+     * Returns the metrics of the current interval.
+     *
+     * @return a snapshot of the metrics.
+     */
+    public MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(name,
+                                   System.nanoTime() - intervalStartNanos,
+                                   foundQueries.sum(),
+                                   unreachableQueries.sum(),
+                                   stoppedQueries.sum(),
+                                   failedQueries.sum(),
+                                   latencies.snapshot(),
+                                   expansions.snapshot());
+    }
+
+    /**
+     * Returns the metrics of the current interval and starts a new one, for
+     * reporting rolling metrics.
+     *
+     * @return a snapshot of the metrics.
+     */
+    public MetricsSnapshot snapshotAndReset() {
+        long now = System.nanoTime();
+        long startNanos = intervalStartNanos;
+        intervalStartNanos = now;
+        return new MetricsSnapshot(name,
+                                   now - startNanos,
+                                   foundQueries.sumThenReset(),
+                                   unreachableQueries.sumThenReset(),
+                                   stoppedQueries.sumThenReset(),
+                                   failedQueries.sumThenReset(),
+                                   latencies.snapshotAndReset(),
+                                   expansions.snapshotAndReset());
+    }
+
+    @Override
+    public void reset() {
+        snapshotAndReset();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public long getQueries() {
+        return foundQueries.sum() +
+               unreachableQueries.sum() +
+               stoppedQueries.sum() +
+               failedQueries.sum();
+    }
+
+    @Override
+    public double getQueryRate() {
+        long intervalNanos = System.nanoTime() - intervalStartNanos;
+        return intervalNanos <= 0L ? 0.0 : 1e9 * getQueries() / intervalNanos;
+    }
+
+    @Override
+    public double getUnreachableRate() {
+        return getShare(unreachableQueries);
+    }
+
+    @Override
+    public double getStoppedRate() {
+        return getShare(stoppedQueries);
+    }
+
+    @Override
+    public double getFailureRate() {
+        return getShare(failedQueries);
+    }
+
+    @Override
+    public double getMeanLatencyMicros() {
+        return latencies.snapshot().getMean() / 1e3;
+    }
+
+    @Override
+    public double getLatencyP50Micros() {
+        return getLatencyMicros(50.0);
+    }
+
+    @Override
+    public double getLatencyP90Micros() {
+        return getLatencyMicros(90.0);
+    }
+
+    @Override
+    public double getLatencyP99Micros() {
+        return getLatencyMicros(99.0);
+    }
+
+    @Override
+    public double getLatencyP999Micros() {
+        return getLatencyMicros(99.9);
+    }
+
+    @Override
+    public double getMaximumLatencyMicros() {
+        return latencies.snapshot().getMaximum() / 1e3;
+    }
+
+    @Override
+    public double getMeanExpansions() {
+        return expansions.snapshot().getMean();
+    }
+
+    @Override
+    public long getExpansionsP99() {
+        return expansions.snapshot().getValueAtPercentile(99.0);
+    }
+
+    @Override
+    public String toString() {
+        return snapshot().toString();
+    }
+
+    private double getShare(LongAdder queries) {
+        long total = getQueries();
+        return total == 0L ? 0.0 : (double) queries.sum() / total;
+    }
+
+    private double getLatencyMicros(double percentile) {
+        return latencies.snapshot().getValueAtPercentile(percentile) / 1e3;
+    }
+}
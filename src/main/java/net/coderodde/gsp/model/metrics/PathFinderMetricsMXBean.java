@@ -0,0 +1,45 @@
+package net.coderodde.gsp.model.metrics;
+
+/**
+ * This interface defines the JMX view of a {@link PathFinderMetrics}. The
+ * attributes cover the queries since the last reset; each read takes a fresh
+ * snapshot. The latencies are in microseconds.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public interface PathFinderMetricsMXBean {
+
+    public String getName();
+
+    public long getQueries();
+
+    public double getQueryRate();
+
+    public double getUnreachableRate();
+
+    public double getStoppedRate();
+
+    public double getFailureRate();
+
+    public double getMeanLatencyMicros();
+
+    public double getLatencyP50Micros();
+
+    public double getLatencyP90Micros();
+
+    public double getLatencyP99Micros();
+
+    public double getLatencyP999Micros();
+
+    public double getMaximumLatencyMicros();
+
+    public double getMeanExpansions();
+
+    public long getExpansionsP99();
+
+    /**
+     * Clears the metrics and starts a new interval.
+     */
+    public void reset();
+}
@@ -0,0 +1,323 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Objects;
+import net.coderodde.gsp.model.storage.MappedTable;
+import net.coderodde.gsp.model.storage.MappedTableWriter;
+
+/**
+ * This class implements a disjoint additive pattern database: the pattern
+ * databases of disjoint patterns of tiles count the moves of their own tiles
+ * only, so their sum is a lower bound of the distance to the goal. The
+ * patterns need not cover all the tiles; the Manhattan distances of the
+ * other tiles are added instead. The databases may be saved via
+ * {@link #save(OutputStream)} and loaded via {@link #load(InputStream)}
+ * instead of being built again, or saved via {@link #save(Path)} and mapped
+ * from the file via {@link #map(MappedTable)}, which keeps the tables off
+ * the heap and takes no time to load.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class AdditivePatternDatabase {
+
+    /**
+     * Identifies the files written by {@link #save(OutputStream)}.
+     */
+    private static final int MAGIC = 0x50444231;
+
+    private final int degree;
+    private final PatternDatabase[] databases;
+
+    /**
+     * The tiles in none of the patterns.
+     */
+    private final int[] freeTiles;
+
+    private AdditivePatternDatabase(int degree, PatternDatabase[] databases) {
+        this.degree = degree;
+        this.databases = databases;
+
+        boolean[] taken = new boolean[degree * degree];
+        int freeTileCount = taken.length - 1;
+
+        for (PatternDatabase database : databases) {
+            for (int tile : database.getTiles()) {
+                taken[tile] = true;
+                --freeTileCount;
+            }
+        }
+
+        this.freeTiles = new int[freeTileCount];
+
+        for (int tile = 1, i = 0; tile < taken.length; ++tile) {
+            if (!taken[tile]) {
+                freeTiles[i++] = tile;
+            }
+        }
+    }
+
+    /**
+     * Builds the pattern databases of the disjoint {@code patterns}.
+     *
+     * @param degree   the degree of the puzzle.
+     * @param patterns the patterns of tiles.
+     * @return the additive pattern database.
+     * @throws IllegalArgumentException if the patterns are invalid or
+     *                                  overlap.
+     */
+    public static AdditivePatternDatabase build(int degree,
+                                                int[]... patterns) {
+        Objects.requireNonNull(patterns, "The patterns are null.");
+        PatternDatabase[] databases = new PatternDatabase[patterns.length];
+
+        checkDisjoint(degree, patterns);
+
+        for (int i = 0; i < patterns.length; ++i) {
+            databases[i] = PatternDatabase.build(degree, patterns[i]);
+        }
+
+        return new AdditivePatternDatabase(degree, databases);
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public int getPatternCount() {
+        return databases.length;
+    }
+
+    public PatternDatabase getPatternDatabase(int index) {
+        return databases[index];
+    }
+
+    /**
+     * Returns the lower bound of the distance to the goal of the puzzle in
+     * which the tile {@code t} is at the cell {@code tileCells[t]}.
+     *
+     * @param tileCells maps the tiles to their cells.
+     * @return the lower bound of the distance to the goal.
+     */
+    public int estimate(int[] tileCells) {
+        int estimate = 0;
+
+        for (PatternDatabase database : databases) {
+            estimate += database.get(tileCells);
+        }
+
+        for (int tile : freeTiles) {
+            int cell = tileCells[tile];
+            int goalCell = tile - 1;
+            estimate += Math.abs(cell % degree - goalCell % degree) +
+                        Math.abs(cell / degree - goalCell / degree);
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Writes the pattern databases to {@code out}. The stream is not closed.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(OutputStream out) throws IOException {
+        DataOutputStream dos =
+                new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(MAGIC);
+        dos.writeInt(degree);
+        dos.writeInt(databases.length);
+
+        for (PatternDatabase database : databases) {
+            database.write(dos);
+        }
+
+        dos.flush();
+    }
+
+    /**
+     * Writes the pattern databases to the file {@code path} in the format of
+     * {@link MappedTable}, replacing the file if it exists.
+     *
+     * @param path the path of the file.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer metadata =
+                ByteBuffer.allocate(MappedTable.MAXIMUM_METADATA_LENGTH)
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        metadata.putInt(degree);
+        metadata.putInt(databases.length);
+        long offset = 0L;
+
+        for (PatternDatabase database : databases) {
+            int[] tiles = database.getTiles();
+            metadata.putInt(tiles.length);
+
+            for (int tile : tiles) {
+                metadata.putInt(tile);
+            }
+
+            metadata.putLong(offset);
+            offset += database.size();
+        }
+
+        byte[] metadataBytes = new byte[metadata.position()];
+        ((Buffer) metadata).flip();
+        metadata.get(metadataBytes);
+
+        try (MappedTableWriter writer =
+                new MappedTableWriter(path, MAGIC, metadataBytes)) {
+            for (PatternDatabase database : databases) {
+                database.write(writer);
+            }
+        }
+    }
+
+    /**
+     * Returns the pattern databases stored in {@code table} by
+     * {@link #save(Path)}. The tables are read from the mapping.
+     *
+     * @param table the mapped table.
+     * @return the additive pattern database.
+     * @throws IOException if the table holds no pattern databases or is
+     *                     malformed.
+     */
+    public static AdditivePatternDatabase map(MappedTable table)
+    throws IOException {
+        Objects.requireNonNull(table, "The table is null.");
+
+        if (table.getType() != MAGIC) {
+            throw new IOException("Not a pattern database.");
+        }
+
+        ByteBuffer metadata = table.getMetadata();
+
+        try {
+            int degree = metadata.getInt();
+            int patternCount = metadata.getInt();
+
+            if (degree < 3 ||
+                    degree > PatternDatabase.MAXIMUM_DEGREE ||
+                    patternCount < 0 ||
+                    patternCount >= degree * degree) {
+                throw new IOException("Malformed pattern database header.");
+            }
+
+            PatternDatabase[] databases = new PatternDatabase[patternCount];
+            int[][] patterns = new int[patternCount][];
+
+            for (int i = 0; i < patternCount; ++i) {
+                int tileCount = metadata.getInt();
+
+                if (tileCount <= 0 || tileCount >= degree * degree) {
+                    throw new IOException(
+                            "Malformed pattern database header.");
+                }
+
+                patterns[i] = new int[tileCount];
+
+                for (int j = 0; j < tileCount; ++j) {
+                    patterns[i][j] = metadata.getInt();
+                }
+
+                databases[i] = PatternDatabase.map(degree,
+                                                   patterns[i],
+                                                   table,
+                                                   metadata.getLong());
+            }
+
+            checkDisjoint(degree, patterns);
+            return new AdditivePatternDatabase(degree, databases);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Malformed pattern database header.", ex);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Malformed pattern database.", ex);
+        }
+    }
+
+    /**
+     * Reads the pattern databases written by {@link #save(OutputStream)}.
+     * The stream is not closed.
+     *
+     * @param in the stream to read from.
+     * @return the additive pattern database.
+     * @throws IOException if an I/O error occurs or the data is malformed.
+     */
+    public static AdditivePatternDatabase load(InputStream in)
+    throws IOException {
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+
+        if (dis.readInt() != MAGIC) {
+            throw new IOException("Not a pattern database.");
+        }
+
+        int degree = dis.readInt();
+        int patternCount = dis.readInt();
+
+        if (degree < 3 ||
+                degree > PatternDatabase.MAXIMUM_DEGREE ||
+                patternCount < 0 ||
+                patternCount >= degree * degree) {
+            throw new IOException("Malformed pattern database header.");
+        }
+
+        PatternDatabase[] databases = new PatternDatabase[patternCount];
+        int[][] patterns = new int[patternCount][];
+
+        for (int i = 0; i < patternCount; ++i) {
+            databases[i] = PatternDatabase.read(dis);
+            patterns[i] = databases[i].getTiles();
+
+            if (databases[i].getDegree() != degree) {
+                throw new IOException("Malformed pattern database header.");
+            }
+        }
+
+        try {
+            checkDisjoint(degree, patterns);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Malformed pattern database.", ex);
+        }
+
+        return new AdditivePatternDatabase(degree, databases);
+    }
+
+    private static void checkDisjoint(int degree, int[][] patterns) {
+        if (degree < 3 || degree > PatternDatabase.MAXIMUM_DEGREE) {
+            throw new IllegalArgumentException("Bad degree: " + degree + ".");
+        }
+
+        boolean[] taken = new boolean[degree * degree];
+
+        for (int[] pattern : patterns) {
+            Objects.requireNonNull(pattern, "A pattern is null.");
+
+            for (int tile : pattern) {
+                if (tile <= 0 || tile >= taken.length) {
+                    throw new IllegalArgumentException(
+                            "Bad pattern tile: " + tile + ".");
+                }
+
+                if (taken[tile]) {
+                    throw new IllegalArgumentException(
+                            "The tile " + tile + " is in two patterns.");
+                }
+
+                taken[tile] = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphNode;
+import net.coderodde.gsp.model.support.PuzzleManhattanHeuristicFunction;
+
+/**
+ * This class implements a heuristic function over
+ * {@link PackedPuzzleGraphNode}s looking up an
+ * {@link AdditivePatternDatabase}, as {@link PatternDatabaseHeuristicFunction}
+ * does over the unpacked nodes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PackedPatternDatabaseHeuristicFunction
+extends AbstractHeuristicFunction<PackedPuzzleGraphNode> {
+
+    private final AdditivePatternDatabase database;
+    private final PackedPuzzleGraphNode goal;
+    private final PuzzleManhattanHeuristicFunction fallbackFunction;
+
+    public PackedPatternDatabaseHeuristicFunction(
+            AdditivePatternDatabase database) {
+        this.database = Objects.requireNonNull(database,
+                                               "The database is null.");
+        this.goal = new PackedPuzzleGraphNode(database.getDegree());
+        this.fallbackFunction = new PuzzleManhattanHeuristicFunction(goal,
+                                                                     false);
+    }
+
+    public AdditivePatternDatabase getDatabase() {
+        return database;
+    }
+
+    @Override
+    public double estimate(PackedPuzzleGraphNode source,
+                           PackedPuzzleGraphNode target) {
+        if (target.equals(goal)) {
+            return estimate(source);
+        }
+
+        if (source.equals(goal)) {
+            return estimate(target);
+        }
+
+        return fallbackFunction.estimate(source, target);
+    }
+
+    private int estimate(PackedPuzzleGraphNode node) {
+        int cells = node.getDegree() * node.getDegree();
+        long tiles = node.getTiles();
+        int[] tileCells = new int[cells];
+
+        for (int cell = 0; cell < cells; ++cell) {
+            tileCells[(int)(tiles >>> 4 * cell) & 0xf] = cell;
+        }
+
+        return database.estimate(tileCells);
+    }
+}
@@ -0,0 +1,585 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import net.coderodde.gsp.model.storage.MappedTable;
+import net.coderodde.gsp.model.storage.MappedTableWriter;
+
+/**
+ * This class implements a pattern database of the <tt>(n^2 - 1)</tt>-puzzle
+ * for a pattern of tiles: for each placement of the pattern tiles, the least
+ * amount of pattern tile moves needed in order to bring them to their goal
+ * cells. The moves of the other tiles are free, so the databases of disjoint
+ * patterns may be added up.
+ * <p>
+ * The goal is the standard one: the tile {@code t} at the cell
+ * {@code t - 1}, and the empty cell last. The database is built by a
+ * backward breadth-first search from the goal over the abstract states,
+ * which consist of the cells of the pattern tiles and the region of the
+ * empty cell. The placements are ranked perfectly as partial permutations
+ * of the cells, so the table is a {@code byte} array of
+ * {@code N! / (N - k)!} entries for {@code N} cells and {@code k} pattern
+ * tiles; the search takes four more bytes per entry. For example, a pattern
+ * of the 6-6-6-6 partition of the 24-puzzle takes 128 MB, and 640 MB while
+ * being built. A table may also be mapped from a file instead of being kept
+ * on the heap; see {@link AdditivePatternDatabase#map(MappedTable)}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class PatternDatabase {
+
+    /**
+     * The visited regions of a placement are kept in an {@code int} mask
+     * during the search, so the puzzle may have at most 32 cells.
+     */
+    public static final int MAXIMUM_DEGREE = 5;
+
+    private static final int UNVISITED = 0xff;
+
+    private final int degree;
+    private final int cellCount;
+    private final int[] tiles;
+    private final int size;
+
+    /**
+     * The table on the heap, or {@code null} if the table is mapped.
+     */
+    private final byte[] table;
+    private final MappedTable mappedTable;
+    private final long mappedOffset;
+
+    /**
+     * {@code factors[i]} is the amount of placements of the pattern tiles
+     * {@code i + 1, ..., k - 1} on the cells not taken by the tiles
+     * {@code 0, ..., i}.
+     */
+    private final int[] factors;
+
+    private PatternDatabase(int degree, int[] tiles, byte[] table) {
+        this.degree = degree;
+        this.cellCount = degree * degree;
+        this.tiles = tiles;
+        this.factors = computeFactors(cellCount, tiles.length);
+        this.size = table.length;
+        this.table = table;
+        this.mappedTable = null;
+        this.mappedOffset = 0L;
+    }
+
+    private PatternDatabase(int degree,
+                            int[] tiles,
+                            MappedTable mappedTable,
+                            long mappedOffset) {
+        this.degree = degree;
+        this.cellCount = degree * degree;
+        this.tiles = tiles;
+        this.factors = computeFactors(cellCount, tiles.length);
+        this.size = getSize(degree, tiles.length);
+        this.table = null;
+        this.mappedTable = mappedTable;
+        this.mappedOffset = mappedOffset;
+    }
+
+    /**
+     * Builds the pattern database of the pattern {@code tiles}.
+     *
+     * @param degree the degree of the puzzle.
+     * @param tiles  the pattern tiles.
+     * @return the pattern database.
+     * @throws IllegalArgumentException if the tiles are invalid or the
+     *                                  database would be too large.
+     */
+    public static PatternDatabase build(int degree, int... tiles) {
+        checkPattern(degree, tiles);
+        PatternDatabase database =
+                new PatternDatabase(degree,
+                                    tiles.clone(),
+                                    new byte[getSize(degree, tiles.length)]);
+        new Builder(database).build();
+        return database;
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public int[] getTiles() {
+        return tiles.clone();
+    }
+
+    /**
+     * Returns the amount of entries in the table.
+     *
+     * @return the size of the table.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the table is mapped from a file.
+     *
+     * @return {@code true} if the table is mapped.
+     */
+    public boolean isMapped() {
+        return table == null;
+    }
+
+    /**
+     * Returns the least amount of pattern tile moves needed in order to
+     * solve the puzzle in which the tile {@code t} is at the cell
+     * {@code tileCells[t]}.
+     *
+     * @param tileCells maps the tiles to their cells.
+     * @return the amount of pattern tile moves.
+     */
+    public int get(int[] tileCells) {
+        int rank = 0;
+
+        for (int i = 0; i < tiles.length; ++i) {
+            int cell = tileCells[tiles[i]];
+            int smaller = 0;
+
+            for (int j = 0; j < i; ++j) {
+                if (tileCells[tiles[j]] < cell) {
+                    ++smaller;
+                }
+            }
+
+            rank += (cell - smaller) * factors[i];
+        }
+
+        return getEntry(rank);
+    }
+
+    private int getEntry(int rank) {
+        if (table != null) {
+            return table[rank] & 0xff;
+        }
+
+        return mappedTable.getByte(mappedOffset + rank) & 0xff;
+    }
+
+    void write(DataOutputStream dos) throws IOException {
+        dos.writeInt(degree);
+        dos.writeInt(tiles.length);
+
+        for (int tile : tiles) {
+            dos.writeInt(tile);
+        }
+
+        dos.writeInt(size);
+
+        if (table != null) {
+            dos.write(table);
+            return;
+        }
+
+        for (int rank = 0; rank < size; ++rank) {
+            dos.writeByte(getEntry(rank));
+        }
+    }
+
+    void write(MappedTableWriter writer) throws IOException {
+        if (table != null) {
+            writer.write(table, 0, table.length);
+            return;
+        }
+
+        for (int rank = 0; rank < size; ++rank) {
+            writer.writeByte(getEntry(rank));
+        }
+    }
+
+    /**
+     * Returns the pattern database whose table is stored in {@code table}
+     * at the offset {@code offset}.
+     */
+    static PatternDatabase map(int degree,
+                               int[] tiles,
+                               MappedTable table,
+                               long offset) throws IOException {
+        try {
+            checkPattern(degree, tiles);
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Malformed pattern database.", ex);
+        }
+
+        if (offset < 0L ||
+                offset + getSize(degree, tiles.length) >
+                table.getPayloadLength()) {
+            throw new IOException("Malformed pattern database size.");
+        }
+
+        return new PatternDatabase(degree, tiles, table, offset);
+    }
+
+    static PatternDatabase read(DataInputStream dis) throws IOException {
+        int degree = dis.readInt();
+        int tileCount = dis.readInt();
+
+        if (degree < 3 || degree > MAXIMUM_DEGREE || tileCount <= 0 ||
+                tileCount >= degree * degree) {
+            throw new IOException("Malformed pattern database header.");
+        }
+
+        int[] tiles = new int[tileCount];
+
+        for (int i = 0; i < tileCount; ++i) {
+            tiles[i] = dis.readInt();
+        }
+
+        try {
+            checkPattern(degree, tiles);
+
+            if (dis.readInt() != getSize(degree, tileCount)) {
+                throw new IOException("Malformed pattern database size.");
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new IOException("Malformed pattern database.", ex);
+        }
+
+        byte[] table = new byte[getSize(degree, tileCount)];
+        dis.readFully(table);
+        return new PatternDatabase(degree, tiles, table);
+    }
+
+    /**
+     * Ranks the placement {@code cells} of the pattern tiles.
+     */
+    int rank(int[] cells) {
+        int rank = 0;
+
+        for (int i = 0; i < cells.length; ++i) {
+            int smaller = 0;
+
+            for (int j = 0; j < i; ++j) {
+                if (cells[j] < cells[i]) {
+                    ++smaller;
+                }
+            }
+
+            rank += (cells[i] - smaller) * factors[i];
+        }
+
+        return rank;
+    }
+
+    /**
+     * Stores the placement of rank {@code rank} into {@code cells}.
+     */
+    void unrank(int rank, int[] cells) {
+        for (int i = 0; i < cells.length; ++i) {
+            int free = rank / factors[i];
+            rank %= factors[i];
+            int cell = -1;
+
+            // Find the free-th cell not taken by the previous tiles.
+            while (free >= 0) {
+                ++cell;
+
+                if (!contains(cells, i, cell)) {
+                    --free;
+                }
+            }
+
+            cells[i] = cell;
+        }
+    }
+
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; ++i) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static int[] computeFactors(int cellCount, int tileCount) {
+        int[] factors = new int[tileCount];
+        long factor = 1L;
+
+        for (int i = tileCount - 1; i >= 0; --i) {
+            factors[i] = (int) factor;
+            factor *= cellCount - i;
+        }
+
+        return factors;
+    }
+
+    private static int getSize(int degree, int tileCount) {
+        long size = 1L;
+
+        for (int i = 0; i < tileCount; ++i) {
+            size *= degree * degree - i;
+        }
+
+        return (int) size;
+    }
+
+    private static void checkPattern(int degree, int[] tiles) {
+        if (degree < 3 || degree > MAXIMUM_DEGREE) {
+            throw new IllegalArgumentException("Bad degree: " + degree + ".");
+        }
+
+        int cellCount = degree * degree;
+
+        if (tiles.length == 0 || tiles.length >= cellCount) {
+            throw new IllegalArgumentException(
+                    "Bad pattern size: " + tiles.length + ".");
+        }
+
+        boolean[] seen = new boolean[cellCount];
+
+        for (int tile : tiles) {
+            if (tile <= 0 || tile >= cellCount) {
+                throw new IllegalArgumentException(
+                        "Bad pattern tile: " + tile + ".");
+            }
+
+            if (seen[tile]) {
+                throw new IllegalArgumentException(
+                        "Duplicate pattern tile: " + tile + ".");
+            }
+
+            seen[tile] = true;
+        }
+
+        long size = 1L;
+
+        for (int i = 0; i < tiles.length; ++i) {
+            size *= cellCount - i;
+        }
+
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(
+                    "The pattern " + Arrays.toString(tiles) +
+                    " is too large for the degree " + degree + ".");
+        }
+    }
+
+    /**
+     * Runs the backward breadth-first search. As the moves of the tiles not
+     * in the pattern are free, the empty cell matters only up to the region
+     * of the cells not taken by the pattern tiles it lies in; a state
+     * consists of a placement and the smallest cell of such a region, and
+     * the visited regions of each placement are kept in a bit mask.
+     */
+    private static final class Builder {
+
+        private final PatternDatabase database;
+        private final int degree;
+        private final int cellCount;
+        private final int[] visited;
+        private final int[] cells;
+
+        /**
+         * Maps each cell to the index of the pattern tile in it, or -1.
+         */
+        private final int[] cellTiles;
+        private final int[] region;
+        private final int[] regionCells;
+        private final int[] fillStack;
+        private final int[] fillStamps;
+        private int fillStamp;
+        private long[] QUEUE = new long[1024];
+        private int head;
+        private int size;
+
+        Builder(PatternDatabase database) {
+            this.database = database;
+            this.degree = database.degree;
+            this.cellCount = database.cellCount;
+            this.visited = new int[database.table.length];
+            this.cells = new int[database.tiles.length];
+            this.cellTiles = new int[cellCount];
+            this.region = new int[cellCount];
+            this.regionCells = new int[cellCount];
+            this.fillStack = new int[cellCount];
+            this.fillStamps = new int[cellCount];
+            Arrays.fill(database.table, (byte) UNVISITED);
+            Arrays.fill(cellTiles, -1);
+        }
+
+        void build() {
+            for (int i = 0; i < cells.length; ++i) {
+                cells[i] = database.tiles[i] - 1;
+            }
+
+            occupy();
+            int rank = database.rank(cells);
+            fill(cellCount - 1);
+            release();
+            visit(rank, region[0], 0);
+
+            for (int distance = 0; size > 0; ++distance) {
+                if (distance + 1 >= UNVISITED) {
+                    throw new IllegalStateException(
+                            "The pattern distances do not fit in a byte.");
+                }
+
+                // Expand a whole layer of the search.
+                for (int layerSize = size; layerSize > 0; --layerSize) {
+                    long state = QUEUE[head];
+                    head = (head + 1) & (QUEUE.length - 1);
+                    --size;
+                    expand((int)(state >>> 5), (int) state & 31, distance + 1);
+                }
+            }
+        }
+
+        /**
+         * Generates the states reached by moving a pattern tile into the
+         * region of the cell {@code representative}.
+         */
+        private void expand(int rank, int representative, int distance) {
+            database.unrank(rank, cells);
+            occupy();
+            int regionSize = fill(representative);
+            System.arraycopy(region, 0, regionCells, 0, regionSize);
+
+            for (int r = 0; r < regionSize; ++r) {
+                int cell = regionCells[r];
+                int x = cell % degree;
+                int y = cell / degree;
+
+                if (y > 0) {
+                    move(cell, cell - degree, distance);
+                }
+
+                if (x < degree - 1) {
+                    move(cell, cell + 1, distance);
+                }
+
+                if (y < degree - 1) {
+                    move(cell, cell + degree, distance);
+                }
+
+                if (x > 0) {
+                    move(cell, cell - 1, distance);
+                }
+            }
+
+            release();
+        }
+
+        /**
+         * Moves the pattern tile in {@code tileCell}, if any, to the empty
+         * cell {@code emptyCell}.
+         */
+        private void move(int emptyCell, int tileCell, int distance) {
+            int i = cellTiles[tileCell];
+
+            if (i < 0) {
+                return;
+            }
+
+            cells[i] = emptyCell;
+            cellTiles[emptyCell] = i;
+            cellTiles[tileCell] = -1;
+            fill(tileCell);
+            visit(database.rank(cells), region[0], distance);
+            cells[i] = tileCell;
+            cellTiles[tileCell] = i;
+            cellTiles[emptyCell] = -1;
+        }
+
+        private void visit(int rank, int representative, int distance) {
+            int bit = 1 << representative;
+
+            if ((visited[rank] & bit) != 0) {
+                return;
+            }
+
+            visited[rank] |= bit;
+
+            if ((database.table[rank] & 0xff) == UNVISITED) {
+                // The search runs in layers, so the first visit is closest.
+                database.table[rank] = (byte) distance;
+            }
+
+            if (size == QUEUE.length) {
+                long[] queue = new long[2 * QUEUE.length];
+
+                for (int j = 0; j < size; ++j) {
+                    queue[j] = QUEUE[(head + j) & (QUEUE.length - 1)];
+                }
+
+                QUEUE = queue;
+                head = 0;
+            }
+
+            QUEUE[(head + size++) & (QUEUE.length - 1)] =
+                    ((long) rank << 5) | representative;
+        }
+
+        /**
+         * Stores the region of the free cell {@code cell} into
+         * {@code region}, its smallest cell first, and returns its size.
+         */
+        private int fill(int cell) {
+            ++fillStamp;
+            int stackSize = 0;
+            int regionSize = 0;
+            fillStack[stackSize++] = cell;
+            fillStamps[cell] = fillStamp;
+
+            while (stackSize > 0) {
+                int current = fillStack[--stackSize];
+                region[regionSize++] = current;
+
+                if (current < region[0]) {
+                    region[regionSize - 1] = region[0];
+                    region[0] = current;
+                }
+
+                int x = current % degree;
+                int y = current / degree;
+
+                if (y > 0) {
+                    stackSize = push(current - degree, stackSize);
+                }
+
+                if (x < degree - 1) {
+                    stackSize = push(current + 1, stackSize);
+                }
+
+                if (y < degree - 1) {
+                    stackSize = push(current + degree, stackSize);
+                }
+
+                if (x > 0) {
+                    stackSize = push(current - 1, stackSize);
+                }
+            }
+
+            return regionSize;
+        }
+
+        private int push(int cell, int stackSize) {
+            if (cellTiles[cell] < 0 && fillStamps[cell] != fillStamp) {
+                fillStamps[cell] = fillStamp;
+                fillStack[stackSize++] = cell;
+            }
+
+            return stackSize;
+        }
+
+        private void occupy() {
+            for (int i = 0; i < cells.length; ++i) {
+                cellTiles[cells[i]] = i;
+            }
+        }
+
+        private void release() {
+            for (int cell : cells) {
+                cellTiles[cell] = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphNode;
+
+/**
+ * This class implements a heuristic function in the <tt>n^2 - 1</tt> puzzle
+ * looking up an {@link AdditivePatternDatabase}. The databases are built
+ * against the standard goal, and the distances are symmetric, so a node is
+ * estimated also when the goal is passed as the source, as done by the
+ * backward searches of the bidirectional finders. Pairs of nodes none of
+ * which is the goal are estimated by the Manhattan distance.
+ * <p>
+ * The function holds no mutable state of its own, so it may be shared
+ * between threads.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PatternDatabaseHeuristicFunction
+extends AbstractHeuristicFunction<PuzzleGraphNode> {
+
+    private final AdditivePatternDatabase database;
+    private final PuzzleGraphNode goal;
+    private final PuzzleGraphHeuristicFunction fallbackFunction;
+
+    public PatternDatabaseHeuristicFunction(AdditivePatternDatabase database) {
+        this.database = Objects.requireNonNull(database,
+                                               "The database is null.");
+        this.goal = new PuzzleGraphNode(database.getDegree());
+        this.fallbackFunction =
+                new PuzzleGraphHeuristicFunction(database.getDegree());
+    }
+
+    public AdditivePatternDatabase getDatabase() {
+        return database;
+    }
+
+    @Override
+    public double estimate(PuzzleGraphNode source, PuzzleGraphNode target) {
+        if (target.equals(goal)) {
+            return estimate(source);
+        }
+
+        if (source.equals(goal)) {
+            return estimate(target);
+        }
+
+        return fallbackFunction.estimate(source, target);
+    }
+
+    private int estimate(PuzzleGraphNode node) {
+        int degree = node.getDegree();
+        int[] tileCells = new int[degree * degree];
+
+        for (int y = 0; y < degree; ++y) {
+            for (int x = 0; x < degree; ++x) {
+                tileCells[node.get(x, y)] = y * degree + x;
+            }
+        }
+
+        return database.estimate(tileCells);
+    }
+}
@@ -0,0 +1,37 @@
+package net.coderodde.gsp.model.queue;
+
+/**
+ * This interface marks the minimum-priority queues that support lazy 
+ * deletion: instead of locating an element in order to decrease its priority,
+ * such a queue simply stores another copy of the element. Consequently, an 
+ * element may be present in the queue several times, and 
+ * {@link #size()} counts all the copies. The path finders running in lazy 
+ * deletion mode close a node on its first extraction and skip the stale 
+ * copies extracted later.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <E> the type of elements stored by the implementation.
+ */
+public interface LazyMinimumPriorityQueue<E> extends MinimumPriorityQueue<E> {
+
+    /**
+     * Adds {@code element} to this queue with priority {@code priority}, even
+     * if the element is already present.
+     * 
+     * @param element  the element to store.
+     * @param priority the priority of the element.
+     */
+    @Override
+    public void add(E element, double priority);
+    
+    /**
+     * Adds another copy of {@code element} with priority {@code newPriority}.
+     * The old copies are not removed.
+     * 
+     * @param element     the element whose priority to decrease.
+     * @param newPriority the new priority of the input element.
+     */
+    @Override
+    public void decreasePriority(E element, double newPriority);
+}
@@ -0,0 +1,197 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.jfr.JfrEvents;
+import net.coderodde.gsp.model.queue.LazyMinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class implements a plain array-based binary heap for lazy deletion. 
+ * It keeps no element-to-entry map: the elements and their priorities live in 
+ * two parallel arrays, and decreasing the priority of an element just adds 
+ * another copy of it.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <E> the element type.
+ */
+public class BinaryHeap<E> implements LazyMinimumPriorityQueue<E> {
+
+    /**
+     * The default storage capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    /**
+     * The elements in heap order.
+     */
+    private Object[] elements;
+    
+    /**
+     * The priorities of the elements.
+     */
+    private double[] priorities;
+    
+    /**
+     * The amount of entries in this heap.
+     */
+    private int size;
+    
+    /**
+     * Constructs a new binary heap with the given capacity.
+     * 
+     * @param capacity the initial capacity of this heap.
+     */
+    public BinaryHeap(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.elements = new Object[capacity];
+        this.priorities = new double[capacity];
+    }
+    
+    /**
+     * Constructs a new binary heap with default capacity.
+     */
+    public BinaryHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (size == elements.length) {
+            Object event = JfrEvents.beginHeapResize();
+            int capacity = 3 * size / 2 + 1;
+            elements = Arrays.copyOf(elements, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            
+            if (event != null) {
+                JfrEvents.commitHeapResize(event, this, size, capacity);
+            }
+        }
+        
+        int index = size++;
+        
+        while (index > 0) {
+            int parentIndex = (index - 1) >>> 1;
+            
+            if (priorities[parentIndex] <= priority) {
+                break;
+            }
+            
+            elements[index] = elements[parentIndex];
+            priorities[index] = priorities[parentIndex];
+            index = parentIndex;
+        }
+        
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreasePriority(E element, double newPriority) {
+        add(element, newPriority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        E ret = min();
+        Object element = elements[--size];
+        double priority = priorities[size];
+        elements[size] = null; // For the sake of garbage collection.
+        
+        if (size == 0) {
+            return ret;
+        }
+        
+        int index = 0;
+        
+        for (;;) {
+            int childIndex = (index << 1) + 1;
+            
+            if (childIndex >= size) {
+                break;
+            }
+            
+            if (childIndex + 1 < size 
+                    && priorities[childIndex + 1] < priorities[childIndex]) {
+                ++childIndex;
+            }
+            
+            if (priorities[childIndex] >= priority) {
+                break;
+            }
+            
+            elements[index] = elements[childIndex];
+            priorities[index] = priorities[childIndex];
+            index = childIndex;
+        }
+        
+        elements[index] = element;
+        priorities[index] = priority;
+        return ret;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+        
+        return (E) elements[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumPriorityQueue<E> spawn() {
+        return new BinaryHeap<>();
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "BinaryHeap";
+    }
+}
@@ -178,10 +178,12 @@ public class BinomialHeap<E> implements MinimumPriorityQueue<E> {
             y.priority = z.priority;
             z.priority = tmp;
             
-            // Exchange satellite data elements.
+            // Exchange satellite data elements, keeping the map in sync.
             E tmp2 = y.element;
             y.element = z.element;
             z.element = tmp2;
+            map.put(y.element, y);
+            map.put(z.element, z);
             
             // Move one level up.
             y = z;
@@ -251,6 +253,8 @@ public class BinomialHeap<E> implements MinimumPriorityQueue<E> {
             minimumTree = minTree;
         }
         
+        // Forget the element, so that it may be added again.
+        map.remove(best.element);
         return best.element;
     }
 
@@ -288,6 +292,7 @@ public class BinomialHeap<E> implements MinimumPriorityQueue<E> {
     @Override
     public void clear() {
         this.head = null;
+        this.minimumTree = null;
         this.map.clear();
         this.size = 0;
     }
@@ -391,6 +396,7 @@ public class BinomialHeap<E> implements MinimumPriorityQueue<E> {
      
         while (tmp != null) {
             tmpnext = tmp.sibling;
+            tmp.parent = null;
             tmp.sibling = newHead;
             newHead = tmp;
             tmp = tmpnext;
@@ -0,0 +1,415 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class implements a Dial-style bucket queue. The element with priority
+ * {@code p} is kept in the bucket {@code floor(p / bucketWidth)}, and the
+ * buckets are scanned in increasing order. Just like {@link RadixHeap}, this is
+ * a monotone priority queue: the priority of an added element (or a decreased
+ * priority) may not be lower than the priority of the last extracted element.
+ * <p>
+ * The queue fits best the workloads with small integer arc weights, in which
+ * case the bucket width should be the greatest common divisor of the weights:
+ * all the elements in a bucket then have equal priorities, and every operation
+ * runs in amortized constant time. Larger bucket widths are allowed, since
+ * the elements are extracted from a bucket in priority order, yet each
+ * extraction scans the entire bucket. The buckets live in a ring that grows
+ * so as to span the range between the lowest and the highest priority in the
+ * queue.
+ * <p>
+ * As floating-point rounding may make a consistent heuristic appear slightly
+ * inconsistent, priorities that undershoot the last extracted minimum by a
+ * negligible relative amount are treated as equal to it.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <E> the element type.
+ */
+public class BucketQueue<E> implements MinimumPriorityQueue<E> {
+
+    /**
+     * The default bucket width.
+     */
+    private static final double DEFAULT_BUCKET_WIDTH = 1.0;
+
+    /**
+     * The default amount of buckets in the ring.
+     */
+    private static final int DEFAULT_RING_CAPACITY = 64;
+
+    /**
+     * The default map capacity.
+     */
+    private static final int DEFAULT_MAP_CAPACITY = 1 << 10;
+
+    /**
+     * The largest relative undershoot of the last extracted minimum that is
+     * tolerated.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Stores an element, its priority and links to its bucket neighbours.
+     *
+     * @param <E> the element type.
+     */
+    private static final class Entry<E> {
+
+        /**
+         * The actual element.
+         */
+        final E element;
+
+        /**
+         * The priority of the element.
+         */
+        double priority;
+
+        /**
+         * The absolute index of the bucket holding this entry.
+         */
+        long bucket;
+
+        /**
+         * The previous entry in the bucket.
+         */
+        Entry<E> prev;
+
+        /**
+         * The next entry in the bucket.
+         */
+        Entry<E> next;
+
+        Entry(E element, double priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+    }
+
+    /**
+     * The width of each bucket.
+     */
+    private final double bucketWidth;
+
+    /**
+     * The heads of the bucket lists. The bucket with absolute index {@code b}
+     * lives at {@code ring[b & (ring.length - 1)]}.
+     */
+    private Entry<E>[] ring;
+
+    /**
+     * Maps each element to its entry as to speed up the
+     * {@code decreasePriority}-operation.
+     */
+    private final Map<E, Entry<E>> map;
+
+    /**
+     * The absolute index of the lowest bucket that may be non-empty.
+     */
+    private long currentBucket;
+
+    /**
+     * The last extracted minimum priority.
+     */
+    private double last;
+
+    /**
+     * Constructs a new bucket queue with the given bucket width.
+     *
+     * @param bucketWidth the width of each bucket.
+     */
+    public BucketQueue(double bucketWidth) {
+        if (!(bucketWidth > 0.0) || Double.isInfinite(bucketWidth)) {
+            throw new IllegalArgumentException(
+                    "Bad bucket width: " + bucketWidth + ".");
+        }
+
+        this.bucketWidth = bucketWidth;
+        this.ring = new Entry[DEFAULT_RING_CAPACITY];
+        this.map = new HashMap<>(DEFAULT_MAP_CAPACITY);
+    }
+
+    /**
+     * Constructs a new bucket queue for integer priorities.
+     */
+    public BucketQueue() {
+        this(DEFAULT_BUCKET_WIDTH);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the priority is negative, infinite,
+     *                                  not a number, or lower than the last
+     *                                  extracted minimum.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (map.containsKey(element)) {
+            return;
+        }
+
+        priority = checkPriority(priority);
+
+        if (map.isEmpty()) {
+            currentBucket = bucketOf(priority);
+        }
+
+        Entry<E> entry = new Entry<>(element, priority);
+        map.put(element, entry);
+        link(entry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the new priority is lower than the
+     *                                  last extracted minimum.
+     */
+    @Override
+    public void decreasePriority(E element, double newPriority) {
+        Entry<E> entry = map.get(element);
+
+        if (entry == null || entry.priority <= newPriority) {
+            return;
+        }
+
+        newPriority = checkPriority(newPriority);
+        entry.priority = newPriority;
+
+        if (entry.bucket != bucketOf(newPriority)) {
+            unlink(entry);
+            link(entry);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        Entry<E> entry = findMinimum();
+        unlink(entry);
+        map.remove(entry.element);
+        last = entry.priority;
+        return entry.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        return findMinimum().element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < ring.length; ++i) {
+            ring[i] = null;
+        }
+
+        map.clear();
+        currentBucket = 0L;
+        last = 0.0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumPriorityQueue<E> spawn() {
+        return new BucketQueue<>(bucketWidth);
+    }
+
+    /**
+     * Returns the width of each bucket.
+     *
+     * @return the bucket width.
+     */
+    public double getBucketWidth() {
+        return bucketWidth;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "BucketQueue: bucket width = " + bucketWidth;
+    }
+
+    /**
+     * Checks that {@code priority} is a valid priority for this queue and
+     * returns it, rounded up to the last extracted minimum if it undershoots
+     * it by a negligible amount.
+     *
+     * @param priority the priority to check.
+     * @return the priority to use.
+     */
+    private double checkPriority(double priority) {
+        if (!(priority >= 0.0) || Double.isInfinite(priority)) {
+            throw new IllegalArgumentException(
+                    "Bad priority: " + priority + ".");
+        }
+
+        if (priority >= last) {
+            return priority;
+        }
+
+        if (last - priority > TOLERANCE * last) {
+            throw new IllegalArgumentException(
+                    "The priority " + priority + " is lower than the last " +
+                    "extracted minimum " + last + ".");
+        }
+
+        return last;
+    }
+
+    /**
+     * Returns the absolute index of the bucket for the priority
+     * {@code priority}.
+     *
+     * @param priority the priority.
+     * @return the bucket index.
+     */
+    private long bucketOf(double priority) {
+        return (long) Math.floor(priority / bucketWidth);
+    }
+
+    /**
+     * Prepends {@code entry} to the list of its bucket, growing the ring if
+     * necessary.
+     *
+     * @param entry the entry to link.
+     */
+    private void link(Entry<E> entry) {
+        long bucket = Math.max(currentBucket, bucketOf(entry.priority));
+
+        if (bucket - currentBucket >= ring.length) {
+            grow(bucket - currentBucket + 1);
+        }
+
+        int index = (int) (bucket & (ring.length - 1));
+        Entry<E> head = ring[index];
+        entry.bucket = bucket;
+        entry.prev = null;
+        entry.next = head;
+
+        if (head != null) {
+            head.prev = entry;
+        }
+
+        ring[index] = entry;
+    }
+
+    /**
+     * Removes {@code entry} from the list of its bucket.
+     *
+     * @param entry the entry to unlink.
+     */
+    private void unlink(Entry<E> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            ring[(int) (entry.bucket & (ring.length - 1))] = entry.next;
+        }
+
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+    }
+
+    /**
+     * Grows the ring so that it spans at least {@code span} buckets starting
+     * from the current bucket.
+     *
+     * @param span the requested span.
+     */
+    private void grow(long span) {
+        int capacity = ring.length;
+
+        while (capacity < span) {
+            if (capacity >= 1 << 30) {
+                throw new IllegalStateException(
+                        "The priority range of the bucket queue is too wide.");
+            }
+
+            capacity <<= 1;
+        }
+
+        Entry<E>[] oldRing = ring;
+        ring = new Entry[capacity];
+
+        for (Entry<E> head : oldRing) {
+            Entry<E> e = head;
+
+            while (e != null) {
+                Entry<E> next = e.next;
+                int index = (int) (e.bucket & (capacity - 1));
+                e.prev = null;
+                e.next = ring[index];
+
+                if (ring[index] != null) {
+                    ring[index].prev = e;
+                }
+
+                ring[index] = e;
+                e = next;
+            }
+        }
+    }
+
+    /**
+     * Advances to the lowest non-empty bucket and returns the entry with the
+     * lowest priority in it.
+     *
+     * @return an entry with the minimum priority.
+     */
+    private Entry<E> findMinimum() {
+        if (map.isEmpty()) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        int mask = ring.length - 1;
+
+        while (ring[(int) (currentBucket & mask)] == null) {
+            ++currentBucket;
+        }
+
+        Entry<E> minEntry = ring[(int) (currentBucket & mask)];
+
+        for (Entry<E> e = minEntry.next; e != null; e = e.next) {
+            if (minEntry.priority > e.priority) {
+                minEntry = e;
+            }
+        }
+
+        return minEntry;
+    }
+}
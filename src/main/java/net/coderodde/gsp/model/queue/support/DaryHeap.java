@@ -3,6 +3,7 @@ package net.coderodde.gsp.model.queue.support;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.jfr.JfrEvents;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
 
 
@@ -148,9 +149,7 @@ public class DaryHeap<E> implements MinimumPriorityQueue<E> {
     public void decreasePriority(E element, double newPriority) {
         Node<E> node = map.get(element);
         
-        if (node == null 
-                || node.index == 0
-                || node.priority <= newPriority) {
+        if (node == null || node.priority <= newPriority) {
             return;
         }
         
@@ -275,12 +274,19 @@ public class DaryHeap<E> implements MinimumPriorityQueue<E> {
     
     /**
      * If the storage array is full, expands it and copies the old data into it.
+     * Reports the expansion as a heap resize event if the event is 
+     * enabled.
      */
     private void checkAndExpand() {
         if (size == storage.length) {
+            Object event = JfrEvents.beginHeapResize();
             Node[] arr = new Node[3* size / 2];
             System.arraycopy(storage, 0, arr, 0, size);
             storage = arr;
+            
+            if (event != null) {
+                JfrEvents.commitHeapResize(event, this, size, arr.length);
+            }
         }
     }
     
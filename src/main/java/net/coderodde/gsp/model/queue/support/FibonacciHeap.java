@@ -1,5 +1,6 @@
 package net.coderodde.gsp.model.queue.support;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -263,6 +264,7 @@ public class FibonacciHeap<E> implements MinimumPriorityQueue<E> {
         minimumNode = null;
         map.clear();
         size = 0;
+        Arrays.fill(array, null);
     }
 
     /**
@@ -284,10 +286,6 @@ public class FibonacciHeap<E> implements MinimumPriorityQueue<E> {
     private void consolidate() {
         final int arraySize = ((int) Math.floor(Math.log(size) / LOG_PHI)) + 1;
         checkArray(arraySize);
-        
-        for (int i = 0; i < arraySize; ++i) {
-            array[i] = null;
-        }
 
         int numberOfRoots = 0;
         Node<E> x = minimumNode;
@@ -331,11 +329,17 @@ public class FibonacciHeap<E> implements MinimumPriorityQueue<E> {
 
         minimumNode = null;
 
-        for (Node<E> y : array) {
+        // Only the first 'arraySize' slots belong to this consolidation; the
+        // slots are emptied on the way, so that no root outlives it.
+        for (int i = 0; i < arraySize; ++i) {
+            Node<E> y = array[i];
+
             if (y == null) {
                 continue;
             }
 
+            array[i] = null;
+
             if (minimumNode != null) {
                 y.left.right = y.right;
                 y.right.left = y.left;
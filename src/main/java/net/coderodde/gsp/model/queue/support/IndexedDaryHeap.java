@@ -0,0 +1,152 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.Arrays;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class adapts {@link IntDaryHeap} to the {@link MinimumPriorityQueue}
+ * API, so that it may be passed to
+ * {@link net.coderodde.gsp.model.AbstractPathFinder#setQueue}. The graph nodes
+ * are keyed by their IDs, which must be dense non-negative integers, each
+ * identifying exactly one node. No hash lookups are made and no per-entry
+ * objects are allocated.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class IndexedDaryHeap<N extends AbstractGraphNode<N>>
+implements MinimumPriorityQueue<N> {
+
+    /**
+     * The actual heap over node IDs.
+     */
+    private final IntDaryHeap heap;
+
+    /**
+     * Maps node IDs to the node objects.
+     */
+    private Object[] nodes;
+
+    /**
+     * Constructs a new heap with given degree, capable of holding the nodes
+     * with IDs {@code 0, 1, ..., capacity - 1} without growing.
+     *
+     * @param degree   the degree of this heap.
+     * @param capacity the initial capacity of this heap.
+     */
+    public IndexedDaryHeap(int degree, int capacity) {
+        this.heap = new IntDaryHeap(degree, capacity);
+        this.nodes = new Object[heap.getCapacity()];
+    }
+
+    /**
+     * Constructs a new heap with default degree and capacity
+     * {@code capacity}.
+     *
+     * @param capacity the initial capacity of this heap.
+     */
+    public IndexedDaryHeap(int capacity) {
+        this.heap = new IntDaryHeap(capacity);
+        this.nodes = new Object[heap.getCapacity()];
+    }
+
+    /**
+     * Constructs a new heap with default parameters.
+     */
+    public IndexedDaryHeap() {
+        this.heap = new IntDaryHeap();
+        this.nodes = new Object[heap.getCapacity()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(N element, double priority) {
+        int id = element.getId();
+        heap.add(id, priority);
+
+        if (nodes.length < heap.getCapacity()) {
+            nodes = Arrays.copyOf(nodes, heap.getCapacity());
+        }
+
+        nodes[id] = element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void decreasePriority(N element, double newPriority) {
+        heap.decreasePriority(element.getId(), newPriority);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public N extractMinimum() {
+        return (N) nodes[heap.extractMinimum()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public N min() {
+        return (N) nodes[heap.min()];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        heap.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumPriorityQueue<N> spawn() {
+        return new IndexedDaryHeap<>(heap.getDegree(), heap.getCapacity());
+    }
+
+    /**
+     * Returns the degree of this heap.
+     *
+     * @return the degree of this heap.
+     */
+    public int getDegree() {
+        return heap.getDegree();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "IndexedDaryHeap: degree = " + heap.getDegree();
+    }
+}
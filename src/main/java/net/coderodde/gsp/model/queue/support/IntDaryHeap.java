@@ -0,0 +1,378 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.jfr.JfrEvents;
+
+/**
+ * This class implements a <tt>d</tt>-ary minimum heap over non-negative
+ * integer elements, such as node IDs. Unlike {@link DaryHeap}, this heap does
+ * not wrap the entries in node objects and does not need a hash map in order
+ * to locate an element: the priority and the heap position of the element
+ * {@code e} are stored at {@code keys[e]} and {@code position[e]}. The arrays
+ * grow on demand, so the heap should be constructed with a capacity equal to
+ * the amount of nodes in the graph. Each element may appear at most once in
+ * the heap.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class IntDaryHeap {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The minimum degree of the heaps. (Signifies the binary heap.)
+     */
+    private static final int MINIMUM_DEGREE = 2;
+
+    /**
+     * The default degree of the heaps.
+     */
+    private static final int DEFAULT_DEGREE = 4;
+
+    /**
+     * Marks the absence of an element in the heap.
+     */
+    private static final int ABSENT = -1;
+
+    /**
+     * The actual degree of this heap.
+     */
+    private final int degree;
+
+    /**
+     * The heap array.
+     */
+    private int[] heap;
+
+    /**
+     * The priority keys indexed by elements.
+     */
+    private double[] keys;
+
+    /**
+     * Maps each element to its index in {@code heap} or {@code ABSENT} if the
+     * element is not present.
+     */
+    private int[] position;
+
+    /**
+     * The amount of elements in this heap.
+     */
+    private int size;
+
+    /**
+     * Constructs a new heap with given degree, capable of holding the elements
+     * {@code 0, 1, ..., capacity - 1} without growing.
+     *
+     * @param degree   the degree of this heap.
+     * @param capacity the initial capacity of this heap.
+     */
+    public IntDaryHeap(int degree, int capacity) {
+        if (degree < MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+            "Degree must be at least " + MINIMUM_DEGREE +
+            ", received " + degree + ".");
+        }
+
+        capacity = Math.max(1, capacity);
+        this.degree = degree;
+        this.heap = new int[capacity];
+        this.keys = new double[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, ABSENT);
+    }
+
+    /**
+     * Constructs a new heap with default degree and capacity
+     * {@code capacity}.
+     *
+     * @param capacity the initial capacity of this heap.
+     */
+    public IntDaryHeap(int capacity) {
+        this(DEFAULT_DEGREE, capacity);
+    }
+
+    /**
+     * Constructs a new heap with default parameters.
+     */
+    public IntDaryHeap() {
+        this(DEFAULT_DEGREE, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Adds the element {@code element} with priority {@code priority} to this
+     * heap. If the element is already in the heap, does nothing.
+     *
+     * @param element  the element to add.
+     * @param priority the priority of the element.
+     */
+    public void add(int element, double priority) {
+        if (element < 0) {
+            throw new IllegalArgumentException(
+                    "The element is negative: " + element + ".");
+        }
+
+        ensureCapacity(element + 1);
+
+        if (position[element] != ABSENT) {
+            return;
+        }
+
+        keys[element] = priority;
+        heap[size] = element;
+        position[element] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Decreases the priority of the element {@code element} to
+     * {@code newPriority}. If the element is not in the heap, or its current
+     * priority is not larger than {@code newPriority}, does nothing.
+     *
+     * @param element     the element whose priority to decrease.
+     * @param newPriority the new priority of the element.
+     */
+    public void decreasePriority(int element, double newPriority) {
+        if (!contains(element) || keys[element] <= newPriority) {
+            return;
+        }
+
+        keys[element] = newPriority;
+        siftUp(position[element]);
+    }
+
+    /**
+     * Removes and returns the element with the lowest priority.
+     *
+     * @return the element with the lowest priority.
+     */
+    public int extractMinimum() {
+        if (size == 0) {
+            throw new NoSuchElementException(
+            "Reading from an empty d-ary heap.");
+        }
+
+        int ret = heap[0];
+        position[ret] = ABSENT;
+
+        if (--size != 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return ret;
+    }
+
+    /**
+     * Returns, but does not remove, the element with the lowest priority.
+     *
+     * @return the element with the lowest priority.
+     */
+    public int min() {
+        if (size == 0) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        return heap[0];
+    }
+
+    /**
+     * Returns the lowest priority in this heap.
+     *
+     * @return the lowest priority.
+     */
+    public double minPriority() {
+        return keys[min()];
+    }
+
+    /**
+     * Returns the current priority of the element {@code element}, which must
+     * be in this heap.
+     *
+     * @param element the element whose priority to return.
+     * @return the priority of the element.
+     */
+    public double getPriority(int element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException(
+                    "The element " + element + " is not in the heap.");
+        }
+
+        return keys[element];
+    }
+
+    /**
+     * Checks whether the element {@code element} is in this heap.
+     *
+     * @param element the element to query.
+     * @return {@code true} only if the element is in this heap.
+     */
+    public boolean contains(int element) {
+        return element >= 0
+                && element < position.length
+                && position[element] != ABSENT;
+    }
+
+    /**
+     * Returns the amount of elements in this heap.
+     *
+     * @return the size of this heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether this heap is empty.
+     *
+     * @return {@code true} only if this heap is empty.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all the elements from this heap. Runs in time proportional to
+     * the amount of elements in the heap, not to its capacity.
+     */
+    public void clear() {
+        for (int i = 0; i < size; ++i) {
+            position[heap[i]] = ABSENT;
+        }
+
+        size = 0;
+    }
+
+    /**
+     * Returns the degree of this heap.
+     *
+     * @return the degree of this heap.
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Returns the capacity of this heap.
+     *
+     * @return the capacity of this heap.
+     */
+    public int getCapacity() {
+        return position.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "IntDaryHeap: degree = " + degree;
+    }
+
+    /**
+     * Makes sure that the elements {@code 0, 1, ..., capacity - 1} fit in this
+     * heap.
+     *
+     * @param capacity the requested capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        int oldCapacity = position.length;
+
+        if (capacity <= oldCapacity) {
+            return;
+        }
+
+        int newCapacity = (int) Math.min(Integer.MAX_VALUE,
+                                         Math.max(capacity,
+                                                  3L * oldCapacity / 2));
+
+        Object event = JfrEvents.beginHeapResize();
+        heap = Arrays.copyOf(heap, newCapacity);
+        keys = Arrays.copyOf(keys, newCapacity);
+        position = Arrays.copyOf(position, newCapacity);
+        Arrays.fill(position, oldCapacity, newCapacity, ABSENT);
+
+        if (event != null) {
+            JfrEvents.commitHeapResize(event, this, oldCapacity, newCapacity);
+        }
+    }
+
+    /**
+     * Sifts the element at index {@code index} up until the heap invariant is
+     * fixed.
+     *
+     * @param index the index of the element to sift up.
+     */
+    private void siftUp(int index) {
+        int element = heap[index];
+        double key = keys[element];
+
+        while (index > 0) {
+            int parentIndex = (index - 1) / degree;
+            int parent = heap[parentIndex];
+
+            if (keys[parent] <= key) {
+                break;
+            }
+
+            heap[index] = parent;
+            position[parent] = index;
+            index = parentIndex;
+        }
+
+        heap[index] = element;
+        position[element] = index;
+    }
+
+    /**
+     * Sifts the element at index {@code index} down until the heap invariant
+     * is fixed.
+     *
+     * @param index the index of the element to sift down.
+     */
+    private void siftDown(int index) {
+        int element = heap[index];
+        double key = keys[element];
+
+        for (;;) {
+            int firstChildIndex = degree * index + 1;
+
+            if (firstChildIndex >= size) {
+                break;
+            }
+
+            int lastChildIndex = Math.min(firstChildIndex + degree, size);
+            int minChildIndex = firstChildIndex;
+            double minChildKey = keys[heap[firstChildIndex]];
+
+            for (int i = firstChildIndex + 1; i < lastChildIndex; ++i) {
+                double tentative = keys[heap[i]];
+
+                if (minChildKey > tentative) {
+                    minChildKey = tentative;
+                    minChildIndex = i;
+                }
+            }
+
+            if (minChildKey >= key) {
+                break;
+            }
+
+            int child = heap[minChildIndex];
+            heap[index] = child;
+            position[child] = index;
+            index = minChildIndex;
+        }
+
+        heap[index] = element;
+        position[element] = index;
+    }
+}
@@ -0,0 +1,366 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class implements a radix heap. A radix heap is a monotone priority
+ * queue: the priority of an added element (or a decreased priority) may not be
+ * lower than the priority of the last extracted element. This is exactly the
+ * access pattern of Dijkstra's algorithm, and of A* with a consistent
+ * heuristic. All operations run in amortized constant time, since an element
+ * may move only towards the lower buckets, and there is only 65 of them.
+ * <p>
+ * The priorities must be non-negative. The heap works on the raw bit patterns
+ * of the priorities: for non-negative doubles, the order of the bit patterns
+ * as {@code long}s coincides with the order of the doubles. The element with
+ * priority {@code p} is kept in the bucket indexed by the position of the
+ * highest bit in which {@code p} differs from the last extracted minimum.
+ * <p>
+ * As floating-point rounding may make a consistent heuristic appear slightly
+ * inconsistent, priorities that undershoot the last extracted minimum by a
+ * negligible relative amount are treated as equal to it.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <E> the element type.
+ */
+public class RadixHeap<E> implements MinimumPriorityQueue<E> {
+
+    /**
+     * The default map capacity.
+     */
+    private static final int DEFAULT_MAP_CAPACITY = 1 << 10;
+
+    /**
+     * The amount of buckets. Bucket 0 holds the elements whose priority equals
+     * the last extracted minimum; bucket {@code i > 0} holds the elements
+     * whose priority differs from it first at bit {@code i - 1}.
+     */
+    private static final int BUCKETS = 65;
+
+    /**
+     * The largest relative undershoot of the last extracted minimum that is
+     * tolerated.
+     */
+    private static final double TOLERANCE = 1e-9;
+
+    /**
+     * Stores an element, its priority and links to its bucket neighbours.
+     *
+     * @param <E> the element type.
+     */
+    private static final class Entry<E> {
+
+        /**
+         * The actual element.
+         */
+        final E element;
+
+        /**
+         * The priority of the element.
+         */
+        double priority;
+
+        /**
+         * The bit pattern of {@code priority}.
+         */
+        long key;
+
+        /**
+         * The index of the bucket holding this entry.
+         */
+        int bucket;
+
+        /**
+         * The previous entry in the bucket.
+         */
+        Entry<E> prev;
+
+        /**
+         * The next entry in the bucket.
+         */
+        Entry<E> next;
+
+        Entry(E element, double priority, long key) {
+            this.element = element;
+            this.priority = priority;
+            this.key = key;
+        }
+    }
+
+    /**
+     * The heads of the bucket lists.
+     */
+    private final Entry<E>[] buckets = new Entry[BUCKETS];
+
+    /**
+     * Maps each element to its entry as to speed up the
+     * {@code decreasePriority}-operation.
+     */
+    private final Map<E, Entry<E>> map;
+
+    /**
+     * The last extracted minimum priority.
+     */
+    private double last;
+
+    /**
+     * The bit pattern of {@code last}.
+     */
+    private long lastKey;
+
+    /**
+     * Constructs a new radix heap with default settings.
+     */
+    public RadixHeap() {
+        this(DEFAULT_MAP_CAPACITY);
+    }
+
+    /**
+     * Constructs a new radix heap with the given map capacity.
+     *
+     * @param mapCapacity the initial capacity of the underlying map.
+     */
+    public RadixHeap(int mapCapacity) {
+        this.map = new HashMap<>(mapCapacity);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the priority is negative, not a
+     *                                  number, or lower than the last extracted
+     *                                  minimum.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (map.containsKey(element)) {
+            return;
+        }
+
+        priority = checkPriority(priority);
+        Entry<E> entry = new Entry<>(element, priority, toKey(priority));
+        map.put(element, entry);
+        link(entry);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the new priority is lower than the
+     *                                  last extracted minimum.
+     */
+    @Override
+    public void decreasePriority(E element, double newPriority) {
+        Entry<E> entry = map.get(element);
+
+        if (entry == null || entry.priority <= newPriority) {
+            return;
+        }
+
+        newPriority = checkPriority(newPriority);
+        unlink(entry);
+        entry.priority = newPriority;
+        entry.key = toKey(newPriority);
+        link(entry);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E extractMinimum() {
+        Entry<E> entry = loadMinimumBucket();
+        unlink(entry);
+        map.remove(entry.element);
+        return entry.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E min() {
+        return loadMinimumBucket().element;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        for (int i = 0; i < BUCKETS; ++i) {
+            buckets[i] = null;
+        }
+
+        map.clear();
+        last = 0.0;
+        lastKey = 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MinimumPriorityQueue<E> spawn() {
+        return new RadixHeap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the string indicating the implementation type.
+     */
+    @Override
+    public String toString() {
+        return "RadixHeap";
+    }
+
+    /**
+     * Checks that {@code priority} is a valid priority for this heap and
+     * returns it, rounded up to the last extracted minimum if it undershoots
+     * it by a negligible amount.
+     *
+     * @param priority the priority to check.
+     * @return the priority to use.
+     */
+    private double checkPriority(double priority) {
+        if (priority >= last) {
+            return priority;
+        }
+
+        if (!(priority >= 0.0)) {
+            throw new IllegalArgumentException(
+                    "Bad priority: " + priority + ".");
+        }
+
+        if (last - priority > TOLERANCE * last) {
+            throw new IllegalArgumentException(
+                    "The priority " + priority + " is lower than the last " +
+                    "extracted minimum " + last + ".");
+        }
+
+        return last;
+    }
+
+    /**
+     * Returns the bit pattern of the non-negative priority {@code priority}.
+     *
+     * @param priority the priority.
+     * @return the bit pattern of the priority.
+     */
+    private static long toKey(double priority) {
+        // Adding 0.0 turns -0.0 into 0.0.
+        return Double.doubleToLongBits(priority + 0.0);
+    }
+
+    /**
+     * Returns the index of the bucket for the key {@code key}.
+     *
+     * @param key the key.
+     * @return the bucket index.
+     */
+    private int bucketOf(long key) {
+        return 64 - Long.numberOfLeadingZeros(key ^ lastKey);
+    }
+
+    /**
+     * Prepends {@code entry} to the list of its bucket.
+     *
+     * @param entry the entry to link.
+     */
+    private void link(Entry<E> entry) {
+        int bucket = bucketOf(entry.key);
+        Entry<E> head = buckets[bucket];
+        entry.bucket = bucket;
+        entry.prev = null;
+        entry.next = head;
+
+        if (head != null) {
+            head.prev = entry;
+        }
+
+        buckets[bucket] = entry;
+    }
+
+    /**
+     * Removes {@code entry} from the list of its bucket.
+     *
+     * @param entry the entry to unlink.
+     */
+    private void unlink(Entry<E> entry) {
+        if (entry.prev != null) {
+            entry.prev.next = entry.next;
+        } else {
+            buckets[entry.bucket] = entry.next;
+        }
+
+        if (entry.next != null) {
+            entry.next.prev = entry.prev;
+        }
+    }
+
+    /**
+     * Makes sure that bucket 0 contains the minimum elements and returns one
+     * of them. If bucket 0 is empty, the lowest non-empty bucket is
+     * redistributed relative to its minimum.
+     *
+     * @return an entry with the minimum priority.
+     */
+    private Entry<E> loadMinimumBucket() {
+        if (map.isEmpty()) {
+            throw new NoSuchElementException("Reading from an empty queue.");
+        }
+
+        if (buckets[0] != null) {
+            return buckets[0];
+        }
+
+        int bucket = 1;
+
+        while (buckets[bucket] == null) {
+            ++bucket;
+        }
+
+        Entry<E> minEntry = buckets[bucket];
+
+        for (Entry<E> e = minEntry.next; e != null; e = e.next) {
+            if (minEntry.key > e.key) {
+                minEntry = e;
+            }
+        }
+
+        last = minEntry.priority;
+        lastKey = minEntry.key;
+
+        Entry<E> e = buckets[bucket];
+        buckets[bucket] = null;
+
+        while (e != null) {
+            Entry<E> next = e.next;
+            link(e);
+            e = next;
+        }
+
+        return buckets[0];
+    }
+}
@@ -0,0 +1,253 @@
+package net.coderodde.gsp.model.storage;
+
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * This class implements a read-only lookup table mapped into memory from a
+ * file written by {@link MappedTableWriter}. The table is not loaded onto
+ * the heap: the operating system pages it in on demand, so opening even a
+ * multi-gigabyte table takes milliseconds, and the processes mapping the
+ * same file share the page cache.
+ * <p>
+ * The file starts with a header page holding the magic number, the format
+ * version, the type of the table, the length and the checksum of the
+ * payload, and the metadata of the table, followed by the checksum of the
+ * header. The payload starts at the second page. As a single buffer may
+ * map at most 2 GB, the payload is mapped in segments of
+ * {@link #SEGMENT_SIZE} bytes, each overlapping the next one by eight bytes
+ * so that no value read crosses a segment boundary. All numbers are stored
+ * in little-endian byte order.
+ * <p>
+ * The checksum of the header is verified when the table is opened; the one
+ * of the payload is verified only on {@link #verify()}, as it reads the
+ * whole table. The mapping stays valid after the file is closed, so the
+ * table holds no file handle, and is released when garbage collected.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class MappedTable {
+
+    /**
+     * The current version of the file format.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The size of the header; the payload starts at this offset.
+     */
+    public static final int PAGE_SIZE = 4096;
+
+    /**
+     * The maximum length of the metadata.
+     */
+    public static final int MAXIMUM_METADATA_LENGTH = PAGE_SIZE - 40;
+
+    /**
+     * The amount of payload bytes per mapped segment.
+     */
+    public static final long SEGMENT_SIZE = 1L << 30;
+
+    static final int MAGIC = 0x54505347;
+
+    /**
+     * The amount of bytes each segment overlaps the next one by.
+     */
+    private static final int OVERLAP = 8;
+    private static final int SEGMENT_SHIFT = 30;
+
+    private final int type;
+    private final long payloadLength;
+    private final long payloadChecksum;
+    private final byte[] metadata;
+    private final ByteBuffer[] segments;
+
+    private MappedTable(int type,
+                        long payloadLength,
+                        long payloadChecksum,
+                        byte[] metadata,
+                        ByteBuffer[] segments) {
+        this.type = type;
+        this.payloadLength = payloadLength;
+        this.payloadChecksum = payloadChecksum;
+        this.metadata = metadata;
+        this.segments = segments;
+    }
+
+    /**
+     * Maps the table in the file {@code path}.
+     *
+     * @param path the path of the file.
+     * @return the mapped table.
+     * @throws IOException if an I/O error occurs or the header is malformed.
+     */
+    public static MappedTable open(Path path) throws IOException {
+        Objects.requireNonNull(path, "The path is null.");
+
+        try (FileChannel channel = FileChannel.open(path,
+                                                    StandardOpenOption.READ)) {
+            if (channel.size() < PAGE_SIZE) {
+                throw new IOException("Not a mapped table.");
+            }
+
+            ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+
+            while (header.hasRemaining()) {
+                if (channel.read(header, header.position()) < 0) {
+                    throw new IOException("Not a mapped table.");
+                }
+            }
+
+            ((Buffer) header).flip();
+
+            if (header.getInt() != MAGIC) {
+                throw new IOException("Not a mapped table.");
+            }
+
+            int version = header.getInt();
+
+            if (version != VERSION) {
+                throw new IOException(
+                        "Unsupported mapped table version: " + version + ".");
+            }
+
+            int type = header.getInt();
+            int metadataLength = header.getInt();
+            long payloadLength = header.getLong();
+            long payloadChecksum = header.getLong();
+
+            if (metadataLength < 0 ||
+                    metadataLength > MAXIMUM_METADATA_LENGTH ||
+                    payloadLength < 0L ||
+                    payloadLength > channel.size() - PAGE_SIZE) {
+                throw new IOException("Malformed mapped table header.");
+            }
+
+            byte[] metadata = new byte[metadataLength];
+            header.get(metadata);
+            CRC32 crc = new CRC32();
+            crc.update(header.array(), 0, header.position());
+
+            if (header.getLong() != crc.getValue()) {
+                throw new IOException("Mapped table header checksum mismatch.");
+            }
+
+            return new MappedTable(type,
+                                   payloadLength,
+                                   payloadChecksum,
+                                   metadata,
+                                   map(channel, payloadLength));
+        }
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, long payloadLength)
+    throws IOException {
+        int segmentCount =
+                (int)((payloadLength + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+        ByteBuffer[] segments = new ByteBuffer[Math.max(segmentCount, 1)];
+
+        if (segmentCount == 0) {
+            segments[0] = ByteBuffer.allocate(0);
+        }
+
+        for (int i = 0; i < segmentCount; ++i) {
+            long offset = i * SEGMENT_SIZE;
+            long size = Math.min(SEGMENT_SIZE + OVERLAP,
+                                 payloadLength - offset);
+            MappedByteBuffer segment =
+                    channel.map(FileChannel.MapMode.READ_ONLY,
+                                PAGE_SIZE + offset,
+                                size);
+            segments[i] = segment.order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        return segments;
+    }
+
+    /**
+     * Returns the type of the table, as given to the writer.
+     *
+     * @return the type of the table.
+     */
+    public int getType() {
+        return type;
+    }
+
+    /**
+     * Returns the length of the payload in bytes.
+     *
+     * @return the payload length.
+     */
+    public long getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * Returns a read-only little-endian view of the metadata.
+     *
+     * @return the metadata.
+     */
+    public ByteBuffer getMetadata() {
+        return ByteBuffer.wrap(metadata)
+                         .asReadOnlyBuffer()
+                         .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public byte getByte(long offset) {
+        return segments[(int)(offset >>> SEGMENT_SHIFT)]
+               .get((int)(offset & (SEGMENT_SIZE - 1)));
+    }
+
+    public int getInt(long offset) {
+        return segments[(int)(offset >>> SEGMENT_SHIFT)]
+               .getInt((int)(offset & (SEGMENT_SIZE - 1)));
+    }
+
+    public long getLong(long offset) {
+        return segments[(int)(offset >>> SEGMENT_SHIFT)]
+               .getLong((int)(offset & (SEGMENT_SIZE - 1)));
+    }
+
+    public double getDouble(long offset) {
+        return segments[(int)(offset >>> SEGMENT_SHIFT)]
+               .getDouble((int)(offset & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * Reads the whole payload and compares its checksum to the one in the
+     * header.
+     *
+     * @throws IOException if the checksums do not match.
+     */
+    public void verify() throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+
+        for (int i = 0; i < segments.length; ++i) {
+            ByteBuffer segment = segments[i].duplicate();
+            long remaining = Math.min(SEGMENT_SIZE,
+                                      payloadLength - i * SEGMENT_SIZE);
+
+            while (remaining > 0) {
+                int length = (int) Math.min(buffer.length, remaining);
+                segment.get(buffer, 0, length);
+                crc.update(buffer, 0, length);
+                remaining -= length;
+            }
+        }
+
+        if (crc.getValue() != payloadChecksum) {
+            throw new IOException("Mapped table payload checksum mismatch.");
+        }
+    }
+}
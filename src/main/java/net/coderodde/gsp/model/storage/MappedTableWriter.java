@@ -0,0 +1,184 @@
+package net.coderodde.gsp.model.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * This class writes the files read by {@link MappedTable}. The payload is
+ * appended value by value through a buffer, so tables larger than the heap
+ * may be written; the header is written on {@link #close()}, once the length
+ * and the checksum of the payload are known.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class MappedTableWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final int type;
+    private final byte[] metadata;
+    private final ByteBuffer buffer;
+    private final CRC32 crc = new CRC32();
+    private long payloadLength;
+    private boolean closed;
+
+    /**
+     * Creates a writer of the table file {@code path}, replacing the file if
+     * it exists.
+     *
+     * @param path     the path of the file.
+     * @param type     the type of the table.
+     * @param metadata the metadata of the table.
+     * @throws IOException if an I/O error occurs.
+     * @throws IllegalArgumentException if the metadata is too long.
+     */
+    public MappedTableWriter(Path path, int type, byte[] metadata)
+    throws IOException {
+        Objects.requireNonNull(path, "The path is null.");
+        Objects.requireNonNull(metadata, "The metadata is null.");
+
+        if (metadata.length > MappedTable.MAXIMUM_METADATA_LENGTH) {
+            throw new IllegalArgumentException(
+                    "The metadata is too long: " + metadata.length + ".");
+        }
+
+        this.type = type;
+        this.metadata = metadata.clone();
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE)
+                                .order(ByteOrder.LITTLE_ENDIAN);
+        this.channel = FileChannel.open(path,
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.WRITE,
+                                        StandardOpenOption.TRUNCATE_EXISTING);
+        this.channel.position(MappedTable.PAGE_SIZE);
+    }
+
+    /**
+     * Returns the amount of payload bytes written so far, which is the
+     * offset of the next value.
+     *
+     * @return the payload length.
+     */
+    public long getPayloadLength() {
+        return payloadLength;
+    }
+
+    public void writeByte(int value) throws IOException {
+        ensureRemaining(1);
+        buffer.put((byte) value);
+        payloadLength += 1;
+    }
+
+    public void writeInt(int value) throws IOException {
+        ensureRemaining(4);
+        buffer.putInt(value);
+        payloadLength += 4;
+    }
+
+    public void writeLong(long value) throws IOException {
+        ensureRemaining(8);
+        buffer.putLong(value);
+        payloadLength += 8;
+    }
+
+    public void writeDouble(double value) throws IOException {
+        ensureRemaining(8);
+        buffer.putDouble(value);
+        payloadLength += 8;
+    }
+
+    public void write(byte[] bytes, int offset, int length)
+    throws IOException {
+        while (length > 0) {
+            ensureRemaining(1);
+            int chunk = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, chunk);
+            payloadLength += chunk;
+            offset += chunk;
+            length -= chunk;
+        }
+    }
+
+    /**
+     * Pads the payload with zeros until its length is a multiple of
+     * {@code alignment}.
+     *
+     * @param alignment the alignment.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void align(int alignment) throws IOException {
+        while (payloadLength % alignment != 0) {
+            writeByte(0);
+        }
+    }
+
+    /**
+     * Flushes the payload, writes the header and closes the file.
+     *
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+
+        try {
+            flush();
+            ByteBuffer header = ByteBuffer.allocate(MappedTable.PAGE_SIZE)
+                                          .order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MappedTable.MAGIC);
+            header.putInt(MappedTable.VERSION);
+            header.putInt(type);
+            header.putInt(metadata.length);
+            header.putLong(payloadLength);
+            header.putLong(crc.getValue());
+            header.put(metadata);
+            CRC32 headerCrc = new CRC32();
+            headerCrc.update(header.array(), 0, header.position());
+            header.putLong(headerCrc.getValue());
+            ((Buffer) header).clear();
+
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+
+            channel.force(true);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureRemaining(int bytes) throws IOException {
+        if (closed) {
+            throw new IOException("The writer is closed.");
+        }
+
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws IOException {
+        ((Buffer) buffer).flip();
+        crc.update(buffer.array(), 0, buffer.limit());
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        ((Buffer) buffer).clear();
+    }
+}
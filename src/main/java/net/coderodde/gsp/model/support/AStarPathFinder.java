@@ -1,18 +1,17 @@
 package net.coderodde.gsp.model.support;
 
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.AbstractHeuristicFunction;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
-import net.coderodde.gsp.model.queue.support.DaryHeap;
 
 /**
  * This class implements A* pathfinding algorithm.
@@ -25,10 +24,9 @@ public class AStarPathFinder<N extends AbstractGraphNode<N>>
 extends AbstractPathFinder<N> {
 
     private MinimumPriorityQueue<N> OPEN;
-    private Set<N> CLOSED;
-    private Map<N, N> PARENTS;
-    private Map<N, Double> DISTANCE;
+    private AbstractSearchState<N> STATE;
     private N target;
+    private SearchMonitor monitor;
     
     private final AbstractGraphWeightFunction<N> weightFunction;
     private final AbstractHeuristicFunction<N> heuristicFunction;
@@ -44,27 +42,39 @@ extends AbstractPathFinder<N> {
     
     @Override
     public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+    
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
         Objects.requireNonNull(source, "The source node is null.");
         Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
         
-        return new AStarPathFinder(source, 
-                                   target, 
-                                   weightFunction, 
-                                   heuristicFunction).search();
+        return monitor.getResult(
+                new AStarPathFinder<>(source, 
+                                      target, 
+                                      weightFunction, 
+                                      heuristicFunction,
+                                      monitor.track(obtainQueue(0)),
+                                      monitor.track(obtainSearchState(0)),
+                                      monitor).search(),
+                weightFunction);
     }
 
     private AStarPathFinder(N source,
                             N target,
                             AbstractGraphWeightFunction<N> weightFunction,
-                            AbstractHeuristicFunction<N> heuristicFunction) {
-        OPEN = getQueue() == null ? new DaryHeap<>() : getQueue().spawn();
-        CLOSED = new HashSet<>();
-        PARENTS = new HashMap<>();
-        DISTANCE = new HashMap<>();
+                            AbstractHeuristicFunction<N> heuristicFunction,
+                            MinimumPriorityQueue<N> OPEN,
+                            AbstractSearchState<N> STATE,
+                            SearchMonitor monitor) {
+        this.OPEN = OPEN;
+        this.STATE = STATE;
+        this.monitor = monitor;
         
         OPEN.add(source, heuristicFunction.estimate(source, target));
-        PARENTS.put(source, null);
-        DISTANCE.put(source, 0.0);
+        STATE.put(source, 0.0, null);
         
         this.target = target;
         this.weightFunction = weightFunction;
@@ -72,19 +82,19 @@ extends AbstractPathFinder<N> {
     }
     
     private void expand(N current) {
+        double currentDistance = STATE.getDistance(current);
+        
         for (N child : current.children()) {
-            if (!CLOSED.contains(child)) {
-                double tentativeCost = DISTANCE.get(current) + 
+            if (!STATE.isClosed(child)) {
+                double tentativeCost = currentDistance + 
                                        weightFunction.get(current, child);
 
-                if (!DISTANCE.containsKey(child)) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
+                if (!STATE.isReached(child)) {
+                    STATE.put(child, tentativeCost, current);
                     OPEN.add(child, tentativeCost + 
                             heuristicFunction.estimate(child, target));
-                } else if (DISTANCE.get(child) > tentativeCost) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
+                } else if (STATE.getDistance(child) > tentativeCost) {
+                    STATE.put(child, tentativeCost, current);
                     OPEN.decreasePriority(child, tentativeCost +
                             heuristicFunction.estimate(child, target));
                 }
@@ -96,17 +106,31 @@ extends AbstractPathFinder<N> {
         while (!OPEN.isEmpty()) {
             N current = OPEN.extractMinimum();
             
+            if (STATE.isClosed(current)) {
+                // A stale copy left in the queue by lazy deletion.
+                continue;
+            }
+            
             if (current.equals(target)) {
-                return tracebackPath(current, PARENTS);
+                return tracebackPath(current, STATE);
             }
             
-            CLOSED.add(current);
+            if (monitor.expand()) {
+                break;
+            }
+            
+            STATE.close(current);
             expand(current);
         }
             
         return Collections.<N>emptyList();
     }
 
+    @Override
+    protected boolean supportsLazyDeletion() {
+        return true;
+    }
+    
     @Override
     public String humanReadableName() {
         return "A*";
@@ -0,0 +1,677 @@
+package net.coderodde.gsp.model.support;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Random;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.queue.support.IntDaryHeap;
+import net.coderodde.gsp.model.storage.MappedTable;
+import net.coderodde.gsp.model.storage.MappedTableWriter;
+
+/**
+ * This class implements the ALT heuristic (A*, landmarks and the triangle
+ * inequality) due to Goldberg and Harrelson. A handful of landmark nodes is
+ * chosen, and the shortest path distances from each landmark to all the nodes
+ * and from all the nodes to each landmark are precomputed. By the triangle
+ * inequality, for each landmark {@code L}, both
+ * {@code d(L, t) - d(L, s)} and {@code d(s, L) - d(t, L)} are lower bounds
+ * of {@code d(s, t)}, and the estimate is the largest of them. The heuristic
+ * is consistent, needs no coordinates and works on directed graphs.
+ * <p>
+ * The node IDs must be exactly {@code 0, 1, ..., n - 1}. The distance tables
+ * take {@code 2 * k * n} doubles for {@code k} landmarks, and may be saved
+ * via {@link #save(OutputStream)} and loaded via {@link #load(InputStream)}
+ * in order to skip the preprocessing. Tables too large for the heap may be
+ * saved via {@link #save(Path)} and mapped from the file via
+ * {@link #map(MappedTable)} instead.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class AltHeuristicFunction<N extends AbstractGraphNode<N>>
+extends AbstractHeuristicFunction<N> {
+
+    /**
+     * The landmark selection strategies.
+     */
+    public enum LandmarkSelection {
+
+        /**
+         * Chooses the landmarks uniformly at random.
+         */
+        RANDOM,
+
+        /**
+         * Chooses each landmark as far as possible from the landmarks chosen
+         * so far.
+         */
+        FARTHEST,
+
+        /**
+         * Chooses each landmark in the region of the graph where the current
+         * landmarks give the weakest lower bounds, as described by Goldberg
+         * and Werneck.
+         */
+        AVOID
+    }
+
+    /**
+     * Identifies the files written by {@link #save(OutputStream)}.
+     */
+    private static final int MAGIC = 0x414c5431;
+
+    /**
+     * The amount of nodes in the graph.
+     */
+    private final int nodeCount;
+
+    /**
+     * The IDs of the landmark nodes.
+     */
+    private final int[] landmarks;
+
+    /**
+     * The distance from the landmark {@code i} to the node {@code v} is
+     * stored at {@code fromLandmark[v * k + i]}, so that the distances of a
+     * single node are adjacent in memory. {@code null} if the tables are
+     * mapped.
+     */
+    private final double[] fromLandmark;
+
+    /**
+     * The distance from the node {@code v} to the landmark {@code i} is
+     * stored at {@code toLandmark[v * k + i]}.
+     */
+    private final double[] toLandmark;
+
+    /**
+     * The mapped tables, in the same layout as the arrays: the distances
+     * from the landmarks first, followed by the distances to the landmarks.
+     */
+    private final MappedTable mappedTable;
+
+    /**
+     * Selects {@code landmarkCount} landmarks in the graph consisting of
+     * the nodes {@code nodes} and computes the distance tables.
+     *
+     * @param nodes          all the nodes of the graph.
+     * @param weightFunction the weight function.
+     * @param landmarkCount  the requested amount of landmarks.
+     * @param selection      the landmark selection strategy.
+     * @param random         the random number generator.
+     * @throws IllegalArgumentException if the node IDs are not
+     *                                  {@code 0, 1, ..., n - 1}, or if the
+     *                                  amount of landmarks is not positive.
+     */
+    public AltHeuristicFunction(Collection<N> nodes,
+                                AbstractGraphWeightFunction<N> weightFunction,
+                                int landmarkCount,
+                                LandmarkSelection selection,
+                                Random random) {
+        Objects.requireNonNull(nodes, "The node collection is null.");
+        Objects.requireNonNull(weightFunction, "The weight function is null.");
+        Objects.requireNonNull(selection, "The landmark selection is null.");
+        Objects.requireNonNull(random, "The random number generator is null.");
+
+        if (landmarkCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad landmark count: " + landmarkCount + ".");
+        }
+
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("The graph is empty.");
+        }
+
+        this.nodeCount = nodes.size();
+        landmarkCount = Math.min(landmarkCount, nodeCount);
+
+        if ((long) nodeCount * landmarkCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    "The distance tables would be too large.");
+        }
+
+        this.landmarks = new int[landmarkCount];
+        this.fromLandmark = new double[nodeCount * landmarkCount];
+        this.toLandmark = new double[nodeCount * landmarkCount];
+        this.mappedTable = null;
+
+        new Preprocessor<>(this,
+                           indexNodes(nodes),
+                           weightFunction,
+                           random).run(selection);
+    }
+
+    private AltHeuristicFunction(int nodeCount,
+                                 int[] landmarks,
+                                 double[] fromLandmark,
+                                 double[] toLandmark) {
+        this.nodeCount = nodeCount;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+        this.mappedTable = null;
+    }
+
+    private AltHeuristicFunction(int nodeCount,
+                                 int[] landmarks,
+                                 MappedTable mappedTable) {
+        this.nodeCount = nodeCount;
+        this.landmarks = landmarks;
+        this.fromLandmark = null;
+        this.toLandmark = null;
+        this.mappedTable = mappedTable;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double estimate(N source, N target) {
+        return estimate(source.getId(), target.getId());
+    }
+
+    /**
+     * Returns the amount of landmarks.
+     *
+     * @return the amount of landmarks.
+     */
+    public int getLandmarkCount() {
+        return landmarks.length;
+    }
+
+    /**
+     * Returns the IDs of the landmark nodes.
+     *
+     * @return the landmark IDs.
+     */
+    public int[] getLandmarks() {
+        return landmarks.clone();
+    }
+
+    /**
+     * Writes the landmarks and the distance tables to {@code out}. The
+     * stream is not closed.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(OutputStream out) throws IOException {
+        DataOutputStream dos =
+                new DataOutputStream(new BufferedOutputStream(out));
+        dos.writeInt(MAGIC);
+        dos.writeInt(nodeCount);
+        dos.writeInt(landmarks.length);
+
+        for (int landmark : landmarks) {
+            dos.writeInt(landmark);
+        }
+
+        long entryCount = (long) nodeCount * landmarks.length;
+
+        for (long i = 0L; i < entryCount; ++i) {
+            dos.writeDouble(getFromLandmark(i));
+        }
+
+        for (long i = 0L; i < entryCount; ++i) {
+            dos.writeDouble(getToLandmark(i));
+        }
+
+        dos.flush();
+    }
+
+    /**
+     * Writes the landmarks and the distance tables to the file {@code path}
+     * in the format of {@link MappedTable}, replacing the file if it exists.
+     *
+     * @param path the path of the file.
+     * @throws IOException if an I/O error occurs.
+     */
+    public void save(Path path) throws IOException {
+        ByteBuffer metadata =
+                ByteBuffer.allocate(8 + 4 * landmarks.length)
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        metadata.putInt(nodeCount);
+        metadata.putInt(landmarks.length);
+
+        for (int landmark : landmarks) {
+            metadata.putInt(landmark);
+        }
+
+        long entryCount = (long) nodeCount * landmarks.length;
+
+        try (MappedTableWriter writer =
+                new MappedTableWriter(path, MAGIC, metadata.array())) {
+            for (long i = 0L; i < entryCount; ++i) {
+                writer.writeDouble(getFromLandmark(i));
+            }
+
+            for (long i = 0L; i < entryCount; ++i) {
+                writer.writeDouble(getToLandmark(i));
+            }
+        }
+    }
+
+    /**
+     * Returns the heuristic function whose landmarks and distance tables are
+     * stored in {@code table} by {@link #save(Path)}. The distances are read
+     * from the mapping.
+     *
+     * @param <N>   the actual graph node type.
+     * @param table the mapped table.
+     * @return the heuristic function.
+     * @throws IOException if the table holds no ALT distance tables or is
+     *                     malformed.
+     */
+    public static <N extends AbstractGraphNode<N>> AltHeuristicFunction<N>
+        map(MappedTable table) throws IOException {
+        Objects.requireNonNull(table, "The table is null.");
+
+        if (table.getType() != MAGIC) {
+            throw new IOException("Not an ALT distance table.");
+        }
+
+        ByteBuffer metadata = table.getMetadata();
+
+        try {
+            int nodeCount = metadata.getInt();
+            int landmarkCount = metadata.getInt();
+
+            if (nodeCount <= 0 ||
+                    landmarkCount <= 0 ||
+                    landmarkCount > nodeCount ||
+                    table.getPayloadLength() !=
+                    16L * nodeCount * landmarkCount) {
+                throw new IOException("Malformed ALT distance table header.");
+            }
+
+            int[] landmarks = new int[landmarkCount];
+
+            for (int i = 0; i < landmarkCount; ++i) {
+                landmarks[i] = metadata.getInt();
+            }
+
+            return new AltHeuristicFunction<>(nodeCount, landmarks, table);
+        } catch (BufferUnderflowException ex) {
+            throw new IOException("Malformed ALT distance table header.", ex);
+        }
+    }
+
+    /**
+     * Reads the landmarks and the distance tables written by
+     * {@link #save(OutputStream)}. The stream is not closed.
+     *
+     * @param <N> the actual graph node type.
+     * @param in  the stream to read from.
+     * @return the heuristic function.
+     * @throws IOException if an I/O error occurs or the data is malformed.
+     */
+    public static <N extends AbstractGraphNode<N>> AltHeuristicFunction<N>
+        load(InputStream in) throws IOException {
+        DataInputStream dis = new DataInputStream(new BufferedInputStream(in));
+
+        if (dis.readInt() != MAGIC) {
+            throw new IOException("Not an ALT distance table.");
+        }
+
+        int nodeCount = dis.readInt();
+        int landmarkCount = dis.readInt();
+
+        if (nodeCount <= 0 ||
+                landmarkCount <= 0 ||
+                landmarkCount > nodeCount ||
+                (long) nodeCount * landmarkCount > Integer.MAX_VALUE) {
+            throw new IOException("Malformed ALT distance table header.");
+        }
+
+        int[] landmarks = new int[landmarkCount];
+
+        for (int i = 0; i < landmarkCount; ++i) {
+            landmarks[i] = dis.readInt();
+        }
+
+        double[] fromLandmark = new double[nodeCount * landmarkCount];
+        double[] toLandmark = new double[nodeCount * landmarkCount];
+
+        for (int i = 0; i < fromLandmark.length; ++i) {
+            fromLandmark[i] = dis.readDouble();
+        }
+
+        for (int i = 0; i < toLandmark.length; ++i) {
+            toLandmark[i] = dis.readDouble();
+        }
+
+        return new AltHeuristicFunction<>(nodeCount,
+                                          landmarks,
+                                          fromLandmark,
+                                          toLandmark);
+    }
+
+    /**
+     * Returns the ALT lower bound of the distance from the node with ID
+     * {@code source} to the node with ID {@code target}. The bounds involving
+     * unreachable landmarks are ignored.
+     */
+    private double estimate(int source, int target) {
+        if (mappedTable != null) {
+            return estimateMapped(source, target);
+        }
+
+        int k = landmarks.length;
+        int s = source * k;
+        int t = target * k;
+        double best = 0.0;
+
+        for (int i = 0; i < k; ++i) {
+            double forward = fromLandmark[t + i] - fromLandmark[s + i];
+            double backward = toLandmark[s + i] - toLandmark[t + i];
+
+            // Comparisons with NaNs (infinity minus infinity) are false.
+            if (forward > best && forward != Double.POSITIVE_INFINITY) {
+                best = forward;
+            }
+
+            if (backward > best && backward != Double.POSITIVE_INFINITY) {
+                best = backward;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Does the same as {@link #estimate(int, int)} reading the mapped
+     * tables.
+     */
+    private double estimateMapped(int source, int target) {
+        int k = landmarks.length;
+        long s = (long) source * k;
+        long t = (long) target * k;
+        double best = 0.0;
+
+        for (int i = 0; i < k; ++i) {
+            double forward = getFromLandmark(t + i) - getFromLandmark(s + i);
+            double backward = getToLandmark(s + i) - getToLandmark(t + i);
+
+            if (forward > best && forward != Double.POSITIVE_INFINITY) {
+                best = forward;
+            }
+
+            if (backward > best && backward != Double.POSITIVE_INFINITY) {
+                best = backward;
+            }
+        }
+
+        return best;
+    }
+
+    private double getFromLandmark(long index) {
+        if (fromLandmark != null) {
+            return fromLandmark[(int) index];
+        }
+
+        return mappedTable.getDouble(8L * index);
+    }
+
+    private double getToLandmark(long index) {
+        if (toLandmark != null) {
+            return toLandmark[(int) index];
+        }
+
+        return mappedTable.getDouble(
+                8L * ((long) nodeCount * landmarks.length + index));
+    }
+
+    /**
+     * Returns the array mapping the node IDs to the nodes.
+     */
+    private static <N extends AbstractGraphNode<N>> Object[]
+        indexNodes(Collection<N> nodes) {
+        Object[] nodeArray = new Object[nodes.size()];
+
+        for (N node : nodes) {
+            int id = node.getId();
+
+            if (id < 0 || id >= nodeArray.length || nodeArray[id] != null) {
+                throw new IllegalArgumentException(
+                        "The node IDs must be 0, 1, ..., " +
+                        (nodeArray.length - 1) + "; bad ID: " + id + ".");
+            }
+
+            nodeArray[id] = node;
+        }
+
+        return nodeArray;
+    }
+
+    /**
+     * Selects the landmarks and fills the distance tables.
+     *
+     * @param <N> the actual graph node type.
+     */
+    private static final class Preprocessor<N extends AbstractGraphNode<N>> {
+
+        private final AltHeuristicFunction<N> alt;
+        private final Object[] nodes;
+        private final AbstractGraphWeightFunction<N> weightFunction;
+        private final Random random;
+        private final IntDaryHeap OPEN;
+        private final double[] distance;
+        private final int[] parent;
+
+        /**
+         * The settled nodes in the order they were settled by the last
+         * search.
+         */
+        private final int[] order;
+        private int settledCount;
+
+        Preprocessor(AltHeuristicFunction<N> alt,
+                     Object[] nodes,
+                     AbstractGraphWeightFunction<N> weightFunction,
+                     Random random) {
+            this.alt = alt;
+            this.nodes = nodes;
+            this.weightFunction = weightFunction;
+            this.random = random;
+            this.OPEN = new IntDaryHeap(nodes.length);
+            this.distance = new double[nodes.length];
+            this.parent = new int[nodes.length];
+            this.order = new int[nodes.length];
+        }
+
+        void run(LandmarkSelection selection) {
+            int k = alt.landmarks.length;
+            boolean[] isLandmark = new boolean[nodes.length];
+            double[] minimumDistance = null;
+
+            if (selection == LandmarkSelection.FARTHEST) {
+                minimumDistance = new double[nodes.length];
+                Arrays.fill(minimumDistance, Double.POSITIVE_INFINITY);
+            }
+
+            for (int i = 0; i < k; ++i) {
+                int landmark;
+
+                switch (selection) {
+                    case FARTHEST:
+                        landmark = selectFarthest(i, minimumDistance);
+                        break;
+
+                    case AVOID:
+                        landmark = selectAvoid(i, isLandmark);
+                        break;
+
+                    default:
+                        landmark = -1;
+                        break;
+                }
+
+                if (landmark < 0 || isLandmark[landmark]) {
+                    landmark = randomNonLandmark(isLandmark);
+                }
+
+                isLandmark[landmark] = true;
+                alt.landmarks[i] = landmark;
+
+                dijkstra(landmark, false);
+                storeDistances(alt.toLandmark, i);
+
+                dijkstra(landmark, true);
+                storeDistances(alt.fromLandmark, i);
+
+                if (minimumDistance != null) {
+                    for (int v = 0; v < nodes.length; ++v) {
+                        minimumDistance[v] = Math.min(minimumDistance[v],
+                                                      distance[v]);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Returns the node farthest from the landmarks chosen so far. The
+         * first landmark is the node farthest from a random node.
+         */
+        private int selectFarthest(int chosen, double[] minimumDistance) {
+            if (chosen == 0) {
+                dijkstra(random.nextInt(nodes.length), true);
+                return order[settledCount - 1];
+            }
+
+            int best = -1;
+
+            for (int v = 0; v < nodes.length; ++v) {
+                double d = minimumDistance[v];
+
+                if (d != Double.POSITIVE_INFINITY &&
+                        (best < 0 || d > minimumDistance[best])) {
+                    best = v;
+                }
+            }
+
+            return best;
+        }
+
+        /**
+         * Grows a shortest path tree from a random root, weighs each node by
+         * how much its distance from the root exceeds the current lower
+         * bound, and descends from the root towards the heaviest subtree that
+         * contains no landmark. The leaf reached is the new landmark.
+         */
+        private int selectAvoid(int chosen, boolean[] isLandmark) {
+            int root = randomNonLandmark(isLandmark);
+            dijkstra(root, true);
+
+            double[] size = new double[nodes.length];
+            boolean[] covered = new boolean[nodes.length];
+            int[] heaviestChild = new int[nodes.length];
+            Arrays.fill(heaviestChild, -1);
+
+            for (int i = settledCount - 1; i >= 0; --i) {
+                int v = order[i];
+                double bound = chosen == 0 ? 0.0 : alt.estimate(root, v);
+                size[v] += distance[v] - bound;
+
+                if (isLandmark[v] || covered[v]) {
+                    covered[v] = true;
+                    size[v] = 0.0;
+                }
+
+                int p = parent[v];
+
+                if (p >= 0) {
+                    covered[p] |= covered[v];
+                    size[p] += size[v];
+
+                    if (heaviestChild[p] < 0 ||
+                            size[v] > size[heaviestChild[p]]) {
+                        heaviestChild[p] = v;
+                    }
+                }
+            }
+
+            if (covered[root] && size[root] == 0.0) {
+                return -1;
+            }
+
+            int v = root;
+
+            while (heaviestChild[v] >= 0 && size[heaviestChild[v]] > 0.0) {
+                v = heaviestChild[v];
+            }
+
+            return v;
+        }
+
+        private int randomNonLandmark(boolean[] isLandmark) {
+            int v = random.nextInt(nodes.length);
+
+            while (isLandmark[v]) {
+                v = (v + 1) % nodes.length;
+            }
+
+            return v;
+        }
+
+        private void storeDistances(double[] table, int landmarkIndex) {
+            int k = alt.landmarks.length;
+
+            for (int v = 0; v < nodes.length; ++v) {
+                table[v * k + landmarkIndex] = distance[v];
+            }
+        }
+
+        /**
+         * Runs Dijkstra's algorithm from {@code source} over the arcs (if
+         * {@code forward} is set) or over the reversed arcs, and stores the
+         * distances, the parents and the settling order.
+         */
+        private void dijkstra(int source, boolean forward) {
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            Arrays.fill(parent, -1);
+            settledCount = 0;
+            OPEN.clear();
+            OPEN.add(source, 0.0);
+            distance[source] = 0.0;
+
+            while (!OPEN.isEmpty()) {
+                int current = OPEN.extractMinimum();
+                order[settledCount++] = current;
+                N node = (N) nodes[current];
+
+                for (N neighbor : forward ? node.children() : node.parents()) {
+                    int id = neighbor.getId();
+                    double tentativeDistance = distance[current] +
+                            (forward ? weightFunction.get(node, neighbor) :
+                                       weightFunction.get(neighbor, node));
+
+                    if (distance[id] > tentativeDistance) {
+                        if (distance[id] == Double.POSITIVE_INFINITY) {
+                            OPEN.add(id, tentativeDistance);
+                        } else {
+                            OPEN.decreasePriority(id, tentativeDistance);
+                        }
+
+                        distance[id] = tentativeDistance;
+                        parent[id] = current;
+                    }
+                }
+            }
+        }
+    }
+}
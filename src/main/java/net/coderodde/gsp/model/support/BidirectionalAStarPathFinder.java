@@ -2,18 +2,17 @@ package net.coderodde.gsp.model.support;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.AbstractHeuristicFunction;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
-import net.coderodde.gsp.model.queue.support.DaryHeap;
 
 public class BidirectionalAStarPathFinder<N extends AbstractGraphNode<N>> 
 extends AbstractPathFinder<N> {
@@ -21,14 +20,8 @@ extends AbstractPathFinder<N> {
     private MinimumPriorityQueue<N> OPENA;
     private MinimumPriorityQueue<N> OPENB;
     
-    private Set<N> CLOSEDA;
-    private Set<N> CLOSEDB;
-    
-    private Map<N, N> PARENTSA;
-    private Map<N, N> PARENTSB;
-    
-    private Map<N, Double> DISTANCEA;
-    private Map<N, Double> DISTANCEB;
+    private AbstractSearchState<N> STATEA;
+    private AbstractSearchState<N> STATEB;
     
     private N source;
     private N target;
@@ -38,6 +31,7 @@ extends AbstractPathFinder<N> {
     
     private double bestPathLength;
     private N touchNode;
+    private SearchMonitor monitor;
     
     public BidirectionalAStarPathFinder(
             AbstractGraphWeightFunction<N> weightFunction,
@@ -53,18 +47,17 @@ extends AbstractPathFinder<N> {
             N source,
             N target,
             AbstractGraphWeightFunction<N> weightFunction,
-            AbstractHeuristicFunction<N> heuristicFunction) {
-        OPENA = getQueue() == null ? new DaryHeap<>() : getQueue().spawn();
-        OPENB = OPENA.spawn();
+            AbstractHeuristicFunction<N> heuristicFunction,
+            MinimumPriorityQueue<N> OPENA,
+            MinimumPriorityQueue<N> OPENB,
+            AbstractSearchState<N> STATEA,
+            AbstractSearchState<N> STATEB,
+            SearchMonitor monitor) {
+        this.OPENA = OPENA;
+        this.OPENB = OPENB;
         
-        CLOSEDA = new HashSet<>();
-        CLOSEDB = new HashSet<>();
-        
-        PARENTSA = new HashMap<>();
-        PARENTSB = new HashMap<>();
-        
-        DISTANCEA = new HashMap<>();
-        DISTANCEB = new HashMap<>();
+        this.STATEA = STATEA;
+        this.STATEB = STATEB;
         
         this.source = source;
         this.target = target;
@@ -73,22 +66,37 @@ extends AbstractPathFinder<N> {
         
         this.bestPathLength = Double.POSITIVE_INFINITY;
         this.touchNode = null;
+        this.monitor = monitor;
     }
     
     @Override
     public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+    
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
         Objects.requireNonNull(source, "The source node is null.");
         Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
         
-        return new BidirectionalAStarPathFinder(source, 
-                                                target,
-                                                weightFunction,
-                                                heuristicFunction).search();
+        return monitor.getResult(
+                new BidirectionalAStarPathFinder<>(
+                        source,
+                        target,
+                        weightFunction,
+                        heuristicFunction,
+                        monitor.track(obtainQueue(0)),
+                        monitor.track(obtainQueue(1)),
+                        monitor.track(obtainSearchState(0)),
+                        monitor.track(obtainSearchState(1)),
+                        monitor).search(),
+                weightFunction);
     }
     
     private void updateForwardFrontier(N node, double nodeScore) {
-        if (CLOSEDB.contains(node)) {
-            double pathLength = DISTANCEB.get(node) + nodeScore;
+        if (STATEB.isClosed(node)) {
+            double pathLength = STATEB.getDistance(node) + nodeScore;
             
             if (bestPathLength > pathLength) {
                 bestPathLength = pathLength;
@@ -98,8 +106,8 @@ extends AbstractPathFinder<N> {
     }
     
     private void updateBackwardFrontier(N node, double nodeScore) {
-        if (CLOSEDA.contains(node)) {
-            double pathLength = DISTANCEA.get(node) + nodeScore;
+        if (STATEA.isClosed(node)) {
+            double pathLength = STATEA.getDistance(node) + nodeScore;
             
             if (bestPathLength > pathLength) {
                 bestPathLength = pathLength;
@@ -110,23 +118,21 @@ extends AbstractPathFinder<N> {
     
     private void expandForwardFrontier() {
         N current = OPENA.extractMinimum();
-        CLOSEDA.add(current);
+        STATEA.close(current);
         
         for (N child : current.children()) {
-            if (!CLOSEDA.contains(child)) {
-                double tentativeScore = DISTANCEA.get(current) + 
+            if (!STATEA.isClosed(child)) {
+                double tentativeScore = STATEA.getDistance(current) + 
                                         weightFunction.get(current, child);
                 
-                if (!DISTANCEA.containsKey(child)) {
-                    DISTANCEA.put(child, tentativeScore);
-                    PARENTSA.put(child, current);
+                if (!STATEA.isReached(child)) {
+                    STATEA.put(child, tentativeScore, current);
                     OPENA.add(child, 
                               tentativeScore + heuristicFunction
                               .estimate(child, target));
                     updateForwardFrontier(child, tentativeScore);
-                } else if (DISTANCEA.get(child) > tentativeScore) {
-                    DISTANCEA.put(child, tentativeScore);
-                    PARENTSA.put(child, current);
+                } else if (STATEA.getDistance(child) > tentativeScore) {
+                    STATEA.put(child, tentativeScore, current);
                     OPENA.decreasePriority(child,
                                            tentativeScore + heuristicFunction
                                            .estimate(child, target));
@@ -138,26 +144,24 @@ extends AbstractPathFinder<N> {
     
     private void expandBackwardFrontier() {
         N current = OPENB.extractMinimum();
-        CLOSEDB.add(current);
+        STATEB.close(current);
         
         for (N parent : current.parents()) {
-            if (!CLOSEDB.contains(parent)) {
-                double tentativeScore = DISTANCEB.get(current) + 
+            if (!STATEB.isClosed(parent)) {
+                double tentativeScore = STATEB.getDistance(current) + 
                                         weightFunction.get(parent, current);
                 
-                if (!DISTANCEB.containsKey(parent)) {
-                    DISTANCEB.put(parent, tentativeScore);
-                    PARENTSB.put(parent, current);
+                if (!STATEB.isReached(parent)) {
+                    STATEB.put(parent, tentativeScore, current);
                     OPENB.add(parent, 
                               tentativeScore + heuristicFunction
-                              .estimate(parent, source));
+                              .estimate(source, parent));
                     updateBackwardFrontier(parent, tentativeScore);
-                } else if (DISTANCEB.get(parent) > tentativeScore) {
-                    DISTANCEB.put(parent, tentativeScore);
-                    PARENTSB.put(parent, current);
+                } else if (STATEB.getDistance(parent) > tentativeScore) {
+                    STATEB.put(parent, tentativeScore, current);
                     OPENB.decreasePriority(parent, 
                                            tentativeScore + heuristicFunction
-                                           .estimate(parent, source));
+                                           .estimate(source, parent));
                     updateBackwardFrontier(parent, tentativeScore);
                 }
             }
@@ -176,30 +180,30 @@ extends AbstractPathFinder<N> {
         OPENA.add(source, 0.0);
         OPENB.add(target, 0.0);
         
-        PARENTSA.put(source, null);
-        PARENTSB.put(target, null);
-        
-        DISTANCEA.put(source, 0.0);
-        DISTANCEB.put(target, 0.0);
+        STATEA.put(source, 0.0, null);
+        STATEB.put(target, 0.0, null);
         
         while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
             if (touchNode != null) {
                 N minA = OPENA.min();
                 N minB = OPENB.min();
                 
-                double distanceA = DISTANCEA.get(minA) + 
+                double distanceA = STATEA.getDistance(minA) + 
                                    heuristicFunction.estimate(minA, target);
                 
-                double distanceB = DISTANCEB.get(minB) + 
-                                   heuristicFunction.estimate(minB, source);
+                double distanceB = STATEB.getDistance(minB) + 
+                                   heuristicFunction.estimate(source, minB);
                 
                 if (bestPathLength <= Math.max(distanceA, distanceB)) {
-                    return tracebackPath(touchNode, PARENTSA, PARENTSB);
+                    return tracebackPath(touchNode, STATEA, STATEB);
                 }
             }
             
-            if (OPENA.size() + CLOSEDA.size() <
-                OPENB.size() + CLOSEDB.size()) {
+            if (monitor.expand()) {
+                break;
+            }
+            
+            if (STATEA.size() < STATEB.size()) {
                 expandForwardFrontier();
             } else {
                 expandBackwardFrontier();
@@ -0,0 +1,235 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractSearchState;
+
+/**
+ * This class implements a search state that is written by a single thread
+ * while any amount of other threads read it, as the two searches of a
+ * parallel bidirectional search read each other's distances.
+ * <p>
+ * The state is an open-addressing hash table with linear probing. The
+ * distances are stored as primitive bits, the sign bit marking the closed
+ * nodes, so that a reader obtains both in a single volatile read and nothing
+ * is boxed; hence the distances must be non-negative. The writer stores the
+ * distance of a new node before the node itself, so a reader finding a node
+ * always finds its distance. On growth,
+ * the writer rehashes the entries into new arrays and publishes them with a
+ * volatile write; the old arrays are not written to afterwards, so a reader
+ * still probing them sees a consistent, if slightly older, snapshot.
+ * <p>
+ * The writes are volatile, so a write followed by a read of another state
+ * by the same thread is never reordered: of two threads each writing a node
+ * to its own state and then looking it up in the other's state, at least
+ * one finds the node. The parent nodes are written and read by the writer
+ * only, and are safe to read by other threads once the writer has been
+ * joined.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class ConcurrentSearchState<N extends AbstractGraphNode<N>>
+extends AbstractSearchState<N> {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The bit marking a closed node in the distance bits.
+     */
+    private static final long CLOSED_BIT = Long.MIN_VALUE;
+
+    /**
+     * The arrays of the hash table. Replaced as a whole on growth.
+     */
+    private static final class Table {
+
+        final AtomicReferenceArray<Object> nodes;
+        final AtomicLongArray distances;
+        final Object[] parents;
+        final int mask;
+
+        Table(int capacity) {
+            this.nodes = new AtomicReferenceArray<>(capacity);
+            this.distances = new AtomicLongArray(capacity);
+            this.parents = new Object[capacity];
+            this.mask = capacity - 1;
+        }
+
+        /**
+         * Returns the index of the slot of {@code node}, or of the empty
+         * slot where it would go.
+         */
+        int indexOf(Object node) {
+            int index = hash(node) & mask;
+            Object current;
+
+            while ((current = nodes.get(index)) != null &&
+                    !current.equals(node)) {
+                index = (index + 1) & mask;
+            }
+
+            return index;
+        }
+    }
+
+    private volatile Table table;
+
+    /**
+     * The amount of nodes in the table. Written by the writer only.
+     */
+    private volatile int size;
+
+    private final int initialCapacity;
+
+    public ConcurrentSearchState() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a search state capable of holding {@code capacity} nodes
+     * without growing.
+     *
+     * @param capacity the initial capacity.
+     */
+    public ConcurrentSearchState(int capacity) {
+        this.initialCapacity = tableCapacity(capacity);
+        this.table = new Table(initialCapacity);
+    }
+
+    @Override
+    public void reset() {
+        table = new Table(initialCapacity);
+        size = 0;
+    }
+
+    @Override
+    public boolean isReached(N node) {
+        Table t = table;
+        return t.nodes.get(t.indexOf(node)) != null;
+    }
+
+    /**
+     * {@inheritDoc} Returns {@link Double#POSITIVE_INFINITY} if
+     * {@code node} is not reached.
+     */
+    @Override
+    public double getDistance(N node) {
+        Table t = table;
+        int index = t.indexOf(node);
+
+        if (t.nodes.get(index) == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        return Double.longBitsToDouble(t.distances.get(index) & ~CLOSED_BIT);
+    }
+
+    /**
+     * {@inheritDoc} To be called by the writer only, or once the writer has
+     * been joined.
+     */
+    @Override
+    public N getParent(N node) {
+        Table t = table;
+        return (N) t.parents[t.indexOf(node)];
+    }
+
+    @Override
+    public void put(N node, double distance, N parent) {
+        Table t = table;
+        int index = t.indexOf(node);
+
+        if (t.nodes.get(index) == null) {
+            if (2 * (size + 1) > t.nodes.length()) {
+                t = grow();
+                index = t.indexOf(node);
+            }
+
+            t.parents[index] = parent;
+            t.distances.set(index, Double.doubleToLongBits(distance));
+            t.nodes.set(index, node);
+            size = size + 1;
+        } else {
+            t.parents[index] = parent;
+            t.distances.set(index,
+                            Double.doubleToLongBits(distance) |
+                            (t.distances.get(index) & CLOSED_BIT));
+        }
+    }
+
+    @Override
+    public boolean isClosed(N node) {
+        Table t = table;
+        int index = t.indexOf(node);
+        return t.nodes.get(index) != null &&
+               (t.distances.get(index) & CLOSED_BIT) != 0L;
+    }
+
+    @Override
+    public void close(N node) {
+        Table t = table;
+        int index = t.indexOf(node);
+
+        if (t.nodes.get(index) == null) {
+            put(node, Double.POSITIVE_INFINITY, null);
+            t = table;
+            index = t.indexOf(node);
+        }
+
+        t.distances.set(index, t.distances.get(index) | CLOSED_BIT);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public AbstractSearchState<N> spawn() {
+        return new ConcurrentSearchState<>(initialCapacity / 2);
+    }
+
+    private Table grow() {
+        Table oldTable = table;
+        Table newTable = new Table(2 * oldTable.nodes.length());
+
+        for (int i = 0; i < oldTable.nodes.length(); ++i) {
+            Object node = oldTable.nodes.get(i);
+
+            if (node != null) {
+                int index = newTable.indexOf(node);
+                newTable.parents[index] = oldTable.parents[i];
+                newTable.distances.set(index, oldTable.distances.get(i));
+                newTable.nodes.set(index, node);
+            }
+        }
+
+        table = newTable;
+        return newTable;
+    }
+
+    private static int hash(Object node) {
+        int h = node.hashCode() * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the smallest power of two holding {@code capacity} nodes at
+     * the load factor of one half.
+     */
+    private static int tableCapacity(int capacity) {
+        int tableCapacity = 2;
+
+        while (tableCapacity < 2 * capacity && tableCapacity < (1 << 30)) {
+            tableCapacity <<= 1;
+        }
+
+        return tableCapacity;
+    }
+}
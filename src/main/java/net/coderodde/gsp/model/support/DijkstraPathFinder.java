@@ -1,18 +1,17 @@
 package net.coderodde.gsp.model.support;
 
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
 import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
-import net.coderodde.gsp.model.queue.support.DaryHeap;
 
 /**
  * This class implements the famous Dijkstra's shortest path algorithm.
@@ -25,10 +24,9 @@ public class DijkstraPathFinder<N extends AbstractGraphNode<N>>
 extends AbstractPathFinder<N> {
 
     private MinimumPriorityQueue<N> OPEN;
-    private Set<N> CLOSED;
-    private Map<N, N> PARENTS;
-    private Map<N, Double> DISTANCE;
+    private AbstractSearchState<N> STATE;
     private N target;
+    private SearchMonitor monitor;
     private final AbstractGraphWeightFunction<N> weightFunction;
     
     public DijkstraPathFinder(AbstractGraphWeightFunction<N> weightFunction) {
@@ -40,15 +38,16 @@ extends AbstractPathFinder<N> {
     private DijkstraPathFinder(N source,
                                N target,
                                AbstractGraphWeightFunction<N> weightFunction,
-                               GraphSearchListener<N> listener) {
-        OPEN = getQueue() == null ? new DaryHeap<>() : getQueue().spawn();
-        CLOSED = new HashSet<>();
-        PARENTS = new HashMap<>();
-        DISTANCE = new HashMap<>();
+                               GraphSearchListener<N> listener,
+                               MinimumPriorityQueue<N> OPEN,
+                               AbstractSearchState<N> STATE,
+                               SearchMonitor monitor) {
+        this.OPEN = OPEN;
+        this.STATE = STATE;
+        this.monitor = monitor;
         
         OPEN.add(source, 0.0);
-        PARENTS.put(source, null);
-        DISTANCE.put(source, 0.0);
+        STATE.put(source, 0.0, null);
         
         this.target = target;
         this.weightFunction = weightFunction;
@@ -56,22 +55,22 @@ extends AbstractPathFinder<N> {
     }
     
     private void expand(N current) {
+        double currentDistance = STATE.getDistance(current);
+        
         for (N child : current.children()) {
-            if (!CLOSED.contains(child)) {
-                double tentativeCost = DISTANCE.get(current) + 
+            if (!STATE.isClosed(child)) {
+                double tentativeCost = currentDistance + 
                                        weightFunction.get(current, child);
 
-                if (!DISTANCE.containsKey(child)) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
+                if (!STATE.isReached(child)) {
+                    STATE.put(child, tentativeCost, current);
                     OPEN.add(child, tentativeCost);
                     
                     if (listener != null) {
                         listener.reached(child);
                     }
-                } else if (DISTANCE.get(child) > tentativeCost) {
-                    DISTANCE.put(child, tentativeCost);
-                    PARENTS.put(child, current);
+                } else if (STATE.getDistance(child) > tentativeCost) {
+                    STATE.put(child, tentativeCost, current);
                     OPEN.decreasePriority(child, tentativeCost);
                 }
             }
@@ -86,18 +85,26 @@ extends AbstractPathFinder<N> {
         while (!OPEN.isEmpty()) {
             N current = OPEN.extractMinimum();
             
+            if (STATE.isClosed(current)) {
+                // A stale copy left in the queue by lazy deletion.
+                continue;
+            }
+            
             if (current.equals(target)) {
-                List<N> path = tracebackPath(current, PARENTS);
-                System.out.println(listener);
+                List<N> path = tracebackPath(current, STATE);
                 
                 if (listener != null) {
                     listener.done(path);
                 }
                 
-                return tracebackPath(current, PARENTS);
+                return path;
             }
             
-            CLOSED.add(current);
+            if (monitor.expand()) {
+                break;
+            }
+            
+            STATE.close(current);
             
             if (listener != null) {
                 listener.closed(current);
@@ -117,11 +124,30 @@ extends AbstractPathFinder<N> {
     
     @Override
     public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+    
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
         Objects.requireNonNull(source, "The source node is null.");
         Objects.requireNonNull(target, "The target node is null.");
-        return new DijkstraPathFinder(source, target, weightFunction, super.listener).search();
+        SearchMonitor monitor = new SearchMonitor(limits, this);
+        return monitor.getResult(
+                new DijkstraPathFinder<>(source, 
+                                         target, 
+                                         weightFunction, 
+                                         listener,
+                                         monitor.track(obtainQueue(0)),
+                                         monitor.track(obtainSearchState(0)),
+                                         monitor).search(),
+                weightFunction);
     }
 
+    @Override
+    protected boolean supportsLazyDeletion() {
+        return true;
+    }
+    
     @Override
     public String humanReadableName() {
         return "Dijkstra's algorithm";
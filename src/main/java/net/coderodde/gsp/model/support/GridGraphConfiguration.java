@@ -1,11 +1,13 @@
 package net.coderodde.gsp.model.support;
 
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
+import java.util.BitSet;
 
 /**
- * This class implements a grid graph configuration object.
+ * This class implements a grid graph configuration object. The walls are 
+ * stored as a bitset indexed by node IDs, so the node IDs of a grid should be
+ * dense. Each change to the configuration or to the edges of its nodes
+ * increments a modification count, which tells the nodes when to recompute
+ * their cached neighbour lists.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Dec 22, 2015)
@@ -14,34 +16,45 @@ public class GridGraphConfiguration {
    
     private boolean allowDiagonals = true;
     private boolean crossCorners = true;
-    private final Set<GridGraphNode> wallNodeSet = new LinkedHashSet<>();
+    private final BitSet walls = new BitSet();
+    private int modificationCount;
     
     public void markAsWall(GridGraphNode node) {
-        wallNodeSet.add(node);
+        walls.set(node.getId());
+        ++modificationCount;
     }
     
     public void unmarkAsWall(GridGraphNode node) {
-        wallNodeSet.remove(node);
+        walls.clear(node.getId());
+        ++modificationCount;
     }
     
     public boolean isWallNode(GridGraphNode node) {
-        return wallNodeSet.contains(node);
+        return walls.get(node.getId());
     }
     
-    public Set<GridGraphNode> getWallNodeSet() {
-        return Collections.<GridGraphNode>unmodifiableSet(wallNodeSet);
+    /**
+     * Returns the amount of wall nodes.
+     * 
+     * @return the amount of wall nodes.
+     */
+    public int getWallCount() {
+        return walls.cardinality();
     }
     
     public void clear() {
-        wallNodeSet.clear();
+        walls.clear();
+        ++modificationCount;
     }
     
     public void setAllowDiagonals(boolean allowDiagonals) {
         this.allowDiagonals = allowDiagonals;
+        ++modificationCount;
     }
     
     public void setCrossCorners(boolean crossCorners) {
         this.crossCorners = crossCorners;
+        ++modificationCount;
     }
     
     public boolean diagonalsAllowed() {
@@ -51,4 +64,12 @@ public class GridGraphConfiguration {
     public boolean crossingCornersAllowed() {
         return crossCorners;
     }
+    
+    int getModificationCount() {
+        return modificationCount;
+    }
+    
+    void markModified() {
+        ++modificationCount;
+    }
 }
@@ -2,11 +2,14 @@ package net.coderodde.gsp.model.support;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import net.coderodde.gsp.model.AbstractGraphNode;
 
 /**
- * This class implements a grid graph node.
+ * This class implements a grid graph node. The list of passable neighbours is
+ * cached and recomputed only after the configuration or the edges change, so
+ * expanding a node does not allocate.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Dec 21, 2015)
@@ -28,6 +31,11 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     
     private final GridGraphConfiguration configuration;
     
+    /**
+     * The cached neighbour list, or {@code null} if not yet computed.
+     */
+    private volatile Neighbors neighbors;
+    
     public GridGraphNode(int id, 
                          int x, 
                          int y, 
@@ -46,7 +54,58 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
         return y;
     }
     
+    GridGraphConfiguration getConfiguration() {
+        return configuration;
+    }
+    
+    /**
+     * Returns the node at the offset {@code (dx, dy)} regardless of whether
+     * it is a wall, or {@code null} if there is no such node. Both offsets
+     * must be within {@code -1, 0, 1}. If a diagonal link is not set, the 
+     * diagonal node is looked up through the horizontal neighbour.
+     * 
+     * @param dx the horizontal offset.
+     * @param dy the vertical offset; positive values point to the south.
+     * @return the neighbour node or {@code null}.
+     */
+    GridGraphNode getNeighbor(int dx, int dy) {
+        GridGraphNode horizontal;
+        
+        switch (dx) {
+            case -1:
+                horizontal = west;
+                break;
+                
+            case 1:
+                horizontal = east;
+                break;
+                
+            default:
+                return dy < 0 ? north : (dy > 0 ? south : this);
+        }
+        
+        if (dy == 0) {
+            return horizontal;
+        }
+        
+        GridGraphNode diagonal;
+        
+        if (dx < 0) {
+            diagonal = dy < 0 ? northWest : southWest;
+        } else {
+            diagonal = dy < 0 ? northEast : southEast;
+        }
+        
+        if (diagonal != null || horizontal == null) {
+            return diagonal;
+        }
+        
+        return dy < 0 ? horizontal.north : horizontal.south;
+    }
+    
     public void setNorth(GridGraphNode north) {
+        configuration.markModified();
+        
         if (north == null) {
             if (this.north != null) {
                 this.north.south = null;
@@ -61,6 +120,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setEast(GridGraphNode east) {
+        configuration.markModified();
+        
         if (east == null) {
             if (this.east != null) {
                 this.east.west = null;
@@ -75,6 +136,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setSouth(GridGraphNode south) {
+        configuration.markModified();
+        
         if (south == null) {
             if (this.south != null) {
                 this.south.north = null;
@@ -89,6 +152,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setWest(GridGraphNode west) {
+        configuration.markModified();
+        
         if (west == null) {
             if (this.west != null) {
                 this.west.east = null;
@@ -103,6 +168,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setNorthEast(GridGraphNode northEast) {
+        configuration.markModified();
+        
         if (northEast == null) {
             if (this.northEast != null) {
                 this.northEast.southWest = null;
@@ -117,6 +184,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setSouthEast(GridGraphNode southEast) {
+        configuration.markModified();
+        
         if (southEast == null) {
             if (this.southEast != null) {
                 this.southEast.northWest = null;
@@ -131,6 +200,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setSouthWest(GridGraphNode southWest) {
+        configuration.markModified();
+        
         if (southWest == null) {
             if (this.southWest != null) {
                 this.southWest.northEast = null;
@@ -145,6 +216,8 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
     }
     
     public void setNorthWest(GridGraphNode northWest) {
+        configuration.markModified();
+        
         if (northWest == null) {
             if (this.northWest != null) {
                 this.northWest.southEast = null;
@@ -178,12 +251,12 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
 
     @Override
     public Collection<GridGraphNode> children() {
-        return gatherNeighborsIntoList();
+        return getNeighbors();
     }
 
     @Override
     public Collection<GridGraphNode> parents() {
-        return gatherNeighborsIntoList();
+        return getNeighbors();
     }
 
     @Override
@@ -203,7 +276,24 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
         setNorthWest(null);
     }
     
-    private Collection<GridGraphNode> gatherNeighborsIntoList() {
+    private List<GridGraphNode> getNeighbors() {
+        Neighbors neighbors = this.neighbors;
+        int modificationCount = configuration.getModificationCount();
+        
+        if (neighbors == null 
+                || neighbors.modificationCount != modificationCount) {
+            // The lists are immutable, so concurrent searches may race here
+            // at worst into computing the same list twice.
+            neighbors = new Neighbors(
+                    modificationCount,
+                    Collections.unmodifiableList(gatherNeighborsIntoList()));
+            this.neighbors = neighbors;
+        }
+        
+        return neighbors.list;
+    }
+    
+    private List<GridGraphNode> gatherNeighborsIntoList() {
         List<GridGraphNode> ret = new ArrayList<>(8);
        
         tryAdd(ret, north);
@@ -260,4 +350,19 @@ public class GridGraphNode extends AbstractGraphNode<GridGraphNode> {
             collection.add(node);
         }
     }
+    
+    /**
+     * Holds a neighbour list along with the modification count of the 
+     * configuration at the time the list was computed.
+     */
+    private static final class Neighbors {
+        
+        final int modificationCount;
+        final List<GridGraphNode> list;
+        
+        Neighbors(int modificationCount, List<GridGraphNode> list) {
+            this.modificationCount = modificationCount;
+            this.list = list;
+        }
+    }
 }
@@ -0,0 +1,560 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+
+/**
+ * This class implements hash distributed A* (HDA*) by Akihiro Kishimoto, Alex
+ * Fukunaga and Adi Botea. The nodes are partitioned among the worker threads
+ * by their hash codes: each worker owns the open list and the distances of
+ * its nodes, so the node data is never shared. A worker generating a node
+ * owned by another worker sends the node, its distance and its parent to the
+ * owner, which relaxes it as if it had generated the node itself. The
+ * messages are gathered into batches per owner and pushed onto lock-free
+ * stacks, one per worker; all the batches of a worker are taken at once.
+ * <p>
+ * As the workers do not expand the nodes in a globally best-first order, a
+ * closed node reached via a shorter path is reopened. The length of the
+ * shortest path found so far is shared, and the nodes whose {@code f}-value
+ * is not below it are pruned. The search ends once no worker has a node
+ * left below the bound and no message is in transit, at which point the path
+ * found is optimal if the heuristic function is admissible. The workers
+ * track this with a single counter of busy workers and messages in transit:
+ * a message is counted before it is sent and discounted after the owner has
+ * relaxed it, and an idle worker turns busy only upon a message. The search
+ * is thus over when the counter drops to zero.
+ * <p>
+ * The nodes must have a well-distributed {@code hashCode}. As a worker may
+ * receive nodes with {@code f}-values below the ones it has already
+ * extracted, monotone queues, such as {@link net.coderodde.gsp.model.queue
+ * .support.RadixHeap}, must not be used. The listener is not notified.
+ * Under {@link SearchLimits}, the expansion budget is split evenly among the
+ * workers, and a worker stopped by its monitor stops all of them.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class HashDistributedAStarPathFinder<N extends AbstractGraphNode<N>>
+extends AbstractPathFinder<N> {
+
+    /**
+     * The default maximum amount of messages in a batch.
+     */
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final AbstractGraphWeightFunction<N> weightFunction;
+    private final AbstractHeuristicFunction<N> heuristicFunction;
+    private int threadCount = Runtime.getRuntime().availableProcessors();
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public HashDistributedAStarPathFinder(
+            AbstractGraphWeightFunction<N> weightFunction,
+            AbstractHeuristicFunction<N> heuristicFunction) {
+        Objects.requireNonNull(weightFunction, "The weight function is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The heuristic function is null.");
+        this.weightFunction = weightFunction;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the amount of worker threads. Defaults to the amount of available
+     * processors.
+     *
+     * @param threadCount the amount of workers.
+     * @return this path finder.
+     */
+    public HashDistributedAStarPathFinder<N> setThreadCount(int threadCount) {
+        if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad thread count: " + threadCount + ".");
+        }
+
+        this.threadCount = threadCount;
+        return this;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the maximum amount of nodes sent to a worker at a time. Larger
+     * batches amortize the synchronization better, smaller ones keep the
+     * workers better fed. A worker sends its partial batches after as many
+     * expansions, and whenever it runs out of nodes to expand.
+     *
+     * @param batchSize the batch size.
+     * @return this path finder.
+     */
+    public HashDistributedAStarPathFinder<N> setBatchSize(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Bad batch size: " + batchSize + ".");
+        }
+
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    @Override
+    public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        Objects.requireNonNull(limits, "The search limits are null.");
+
+        if (source.equals(target)) {
+            List<N> path = new ArrayList<>(1);
+            path.add(source);
+            return new SearchMonitor(limits, this).getResult(path, 0.0);
+        }
+
+        return new Search<>(this, source, target, limits).run();
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "HDA*";
+    }
+
+    /**
+     * The state of a single search.
+     */
+    private static final class Search<N extends AbstractGraphNode<N>> {
+
+        final AbstractGraphWeightFunction<N> weightFunction;
+        final AbstractHeuristicFunction<N> heuristicFunction;
+        final N source;
+        final N target;
+        final int batchSize;
+        final Worker<N>[] workers;
+        final SearchMonitor monitor;
+
+        /**
+         * The bits of the length of the shortest path found so far. The
+         * lengths are non-negative, so their bits order as the lengths do.
+         */
+        final AtomicLong bestPathLengthBits =
+                new AtomicLong(Double.doubleToLongBits(
+                        Double.POSITIVE_INFINITY));
+
+        /**
+         * The amount of busy workers plus the amount of messages in transit.
+         */
+        final AtomicLong work;
+
+        volatile boolean finished;
+
+        Search(HashDistributedAStarPathFinder<N> finder,
+               N source,
+               N target,
+               SearchLimits limits) {
+            this.weightFunction = finder.weightFunction;
+            this.heuristicFunction = finder.heuristicFunction;
+            this.source = source;
+            this.target = target;
+            this.batchSize = finder.batchSize;
+            this.workers = new Worker[finder.threadCount];
+            this.work = new AtomicLong(workers.length);
+            this.monitor = new SearchMonitor(limits, finder);
+
+            MinimumPriorityQueue<N> queue = finder.getQueue() == null ?
+                                            new DaryHeap<>() :
+                                            finder.getQueue();
+            long maximumExpansions = limits.getMaximumExpansions();
+
+            for (int i = 0; i < workers.length; ++i) {
+                // Spread the remainder of the budget over the first workers.
+                long budget = maximumExpansions / workers.length +
+                              (i < maximumExpansions % workers.length ? 1 : 0);
+                SearchMonitor workerMonitor =
+                        monitor.fork(limits.withMaximumExpansions(budget));
+                workers[i] = new Worker<>(this,
+                                          i,
+                                          workerMonitor.track(queue.spawn()),
+                                          workerMonitor);
+            }
+        }
+
+        SearchResult<N> run() {
+            getOwner(source).relax(source,
+                                   0.0,
+                                   null);
+
+            for (Worker<N> worker : workers) {
+                worker.start();
+            }
+
+            try {
+                for (Worker<N> worker : workers) {
+                    worker.join();
+                }
+            } catch (InterruptedException ex) {
+                // Stop the workers and preserve the interrupt status for the
+                // caller.
+                finished = true;
+                Thread.currentThread().interrupt();
+                monitor.interrupt();
+                return monitor.getResult(Collections.<N>emptyList());
+            }
+
+            for (Worker<N> worker : workers) {
+                monitor.absorb(worker.monitor);
+            }
+
+            double bestPathLength = getBestPathLength();
+            List<N> path = bestPathLength == Double.POSITIVE_INFINITY ||
+                           monitor.isStopped() ?
+                           Collections.<N>emptyList() :
+                           tracebackPath();
+
+            return monitor.getResult(path, bestPathLength);
+        }
+
+        Worker<N> getOwner(N node) {
+            int hash = node.hashCode() * 0x9e3779b9;
+            hash ^= hash >>> 16;
+            return workers[(int)(((hash & 0xffffffffL) * workers.length)
+                                 >>> 32)];
+        }
+
+        double getBestPathLength() {
+            return Double.longBitsToDouble(bestPathLengthBits.get());
+        }
+
+        void updateBestPathLength(double length) {
+            long bits = Double.doubleToLongBits(length);
+            long current = bestPathLengthBits.get();
+
+            while (bits < current &&
+                    !bestPathLengthBits.compareAndSet(current, bits)) {
+                current = bestPathLengthBits.get();
+            }
+        }
+
+        /**
+         * Builds the path once all the workers are joined.
+         */
+        private List<N> tracebackPath() {
+            List<N> path = new ArrayList<>();
+            N node = target;
+
+            while (node != null) {
+                path.add(node);
+                node = getOwner(node).RECORDS.get(node).parent;
+            }
+
+            Collections.<N>reverse(path);
+            return path;
+        }
+    }
+
+    /**
+     * The best known distance and parent of a node, and whether the node is
+     * in the open list.
+     */
+    private static final class Record<N> {
+
+        double distance;
+        N parent;
+        boolean open;
+    }
+
+    /**
+     * A batch of messages. The batches sent to a worker form a stack.
+     */
+    private static final class Batch<N> {
+
+        final Object[] nodes;
+        final double[] distances;
+        final Object[] parents;
+        int size;
+        Batch<N> next;
+
+        Batch(int capacity) {
+            this.nodes = new Object[capacity];
+            this.distances = new double[capacity];
+            this.parents = new Object[capacity];
+        }
+    }
+
+    private static final class Worker<N extends AbstractGraphNode<N>>
+    extends Thread {
+
+        private final Search<N> search;
+        private final int index;
+        private final MinimumPriorityQueue<N> OPEN;
+        private final Map<N, Record<N>> RECORDS = new HashMap<>();
+        private final SearchMonitor monitor;
+
+        /**
+         * The batches sent to this worker.
+         */
+        private final AtomicReference<Batch<N>> inbox =
+                new AtomicReference<>();
+
+        /**
+         * The batches being filled by this worker, one per owner.
+         */
+        private final Batch<N>[] outboxes;
+
+        /**
+         * The amount of messages in the outboxes.
+         */
+        private int unsentMessages;
+
+        private boolean idle;
+
+        Worker(Search<N> search,
+               int index,
+               MinimumPriorityQueue<N> OPEN,
+               SearchMonitor monitor) {
+            this.search = search;
+            this.index = index;
+            this.OPEN = OPEN;
+            this.monitor = monitor;
+            this.outboxes = new Batch[search.workers.length];
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            monitor.startClock();
+
+            try {
+                search();
+            } finally {
+                monitor.stopClock();
+            }
+        }
+
+        private void search() {
+            int expansionsSinceFlush = 0;
+
+            while (!search.finished) {
+                receive();
+
+                if (hasOpenNodes()) {
+                    if (monitor.expand()) {
+                        search.finished = true;
+                        return;
+                    }
+
+                    expand(OPEN.extractMinimum());
+
+                    if (++expansionsSinceFlush == search.batchSize) {
+                        expansionsSinceFlush = 0;
+                        flush();
+                    }
+                } else {
+                    expansionsSinceFlush = 0;
+                    flush();
+
+                    if (!idle) {
+                        idle = true;
+
+                        if (search.work.decrementAndGet() == 0L) {
+                            // No worker is busy and no message is in transit.
+                            search.finished = true;
+                            return;
+                        }
+                    }
+
+                    Thread.yield();
+                }
+            }
+        }
+
+        /**
+         * Checks whether any node in the open list may still lead to a path
+         * shorter than the best one found.
+         */
+        private boolean hasOpenNodes() {
+            if (OPEN.isEmpty()) {
+                return false;
+            }
+
+            N node = OPEN.min();
+            Record<N> record = RECORDS.get(node);
+
+            if (record.distance + search.heuristicFunction.estimate(
+                    node, search.target) < search.getBestPathLength()) {
+                return true;
+            }
+
+            // The bound never grows, so the open list is useless.
+            while (!OPEN.isEmpty()) {
+                RECORDS.get(OPEN.extractMinimum()).open = false;
+            }
+
+            return false;
+        }
+
+        private void receive() {
+            Batch<N> batch = inbox.getAndSet(null);
+
+            if (batch == null) {
+                return;
+            }
+
+            if (idle) {
+                // The messages keep the counter positive until discounted.
+                idle = false;
+                search.work.incrementAndGet();
+            }
+
+            long messages = 0L;
+
+            for (; batch != null; batch = batch.next) {
+                for (int i = 0; i < batch.size; ++i) {
+                    relax((N) batch.nodes[i],
+                          batch.distances[i],
+                          (N) batch.parents[i]);
+                }
+
+                messages += batch.size;
+            }
+
+            search.work.addAndGet(-messages);
+        }
+
+        private void expand(N current) {
+            Record<N> record = RECORDS.get(current);
+            record.open = false;
+
+            if (current.equals(search.target)) {
+                search.updateBestPathLength(record.distance);
+                return;
+            }
+
+            double distance = record.distance;
+            double bestPathLength = search.getBestPathLength();
+
+            for (N child : current.children()) {
+                double tentativeDistance =
+                        distance + search.weightFunction.get(current, child);
+
+                if (tentativeDistance +
+                        search.heuristicFunction.estimate(child, search.target)
+                        >= bestPathLength) {
+                    continue;
+                }
+
+                Worker<N> owner = search.getOwner(child);
+
+                if (owner == this) {
+                    relax(child, tentativeDistance, current);
+                } else {
+                    send(owner, child, tentativeDistance, current);
+                }
+            }
+        }
+
+        /**
+         * Updates the node {@code node} owned by this worker, reopening it
+         * if it is closed.
+         */
+        void relax(N node, double distance, N parent) {
+            Record<N> record = RECORDS.get(node);
+
+            if (record == null) {
+                record = new Record<>();
+                RECORDS.put(node, record);
+                monitor.generate();
+            } else if (record.distance <= distance) {
+                return;
+            } else if (!record.open) {
+                monitor.reopen();
+            }
+
+            record.distance = distance;
+            record.parent = parent;
+            double f = distance +
+                       search.heuristicFunction.estimate(node, search.target);
+
+            if (record.open) {
+                OPEN.decreasePriority(node, f);
+            } else {
+                record.open = true;
+                OPEN.add(node, f);
+            }
+
+            if (node.equals(search.target)) {
+                search.updateBestPathLength(distance);
+            }
+        }
+
+        private void send(Worker<N> owner, N node, double distance, N parent) {
+            Batch<N> batch = outboxes[owner.index];
+
+            if (batch == null) {
+                batch = new Batch<>(search.batchSize);
+                outboxes[owner.index] = batch;
+            }
+
+            int i = batch.size++;
+            batch.nodes[i] = node;
+            batch.distances[i] = distance;
+            batch.parents[i] = parent;
+            ++unsentMessages;
+
+            if (batch.size == search.batchSize) {
+                search.work.addAndGet(batch.size);
+                unsentMessages -= batch.size;
+                outboxes[owner.index] = null;
+                owner.push(batch);
+            }
+        }
+
+        private void flush() {
+            if (unsentMessages == 0) {
+                return;
+            }
+
+            // Count the messages before any of them may be discounted.
+            search.work.addAndGet(unsentMessages);
+            unsentMessages = 0;
+
+            for (int i = 0; i < outboxes.length; ++i) {
+                if (outboxes[i] != null) {
+                    search.workers[i].push(outboxes[i]);
+                    outboxes[i] = null;
+                }
+            }
+        }
+
+        private void push(Batch<N> batch) {
+            Batch<N> head;
+
+            do {
+                head = inbox.get();
+                batch.next = head;
+            } while (!inbox.compareAndSet(head, batch));
+        }
+    }
+}
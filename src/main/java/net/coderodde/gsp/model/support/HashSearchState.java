@@ -0,0 +1,73 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractSearchState;
+
+/**
+ * This class implements a search state on top of hash maps. It works with any 
+ * node type that implements {@code hashCode} and {@code equals} properly.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class HashSearchState<N extends AbstractGraphNode<N>> 
+extends AbstractSearchState<N> {
+
+    private final Map<N, Double> DISTANCE = new HashMap<>();
+    private final Map<N, N> PARENTS = new HashMap<>();
+    private final Set<N> CLOSED = new HashSet<>();
+    
+    @Override
+    public void reset() {
+        DISTANCE.clear();
+        PARENTS.clear();
+        CLOSED.clear();
+    }
+
+    @Override
+    public boolean isReached(N node) {
+        return DISTANCE.containsKey(node);
+    }
+
+    @Override
+    public double getDistance(N node) {
+        Double distance = DISTANCE.get(node);
+        return distance == null ? Double.POSITIVE_INFINITY : distance;
+    }
+
+    @Override
+    public N getParent(N node) {
+        return PARENTS.get(node);
+    }
+
+    @Override
+    public void put(N node, double distance, N parent) {
+        DISTANCE.put(node, distance);
+        PARENTS.put(node, parent);
+    }
+
+    @Override
+    public boolean isClosed(N node) {
+        return CLOSED.contains(node);
+    }
+
+    @Override
+    public void close(N node) {
+        CLOSED.add(node);
+    }
+
+    @Override
+    public int size() {
+        return DISTANCE.size();
+    }
+
+    @Override
+    public AbstractSearchState<N> spawn() {
+        return new HashSearchState<>();
+    }
+}
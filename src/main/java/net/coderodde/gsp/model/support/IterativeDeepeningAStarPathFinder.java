@@ -0,0 +1,311 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
+
+/**
+ * This class implements iterative deepening A* (IDA*). Each iteration is a
+ * depth-first search pruning the nodes whose {@code f}-value exceeds the
+ * threshold of the iteration; the next threshold is the smallest pruned
+ * {@code f}-value. The memory used is linear in the depth of the solution,
+ * as only the current path and the children of its nodes are kept.
+ * <p>
+ * The children of each node are visited in ascending order of their
+ * {@code f}-values, so that the last iteration hits the target early, and
+ * the move back to the parent of a node is pruned. Longer cycles are not
+ * detected. If an iteration prunes no node, the target is not reachable and
+ * the search returns an empty path; otherwise it gives up once the threshold
+ * exceeds the maximum threshold (unbounded by default).
+ * The listener is notified of each expanded and generated node, and of the
+ * threshold and the amount of expanded nodes of each iteration.
+ * <p>
+ * With {@link PuzzleManhattanHeuristicFunction}, the estimate of each child
+ * is computed in constant time from the estimate of its parent.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node implementation type.
+ */
+public class IterativeDeepeningAStarPathFinder<N extends AbstractGraphNode<N>>
+extends AbstractPathFinder<N> {
+
+    /**
+     * A node on the current search path along with its sorted children.
+     */
+    private static final class Frame<N> {
+
+        N node;
+        double g;
+        int childCount;
+        int nextChild;
+        Object[] children = new Object[4];
+        double[] childG = new double[4];
+        double[] childF = new double[4];
+
+        void ensureCapacity(int capacity) {
+            if (children.length < capacity) {
+                children = new Object[capacity];
+                childG = new double[capacity];
+                childF = new double[capacity];
+            }
+        }
+    }
+
+    private final AbstractGraphWeightFunction<N> weightFunction;
+    private final AbstractHeuristicFunction<N> heuristicFunction;
+    private double maximumThreshold = Double.POSITIVE_INFINITY;
+
+    // The state of a search.
+    private N target;
+    private List<Frame<N>> stack;
+    private int depth;
+    private long expandedNodes;
+    private SearchMonitor monitor;
+
+    public IterativeDeepeningAStarPathFinder(
+            AbstractGraphWeightFunction<N> weightFunction,
+            AbstractHeuristicFunction<N> heuristicFunction) {
+        Objects.requireNonNull(weightFunction, "The weight function is null.");
+        Objects.requireNonNull(heuristicFunction,
+                               "The heuristic function is null.");
+        this.weightFunction = weightFunction;
+        this.heuristicFunction = heuristicFunction;
+    }
+
+    public double getMaximumThreshold() {
+        return maximumThreshold;
+    }
+
+    /**
+     * Sets the maximum threshold. If no path within this cost exists, the
+     * search gives up and returns an empty path.
+     *
+     * @param maximumThreshold the maximum threshold.
+     * @return this path finder.
+     */
+    public IterativeDeepeningAStarPathFinder<N>
+        setMaximumThreshold(double maximumThreshold) {
+        if (Double.isNaN(maximumThreshold) || maximumThreshold < 0.0) {
+            throw new IllegalArgumentException(
+                    "Bad maximum threshold: " + maximumThreshold + ".");
+        }
+
+        this.maximumThreshold = maximumThreshold;
+        return this;
+    }
+
+    @Override
+    public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
+
+        return monitor.getResult(
+                new IterativeDeepeningAStarPathFinder<>(this, target, monitor)
+                    .search(source),
+                weightFunction);
+    }
+
+    private IterativeDeepeningAStarPathFinder(
+            IterativeDeepeningAStarPathFinder<N> finder,
+            N target,
+            SearchMonitor monitor) {
+        this.weightFunction = finder.weightFunction;
+        this.heuristicFunction = finder.heuristicFunction;
+        this.maximumThreshold = finder.maximumThreshold;
+        this.listener = finder.listener;
+        this.target = target;
+        this.monitor = monitor;
+        this.stack = new ArrayList<>();
+    }
+
+    private List<N> search(N source) {
+        if (listener != null) {
+            listener.begin();
+        }
+
+        double threshold = heuristicFunction.estimate(source, target);
+
+        for (int iteration = 0; threshold <= maximumThreshold; ++iteration) {
+            expandedNodes = 0L;
+            double nextThreshold = search(source, threshold);
+
+            if (listener != null) {
+                listener.iteration(iteration, threshold, expandedNodes);
+            }
+
+            if (monitor.isStopped()) {
+                break;
+            }
+
+            if (Double.isNaN(nextThreshold)) {
+                return done(tracebackPath());
+            }
+
+            if (nextThreshold == Double.POSITIVE_INFINITY) {
+                // Nothing was pruned, so the entire reachable part of the
+                // graph was searched without finding the target.
+                break;
+            }
+
+            threshold = nextThreshold;
+        }
+
+        return done(Collections.<N>emptyList());
+    }
+
+    /**
+     * Runs one iteration. Returns {@code NaN} if the target is found, and
+     * the smallest {@code f}-value exceeding {@code threshold} otherwise. If
+     * the monitor stops the search, the return value is meaningless.
+     */
+    private double search(N source, double threshold) {
+        if (source.equals(target)) {
+            depth = 0;
+            push(source, 0.0);
+            return Double.NaN;
+        }
+
+        double nextThreshold = Double.POSITIVE_INFINITY;
+        depth = 0;
+        push(source, 0.0);
+
+        if (monitor.expand()) {
+            return nextThreshold;
+        }
+
+        expand(stack.get(0));
+
+        while (depth > 0) {
+            Frame<N> frame = stack.get(depth - 1);
+
+            if (frame.nextChild == frame.childCount) {
+                --depth;
+                continue;
+            }
+
+            int index = frame.nextChild++;
+            double f = frame.childF[index];
+
+            if (f > threshold) {
+                // The children are sorted, so the rest exceed as well.
+                nextThreshold = Math.min(nextThreshold, f);
+                frame.nextChild = frame.childCount;
+                continue;
+            }
+
+            N child = (N) frame.children[index];
+            Frame<N> childFrame = push(child, frame.childG[index]);
+
+            if (child.equals(target)) {
+                return Double.NaN;
+            }
+
+            if (monitor.expand()) {
+                return nextThreshold;
+            }
+
+            expand(childFrame);
+        }
+
+        return nextThreshold;
+    }
+
+    private Frame<N> push(N node, double g) {
+        if (stack.size() == depth) {
+            stack.add(new Frame<>());
+        }
+
+        Frame<N> frame = stack.get(depth++);
+        frame.node = node;
+        frame.g = g;
+        frame.childCount = 0;
+        frame.nextChild = 0;
+        return frame;
+    }
+
+    /**
+     * Generates the children of the node of {@code frame} except its parent,
+     * and sorts them by their {@code f}-values.
+     */
+    private void expand(Frame<N> frame) {
+        ++expandedNodes;
+
+        if (listener != null) {
+            listener.closed(frame.node);
+        }
+
+        N parent = depth > 1 ? stack.get(depth - 2).node : null;
+        Collection<N> children = frame.node.children();
+        frame.ensureCapacity(children.size());
+        int count = 0;
+
+        for (N child : children) {
+            if (child.equals(parent)) {
+                continue;
+            }
+
+            if (listener != null) {
+                listener.reached(child);
+            }
+
+            monitor.generate();
+            double g = frame.g + weightFunction.get(frame.node, child);
+            double f = g + heuristicFunction.estimate(child, target);
+
+            // Insertion sort, as the amount of children is usually small.
+            int i = count++;
+
+            while (i > 0 && frame.childF[i - 1] > f) {
+                frame.children[i] = frame.children[i - 1];
+                frame.childG[i] = frame.childG[i - 1];
+                frame.childF[i] = frame.childF[i - 1];
+                --i;
+            }
+
+            frame.children[i] = child;
+            frame.childG[i] = g;
+            frame.childF[i] = f;
+        }
+
+        frame.childCount = count;
+    }
+
+    private List<N> tracebackPath() {
+        List<N> path = new ArrayList<>(depth);
+
+        for (int i = 0; i < depth; ++i) {
+            path.add(stack.get(i).node);
+        }
+
+        return path;
+    }
+
+    private List<N> done(List<N> path) {
+        if (listener != null) {
+            listener.done(path);
+        }
+
+        return path;
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "IDA*";
+    }
+}
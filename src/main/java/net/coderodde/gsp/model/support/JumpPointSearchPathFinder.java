@@ -0,0 +1,434 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+
+/**
+ * This class implements Jump Point Search (JPS) over uniform-cost grid graphs.
+ * JPS is A* that prunes the symmetric paths: instead of pushing every
+ * neighbour of a node to the open list, it scans ahead in each relevant
+ * direction and pushes only the <i>jump points</i>, the nodes where an
+ * optimal path may have to turn. On open maps, the amount of nodes in the
+ * open and closed lists drops by orders of magnitude.
+ * <p>
+ * The rules of {@link GridGraphConfiguration} are respected: with diagonal
+ * moves disallowed the search runs over 4-connected grids, and with corner
+ * crossing disallowed a diagonal move requires both adjacent orthogonal nodes
+ * to be passable. The costs are those of {@link GridGraphWeightFunction},
+ * and the heuristic is the octile distance (or the Manhattan distance on
+ * 4-connected grids). The grid is expected to be wired like the one of the
+ * GUI: the neighbour links must reflect the actual coordinates of the nodes.
+ * <p>
+ * Only the jump points are reported to the {@link GraphSearchListener}, yet
+ * the returned path lists all the nodes.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class JumpPointSearchPathFinder
+extends AbstractPathFinder<GridGraphNode> {
+
+    private static final double SQRT2 = GridGraphWeightFunction.SQRT2;
+
+    /**
+     * Measures the paths found for the search statistics.
+     */
+    private static final GridGraphWeightFunction WEIGHT_FUNCTION =
+            new GridGraphWeightFunction();
+
+    /**
+     * The eight directions used for expanding the source node.
+     */
+    private static final int[][] ALL_DIRECTIONS = {
+        { 0, -1 }, { 1, 0 }, { 0, 1 }, { -1, 0 },
+        { 1, -1 }, { 1, 1 }, { -1, 1 }, { -1, -1 }
+    };
+
+    private MinimumPriorityQueue<GridGraphNode> OPEN;
+    private AbstractSearchState<GridGraphNode> STATE;
+    private GridGraphNode target;
+    private GridGraphConfiguration configuration;
+    private boolean diagonals;
+    private boolean crossCorners;
+    private SearchMonitor monitor;
+
+    /**
+     * The directions to scan from the node being expanded. Each direction
+     * takes two consecutive entries.
+     */
+    private final int[] directions = new int[2 * ALL_DIRECTIONS.length];
+    private int directionCount;
+
+    public JumpPointSearchPathFinder() {
+
+    }
+
+    private JumpPointSearchPathFinder(
+            GridGraphNode source,
+            GridGraphNode target,
+            GraphSearchListener<GridGraphNode> listener,
+            MinimumPriorityQueue<GridGraphNode> OPEN,
+            AbstractSearchState<GridGraphNode> STATE,
+            SearchMonitor monitor) {
+        this.OPEN = OPEN;
+        this.STATE = STATE;
+        this.target = target;
+        this.listener = listener;
+        this.monitor = monitor;
+        this.configuration = source.getConfiguration();
+        this.diagonals = configuration.diagonalsAllowed();
+        this.crossCorners = configuration.crossingCornersAllowed();
+
+        OPEN.add(source, estimate(source));
+        STATE.put(source, 0.0, null);
+    }
+
+    @Override
+    public List<GridGraphNode> search(GridGraphNode source,
+                                      GridGraphNode target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<GridGraphNode> search(GridGraphNode source,
+                                              GridGraphNode target,
+                                              SearchLimits limits) {
+        Objects.requireNonNull(source, "The source node is null.");
+        Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
+        return monitor.getResult(
+                new JumpPointSearchPathFinder(
+                        source,
+                        target,
+                        listener,
+                        monitor.track(obtainQueue(0)),
+                        monitor.track(obtainSearchState(0)),
+                        monitor).search(),
+                WEIGHT_FUNCTION);
+    }
+
+    private List<GridGraphNode> search() {
+        if (listener != null) {
+            listener.begin();
+        }
+
+        while (!OPEN.isEmpty()) {
+            GridGraphNode current = OPEN.extractMinimum();
+
+            if (STATE.isClosed(current)) {
+                // A stale copy left in the queue by lazy deletion.
+                continue;
+            }
+
+            if (current.equals(target)) {
+                List<GridGraphNode> path = tracebackGridPath(current);
+
+                if (listener != null) {
+                    listener.done(path);
+                }
+
+                return path;
+            }
+
+            if (monitor.expand()) {
+                break;
+            }
+
+            STATE.close(current);
+
+            if (listener != null) {
+                listener.closed(current);
+            }
+
+            expand(current);
+        }
+
+        List<GridGraphNode> emptyPath = Collections.<GridGraphNode>emptyList();
+
+        if (listener != null) {
+            listener.done(emptyPath);
+        }
+
+        return emptyPath;
+    }
+
+    private void expand(GridGraphNode current) {
+        double currentDistance = STATE.getDistance(current);
+        loadDirections(current);
+
+        for (int i = 0; i < directionCount; i += 2) {
+            GridGraphNode jumpPoint = jump(current,
+                                           directions[i],
+                                           directions[i + 1]);
+
+            if (jumpPoint == null || STATE.isClosed(jumpPoint)) {
+                continue;
+            }
+
+            double tentativeCost = currentDistance +
+                                   distance(current, jumpPoint);
+
+            if (!STATE.isReached(jumpPoint)) {
+                STATE.put(jumpPoint, tentativeCost, current);
+                OPEN.add(jumpPoint, tentativeCost + estimate(jumpPoint));
+
+                if (listener != null) {
+                    listener.reached(jumpPoint);
+                }
+            } else if (STATE.getDistance(jumpPoint) > tentativeCost) {
+                STATE.put(jumpPoint, tentativeCost, current);
+                OPEN.decreasePriority(jumpPoint,
+                                      tentativeCost + estimate(jumpPoint));
+            }
+        }
+    }
+
+    /**
+     * Loads the directions worth scanning from {@code node}. The source node
+     * is scanned in all directions; any other node is scanned only in the
+     * natural directions of the move from its parent, plus in the directions
+     * of its forced neighbours.
+     *
+     * @param node the node being expanded.
+     */
+    private void loadDirections(GridGraphNode node) {
+        directionCount = 0;
+        GridGraphNode parent = STATE.getParent(node);
+
+        if (parent == null) {
+            int count = diagonals ? ALL_DIRECTIONS.length : 4;
+
+            for (int i = 0; i < count; ++i) {
+                addDirection(ALL_DIRECTIONS[i][0], ALL_DIRECTIONS[i][1]);
+            }
+
+            return;
+        }
+
+        int dx = Integer.signum(node.getX() - parent.getX());
+        int dy = Integer.signum(node.getY() - parent.getY());
+
+        if (!diagonals) {
+            // On 4-connected grids, both turns are always scanned.
+            addDirection(dx, dy);
+            addDirection(dy, dx);
+            addDirection(-dy, -dx);
+            return;
+        }
+
+        if (dx != 0 && dy != 0) {
+            addDirection(0, dy);
+            addDirection(dx, 0);
+            addDirection(dx, dy);
+
+            if (crossCorners) {
+                if (!isPassable(node.getNeighbor(-dx, 0))) {
+                    addDirection(-dx, dy);
+                }
+
+                if (!isPassable(node.getNeighbor(0, -dy))) {
+                    addDirection(dx, -dy);
+                }
+            }
+
+            return;
+        }
+
+        // Moving straight; (px, py) is perpendicular to the move.
+        int px = dy;
+        int py = dx;
+        addDirection(dx, dy);
+
+        if (crossCorners) {
+            if (!isPassable(node.getNeighbor(px, py))) {
+                addDirection(dx + px, dy + py);
+            }
+
+            if (!isPassable(node.getNeighbor(-px, -py))) {
+                addDirection(dx - px, dy - py);
+            }
+        } else {
+            addDirection(dx + px, dy + py);
+            addDirection(dx - px, dy - py);
+            addDirection(px, py);
+            addDirection(-px, -py);
+        }
+    }
+
+    private void addDirection(int dx, int dy) {
+        directions[directionCount++] = dx;
+        directions[directionCount++] = dy;
+    }
+
+    /**
+     * Scans from {@code node} in the direction {@code (dx, dy)} and returns
+     * the first jump point, or {@code null} if the scan hits an obstacle or
+     * the border of the grid.
+     *
+     * @param node the node to scan from.
+     * @param dx   the horizontal direction.
+     * @param dy   the vertical direction.
+     * @return the next jump point or {@code null}.
+     */
+    private GridGraphNode jump(GridGraphNode node, int dx, int dy) {
+        while (canMove(node, dx, dy)) {
+            node = node.getNeighbor(dx, dy);
+
+            if (node.equals(target) || isJumpPoint(node, dx, dy)) {
+                return node;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks whether {@code node}, entered by moving in the direction
+     * {@code (dx, dy)}, is a jump point: either it has a forced neighbour,
+     * or, on a diagonal move, a straight scan from it finds a jump point.
+     *
+     * @param node the node to check.
+     * @param dx   the horizontal direction of the move.
+     * @param dy   the vertical direction of the move.
+     * @return {@code true} if {@code node} is a jump point.
+     */
+    private boolean isJumpPoint(GridGraphNode node, int dx, int dy) {
+        if (dx != 0 && dy != 0) {
+            if (crossCorners &&
+                    (isForcedCorner(node, -dx, 0, -dx, dy) ||
+                     isForcedCorner(node, 0, -dy, dx, -dy))) {
+                return true;
+            }
+
+            return jump(node, dx, 0) != null || jump(node, 0, dy) != null;
+        }
+
+        int px = dy;
+        int py = dx;
+
+        if (diagonals && crossCorners) {
+            // A blocked side node makes the diagonal past it a forced move.
+            return isForcedCorner(node, px, py, dx + px, dy + py) ||
+                   isForcedCorner(node, -px, -py, dx - px, dy - py);
+        }
+
+        if (isForcedSide(node, px, py, dx, dy) ||
+                isForcedSide(node, -px, -py, dx, dy)) {
+            return true;
+        }
+
+        if (!diagonals && dx == 0) {
+            // On 4-connected grids, the turns of vertical moves are found by
+            // scanning horizontally.
+            return jump(node, 1, 0) != null || jump(node, -1, 0) != null;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether the node at the offset {@code (bx, by)} is blocked while
+     * the node at the offset {@code (fx, fy)} is passable, which makes the 
+     * latter a forced neighbour when corners may be crossed.
+     */
+    private boolean isForcedCorner(GridGraphNode node,
+                                   int bx,
+                                   int by,
+                                   int fx,
+                                   int fy) {
+        return !isPassable(node.getNeighbor(bx, by)) &&
+                isPassable(node.getNeighbor(fx, fy));
+    }
+
+    /**
+     * Checks whether the side node at the offset {@code (px, py)} is passable
+     * while the node behind it is blocked, which makes the side node a forced
+     * neighbour when corners may not be crossed.
+     */
+    private boolean isForcedSide(GridGraphNode node,
+                                 int px,
+                                 int py,
+                                 int dx,
+                                 int dy) {
+        return isPassable(node.getNeighbor(px, py)) &&
+               !isPassable(node.getNeighbor(px - dx, py - dy));
+    }
+
+    private boolean canMove(GridGraphNode node, int dx, int dy) {
+        if (!isPassable(node.getNeighbor(dx, dy))) {
+            return false;
+        }
+
+        if (dx == 0 || dy == 0 || crossCorners) {
+            return true;
+        }
+
+        return isPassable(node.getNeighbor(dx, 0)) &&
+               isPassable(node.getNeighbor(0, dy));
+    }
+
+    private boolean isPassable(GridGraphNode node) {
+        return node != null && !configuration.isWallNode(node);
+    }
+
+    private double distance(GridGraphNode a, GridGraphNode b) {
+        int dx = Math.abs(a.getX() - b.getX());
+        int dy = Math.abs(a.getY() - b.getY());
+        return Math.max(dx, dy) + (SQRT2 - 1.0) * Math.min(dx, dy);
+    }
+
+    private double estimate(GridGraphNode node) {
+        if (diagonals) {
+            return distance(node, target);
+        }
+
+        return Math.abs(node.getX() - target.getX()) +
+               Math.abs(node.getY() - target.getY());
+    }
+
+    /**
+     * Reconstructs the path through the jump points and fills in the nodes
+     * between each two consecutive jump points.
+     *
+     * @param target the target node.
+     * @return the full path.
+     */
+    private List<GridGraphNode> tracebackGridPath(GridGraphNode target) {
+        List<GridGraphNode> jumpPoints = tracebackPath(target, STATE);
+        List<GridGraphNode> path = new ArrayList<>();
+        path.add(jumpPoints.get(0));
+
+        for (int i = 1; i < jumpPoints.size(); ++i) {
+            GridGraphNode node = jumpPoints.get(i - 1);
+            GridGraphNode next = jumpPoints.get(i);
+            int dx = Integer.signum(next.getX() - node.getX());
+            int dy = Integer.signum(next.getY() - node.getY());
+
+            while (!node.equals(next)) {
+                node = node.getNeighbor(dx, dy);
+                path.add(node);
+            }
+        }
+
+        return path;
+    }
+
+    @Override
+    protected boolean supportsLazyDeletion() {
+        return true;
+    }
+
+    @Override
+    public String humanReadableName() {
+        return "Jump Point Search";
+    }
+}
@@ -3,22 +3,22 @@ package net.coderodde.gsp.model.support;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.AbstractHeuristicFunction;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.AbstractSearchState;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
-import net.coderodde.gsp.model.queue.support.DaryHeap;
 
 /**
  * This pathfinding algorithm is due to Wim Pijls and Henk Post in
  * "Yet another bidirectional algorithm for shortest paths." 15 June 2009.
+ * The backward search is guided by {@code estimate(source, node)}.
  * 
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 14, 2015)
@@ -41,73 +41,74 @@ extends AbstractPathFinder<N> {
     
     @Override
     public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+    
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
         Objects.requireNonNull(source, "The source node is null.");
         Objects.requireNonNull(target, "The target node is null.");
+        SearchMonitor monitor = new SearchMonitor(limits, this);
         
         if (source.equals(target)) {
             List<N> path = new ArrayList<>(1);
             path.add(source);
-            return path;
+            return monitor.getResult(path, 0.0);
         }
         
-        MinimumPriorityQueue<N> OPENA = getQueue() != null ? 
-                                        getQueue().spawn() :
-                                        new DaryHeap<>();
-        
-        MinimumPriorityQueue<N> OPENB = OPENA.spawn();
-        Set<N> CLOSED = new HashSet<>();
-        Map<N, N> PARENTSA = new HashMap<>();
-        Map<N, N> PARENTSB = new HashMap<>();
-        Map<N, Double> DISTANCEA = new HashMap<>();
-        Map<N, Double> DISTANCEB = new HashMap<>();
+        MinimumPriorityQueue<N> OPENA = monitor.track(obtainQueue(0));
+        MinimumPriorityQueue<N> OPENB = monitor.track(obtainQueue(1));
+        AbstractSearchState<N> STATEA = monitor.track(obtainSearchState(0));
+        AbstractSearchState<N> STATEB = monitor.track(obtainSearchState(1));
         
         double bestPathLength = Double.POSITIVE_INFINITY;
         double fA = heuristicFunction.estimate(source, target);
-        double fB = heuristicFunction.estimate(target, source);
+        double fB = heuristicFunction.estimate(source, target);
         N touchNode = null;
         
         OPENA.add(source, fA);
         OPENB.add(target, fB);
-        PARENTSA.put(source, null);
-        PARENTSB.put(target, null);
-        DISTANCEA.put(source, 0.0);
-        DISTANCEB.put(target, 0.0);
+        STATEA.put(source, 0.0, null);
+        STATEB.put(target, 0.0, null);
         
         if (listener != null) {
             listener.begin();
         }
         
         while (!OPENA.isEmpty() && !OPENB.isEmpty()) {
+            if (monitor.expand()) {
+                break;
+            }
+            
             if (OPENA.size() < OPENB.size()) {   
                 N current = OPENA.extractMinimum();
-                CLOSED.add(current);
+                STATEA.close(current);
                 
                 if (listener != null) {
                     listener.closed(current);
                 }
 
-                if (DISTANCEA.get(current) + 
+                if (STATEA.getDistance(current) + 
                         heuristicFunction.estimate(current, target) -
                         heuristicFunction.estimate(target, target) 
                         >= bestPathLength
                         ||
-                        DISTANCEA.get(current) + fB 
-                        - heuristicFunction.estimate(current, source)
+                        STATEA.getDistance(current) + fB 
+                        - heuristicFunction.estimate(source, current)
                         >= bestPathLength) {
                     // Reject the node 'current'.
                 } else {
                     // Stabilize the node 'current'.
                     for (N child : current.children()) {
-                        if (CLOSED.contains(child)) {
+                        if (STATEA.isClosed(child) || STATEB.isClosed(child)) {
                             continue;
                         }
 
-                        double tentativeScore = DISTANCEA.get(current) +
+                        double tentativeScore = STATEA.getDistance(current) +
                                                 weightFunction.get(current, child);
 
-                        if (!DISTANCEA.containsKey(child)) {
-                            DISTANCEA.put(child, tentativeScore);
-                            PARENTSA.put(child, current);
+                        if (!STATEA.isReached(child)) {
+                            STATEA.put(child, tentativeScore, current);
                             OPENA.add(child, 
                                       tentativeScore +
                                       heuristicFunction.estimate(child, target));
@@ -116,26 +117,25 @@ extends AbstractPathFinder<N> {
                                 listener.reached(child);
                             }
                             
-                            if (DISTANCEB.containsKey(child)) {
+                            if (STATEB.isReached(child)) {
                                 double pathLength = tentativeScore +
-                                                    DISTANCEB.get(child);
+                                                    STATEB.getDistance(child);
 
                                 if (bestPathLength > pathLength) {
                                     bestPathLength = pathLength;
                                     touchNode = child;
                                 }
                             }
-                        } else if (DISTANCEA.get(child) > tentativeScore) {
-                            DISTANCEA.put(child, tentativeScore);
-                            PARENTSA.put(child, current);
+                        } else if (STATEA.getDistance(child) > tentativeScore) {
+                            STATEA.put(child, tentativeScore, current);
                             OPENA.decreasePriority(
                                     child,
                                     tentativeScore +
                                     heuristicFunction.estimate(child, target));
 
-                            if (DISTANCEB.containsKey(child)) {
+                            if (STATEB.isReached(child)) {
                                 double pathLength = tentativeScore +
-                                                    DISTANCEB.get(child);
+                                                    STATEB.getDistance(child);
 
                                 if (bestPathLength > pathLength) {
                                     bestPathLength = pathLength;
@@ -148,68 +148,66 @@ extends AbstractPathFinder<N> {
 
                 if (!OPENA.isEmpty()) {
                     N node = OPENA.min();
-                    fA = DISTANCEA.get(node) + heuristicFunction.estimate(node, 
-                                                                          target);
+                    fA = STATEA.getDistance(node) + 
+                         heuristicFunction.estimate(node, target);
                 }
             } else {
                 N current = OPENB.extractMinimum();
-                CLOSED.add(current);
+                STATEB.close(current);
                 
                 if (listener != null) {
                     listener.closed(current);
                 }
 
-                if (DISTANCEB.get(current) + 
-                        heuristicFunction.estimate(current, source) -
+                if (STATEB.getDistance(current) + 
+                        heuristicFunction.estimate(source, current) -
                         heuristicFunction.estimate(source, source) 
                         >= bestPathLength
                         ||
-                        DISTANCEB.get(current) + fA 
+                        STATEB.getDistance(current) + fA 
                         - heuristicFunction.estimate(current, target)
                         >= bestPathLength) {
                     // Reject the node 'current'.
                 } else {
                     // Stabilize the node 'current'.
                     for (N parent : current.parents()) {
-                        if (CLOSED.contains(parent)) {
+                        if (STATEA.isClosed(parent) || STATEB.isClosed(parent)) {
                             continue;
                         }
 
-                        double tentativeScore = DISTANCEB.get(current) +
+                        double tentativeScore = STATEB.getDistance(current) +
                                                 weightFunction.get(parent,
                                                                    current);
 
-                        if (!DISTANCEB.containsKey(parent)) {
-                            DISTANCEB.put(parent, tentativeScore);
-                            PARENTSB.put(parent, current);
+                        if (!STATEB.isReached(parent)) {
+                            STATEB.put(parent, tentativeScore, current);
                             OPENB.add(parent, 
                                       tentativeScore +
-                                      heuristicFunction.estimate(parent, source));
+                                      heuristicFunction.estimate(source, parent));
 
                             if (listener != null) {
                                 listener.reached(parent);
                             }
                             
-                            if (DISTANCEA.containsKey(parent)) {
+                            if (STATEA.isReached(parent)) {
                                 double pathLength = tentativeScore +
-                                                    DISTANCEA.get(parent);
+                                                    STATEA.getDistance(parent);
 
                                 if (bestPathLength > pathLength) {
                                     bestPathLength = pathLength;
                                     touchNode = parent;
                                 }
                             }
-                        } else if (DISTANCEB.get(parent) > tentativeScore) {
-                            DISTANCEB.put(parent, tentativeScore);
-                            PARENTSB.put(parent, current);
+                        } else if (STATEB.getDistance(parent) > tentativeScore) {
+                            STATEB.put(parent, tentativeScore, current);
                             OPENB.decreasePriority(
                                     parent,
                                     tentativeScore +
-                                    heuristicFunction.estimate(parent, source));
+                                    heuristicFunction.estimate(source, parent));
 
-                            if (DISTANCEA.containsKey(parent)) {
+                            if (STATEA.isReached(parent)) {
                                 double pathLength = tentativeScore +
-                                                    DISTANCEA.get(parent);
+                                                    STATEA.getDistance(parent);
 
                                 if (bestPathLength > pathLength) {
                                     bestPathLength = pathLength;
@@ -219,22 +217,28 @@ extends AbstractPathFinder<N> {
                         }
                     }
                 }
+
+                if (!OPENB.isEmpty()) {
+                    N node = OPENB.min();
+                    fB = STATEB.getDistance(node) + 
+                         heuristicFunction.estimate(source, node);
+                }
             }
         }
         
         List<N> path;
         
-        if (touchNode == null) {
+        if (touchNode == null || monitor.isStopped()) {
             path = Collections.<N>emptyList();
         } else {
-            path = tracebackPath(touchNode, PARENTSA, PARENTSB);
+            path = tracebackPath(touchNode, STATEA, STATEB);
         }
         
         if (listener != null) {
             listener.done(Collections.<N>unmodifiableList(path));
         }
         
-        return path;
+        return monitor.getResult(path, bestPathLength);
     }
 
     @Override
@@ -0,0 +1,47 @@
+package net.coderodde.gsp.model.support;
+
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+
+/**
+ * This class implements the Manhattan distance heuristic over 
+ * {@link PackedPuzzleGraphNode}s. The cell of each tile in the target node is
+ * itself packed into a {@code long}, so the function keeps no scratch state 
+ * and may be shared between threads.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PackedPuzzleGraphHeuristicFunction 
+extends AbstractHeuristicFunction<PackedPuzzleGraphNode> {
+
+    @Override
+    public double estimate(PackedPuzzleGraphNode source, 
+                           PackedPuzzleGraphNode target) {
+        int degree = source.getDegree();
+        int cells = degree * degree;
+        long targetTiles = target.getTiles();
+        long targetCells = 0L;
+        
+        for (int cell = 0; cell < cells; ++cell) {
+            long tile = (targetTiles >>> 4 * cell) & 0xfL;
+            targetCells |= (long) cell << 4 * tile;
+        }
+        
+        long sourceTiles = source.getTiles();
+        int estimate = 0;
+        
+        for (int cell = 0; cell < cells; ++cell) {
+            int tile = (int)(sourceTiles >>> 4 * cell) & 0xf;
+            
+            if (tile == 0) {
+                continue;
+            }
+            
+            int targetCell = (int)(targetCells >>> 4 * tile) & 0xf;
+            estimate += Math.abs(cell % degree - targetCell % degree) +
+                        Math.abs(cell / degree - targetCell / degree);
+        }
+        
+        return estimate;
+    }
+}
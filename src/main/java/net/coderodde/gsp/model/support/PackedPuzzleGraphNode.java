@@ -0,0 +1,370 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.coderodde.gsp.model.AbstractGraphNode;
+
+/**
+ * This class represents a node of the 8- or 15-puzzle packed into a single
+ * {@code long}: the tile at the cell {@code (x, y)} is stored in the nibble
+ * {@code y * degree + x}, the empty cell being {@code 0}. Moving the empty
+ * cell touches two nibbles only, so a move is a couple of shifts and an
+ * exclusive or instead of a matrix copy, and hashing mixes a single
+ * {@code long}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public final class PackedPuzzleGraphNode
+extends AbstractGraphNode<PackedPuzzleGraphNode> {
+
+    private static final int MINIMUM_DEGREE = 3;
+    private static final int MAXIMUM_DEGREE = 4;
+    private static final int BITS_PER_TILE = 4;
+    private static final long TILE_MASK = 0xfL;
+
+    /**
+     * The tiles, one per nibble.
+     */
+    private final long tiles;
+
+    /**
+     * The dimension of the puzzle.
+     */
+    private final byte degree;
+
+    /**
+     * The index of the empty cell.
+     */
+    private final byte emptyCell;
+
+    /**
+     * The index of the empty cell of the parent node, which now holds the
+     * moved tile, or {@code -1} if this node was not created by a move.
+     */
+    private final byte previousEmptyCell;
+
+    /**
+     * The estimate cached for the parent node at the time of the move.
+     */
+    private final long parentEstimate;
+
+    /**
+     * The estimate cached by {@link PuzzleManhattanHeuristicFunction}: the ID
+     * of the function in the upper half and the estimate in the lower half,
+     * or {@code 0}. Both halves live in one field, so that the threads of a
+     * parallel search never see a torn entry.
+     */
+    private volatile long cachedEstimate;
+
+    /**
+     * Creates the goal state of the puzzle graph.
+     *
+     * @param degree the degree of the node.
+     */
+    public PackedPuzzleGraphNode(int degree) {
+        this(checkDegree(degree), 
+             goalTiles(degree), 
+             degree * degree - 1, 
+             -1, 
+             0L);
+    }
+
+    private PackedPuzzleGraphNode(int degree, 
+                                  long tiles, 
+                                  int emptyCell,
+                                  int previousEmptyCell,
+                                  long parentEstimate) {
+        super(0);
+        this.degree = (byte) degree;
+        this.tiles = tiles;
+        this.emptyCell = (byte) emptyCell;
+        this.previousEmptyCell = (byte) previousEmptyCell;
+        this.parentEstimate = parentEstimate;
+    }
+
+    /**
+     * Packs {@code node}.
+     *
+     * @param node the puzzle node to pack.
+     * @return the packed node.
+     * @throws IllegalArgumentException if the degree of {@code node} is
+     *                                  larger than 4.
+     */
+    public static PackedPuzzleGraphNode of(PuzzleGraphNode node) {
+        Objects.requireNonNull(node, "The input puzzle node is null.");
+        int degree = checkDegree(node.getDegree());
+        long tiles = 0L;
+
+        for (int y = 0; y < degree; ++y) {
+            for (int x = 0; x < degree; ++x) {
+                tiles |= (long) node.get(x, y)
+                         << BITS_PER_TILE * (y * degree + x);
+            }
+        }
+
+        return new PackedPuzzleGraphNode(degree,
+                                         tiles,
+                                         node.getEmptySlotY() * degree +
+                                         node.getEmptySlotX(),
+                                         -1,
+                                         0L);
+    }
+
+    /**
+     * Returns the degree of this node.
+     *
+     * @return the degree.
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Returns the packed tiles of this node. The tile at the cell with index
+     * {@code i} is {@code (getTiles() >>> 4 * i) & 0xf}.
+     *
+     * @return the packed tiles.
+     */
+    public long getTiles() {
+        return tiles;
+    }
+
+    /**
+     * Reads the contents of the cell with coordinates <code>(x, y)</code>.
+     *
+     * @param  x the x-coordinate of the cell to read.
+     * @param  y the y-coordinate of the cell to read.
+     * @return the contents of the specified cell.
+     */
+    public int get(int x, int y) {
+        return getTile(y * degree + x);
+    }
+
+    /**
+     * Reads the contents of the cell with index {@code cell}.
+     *
+     * @param cell the index of the cell to read.
+     * @return the contents of the specified cell.
+     */
+    public int getTile(int cell) {
+        return (int)(tiles >>> BITS_PER_TILE * cell) & (int) TILE_MASK;
+    }
+
+    public int getEmptyCell() {
+        return emptyCell;
+    }
+
+    public int getEmptySlotX() {
+        return emptyCell % degree;
+    }
+
+    public int getEmptySlotY() {
+        return emptyCell / degree;
+    }
+
+    /**
+     * Moves the empty cell one cell up.
+     *
+     * @return the new puzzle node, or <code>null</code> if the empty cell is
+     *         in the top row.
+     */
+    public PackedPuzzleGraphNode moveUp() {
+        return emptyCell < degree ? null : move(emptyCell - degree);
+    }
+
+    /**
+     * Moves the empty cell one cell to the right.
+     *
+     * @return the new puzzle node, or <code>null</code> if the empty cell is
+     *         in the rightmost column.
+     */
+    public PackedPuzzleGraphNode moveRight() {
+        return getEmptySlotX() == degree - 1 ? null : move(emptyCell + 1);
+    }
+
+    /**
+     * Moves the empty cell one cell down.
+     *
+     * @return the new puzzle node, or <code>null</code> if the empty cell is
+     *         in the bottom row.
+     */
+    public PackedPuzzleGraphNode moveDown() {
+        return emptyCell >= degree * (degree - 1) ?
+               null :
+               move(emptyCell + degree);
+    }
+
+    /**
+     * Moves the empty cell one cell to the left.
+     *
+     * @return the new puzzle node, or <code>null</code> if the empty cell is
+     *         in the leftmost column.
+     */
+    public PackedPuzzleGraphNode moveLeft() {
+        return getEmptySlotX() == 0 ? null : move(emptyCell - 1);
+    }
+
+    int getPreviousEmptyCell() {
+        return previousEmptyCell;
+    }
+
+    long getParentEstimate() {
+        return parentEstimate;
+    }
+
+    long getCachedEstimate() {
+        return cachedEstimate;
+    }
+
+    void setCachedEstimate(long cachedEstimate) {
+        this.cachedEstimate = cachedEstimate;
+    }
+
+    @Override
+    public List<PackedPuzzleGraphNode> children() {
+        List<PackedPuzzleGraphNode> list = new ArrayList<>(4);
+        addIfNotNull(list, moveUp());
+        addIfNotNull(list, moveRight());
+        addIfNotNull(list, moveDown());
+        addIfNotNull(list, moveLeft());
+        return list;
+    }
+
+    @Override
+    public List<PackedPuzzleGraphNode> parents() {
+        // Each move is reversible.
+        return children();
+    }
+
+    @Override
+    public boolean hasChild(PackedPuzzleGraphNode other) {
+        if (degree != other.degree) {
+            return false;
+        }
+
+        int otherEmptyCell = other.emptyCell;
+        int distance = Math.abs(otherEmptyCell - emptyCell);
+
+        if (distance != degree &&
+                !(distance == 1 &&
+                  otherEmptyCell / degree == emptyCell / degree)) {
+            return false;
+        }
+
+        return move(otherEmptyCell).tiles == other.tiles;
+    }
+
+    /**
+     * Returns the hash code of this node. The tiles are mixed with the
+     * finalizer of the 64-bit MurmurHash3, so that nodes differing in a
+     * single move spread over the whole range.
+     *
+     * @return the hash code.
+     */
+    @Override
+    public int hashCode() {
+        long h = tiles;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof PackedPuzzleGraphNode)) {
+            return false;
+        }
+
+        PackedPuzzleGraphNode other = (PackedPuzzleGraphNode) o;
+        return tiles == other.tiles && degree == other.degree;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(3 * degree * degree + degree);
+
+        for (int y = 0; y < degree; ++y) {
+            for (int x = 0; x < degree; ++x) {
+                sb.append(String.format("%-2d", get(x, y))).append(' ');
+            }
+
+            sb.append('\n');
+        }
+
+        return sb.toString();
+    }
+
+    @Override
+    public void addChild(PackedPuzzleGraphNode child) {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedPuzzleGraphNode.");
+    }
+
+    @Override
+    public void removeChild(PackedPuzzleGraphNode child) {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedPuzzleGraphNode.");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException(
+                "Operation not supported for PackedPuzzleGraphNode.");
+    }
+
+    /**
+     * Slides the tile at {@code cell} into the empty cell.
+     *
+     * @param cell the cell adjacent to the empty cell.
+     * @return the new node.
+     */
+    private PackedPuzzleGraphNode move(int cell) {
+        long tile = (tiles >>> BITS_PER_TILE * cell) & TILE_MASK;
+        // The empty nibble is zero, so exclusive or moves the tile.
+        long newTiles = tiles ^ (tile << BITS_PER_TILE * cell)
+                              ^ (tile << BITS_PER_TILE * emptyCell);
+        return new PackedPuzzleGraphNode(degree, 
+                                         newTiles, 
+                                         cell, 
+                                         emptyCell, 
+                                         cachedEstimate);
+    }
+
+    private static void addIfNotNull(List<PackedPuzzleGraphNode> list,
+                                     PackedPuzzleGraphNode node) {
+        if (node != null) {
+            list.add(node);
+        }
+    }
+
+    private static long goalTiles(int degree) {
+        long tiles = 0L;
+
+        for (int cell = 0; cell < degree * degree - 1; ++cell) {
+            tiles |= (long)(cell + 1) << BITS_PER_TILE * cell;
+        }
+
+        return tiles;
+    }
+
+    private static int checkDegree(int degree) {
+        if (degree < MINIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+                    "The input degree is too small: " + degree + " but must " +
+                    "be at least " + MINIMUM_DEGREE + ".");
+        }
+
+        if (degree > MAXIMUM_DEGREE) {
+            throw new IllegalArgumentException(
+                    "The input degree is too large: " + degree + " but must " +
+                    "be at most " + MAXIMUM_DEGREE + ".");
+        }
+
+        return degree;
+    }
+}
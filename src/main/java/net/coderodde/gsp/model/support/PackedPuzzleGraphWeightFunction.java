@@ -0,0 +1,28 @@
+package net.coderodde.gsp.model.support;
+
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class implements a weight function of the packed puzzle graph. Each
+ * move has unit cost.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PackedPuzzleGraphWeightFunction 
+extends AbstractGraphWeightFunction<PackedPuzzleGraphNode> {
+
+    @Override
+    public void put(PackedPuzzleGraphNode tail, 
+                    PackedPuzzleGraphNode head, 
+                    double weight) {
+        throw new UnsupportedOperationException(
+                "The edges of PackedPuzzleGraphNodes are implicitly " +
+                "weighted.");
+    }
+
+    @Override
+    public double get(PackedPuzzleGraphNode tail, PackedPuzzleGraphNode head) {
+        return 1.0;
+    }
+}
@@ -1,39 +1,56 @@
 package net.coderodde.gsp.model.support;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import net.coderodde.gsp.model.AbstractGraphNode;
 import net.coderodde.gsp.model.AbstractGraphWeightFunction;
 import net.coderodde.gsp.model.AbstractHeuristicFunction;
 import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchMonitor;
+import net.coderodde.gsp.model.SearchResult;
 import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
 import net.coderodde.gsp.model.queue.support.DaryHeap;
 
 /**
- * This class implements a PNBA* (Parallel New Bidirectional A*) by Luis 
- * Henrique Oliveira Rios and Luiz Chaimowic.
- * 
+ * This class implements a PNBA* (Parallel New Bidirectional A*) by Luis
+ * Henrique Oliveira Rios and Luiz Chaimowic. The forward and the backward
+ * search of NBA* run in two threads sharing the best path found so far, the
+ * minimum {@code f}-values of their open lists and the closed nodes. The
+ * backward search is guided by {@code estimate(source, node)}.
+ * <p>
+ * Each search keeps its distances and its closed nodes in a
+ * {@link ConcurrentSearchState} it alone writes, so that the other search
+ * reads them without locking. The length of the best path and the node the
+ * two searches met at are kept together in a single immutable record updated
+ * by compare-and-set, so they never get out of sync. The other search's
+ * minimum {@code f}-value and the best path length may be stale, but only
+ * in the direction making the pruning weaker, so no shortest path is ever
+ * pruned.
+ * <p>
+ * Under {@link SearchLimits}, each of the two threads gets its own monitor
+ * and half of the expansion budget, and stops both threads once its monitor
+ * tells it to.
+ *
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 14, 2015)
  * @param <N> the actual graph node type.
  */
 public class ParallelNewBidirectionalAStarPathFinder
-<N extends AbstractGraphNode<N>> 
+<N extends AbstractGraphNode<N>>
 extends AbstractPathFinder<N> {
 
     private final AbstractGraphWeightFunction<N> weightFunction;
     private final AbstractHeuristicFunction<N> heuristicFunction;
-    
+
     private N source;
     private N target;
-    
+    private SearchLimits limits;
+
     public ParallelNewBidirectionalAStarPathFinder(
             AbstractGraphWeightFunction<N> weightFunction,
             AbstractHeuristicFunction<N> heuristicFunction) {
@@ -43,400 +60,357 @@ extends AbstractPathFinder<N> {
         this.weightFunction = weightFunction;
         this.heuristicFunction = heuristicFunction;
     }
-    
+
     private ParallelNewBidirectionalAStarPathFinder(
             AbstractGraphWeightFunction<N> weightFunction,
             AbstractHeuristicFunction<N> heuristicFunction,
             N source,
-            N target) {
+            N target,
+            SearchLimits limits) {
         this.weightFunction = weightFunction;
         this.heuristicFunction = heuristicFunction;
         this.source = source;
         this.target = target;
+        this.limits = limits;
     }
-    
+
     @Override
     public List<N> search(N source, N target) {
+        return search(source, target, SearchLimits.NONE).getPath();
+    }
+
+    @Override
+    public SearchResult<N> search(N source, N target, SearchLimits limits) {
         Objects.requireNonNull(source, "The source node is null.");
         Objects.requireNonNull(target, "The target node is null.");
-        
+        Objects.requireNonNull(limits, "The search limits are null.");
+
         if (source.equals(target)) {
             List<N> path = new ArrayList<>(1);
             path.add(source);
-            return path;
+            return new SearchMonitor(limits, this).getResult(path, 0.0);
         }
-        
-        return new ParallelNewBidirectionalAStarPathFinder(weightFunction,
-                                                           heuristicFunction,
-                                                           source,
-                                                           target).search();
+
+        return new ParallelNewBidirectionalAStarPathFinder<>(weightFunction,
+                                                             heuristicFunction,
+                                                             source,
+                                                             target,
+                                                             limits).search();
     }
-    
-    private List<N> search() {
+
+    private SearchResult<N> search() {
+        SearchMonitor monitor = new SearchMonitor(limits, this);
         MinimumPriorityQueue<N> OPEN = getQueue() == null ?
                                        new DaryHeap<>() :
                                        getQueue().spawn();
-        
-        Set<N> CLOSED = Collections.<N>newSetFromMap(new ConcurrentHashMap<>());
-        PathLengthHolder<N> pathLengthHolder = new PathLengthHolder<>();
-        
-        SearchThread<N> forwardThread = 
-                new ForwardSearchThread<>(OPEN.spawn(),
-                                          CLOSED,
-                                          weightFunction,
-                                          heuristicFunction,
-                                          pathLengthHolder,
-                                          source,
-                                          target);
-        
-        SearchThread<N> backwardThread = 
-                new BackwardSearchThread(OPEN.spawn(),
-                                         CLOSED,
-                                         weightFunction,
-                                         heuristicFunction,
-                                         pathLengthHolder,
-                                         source,
-                                         target);
-        
+
+        SharedState<N> sharedState = new SharedState<>();
+        ConcurrentSearchState<N> STATEA = new ConcurrentSearchState<>();
+        ConcurrentSearchState<N> STATEB = new ConcurrentSearchState<>();
+
+        SearchMonitor forwardMonitor = monitor.fork(splitLimits(true));
+        SearchMonitor backwardMonitor = monitor.fork(splitLimits(false));
+        SearchThread<N> forwardThread =
+                new SearchThread<>(true,
+                                   forwardMonitor.track(OPEN.spawn()),
+                                   STATEA,
+                                   STATEB,
+                                   sharedState,
+                                   weightFunction,
+                                   heuristicFunction,
+                                   source,
+                                   target,
+                                   forwardMonitor);
+
+        SearchThread<N> backwardThread =
+                new SearchThread<>(false,
+                                   backwardMonitor.track(OPEN.spawn()),
+                                   STATEB,
+                                   STATEA,
+                                   sharedState,
+                                   weightFunction,
+                                   heuristicFunction,
+                                   source,
+                                   target,
+                                   backwardMonitor);
+
         forwardThread.setBrotherThread(backwardThread);
         backwardThread.setBrotherThread(forwardThread);
-        
+
         forwardThread.start();
         backwardThread.start();
-        
+
         try {
             forwardThread.join();
             backwardThread.join();
         } catch (InterruptedException ex) {
-            return null;
-        }
-        
-        N touchNode = pathLengthHolder.getTouchNode();
-        
-        if (touchNode == null) {
-            return Collections.<N>emptyList();
+            // Stop the threads and preserve the interrupt status for the
+            // caller.
+            sharedState.finish();
+            Thread.currentThread().interrupt();
+            monitor.interrupt();
+            return monitor.getResult(Collections.<N>emptyList());
         }
-   
-        return tracebackPath(touchNode,
-                             forwardThread.getParentMap(),
-                             backwardThread.getParentMap());
+
+        monitor.absorb(forwardMonitor);
+        monitor.absorb(backwardMonitor);
+        BestPath<N> bestPath = sharedState.getBestPath();
+        List<N> path = bestPath.touchNode == null || monitor.isStopped() ?
+                       Collections.<N>emptyList() :
+                       tracebackPath(bestPath.touchNode, STATEA, STATEB);
+
+        return monitor.getResult(path, bestPath.length);
+    }
+
+    /**
+     * Returns the limits of the forward or the backward thread, each taking
+     * a half of the expansion budget.
+     */
+    private SearchLimits splitLimits(boolean forward) {
+        long maximumExpansions = limits.getMaximumExpansions();
+        return limits.withMaximumExpansions(forward ?
+                                            maximumExpansions -
+                                            maximumExpansions / 2 :
+                                            maximumExpansions / 2);
     }
 
     @Override
     public String humanReadableName() {
         return "Parallel NBA*";
     }
-    
-    private static class SearchThread<N extends AbstractGraphNode<N>> 
+
+    /**
+     * The best path found so far: its length and the node the two searches
+     * met at.
+     */
+    private static final class BestPath<N> {
+
+        final double length;
+        final N touchNode;
+
+        BestPath(double length, N touchNode) {
+            this.length = length;
+            this.touchNode = touchNode;
+        }
+    }
+
+    /**
+     * The state shared by the two threads besides their search states.
+     */
+    private static final class SharedState<N> {
+
+        private final AtomicReference<BestPath<N>> bestPath =
+                new AtomicReference<>(
+                        new BestPath<N>(Double.POSITIVE_INFINITY, null));
+        private volatile boolean finished;
+
+        BestPath<N> getBestPath() {
+            return bestPath.get();
+        }
+
+        double getBestPathLength() {
+            return bestPath.get().length;
+        }
+
+        /**
+         * Records the path of length {@code length} through
+         * {@code touchNode} unless a path at least as short is known.
+         */
+        void tryUpdate(double length, N touchNode) {
+            BestPath<N> current = bestPath.get();
+
+            if (current.length <= length) {
+                return;
+            }
+
+            BestPath<N> update = new BestPath<>(length, touchNode);
+
+            while (!bestPath.compareAndSet(current, update)) {
+                current = bestPath.get();
+
+                if (current.length <= length) {
+                    return;
+                }
+            }
+        }
+
+        boolean isFinished() {
+            return finished;
+        }
+
+        void finish() {
+            finished = true;
+        }
+    }
+
+    /**
+     * Runs one direction of the search. The forward search expands the
+     * children and the backward search the parents; the closed nodes of
+     * either search are skipped by both.
+     */
+    private static final class SearchThread<N extends AbstractGraphNode<N>>
     extends Thread {
-        
-        protected volatile boolean finished;
-        protected volatile double F;
-        protected SearchThread brotherThread;
-        protected final MinimumPriorityQueue<N> OPEN;
-        protected final Set<N> CLOSED;
-        protected final Map<N, N> PARENTS = new HashMap<>();
-        protected final Map<N, Double> DISTANCE = new HashMap<>();
-        protected final AbstractHeuristicFunction<N> heuristicFunction;
-        protected final AbstractGraphWeightFunction<N> weightFunction;
-        protected final PathLengthHolder<N> pathLengthHolder;
-        protected final N source;
-        protected final N target;
-        
-        SearchThread(MinimumPriorityQueue<N> OPEN,
-                     Set<N> CLOSED, 
-                     AbstractHeuristicFunction<N> heuristicFunction,
+
+        private final boolean forward;
+        private final MinimumPriorityQueue<N> OPEN;
+        private final ConcurrentSearchState<N> STATE;
+        private final ConcurrentSearchState<N> OTHER_STATE;
+        private final SharedState<N> sharedState;
+        private final AbstractGraphWeightFunction<N> weightFunction;
+        private final AbstractHeuristicFunction<N> heuristicFunction;
+        private final N source;
+        private final N target;
+        private final SearchMonitor monitor;
+        private SearchThread<N> brotherThread;
+
+        /**
+         * The minimum {@code f}-value of the open list of this search.
+         */
+        private volatile double F;
+
+        SearchThread(boolean forward,
+                     MinimumPriorityQueue<N> OPEN,
+                     ConcurrentSearchState<N> STATE,
+                     ConcurrentSearchState<N> OTHER_STATE,
+                     SharedState<N> sharedState,
                      AbstractGraphWeightFunction<N> weightFunction,
-                     PathLengthHolder<N> pathLengthHolder,
+                     AbstractHeuristicFunction<N> heuristicFunction,
                      N source,
-                     N target) {
+                     N target,
+                     SearchMonitor monitor) {
+            this.forward = forward;
             this.OPEN = OPEN;
-            this.CLOSED = CLOSED;
-            this.heuristicFunction = heuristicFunction;
+            this.STATE = STATE;
+            this.OTHER_STATE = OTHER_STATE;
+            this.sharedState = sharedState;
             this.weightFunction = weightFunction;
-            this.pathLengthHolder = pathLengthHolder;
+            this.heuristicFunction = heuristicFunction;
             this.source = source;
             this.target = target;
+            this.monitor = monitor;
+            // Both values are lower bounds before the threads start.
+            this.F = heuristicFunction.estimate(source, target);
         }
-        
-        SearchThread<N> getBrotherThread() {
-            return this.brotherThread;
-        }
-        
-        void setBrotherThread(SearchThread brotherThread) {
+
+        void setBrotherThread(SearchThread<N> brotherThread) {
             this.brotherThread = brotherThread;
         }
-        
-        void finish() {
-            finished = true;
-            brotherThread.finished = true;
-        }
-        
-        double getF() {
-            return F;
-        }
-        
-        Map<N, N> getParentMap() {
-            return PARENTS;
-        }
-        
-        Map<N, Double> getDistanceMap() {
-            return DISTANCE;
-        }
-    }
-    
-    private static final class 
-            ForwardSearchThread<N extends AbstractGraphNode<N>> 
-    extends SearchThread<N> {
-        
-        ForwardSearchThread(MinimumPriorityQueue<N> OPEN,
-                            Set<N> CLOSED,
-                            AbstractGraphWeightFunction<N> weightFunction,
-                            AbstractHeuristicFunction<N> heuristicFunction,
-                            PathLengthHolder<N> pathLengthHolder,
-                            N source,
-                            N target) {
-            
-            super(OPEN,
-                  CLOSED, 
-                  heuristicFunction, 
-                  weightFunction,
-                  pathLengthHolder, 
-                  source, 
-                  target);
-        }
-        
+
         @Override
         public void run() {
-            F = heuristicFunction.estimate(source, target);
-            PARENTS.put(source, null);
-            DISTANCE.put(source, 0.0);
-            OPEN.add(source, F);
-            
-            while (!finished) {
+            monitor.startClock();
+
+            try {
+                search();
+            } finally {
+                monitor.stopClock();
+            }
+        }
+
+        private void search() {
+            N start = forward ? source : target;
+            STATE.put(start, 0.0, null);
+            OPEN.add(start, F);
+            monitor.generate();
+
+            // The other search may have reached, or even closed, the start
+            // node before this thread started.
+            double otherDistance = OTHER_STATE.getDistance(start);
+
+            if (otherDistance != Double.POSITIVE_INFINITY) {
+                sharedState.tryUpdate(otherDistance, start);
+            }
+
+            while (!sharedState.isFinished()) {
                 if (OPEN.isEmpty()) {
-                    finish();
+                    sharedState.finish();
                     return;
                 }
-                
+
                 N current = OPEN.extractMinimum();
-                
-                if (CLOSED.contains(current)) {
+
+                if (OTHER_STATE.isClosed(current)) {
                     continue;
                 }
-                
-                double f = DISTANCE.get(current) + 
-                           heuristicFunction.estimate(current, target);
-                double L = pathLengthHolder.read();
-                double tmp = DISTANCE.get(current) + 
-                             brotherThread.getF() - 
-                             heuristicFunction.estimate(current, source);
-                
-                if (f < L && tmp < L) {
-                    for (N child : current.children()) {
-                        if (CLOSED.contains(child)) {
-                            continue;
-                        }
-                        
-                        double tentativeScore = DISTANCE.get(current) + 
-                                                weightFunction.get(current, 
-                                                                   child);
-                        
-                        if (!DISTANCE.containsKey(child)) {
-                            DISTANCE.put(child, tentativeScore);
-                            PARENTS.put(child, current);
-                            OPEN.add(child, 
-                                     tentativeScore + 
-                                     heuristicFunction.estimate(child, target));
-                            
-                            Map<N, Double> OTHER_DISTANCE = getBrotherThread()
-                                                           .getDistanceMap();
-                            
-                            Double g2 = OTHER_DISTANCE.get(child);
-                            
-                            if (g2 != null) {
-                                double tmpDist = g2 + DISTANCE.get(child);
-                                
-                                if (pathLengthHolder.read() > tmpDist) {
-                                    pathLengthHolder.tryUpdate(tmpDist, child);
-                                }
-                            }
-                        } else if (DISTANCE.get(child) > tentativeScore) {
-                            DISTANCE.put(child, tentativeScore);
-                            PARENTS.put(child, current);
-                            OPEN.decreasePriority(
-                                     child,
-                                     tentativeScore +
-                                     heuristicFunction.estimate(child, target));
-                            
-                            Map<N, Double> OTHER_DISTANCE = getBrotherThread()
-                                                           .getDistanceMap();
-                            
-                            Double g2 = OTHER_DISTANCE.get(child);
-                            
-                            if (g2 != null) {
-                                double tmpDist = g2 + DISTANCE.get(child);
-                                
-                                if (pathLengthHolder.read() > tmpDist) {
-                                    pathLengthHolder.tryUpdate(tmpDist, child);
-                                }
-                            }
-                        }
-                    }
-                    
-                    CLOSED.add(current);
-                }
-                
-                if (OPEN.isEmpty()) {
-                    finish();
+
+                if (monitor.expand()) {
+                    sharedState.finish();
                     return;
                 }
-                
-                this.F = DISTANCE.get(OPEN.min()) + 
-                         heuristicFunction.estimate(OPEN.min(), target);
+
+                STATE.close(current);
+                double distance = STATE.getDistance(current);
+                double bestPathLength = sharedState.getBestPathLength();
+
+                if (distance + estimate(current) < bestPathLength &&
+                        distance + brotherThread.F -
+                        brotherThread.estimate(current) < bestPathLength) {
+                    expand(current, distance);
+                }
+
+                if (!OPEN.isEmpty()) {
+                    N node = OPEN.min();
+                    F = STATE.getDistance(node) + estimate(node);
+                }
             }
         }
-    }
-    
-    private static final class 
-            BackwardSearchThread<N extends AbstractGraphNode<N>> 
-    extends SearchThread<N> {
-        
-        BackwardSearchThread(MinimumPriorityQueue<N> OPEN,
-                             Set<N> CLOSED,
-                             AbstractGraphWeightFunction<N> weightFunction,
-                             AbstractHeuristicFunction<N> heuristicFunction,
-                             PathLengthHolder<N> pathLengthHolder,
-                             N source,
-                             N target) {
-            super(OPEN,
-                  CLOSED, 
-                  heuristicFunction, 
-                  weightFunction,
-                  pathLengthHolder, 
-                  source, 
-                  target);
-            
-            this.F = heuristicFunction.estimate(source, target);
-        }
-        
-        @Override
-        public void run() {
-            F = heuristicFunction.estimate(source, target);
-            PARENTS.put(target, null);
-            DISTANCE.put(target, 0.0);
-            OPEN.add(target, F);
-            
-            while (!finished) {
-                if (OPEN.isEmpty()) {
-                    finish();
-                    return;
+
+        private void expand(N current, double distance) {
+            Collection<N> successors = forward ?
+                                       current.children() :
+                                       current.parents();
+
+            for (N node : successors) {
+                if (STATE.isClosed(node)) {
+                    continue;
                 }
-                
-                N current = OPEN.extractMinimum();
-                
-                if (CLOSED.contains(current)) {
+
+                double tentativeScore = distance +
+                                        (forward ?
+                                         weightFunction.get(current, node) :
+                                         weightFunction.get(node, current));
+                double nodeDistance = STATE.getDistance(node);
+
+                if (nodeDistance <= tentativeScore) {
                     continue;
                 }
-                
-                double f = DISTANCE.get(current) + 
-                           heuristicFunction.estimate(current, source);
-                double L = pathLengthHolder.read();
-                double tmp = DISTANCE.get(current) + 
-                             brotherThread.getF() - 
-                             heuristicFunction.estimate(current, target);
-                
-                if (f < L && tmp < L) {
-                    for (N parent : current.parents()) {
-                        if (CLOSED.contains(parent)) {
-                            continue;
-                        }
-                        
-                        double tentativeScore = DISTANCE.get(current) + 
-                                                weightFunction.get(parent, 
-                                                                   current);
-                        
-                        if (!DISTANCE.containsKey(parent)) {
-                            DISTANCE.put(parent, tentativeScore);
-                            PARENTS.put(parent, current);
-                            OPEN.add(parent, 
-                                     tentativeScore + 
-                                     heuristicFunction.estimate(parent, 
-                                                                source));
-                            
-                            Map<N, Double> OTHER_DISTANCE = getBrotherThread()
-                                                           .getDistanceMap();
-                            
-                            Double g2 = OTHER_DISTANCE.get(parent);
-                            
-                            if (g2 != null) {
-                                double tmpDist = g2 + DISTANCE.get(parent);
-                                
-                                if (pathLengthHolder.read() > tmpDist) {
-                                    pathLengthHolder.tryUpdate(tmpDist, parent);
-                                }
-                            }
-                        } else if (DISTANCE.get(parent) > tentativeScore) {
-                            DISTANCE.put(parent, tentativeScore);
-                            PARENTS.put(parent, current);
-                            OPEN.decreasePriority(
-                                     parent,
-                                     tentativeScore +
-                                     heuristicFunction.estimate(parent, 
-                                                                source));
-                            
-                            Map<N, Double> OTHER_DISTANCE = getBrotherThread()
-                                                           .getDistanceMap();
-                            
-                            Double g2 = OTHER_DISTANCE.get(parent);
-                            
-                            if (g2 != null) {
-                                double tmpDist = g2 + DISTANCE.get(parent);
-                                
-                                if (pathLengthHolder.read() > tmpDist) {
-                                    pathLengthHolder.tryUpdate(tmpDist, parent);
-                                }
-                            }
-                        }
+
+                STATE.put(node, tentativeScore, current);
+
+                // A node closed by the other search is not opened, yet its
+                // distance is recorded: the other search may have skipped
+                // 'current', which this search closed meanwhile, so the path
+                // through the arc must be considered here.
+                if (!OTHER_STATE.isClosed(node)) {
+                    if (nodeDistance == Double.POSITIVE_INFINITY) {
+                        monitor.generate();
+                        OPEN.add(node, tentativeScore + estimate(node));
+                    } else {
+                        OPEN.decreasePriority(node,
+                                              tentativeScore + estimate(node));
                     }
-                    
-                    CLOSED.add(current);
                 }
-                
-                if (OPEN.isEmpty()) {
-                    finish();
-                    return;
+
+                // Our distance is published before the other one is read, so
+                // of the two searches reaching the node, at least one sees
+                // the distance of the other.
+                double otherDistance = OTHER_STATE.getDistance(node);
+
+                if (otherDistance != Double.POSITIVE_INFINITY) {
+                    sharedState.tryUpdate(tentativeScore + otherDistance,
+                                          node);
                 }
-                
-                this.F = DISTANCE.get(OPEN.min()) + 
-                         heuristicFunction.estimate(OPEN.min(), target);
             }
         }
-    }
-    
-    private static final class PathLengthHolder<N> {
-        
-        private final Semaphore mutex = new Semaphore(1);
-        private volatile double length = Double.POSITIVE_INFINITY;
-        private N touchNode;
-        
-        double read() {
-            return length;
-        }
-        
-        void tryUpdate(double length, N touchNode) {
-            mutex.acquireUninterruptibly();
-            
-            if (this.length > length) {
-                this.length = length;
-                this.touchNode = touchNode;
-            }
-            
-            mutex.release();
-        }
-        
-        N getTouchNode() {
-            return touchNode;
+
+        /**
+         * Estimates the distance from {@code node} to the node this search
+         * is headed to.
+         */
+        private double estimate(N node) {
+            return forward ?
+                   heuristicFunction.estimate(node, target) :
+                   heuristicFunction.estimate(source, node);
         }
     }
 }
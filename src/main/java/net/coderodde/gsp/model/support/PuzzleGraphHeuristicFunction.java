@@ -4,50 +4,92 @@ import net.coderodde.gsp.model.AbstractHeuristicFunction;
 
 /**
  * This class implements a heuristic function in the <tt>n^2 - 1</tt> puzzle.
- * 
+ * The goal cells of the tiles of the last source and the last target are kept
+ * in two immutable tables, so that both the forward searches, which keep the
+ * target fixed, and the backward searches, which keep the source fixed,
+ * reuse a table, and the function may be shared between threads; for an
+ * incremental heuristic, see {@link PuzzleManhattanHeuristicFunction}.
+ *
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Oct 18, 2015)
  */
-public class PuzzleGraphHeuristicFunction 
+public class PuzzleGraphHeuristicFunction
 extends AbstractHeuristicFunction<PuzzleGraphNode> {
 
-    private final int[] xArray1;
-    private final int[] yArray1;
-    private final int[] xArray2;
-    private final int[] yArray2;
-    
+    /**
+     * Maps each tile of a target node to its coordinates.
+     */
+    private static final class TargetTable {
+
+        final PuzzleGraphNode target;
+        final int[] xArray;
+        final int[] yArray;
+
+        TargetTable(PuzzleGraphNode target) {
+            int n = target.getDegree();
+            this.target = target;
+            this.xArray = new int[n * n];
+            this.yArray = new int[n * n];
+
+            for (int y = 0; y < n; ++y) {
+                for (int x = 0; x < n; ++x) {
+                    int tile = target.get(x, y);
+                    xArray[tile] = x;
+                    yArray[tile] = y;
+                }
+            }
+        }
+    }
+
+    /**
+     * The table of the last node passed as the target.
+     */
+    private volatile TargetTable targetTable;
+
+    /**
+     * The table of the last node passed as the source.
+     */
+    private volatile TargetTable sourceTable;
+
     public PuzzleGraphHeuristicFunction(int degree) {
-        int n = degree * degree;
-        this.xArray1 = new int[n];
-        this.yArray1 = new int[n];
-        this.xArray2 = new int[n];
-        this.yArray2 = new int[n];
+        this.targetTable = new TargetTable(new PuzzleGraphNode(degree));
+        this.sourceTable = targetTable;
     }
-    
+
     @Override
     public double estimate(PuzzleGraphNode source, PuzzleGraphNode target) {
+        TargetTable table = targetTable;
+
+        if (!table.target.equals(target)) {
+            table = sourceTable;
+
+            if (table.target.equals(source)) {
+                // The Manhattan distance is symmetric; swap the arguments so
+                // that the backward searches reuse the table of the source.
+                source = target;
+            } else {
+                // Neither endpoint is cached, so there is no telling which of
+                // them stays fixed during the search: cache both.
+                sourceTable = new TargetTable(source);
+                table = new TargetTable(target);
+                targetTable = table;
+            }
+        }
+
         int n = source.getDegree();
-        
+        int estimate = 0;
+
         for (int y = 0; y < n; ++y) {
             for (int x = 0; x < n; ++x) {
-                int tile1 = source.get(x, y);
-                int tile2 = target.get(x, y);
-                
-                xArray1[tile1] = x;
-                yArray1[tile1] = y;
-                
-                xArray2[tile2] = x;
-                yArray2[tile2] = y;
+                int tile = source.get(x, y);
+
+                if (tile != 0) {
+                    estimate += Math.abs(x - table.xArray[tile]) +
+                                Math.abs(y - table.yArray[tile]);
+                }
             }
         }
-        
-        int estimate = 0;
-        
-        for (int i = 1; i < n; ++i) {
-            estimate += Math.abs(xArray1[i] - xArray2[i]) + 
-                        Math.abs(yArray1[i] - yArray2[i]);
-        }
-        
+
         return estimate;
     }
 }
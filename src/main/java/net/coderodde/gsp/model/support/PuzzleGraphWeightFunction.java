@@ -0,0 +1,27 @@
+package net.coderodde.gsp.model.support;
+
+import net.coderodde.gsp.model.AbstractGraphWeightFunction;
+
+/**
+ * This class implements a weight function of the puzzle graph. Each move has
+ * unit cost.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PuzzleGraphWeightFunction 
+extends AbstractGraphWeightFunction<PuzzleGraphNode> {
+
+    @Override
+    public void put(PuzzleGraphNode tail, 
+                    PuzzleGraphNode head, 
+                    double weight) {
+        throw new UnsupportedOperationException(
+                "The edges of PuzzleGraphNodes are implicitly weighted.");
+    }
+
+    @Override
+    public double get(PuzzleGraphNode tail, PuzzleGraphNode head) {
+        return 1.0;
+    }
+}
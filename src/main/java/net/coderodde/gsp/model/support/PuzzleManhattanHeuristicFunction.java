@@ -0,0 +1,263 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+
+/**
+ * This class implements the Manhattan distance heuristic over
+ * {@link PackedPuzzleGraphNode}s, optionally with the linear conflict term.
+ * A tile in its goal row (column) that must pass another tile of the same
+ * row (column) needs two extra moves; for each line, the amount of tiles to
+ * take out of it is the amount of its goal tiles minus the longest run of
+ * them already in the goal order.
+ * <p>
+ * The goal cells of the tiles are precomputed once per goal. The estimate of
+ * a node is computed incrementally from the estimate of its parent: a move
+ * changes the Manhattan distance of one tile and the conflicts of two lines
+ * only. The estimates are cached in the nodes, so the estimate of a node is
+ * computed from scratch only if the estimate of its parent is unknown.
+ * Both terms are symmetric, so a node is estimated against the goal also
+ * when passed as the target, as done by the backward searches of the
+ * bidirectional finders. Pairs of nodes none of which is the goal are
+ * estimated from scratch.
+ * <p>
+ * The function holds no mutable state, so it may be shared between threads.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+public class PuzzleManhattanHeuristicFunction
+extends AbstractHeuristicFunction<PackedPuzzleGraphNode> {
+
+    /**
+     * Used for assigning unique IDs to the heuristic functions in order to
+     * tell their cached estimates apart.
+     */
+    private static final AtomicInteger ID_COUNTER = new AtomicInteger();
+
+    private static final long ESTIMATE_MASK = 0xffffffffL;
+
+    private final int id;
+    private final PackedPuzzleGraphNode goal;
+    private final int degree;
+    private final boolean linearConflict;
+
+    /**
+     * The goal cell of each tile, one per nibble.
+     */
+    private final long goalCells;
+
+    public PuzzleManhattanHeuristicFunction(PackedPuzzleGraphNode goal,
+                                            boolean linearConflict) {
+        this.goal = Objects.requireNonNull(goal, "The goal node is null.");
+        this.id = ID_COUNTER.incrementAndGet();
+        this.degree = goal.getDegree();
+        this.linearConflict = linearConflict;
+        this.goalCells = getGoalCells(goal);
+    }
+
+    public PackedPuzzleGraphNode getGoal() {
+        return goal;
+    }
+
+    public boolean isLinearConflict() {
+        return linearConflict;
+    }
+
+    @Override
+    public double estimate(PackedPuzzleGraphNode source,
+                           PackedPuzzleGraphNode target) {
+        if (target.equals(goal)) {
+            return estimate(source);
+        }
+
+        if (source.equals(goal)) {
+            return estimate(target);
+        }
+
+        return computeEstimate(source.getTiles(), getGoalCells(target));
+    }
+
+    /**
+     * Returns the estimate of the distance between {@code node} and the goal.
+     *
+     * @param node the node to estimate.
+     * @return the estimate.
+     */
+    public int estimate(PackedPuzzleGraphNode node) {
+        long cachedEstimate = node.getCachedEstimate();
+
+        if (cachedEstimate >>> 32 == id) {
+            return (int)(cachedEstimate & ESTIMATE_MASK);
+        }
+
+        long parentEstimate = node.getParentEstimate();
+        int estimate = parentEstimate >>> 32 == id ?
+                       updateEstimate(node,
+                                      (int)(parentEstimate & ESTIMATE_MASK)) :
+                       computeEstimate(node.getTiles(), goalCells);
+
+        node.setCachedEstimate(((long) id << 32) | estimate);
+        return estimate;
+    }
+
+    /**
+     * Computes the estimate of {@code node} from the estimate of its parent.
+     */
+    private int updateEstimate(PackedPuzzleGraphNode node, int parentEstimate) {
+        int tileCell = node.getPreviousEmptyCell();
+        int emptyCell = node.getEmptyCell();
+        long tiles = node.getTiles();
+        int tile = node.getTile(tileCell);
+        int goalCell = getNibble(goalCells, tile);
+        int estimate = parentEstimate
+                     + distance(tileCell, goalCell)
+                     - distance(emptyCell, goalCell);
+
+        if (!linearConflict) {
+            return estimate;
+        }
+
+        long parentTiles = tiles ^ ((long) tile << 4 * tileCell)
+                                 ^ ((long) tile << 4 * emptyCell);
+
+        if (tileCell / degree == emptyCell / degree) {
+            // A horizontal move changes the conflicts of two columns.
+            int column1 = tileCell % degree;
+            int column2 = emptyCell % degree;
+
+            return estimate + 2 * (columnConflicts(tiles, column1, goalCells)
+                                 + columnConflicts(tiles, column2, goalCells)
+                                 - columnConflicts(parentTiles,
+                                                   column1,
+                                                   goalCells)
+                                 - columnConflicts(parentTiles,
+                                                   column2,
+                                                   goalCells));
+        }
+
+        // A vertical move changes the conflicts of two rows.
+        int row1 = tileCell / degree;
+        int row2 = emptyCell / degree;
+
+        return estimate + 2 * (rowConflicts(tiles, row1, goalCells)
+                             + rowConflicts(tiles, row2, goalCells)
+                             - rowConflicts(parentTiles, row1, goalCells)
+                             - rowConflicts(parentTiles, row2, goalCells));
+    }
+
+    /**
+     * Computes the estimate from scratch.
+     */
+    private int computeEstimate(long tiles, long goalCells) {
+        int cells = degree * degree;
+        int estimate = 0;
+
+        for (int cell = 0; cell < cells; ++cell) {
+            int tile = getNibble(tiles, cell);
+
+            if (tile != 0) {
+                estimate += distance(cell, getNibble(goalCells, tile));
+            }
+        }
+
+        if (linearConflict) {
+            for (int line = 0; line < degree; ++line) {
+                estimate += 2 * (rowConflicts(tiles, line, goalCells) +
+                                 columnConflicts(tiles, line, goalCells));
+            }
+        }
+
+        return estimate;
+    }
+
+    /**
+     * Returns the amount of tiles to take out of the row {@code row} in order
+     * to resolve its linear conflicts.
+     */
+    private int rowConflicts(long tiles, int row, long goalCells) {
+        int[] goalColumns = new int[degree];
+        int count = 0;
+
+        for (int x = 0; x < degree; ++x) {
+            int tile = getNibble(tiles, row * degree + x);
+
+            if (tile != 0) {
+                int goalCell = getNibble(goalCells, tile);
+
+                if (goalCell / degree == row) {
+                    goalColumns[count++] = goalCell % degree;
+                }
+            }
+        }
+
+        return count - longestIncreasingRun(goalColumns, count);
+    }
+
+    /**
+     * Returns the amount of tiles to take out of the column {@code column}
+     * in order to resolve its linear conflicts.
+     */
+    private int columnConflicts(long tiles, int column, long goalCells) {
+        int[] goalRows = new int[degree];
+        int count = 0;
+
+        for (int y = 0; y < degree; ++y) {
+            int tile = getNibble(tiles, y * degree + column);
+
+            if (tile != 0) {
+                int goalCell = getNibble(goalCells, tile);
+
+                if (goalCell % degree == column) {
+                    goalRows[count++] = goalCell / degree;
+                }
+            }
+        }
+
+        return count - longestIncreasingRun(goalRows, count);
+    }
+
+    /**
+     * Returns the length of the longest increasing subsequence of the first
+     * {@code count} values, which are at most four.
+     */
+    private static int longestIncreasingRun(int[] values, int count) {
+        int[] lengths = new int[count];
+        int longest = 0;
+
+        for (int i = 0; i < count; ++i) {
+            lengths[i] = 1;
+
+            for (int j = 0; j < i; ++j) {
+                if (values[j] < values[i] && lengths[j] + 1 > lengths[i]) {
+                    lengths[i] = lengths[j] + 1;
+                }
+            }
+
+            longest = Math.max(longest, lengths[i]);
+        }
+
+        return longest;
+    }
+
+    private int distance(int cell1, int cell2) {
+        return Math.abs(cell1 % degree - cell2 % degree) +
+               Math.abs(cell1 / degree - cell2 / degree);
+    }
+
+    private static int getNibble(long nibbles, int index) {
+        return (int)(nibbles >>> 4 * index) & 0xf;
+    }
+
+    private static long getGoalCells(PackedPuzzleGraphNode goal) {
+        int cells = goal.getDegree() * goal.getDegree();
+        long goalCells = 0L;
+
+        for (int cell = 0; cell < cells; ++cell) {
+            goalCells |= (long) cell << 4 * goal.getTile(cell);
+        }
+
+        return goalCells;
+    }
+}
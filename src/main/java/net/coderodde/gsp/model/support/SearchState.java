@@ -0,0 +1,178 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.Arrays;
+import net.coderodde.gsp.model.AbstractGraphNode;
+import net.coderodde.gsp.model.AbstractSearchState;
+
+/**
+ * This class implements a search state on top of primitive arrays indexed by
+ * node IDs. It requires the node IDs to be dense non-negative integers, and 
+ * each node ID to identify exactly one node. Resetting the state runs in 
+ * constant time: each array slot is tagged with the generation it was written
+ * in, and a reset merely starts a new generation. Once the arrays have grown 
+ * to fit the graph, searches allocate nothing and box nothing.
+ * 
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ * @param <N> the actual graph node type.
+ */
+public class SearchState<N extends AbstractGraphNode<N>> 
+extends AbstractSearchState<N> {
+
+    /**
+     * The default capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+    
+    /**
+     * Marks the absence of a parent node.
+     */
+    private static final int NO_PARENT = -1;
+    
+    /**
+     * The distances of the nodes.
+     */
+    private double[] g;
+    
+    /**
+     * The IDs of the parent nodes.
+     */
+    private int[] parent;
+    
+    /**
+     * The generation tags. The slot of a node reached in the current 
+     * generation holds {@code stamp}; the slot of a node closed in the current
+     * generation holds {@code stamp + 1}.
+     */
+    private int[] generation;
+    
+    /**
+     * Maps node IDs to the node objects so that the parents may be returned.
+     */
+    private Object[] nodes;
+    
+    /**
+     * The tag of the current generation. Always even.
+     */
+    private int stamp = 2;
+    
+    /**
+     * The amount of nodes reached in the current generation.
+     */
+    private int size;
+    
+    public SearchState() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Constructs a search state capable of holding the nodes with IDs 
+     * {@code 0, 1, ..., capacity - 1} without growing.
+     * 
+     * @param capacity the initial capacity.
+     */
+    public SearchState(int capacity) {
+        capacity = Math.max(1, capacity);
+        this.g = new double[capacity];
+        this.parent = new int[capacity];
+        this.generation = new int[capacity];
+        this.nodes = new Object[capacity];
+    }
+    
+    @Override
+    public void reset() {
+        size = 0;
+        stamp += 2;
+        
+        if (stamp < 0) {
+            // The generation counter wrapped around.
+            Arrays.fill(generation, 0);
+            stamp = 2;
+        }
+    }
+
+    @Override
+    public boolean isReached(N node) {
+        int id = node.getId();
+        return id < generation.length && ((generation[id] - stamp) & ~1) == 0;
+    }
+
+    @Override
+    public double getDistance(N node) {
+        return isReached(node) ? g[node.getId()] : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public N getParent(N node) {
+        if (!isReached(node)) {
+            return null;
+        }
+        
+        int parentId = parent[node.getId()];
+        return parentId == NO_PARENT ? null : (N) nodes[parentId];
+    }
+
+    @Override
+    public void put(N node, double distance, N parentNode) {
+        int id = node.getId();
+        
+        if (!isReached(node)) {
+            ensureCapacity(id + 1);
+            generation[id] = stamp;
+            nodes[id] = node;
+            ++size;
+        }
+        
+        g[id] = distance;
+        parent[id] = parentNode == null ? NO_PARENT : parentNode.getId();
+    }
+
+    @Override
+    public boolean isClosed(N node) {
+        int id = node.getId();
+        return id < generation.length && generation[id] == stamp + 1;
+    }
+
+    @Override
+    public void close(N node) {
+        int id = node.getId();
+        
+        if (!isReached(node)) {
+            ensureCapacity(id + 1);
+            g[id] = Double.POSITIVE_INFINITY;
+            parent[id] = NO_PARENT;
+            nodes[id] = node;
+            ++size;
+        }
+        
+        generation[id] = stamp + 1;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public AbstractSearchState<N> spawn() {
+        return new SearchState<>(generation.length);
+    }
+    
+    /**
+     * Makes sure that the nodes with IDs less than {@code capacity} fit in 
+     * this state.
+     * 
+     * @param capacity the requested capacity.
+     */
+    private void ensureCapacity(int capacity) {
+        if (capacity <= generation.length) {
+            return;
+        }
+        
+        int newCapacity = Math.max(capacity, 3 * generation.length / 2);
+        g = Arrays.copyOf(g, newCapacity);
+        parent = Arrays.copyOf(parent, newCapacity);
+        generation = Arrays.copyOf(generation, newCapacity);
+        nodes = Arrays.copyOf(nodes, newCapacity);
+    }
+}
@@ -0,0 +1,79 @@
+package net.coderodde.gsp.model.jfr;
+
+/**
+ * This class implements {@link EventRecorder} on top of the Flight Recorder
+ * API. It is loaded by {@link JfrEvents} only if {@code jdk.jfr} is present.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+final class FlightRecorderEvents implements EventRecorder {
+
+    @Override
+    public Object beginSearch() {
+        SearchEvent event = new SearchEvent();
+
+        if (!event.isEnabled()) {
+            return null;
+        }
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitSearch(Object e,
+                             String algorithm,
+                             String heap,
+                             String status,
+                             long expandedNodes,
+                             long generatedNodes,
+                             long reopenedNodes,
+                             long peakOpenSize,
+                             int pathNodes,
+                             double pathCost) {
+        SearchEvent event = (SearchEvent) e;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.algorithm = algorithm;
+            event.heap = heap;
+            event.status = status;
+            event.expandedNodes = expandedNodes;
+            event.generatedNodes = generatedNodes;
+            event.reopenedNodes = reopenedNodes;
+            event.peakOpenSize = peakOpenSize;
+            event.pathNodes = pathNodes;
+            event.pathCost = pathCost;
+            event.commit();
+        }
+    }
+
+    @Override
+    public Object beginHeapResize() {
+        HeapResizeEvent event = new HeapResizeEvent();
+
+        if (!event.isEnabled()) {
+            return null;
+        }
+
+        event.begin();
+        return event;
+    }
+
+    @Override
+    public void commitHeapResize(Object e,
+                                 String heap,
+                                 int oldCapacity,
+                                 int newCapacity) {
+        HeapResizeEvent event = (HeapResizeEvent) e;
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.heap = heap;
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.commit();
+        }
+    }
+}
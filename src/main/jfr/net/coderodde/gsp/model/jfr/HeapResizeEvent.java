@@ -0,0 +1,37 @@
+package net.coderodde.gsp.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This Flight Recorder event covers the growth of the storage of a heap,
+ * including the copying of the elements. Disabled by default; enable
+ * {@value #NAME} in the recording settings.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@Name(HeapResizeEvent.NAME)
+@Label("Heap Resize")
+@Category("GraphSearchPal")
+@Description("The storage of a heap grew.")
+@Enabled(false)
+@StackTrace(false)
+public final class HeapResizeEvent extends Event {
+
+    public static final String NAME = "net.coderodde.gsp.HeapResize";
+
+    @Label("Heap")
+    String heap;
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+}
@@ -0,0 +1,56 @@
+package net.coderodde.gsp.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * This Flight Recorder event covers a single path search, from the moment
+ * the finder starts it until its result is built. Disabled by default;
+ * enable {@value #NAME} in the recording settings.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 17, 2026)
+ */
+@Name(SearchEvent.NAME)
+@Label("Path Search")
+@Category("GraphSearchPal")
+@Description("A single path search.")
+@Enabled(false)
+@StackTrace(false)
+public final class SearchEvent extends Event {
+
+    public static final String NAME = "net.coderodde.gsp.Search";
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Heap")
+    @Description("The open list implementation, if the finder has one.")
+    String heap;
+
+    @Label("Status")
+    String status;
+
+    @Label("Expanded Nodes")
+    long expandedNodes;
+
+    @Label("Generated Nodes")
+    long generatedNodes;
+
+    @Label("Reopened Nodes")
+    long reopenedNodes;
+
+    @Label("Peak Open Size")
+    long peakOpenSize;
+
+    @Label("Path Nodes")
+    int pathNodes;
+
+    @Label("Path Cost")
+    double pathCost;
+}
@@ -0,0 +1,171 @@
+package net.coderodde.gsp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.IterativeDeepeningAStarPathFinder;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class GraphSearchEventBufferTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static GraphData data;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("GraphSearchEventBufferTest.java, seed: " + seed);
+        data = getRandomGraphData(1000, 4000, new Random(seed));
+    }
+
+    @Test
+    public void testSameEventsAsLegacyListener() {
+        Random random = new Random(seed);
+        DijkstraPathFinder<DirectedGraphNode> finder =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int i = 0; i < 10; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            RecordingListener expected = new RecordingListener();
+            finder.setGraphSearchListener(expected);
+            finder.search(source, target);
+
+            for (int chunkSize : new int[]{ 1, 7, 4096 }) {
+                RecordingListener actual = new RecordingListener();
+                finder.setGraphSearchListener(
+                        new GraphSearchEventBuffer<>(
+                                new GraphSearchListenerAdapter<>(
+                                        actual,
+                                        data.graph::get),
+                                chunkSize));
+                finder.search(source, target);
+                assertEquals(expected.log, actual.log);
+            }
+        }
+    }
+
+    @Test
+    public void testChunks() {
+        Random random = new Random(seed);
+        List<Integer> chunkSizes = new ArrayList<>();
+        BatchedGraphSearchListener<DirectedGraphNode> listener =
+                new BatchedGraphSearchListener<DirectedGraphNode>() {
+
+            @Override
+            public void begin() {
+                assertTrue(chunkSizes.isEmpty());
+            }
+
+            @Override
+            public void events(int[] events, int count) {
+                chunkSizes.add(count);
+            }
+
+            @Override
+            public void done(List<DirectedGraphNode> path) {
+                chunkSizes.add(-1);
+            }
+        };
+
+        GraphSearchEventBuffer<DirectedGraphNode> buffer =
+                new GraphSearchEventBuffer<>(listener, 10);
+        DijkstraPathFinder<DirectedGraphNode> finder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        finder.setGraphSearchListener(buffer);
+        finder.search(choose(data.graph, random), choose(data.graph, random));
+
+        assertEquals(Integer.valueOf(-1),
+                     chunkSizes.get(chunkSizes.size() - 1));
+
+        for (int i = 0; i < chunkSizes.size() - 2; ++i) {
+            assertEquals(Integer.valueOf(10), chunkSizes.get(i));
+        }
+    }
+
+    @Test
+    public void testIterationFlushes() {
+        Random random = new Random(seed);
+        RecordingListener expected = new RecordingListener();
+        RecordingListener actual = new RecordingListener();
+        IterativeDeepeningAStarPathFinder<DirectedGraphNode> finder =
+                new IterativeDeepeningAStarPathFinder<>(
+                        data.weightFunction,
+                        data.heuristicFunction);
+        DirectedGraphNode source;
+
+        do {
+            source = choose(data.graph, random);
+        } while (source.children().isEmpty());
+
+        // Keep the search short, the graph is not small for IDA*.
+        DirectedGraphNode target = source.children().iterator().next();
+
+        finder.setGraphSearchListener(expected);
+        finder.search(source, target);
+        finder.setGraphSearchListener(
+                new GraphSearchEventBuffer<>(
+                        new GraphSearchListenerAdapter<>(actual,
+                                                         data.graph::get)));
+        finder.search(source, target);
+        assertEquals(expected.log, actual.log);
+    }
+
+    @Test
+    public void testEventEncoding() {
+        for (int id : new int[]{ 0, 1, 4095, Integer.MAX_VALUE }) {
+            assertFalse(BatchedGraphSearchListener.isClosed(id));
+            assertTrue(BatchedGraphSearchListener.isClosed(~id));
+            assertEquals(id, BatchedGraphSearchListener.getNodeId(id));
+            assertEquals(id, BatchedGraphSearchListener.getNodeId(~id));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadChunkSizeThrows() {
+        new GraphSearchEventBuffer<>(
+                new GraphSearchListenerAdapter<>(new RecordingListener(),
+                                                 data.graph::get),
+                0);
+    }
+
+    private static final class RecordingListener
+    implements GraphSearchListener<DirectedGraphNode> {
+
+        final List<String> log = new ArrayList<>();
+
+        @Override
+        public void begin() {
+            log.add("begin");
+        }
+
+        @Override
+        public void reached(DirectedGraphNode node) {
+            log.add("reached " + node.getId());
+        }
+
+        @Override
+        public void closed(DirectedGraphNode node) {
+            log.add("closed " + node.getId());
+        }
+
+        @Override
+        public void done(List<DirectedGraphNode> path) {
+            log.add("done " + path);
+        }
+
+        @Override
+        public void iteration(int iteration,
+                              double threshold,
+                              long expandedNodes) {
+            log.add("iteration " + iteration + " " + expandedNodes);
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package net.coderodde.gsp.model;
 
 import net.coderodde.gsp.model.support.DirectedGraphNode;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.function.Supplier;
 import net.coderodde.gsp.Utils.GraphData;
 import static net.coderodde.gsp.Utils.choose;
 import net.coderodde.gsp.model.support.AStarPathFinder;
@@ -13,7 +16,18 @@ import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
 import org.junit.Test;
 import static net.coderodde.gsp.Utils.getPathLength;
 import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.model.queue.LazyMinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.support.BinaryHeap;
+import net.coderodde.gsp.model.queue.support.BinomialHeap;
+import net.coderodde.gsp.model.queue.support.BucketQueue;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.queue.support.FibonacciHeap;
+import net.coderodde.gsp.model.queue.support.IndexedDaryHeap;
+import net.coderodde.gsp.model.queue.support.PairingHeap;
+import net.coderodde.gsp.model.queue.support.RadixHeap;
 import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.SearchState;
 import static org.junit.Assert.*;
 
 public class PathFinderTest {
@@ -62,4 +76,277 @@ public class PathFinderTest {
             }
         }
     }
+    
+    @Test
+    public void testSearchStateReuse() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(10000, 50000, random);
+        
+        AbstractPathFinder<DirectedGraphNode> referenceFinder = 
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        AbstractPathFinder<DirectedGraphNode>[] finders = 
+                new AbstractPathFinder[5];
+        
+        finders[0] = new DijkstraPathFinder<>(data.weightFunction);
+        finders[1] = 
+                new BidirectionalDijkstraPathFinder<>(data.weightFunction);
+        finders[2] = new AStarPathFinder<>(data.weightFunction, 
+                                           data.heuristicFunction);
+        finders[3] = 
+                new BidirectionalAStarPathFinder<>(data.weightFunction,  
+                                                   data.heuristicFunction);
+        finders[4] = 
+                new NewBidirectionalAStarPathFinder<>(data.weightFunction,
+                                                      data.heuristicFunction);
+        
+        for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+            finder.setSearchState(new SearchState<DirectedGraphNode>(16));
+            finder.setQueue(new IndexedDaryHeap<DirectedGraphNode>(16));
+        }
+        
+        System.out.println("PathFinderTest.testSearchStateReuse, seed = " + 
+                           seed);
+        
+        for (int i = 0; i < 20; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            
+            double pathLength = 
+                    getPathLength(referenceFinder.search(source, target), 
+                                  data.weightFunction);
+            
+            for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                List<DirectedGraphNode> path = finder.search(source, target);
+                
+                assertEquals(pathLength, 
+                             getPathLength(path, data.weightFunction),
+                             0.0001);
+                
+                if (!path.isEmpty()) {
+                    assertEquals(source, path.get(0));
+                    assertEquals(target, path.get(path.size() - 1));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testMonotoneQueues() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(10000, 50000, random);
+        
+        AbstractPathFinder<DirectedGraphNode> referenceFinder = 
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        AbstractPathFinder<DirectedGraphNode>[] finders = 
+                new AbstractPathFinder[6];
+        
+        finders[0] = new DijkstraPathFinder<>(data.weightFunction)
+                .setQueue(new RadixHeap<DirectedGraphNode>());
+        finders[1] = new DijkstraPathFinder<>(data.weightFunction)
+                .setQueue(new BucketQueue<DirectedGraphNode>(10.0));
+        finders[2] = new AStarPathFinder<>(data.weightFunction, 
+                                           data.heuristicFunction)
+                .setQueue(new RadixHeap<DirectedGraphNode>());
+        finders[3] = new AStarPathFinder<>(data.weightFunction, 
+                                           data.heuristicFunction)
+                .setQueue(new BucketQueue<DirectedGraphNode>(10.0));
+        finders[4] = 
+                new NewBidirectionalAStarPathFinder<>(data.weightFunction,
+                                                      data.heuristicFunction)
+                .setQueue(new RadixHeap<DirectedGraphNode>());
+        finders[5] = 
+                new NewBidirectionalAStarPathFinder<>(data.weightFunction,
+                                                      data.heuristicFunction)
+                .setQueue(new BucketQueue<DirectedGraphNode>(10.0));
+        
+        System.out.println("PathFinderTest.testMonotoneQueues, seed = " + 
+                           seed);
+        
+        for (int i = 0; i < 20; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            
+            double pathLength = 
+                    getPathLength(referenceFinder.search(source, target), 
+                                  data.weightFunction);
+            
+            for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                assertEquals(pathLength, 
+                             getPathLength(finder.search(source, target), 
+                                           data.weightFunction),
+                             0.0001);
+            }
+        }
+    }
+    
+    @Test
+    public void testQueueReuse() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(3000, 12000, random);
+        
+        AbstractPathFinder<DirectedGraphNode> referenceFinder = 
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        List<Supplier<MinimumPriorityQueue<DirectedGraphNode>>> queues =
+                Arrays.asList(() -> new DaryHeap<>(),
+                              () -> new BinomialHeap<>(),
+                              () -> new FibonacciHeap<>(),
+                              () -> new PairingHeap<>(),
+                              () -> new RadixHeap<>(),
+                              () -> new BucketQueue<>(10.0),
+                              () -> new IndexedDaryHeap<>(16),
+                              () -> new BinaryHeap<>());
+        
+        System.out.println("PathFinderTest.testQueueReuse, seed = " + seed);
+        
+        for (Supplier<MinimumPriorityQueue<DirectedGraphNode>> queue : 
+                queues) {
+            boolean lazy = queue.get() instanceof LazyMinimumPriorityQueue;
+            List<AbstractPathFinder<DirectedGraphNode>> finders = 
+                    new ArrayList<>();
+            
+            finders.add(new DijkstraPathFinder<>(data.weightFunction));
+            finders.add(new AStarPathFinder<>(data.weightFunction, 
+                                              data.heuristicFunction));
+            
+            if (!lazy) {
+                finders.add(new BidirectionalDijkstraPathFinder<>(
+                        data.weightFunction));
+                finders.add(new BidirectionalAStarPathFinder<>(
+                        data.weightFunction,
+                        data.heuristicFunction));
+                finders.add(new NewBidirectionalAStarPathFinder<>(
+                        data.weightFunction,
+                        data.heuristicFunction));
+            }
+            
+            for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                finder.setLazyDeletion(lazy).setQueue(queue.get());
+            }
+            
+            // Each finder clears and reuses its queues between the searches.
+            for (int i = 0; i < 10; ++i) {
+                DirectedGraphNode source = choose(data.graph, random);
+                DirectedGraphNode target = choose(data.graph, random);
+                
+                double pathLength = 
+                        getPathLength(referenceFinder.search(source, target), 
+                                      data.weightFunction);
+                
+                for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                    assertEquals(finder.humanReadableName() + " with " + 
+                                 finder.getQueue(),
+                                 pathLength, 
+                                 getPathLength(finder.search(source, target), 
+                                               data.weightFunction),
+                                 0.0001);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testParallelNewBidirectionalAStar() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        
+        System.out.println(
+                "PathFinderTest.testParallelNewBidirectionalAStar, seed = " + 
+                seed);
+        
+        for (int graph = 0; graph < 5; ++graph) {
+            GraphData data = getRandomGraphData(3000, 12000, random);
+            AbstractPathFinder<DirectedGraphNode> referenceFinder = 
+                    new DijkstraPathFinder<>(data.weightFunction);
+            AbstractPathFinder<DirectedGraphNode> finder =
+                    new ParallelNewBidirectionalAStarPathFinder<>(
+                            data.weightFunction,
+                            data.heuristicFunction);
+            
+            for (int i = 0; i < 50; ++i) {
+                DirectedGraphNode source = choose(data.graph, random);
+                DirectedGraphNode target = choose(data.graph, random);
+                
+                double pathLength = 
+                        getPathLength(referenceFinder.search(source, target), 
+                                      data.weightFunction);
+                List<DirectedGraphNode> path = finder.search(source, target);
+                
+                assertEquals(pathLength, 
+                             getPathLength(path, data.weightFunction),
+                             0.0001);
+                
+                if (!path.isEmpty()) {
+                    assertEquals(source, path.get(0));
+                    assertEquals(target, path.get(path.size() - 1));
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void testLazyDeletion() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(10000, 50000, random);
+        
+        AbstractPathFinder<DirectedGraphNode> referenceFinder = 
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        AbstractPathFinder<DirectedGraphNode>[] finders = 
+                new AbstractPathFinder[4];
+        
+        finders[0] = new DijkstraPathFinder<>(data.weightFunction)
+                .setLazyDeletion(true);
+        finders[1] = new DijkstraPathFinder<>(data.weightFunction)
+                .setLazyDeletion(true)
+                .setQueue(new BinaryHeap<DirectedGraphNode>())
+                .setSearchState(new SearchState<DirectedGraphNode>());
+        finders[2] = new AStarPathFinder<>(data.weightFunction, 
+                                           data.heuristicFunction)
+                .setLazyDeletion(true);
+        finders[3] = new AStarPathFinder<>(data.weightFunction, 
+                                           data.heuristicFunction)
+                .setLazyDeletion(true)
+                .setQueue(new BinaryHeap<DirectedGraphNode>())
+                .setSearchState(new SearchState<DirectedGraphNode>());
+        
+        System.out.println("PathFinderTest.testLazyDeletion, seed = " + seed);
+        
+        for (int i = 0; i < 20; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            
+            double pathLength = 
+                    getPathLength(referenceFinder.search(source, target), 
+                                  data.weightFunction);
+            
+            for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                assertEquals(pathLength, 
+                             getPathLength(finder.search(source, target), 
+                                           data.weightFunction),
+                             0.0001);
+            }
+        }
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyDeletionUnsupported() {
+        GraphData data = getRandomGraphData(10, 20, new Random(1L));
+        new BidirectionalDijkstraPathFinder<>(data.weightFunction)
+                .setLazyDeletion(true);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void testLazyQueueRequiresLazyDeletion() {
+        GraphData data = getRandomGraphData(10, 20, new Random(1L));
+        new DijkstraPathFinder<>(data.weightFunction)
+                .setQueue(new BinaryHeap<DirectedGraphNode>())
+                .search(data.graph.get(0), data.graph.get(1));
+    }
 }
@@ -0,0 +1,219 @@
+package net.coderodde.gsp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalDijkstraPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.DirectedGraphWeightFunction;
+import net.coderodde.gsp.model.support.HashDistributedAStarPathFinder;
+import net.coderodde.gsp.model.support.IterativeDeepeningAStarPathFinder;
+import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SearchLimitsTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static final int CHAIN_LENGTH = 1000;
+
+    private static List<DirectedGraphNode> chain;
+    private static DirectedGraphWeightFunction chainWeightFunction;
+    private static AbstractHeuristicFunction<DirectedGraphNode>
+            chainHeuristicFunction;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("SearchLimitsTest.java, seed: " + seed);
+        chain = new ArrayList<>(CHAIN_LENGTH);
+        chainWeightFunction = new DirectedGraphWeightFunction();
+        chainHeuristicFunction =
+                new AbstractHeuristicFunction<DirectedGraphNode>() {
+            @Override
+            public double estimate(DirectedGraphNode source,
+                                   DirectedGraphNode target) {
+                return Math.abs(target.getId() - source.getId());
+            }
+        };
+
+        for (int i = 0; i < CHAIN_LENGTH; ++i) {
+            DirectedGraphNode node = new DirectedGraphNode(i);
+            chain.add(node);
+
+            if (i > 0) {
+                chain.get(i - 1).addChild(node);
+                chainWeightFunction.put(chain.get(i - 1), node, 1.0);
+            }
+        }
+    }
+
+    @Test
+    public void testNoLimitsMatchesPlainSearch() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(2000, 8000, random);
+        AbstractPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int i = 0; i < 20; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            double pathLength =
+                    getPathLength(referenceFinder.search(source, target),
+                                  data.weightFunction);
+
+            for (AbstractPathFinder<DirectedGraphNode> finder :
+                    getFinders(data.weightFunction, data.heuristicFunction)) {
+                if (finder instanceof IterativeDeepeningAStarPathFinder) {
+                    // Too slow on graphs with cycles.
+                    continue;
+                }
+
+                SearchResult<DirectedGraphNode> result =
+                        finder.search(source, target, SearchLimits.NONE);
+
+                assertTrue(result.isComplete());
+                assertEquals(result.getPath().isEmpty() ?
+                             SearchResult.Status.UNREACHABLE :
+                             SearchResult.Status.FOUND,
+                             result.getStatus());
+                assertEquals(pathLength,
+                             getPathLength(result.getPath(),
+                                           data.weightFunction),
+                             0.0001);
+            }
+        }
+    }
+
+    @Test
+    public void testExpansionLimit() {
+        DirectedGraphNode source = chain.get(0);
+        DirectedGraphNode target = chain.get(CHAIN_LENGTH - 1);
+        SearchLimits limits = SearchLimits.NONE.withMaximumExpansions(100);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder :
+                getFinders(chainWeightFunction, chainHeuristicFunction)) {
+            SearchResult<DirectedGraphNode> result =
+                    finder.search(source, target, limits);
+
+            assertEquals(SearchResult.Status.EXPANSION_LIMIT_REACHED,
+                         result.getStatus());
+            assertTrue(result.getPath().isEmpty());
+            assertFalse(result.isComplete());
+
+            if (finder instanceof ParallelNewBidirectionalAStarPathFinder ||
+                    finder instanceof HashDistributedAStarPathFinder) {
+                // The thread exhausting its share of the budget stops the
+                // other ones.
+                assertTrue(result.getExpandedNodes() <= 100L);
+            } else {
+                assertEquals(100L, result.getExpandedNodes());
+            }
+        }
+    }
+
+    @Test
+    public void testExpansionLimitNotReached() {
+        DirectedGraphNode source = chain.get(0);
+        DirectedGraphNode target = chain.get(10);
+        SearchResult<DirectedGraphNode> result =
+                new DijkstraPathFinder<>(chainWeightFunction)
+                        .search(source,
+                                target,
+                                SearchLimits.NONE.withMaximumExpansions(11));
+
+        assertEquals(SearchResult.Status.FOUND, result.getStatus());
+        assertEquals(11, result.getPath().size());
+        assertEquals(10L, result.getExpandedNodes());
+    }
+
+    @Test
+    public void testCancellation() {
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        SearchLimits limits = SearchLimits.NONE.withCancellationToken(token);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder :
+                getFinders(chainWeightFunction, chainHeuristicFunction)) {
+            SearchResult<DirectedGraphNode> result =
+                    finder.search(chain.get(0),
+                                  chain.get(CHAIN_LENGTH - 1),
+                                  limits);
+
+            assertEquals(SearchResult.Status.CANCELLED, result.getStatus());
+            assertTrue(result.getPath().isEmpty());
+        }
+    }
+
+    @Test
+    public void testDeadline() {
+        SearchLimits limits =
+                SearchLimits.NONE.withDeadline(System.nanoTime() - 1L);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder :
+                getFinders(chainWeightFunction, chainHeuristicFunction)) {
+            SearchResult<DirectedGraphNode> result =
+                    finder.search(chain.get(0),
+                                  chain.get(CHAIN_LENGTH - 1),
+                                  limits);
+
+            assertEquals(SearchResult.Status.DEADLINE_EXCEEDED,
+                         result.getStatus());
+            assertTrue(result.getPath().isEmpty());
+        }
+    }
+
+    @Test
+    public void testTimeoutNotExceeded() {
+        SearchResult<DirectedGraphNode> result =
+                new AStarPathFinder<>(chainWeightFunction,
+                                      chainHeuristicFunction)
+                        .search(chain.get(0),
+                                chain.get(CHAIN_LENGTH - 1),
+                                SearchLimits.NONE.withTimeout(1L,
+                                                              TimeUnit.HOURS));
+
+        assertEquals(SearchResult.Status.FOUND, result.getStatus());
+        assertEquals(CHAIN_LENGTH, result.getPath().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaximumExpansionsThrows() {
+        SearchLimits.NONE.withMaximumExpansions(-1L);
+    }
+
+    private static List<AbstractPathFinder<DirectedGraphNode>> getFinders(
+            DirectedGraphWeightFunction weightFunction,
+            AbstractHeuristicFunction<DirectedGraphNode> heuristicFunction) {
+        List<AbstractPathFinder<DirectedGraphNode>> finders =
+                new ArrayList<>();
+
+        finders.add(new DijkstraPathFinder<>(weightFunction));
+        finders.add(new BidirectionalDijkstraPathFinder<>(weightFunction));
+        finders.add(new AStarPathFinder<>(weightFunction, heuristicFunction));
+        finders.add(new BidirectionalAStarPathFinder<>(weightFunction,
+                                                       heuristicFunction));
+        finders.add(new NewBidirectionalAStarPathFinder<>(weightFunction,
+                                                          heuristicFunction));
+        finders.add(new ParallelNewBidirectionalAStarPathFinder<>(
+                weightFunction,
+                heuristicFunction));
+        finders.add(new IterativeDeepeningAStarPathFinder<>(
+                weightFunction,
+                heuristicFunction));
+        finders.add(new HashDistributedAStarPathFinder<>(
+                weightFunction,
+                heuristicFunction).setThreadCount(3));
+        return finders;
+    }
+}
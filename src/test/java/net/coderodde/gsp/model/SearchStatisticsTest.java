@@ -0,0 +1,182 @@
+package net.coderodde.gsp.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.BidirectionalDijkstraPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.HashDistributedAStarPathFinder;
+import net.coderodde.gsp.model.support.NewBidirectionalAStarPathFinder;
+import net.coderodde.gsp.model.support.ParallelNewBidirectionalAStarPathFinder;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SearchStatisticsTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static final SearchLimits STATISTICS =
+            SearchLimits.NONE.withStatistics(true);
+
+    private static GraphData data;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("SearchStatisticsTest.java, seed: " + seed);
+        data = getRandomGraphData(1000, 4000, new Random(seed));
+    }
+
+    @Test
+    public void testNotCollectedByDefault() {
+        Random random = new Random(seed);
+        DirectedGraphNode source = choose(data.graph, random);
+        DirectedGraphNode target = choose(data.graph, random);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder : getFinders()) {
+            assertNull(finder.search(source, target, SearchLimits.NONE)
+                             .getStatistics());
+        }
+    }
+
+    @Test
+    public void testStatistics() {
+        Random random = new Random(seed);
+        AbstractPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int i = 0; i < 20; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+
+            if (source.equals(target)) {
+                continue;
+            }
+
+            List<DirectedGraphNode> referencePath =
+                    referenceFinder.search(source, target);
+            double pathCost = referencePath.isEmpty() ?
+                              Double.POSITIVE_INFINITY :
+                              getPathLength(referencePath,
+                                            data.weightFunction);
+
+            for (AbstractPathFinder<DirectedGraphNode> finder :
+                    getFinders()) {
+                SearchResult<DirectedGraphNode> result =
+                        finder.search(source, target, STATISTICS);
+                SearchStatistics statistics = result.getStatistics();
+
+                assertNotNull(statistics);
+                assertEquals(pathCost, statistics.getPathCost(), 0.0001);
+                assertEquals(result.getExpandedNodes(),
+                             statistics.getExpandedNodes());
+                assertTrue(statistics.getGeneratedNodes() > 0L);
+                assertTrue(statistics.getInsertions() > 0L);
+                assertTrue(statistics.getExtractions() <=
+                           statistics.getInsertions() +
+                           statistics.getPriorityDecreases());
+                assertTrue(statistics.getPeakOpenSize() > 0L);
+                assertTrue(statistics.getWallNanos() >= 0L);
+                assertTrue(statistics.getCpuNanos() >= -1L);
+
+                if (!(finder instanceof HashDistributedAStarPathFinder)) {
+                    assertEquals(0L, statistics.getReopenedNodes());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDijkstraCounts() {
+        Random random = new Random(seed);
+        DijkstraPathFinder<DirectedGraphNode> finder =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int i = 0; i < 20; ++i) {
+            SearchStatistics statistics =
+                    finder.search(choose(data.graph, random),
+                                  choose(data.graph, random),
+                                  STATISTICS).getStatistics();
+
+            // Each generated node is inserted once and extracted at most
+            // once, so the open list never holds more than them.
+            assertEquals(statistics.getGeneratedNodes(),
+                         statistics.getInsertions());
+            assertTrue(statistics.getExpandedNodes() <=
+                       statistics.getExtractions());
+            assertTrue(statistics.getExtractions() <=
+                       statistics.getInsertions());
+            assertTrue(statistics.getPeakOpenSize() <=
+                       statistics.getInsertions());
+        }
+
+        // In lazy deletion mode, each priority decrease inserts a duplicate.
+        finder.setLazyDeletion(true);
+
+        for (int i = 0; i < 20; ++i) {
+            SearchStatistics statistics =
+                    finder.search(choose(data.graph, random),
+                                  choose(data.graph, random),
+                                  STATISTICS).getStatistics();
+
+            assertEquals(statistics.getGeneratedNodes(),
+                         statistics.getInsertions());
+            assertTrue(statistics.getExtractions() <=
+                       statistics.getInsertions() +
+                       statistics.getPriorityDecreases());
+        }
+    }
+
+    @Test
+    public void testStoppedSearch() {
+        Random random = new Random(seed);
+        SearchLimits limits = STATISTICS.withMaximumExpansions(0L);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder : getFinders()) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+
+            if (source.equals(target)) {
+                continue;
+            }
+
+            SearchResult<DirectedGraphNode> result =
+                    finder.search(source, target, limits);
+
+            assertEquals(SearchResult.Status.EXPANSION_LIMIT_REACHED,
+                         result.getStatus());
+            assertTrue(Double.isNaN(result.getStatistics().getPathCost()));
+        }
+    }
+
+    private static List<AbstractPathFinder<DirectedGraphNode>> getFinders() {
+        List<AbstractPathFinder<DirectedGraphNode>> finders =
+                new ArrayList<>();
+
+        finders.add(new DijkstraPathFinder<>(data.weightFunction));
+        finders.add(
+                new BidirectionalDijkstraPathFinder<>(data.weightFunction));
+        finders.add(new AStarPathFinder<>(data.weightFunction,
+                                          data.heuristicFunction));
+        finders.add(new BidirectionalAStarPathFinder<>(
+                data.weightFunction,
+                data.heuristicFunction));
+        finders.add(new NewBidirectionalAStarPathFinder<>(
+                data.weightFunction,
+                data.heuristicFunction));
+        finders.add(new ParallelNewBidirectionalAStarPathFinder<>(
+                data.weightFunction,
+                data.heuristicFunction));
+        finders.add(new HashDistributedAStarPathFinder<>(
+                data.weightFunction,
+                data.heuristicFunction).setThreadCount(3));
+        return finders;
+    }
+}
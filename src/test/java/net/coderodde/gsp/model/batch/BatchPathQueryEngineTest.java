@@ -0,0 +1,164 @@
+package net.coderodde.gsp.model.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.SearchState;
+import static org.junit.Assert.*;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BatchPathQueryEngineTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static ExecutorService executor;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("BatchPathQueryEngineTest.java, seed: " + seed);
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPathsAreInQueryOrder() throws Exception {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(1000, 5000, random);
+        List<PathQuery<DirectedGraphNode>> queries = new ArrayList<>();
+
+        for (int i = 0; i < 300; ++i) {
+            queries.add(new PathQuery<>(choose(data.graph, random),
+                                        choose(data.graph, random)));
+        }
+
+        BatchPathQueryEngine<DirectedGraphNode> engine =
+                new BatchPathQueryEngine<>(
+                        () -> new AStarPathFinder<>(data.weightFunction,
+                                                    data.heuristicFunction)
+                                  .setQueue(new DaryHeap<>())
+                                  .setSearchState(new SearchState<>(1000)),
+                        executor).setParallelism(4);
+        DijkstraPathFinder<DirectedGraphNode> reference =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int round = 0; round < 3; ++round) {
+            BatchResult<DirectedGraphNode> result = engine.run(queries);
+
+            assertEquals(queries.size(), result.getQueryCount());
+
+            for (int i = 0; i < queries.size(); ++i) {
+                PathQuery<DirectedGraphNode> query = queries.get(i);
+                List<DirectedGraphNode> expected =
+                        reference.search(query.getSource(),
+                                         query.getTarget());
+                List<DirectedGraphNode> path = result.getPath(i);
+
+                assertEquals(expected.isEmpty(), path.isEmpty());
+
+                if (!path.isEmpty()) {
+                    assertEquals(query.getSource(), path.get(0));
+                    assertEquals(query.getTarget(),
+                                 path.get(path.size() - 1));
+                    assertEquals(getPathLength(expected, data.weightFunction),
+                                 getPathLength(path, data.weightFunction),
+                                 0.001);
+                }
+            }
+        }
+
+        // The finders are reused across the batches.
+        assertTrue(engine.getFinderCount() <= 4);
+    }
+
+    @Test
+    public void testStatistics() throws Exception {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(200, 1000, random);
+        List<PathQuery<DirectedGraphNode>> queries = new ArrayList<>();
+
+        for (int i = 0; i < 100; ++i) {
+            queries.add(new PathQuery<>(choose(data.graph, random),
+                                        choose(data.graph, random)));
+        }
+
+        BatchResult<DirectedGraphNode> result =
+                new BatchPathQueryEngine<>(
+                        () -> new DijkstraPathFinder<>(data.weightFunction),
+                        executor).run(queries);
+        long maximum = 0L;
+
+        for (int i = 0; i < queries.size(); ++i) {
+            maximum = Math.max(maximum, result.getLatencyNanos(i));
+        }
+
+        assertTrue(result.getElapsedNanos() > 0L);
+        assertTrue(result.getThroughput() > 0.0);
+        assertTrue(result.getMedianLatencyNanos() <=
+                   result.get99thPercentileLatencyNanos());
+        assertTrue(result.get99thPercentileLatencyNanos() <= maximum);
+        assertEquals(maximum, result.getLatencyPercentileNanos(100.0));
+    }
+
+    @Test
+    public void testEmptyBatch() throws Exception {
+        BatchResult<DirectedGraphNode> result =
+                new BatchPathQueryEngine<DirectedGraphNode>(
+                        () -> { throw new AssertionError(); },
+                        executor).run(
+                                Collections.<PathQuery<DirectedGraphNode>>
+                                        emptyList());
+
+        assertEquals(0, result.getQueryCount());
+        assertEquals(0L, result.get99thPercentileLatencyNanos());
+    }
+
+    @Test(expected = ExecutionException.class)
+    public void testFailingSearchThrows() throws Exception {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(50, 200, random);
+        List<PathQuery<DirectedGraphNode>> queries = new ArrayList<>();
+
+        for (int i = 0; i < 20; ++i) {
+            queries.add(new PathQuery<>(choose(data.graph, random),
+                                        choose(data.graph, random)));
+        }
+
+        new BatchPathQueryEngine<DirectedGraphNode>(
+                () -> new FailingPathFinder(),
+                executor).run(queries);
+    }
+
+    private static final class FailingPathFinder
+    extends AbstractPathFinder<DirectedGraphNode> {
+
+        @Override
+        public String humanReadableName() {
+            return "Failing";
+        }
+
+        @Override
+        public List<DirectedGraphNode> search(DirectedGraphNode source,
+                                              DirectedGraphNode target) {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package net.coderodde.gsp.model.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphNode;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphWeightFunction;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class CachingPathFinderTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static GraphData data;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("CachingPathFinderTest.java, seed: " + seed);
+        data = getRandomGraphData(500, 2000, new Random(seed));
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        Random random = new Random(seed);
+        DijkstraPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        CachingPathFinder<DirectedGraphNode> finder =
+                new CachingPathFinder<>(
+                        new DijkstraPathFinder<>(data.weightFunction),
+                        1000);
+        List<DirectedGraphNode[]> pairs = new ArrayList<>();
+
+        for (int i = 0; i < 30; ++i) {
+            pairs.add(new DirectedGraphNode[]{
+                choose(data.graph, random),
+                choose(data.graph, random)
+            });
+        }
+
+        for (int round = 0; round < 3; ++round) {
+            for (DirectedGraphNode[] pair : pairs) {
+                SearchResult<DirectedGraphNode> result =
+                        finder.search(pair[0], pair[1], SearchLimits.NONE);
+                List<DirectedGraphNode> referencePath =
+                        referenceFinder.search(pair[0], pair[1]);
+
+                assertEquals(referencePath, result.getPath());
+                assertEquals(referencePath.isEmpty() ?
+                             SearchResult.Status.UNREACHABLE :
+                             SearchResult.Status.FOUND,
+                             result.getStatus());
+
+                if (round > 0) {
+                    assertEquals(0L, result.getExpandedNodes());
+                }
+            }
+        }
+
+        PathCache<DirectedGraphNode> cache = finder.getCache();
+        assertEquals(30L, cache.getMisses());
+        assertEquals(60L, cache.getHits());
+    }
+
+    @Test
+    public void testStoppedAndStatisticsSearches() {
+        Random random = new Random(seed);
+        CachingPathFinder<DirectedGraphNode> finder =
+                new CachingPathFinder<>(
+                        new DijkstraPathFinder<>(data.weightFunction),
+                        1000);
+        DirectedGraphNode source = choose(data.graph, random);
+        DirectedGraphNode target;
+
+        do {
+            target = choose(data.graph, random);
+        } while (target.equals(source));
+
+        SearchResult<DirectedGraphNode> result =
+                finder.search(source,
+                              target,
+                              SearchLimits.NONE.withMaximumExpansions(0L));
+        assertEquals(SearchResult.Status.EXPANSION_LIMIT_REACHED,
+                     result.getStatus());
+        assertEquals(0L, finder.getCache().size());
+
+        // Statistics are never served from the cache, but are cached.
+        SearchLimits statistics = SearchLimits.NONE.withStatistics(true);
+        assertNotNull(finder.search(source, target, statistics)
+                            .getStatistics());
+        assertNotNull(finder.search(source, target, statistics)
+                            .getStatistics());
+        assertEquals(1L, finder.getCache().size());
+        assertEquals(0L, finder.getCache().getHits());
+    }
+
+    @Test
+    public void testArcRemoved() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(200, 1000, random);
+        DijkstraPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        CachingPathFinder<DirectedGraphNode> finder =
+                new CachingPathFinder<>(
+                        new AStarPathFinder<>(data.weightFunction,
+                                              data.heuristicFunction),
+                        1000);
+        List<DirectedGraphNode> path;
+        DirectedGraphNode source;
+        DirectedGraphNode target;
+
+        do {
+            source = choose(data.graph, random);
+            target = choose(data.graph, random);
+            path = finder.search(source, target);
+        } while (path.size() < 3);
+
+        DirectedGraphNode tail = path.get(path.size() / 2 - 1);
+        DirectedGraphNode head = path.get(path.size() / 2);
+        tail.removeChild(head);
+        finder.getCache().arcRemoved(tail, head);
+
+        assertEquals(getPathLength(referenceFinder.search(source, target),
+                                   data.weightFunction),
+                     getPathLength(finder.search(source, target),
+                                   data.weightFunction),
+                     0.0001);
+    }
+
+    @Test
+    public void testPuzzleNodesWithEqualIds() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(3);
+        AStarPathFinder<PackedPuzzleGraphNode> referenceFinder =
+                new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                      new PackedPuzzleGraphHeuristicFunction());
+        CachingPathFinder<PackedPuzzleGraphNode> finder =
+                new CachingPathFinder<>(
+                        new AStarPathFinder<>(
+                                new PackedPuzzleGraphWeightFunction(),
+                                new PackedPuzzleGraphHeuristicFunction()),
+                        100);
+        List<PackedPuzzleGraphNode> sources = new ArrayList<>();
+
+        while (sources.size() < 5) {
+            PackedPuzzleGraphNode source = goal;
+
+            for (int i = 0; i < 20; ++i) {
+                List<PackedPuzzleGraphNode> children = source.children();
+                source = children.get(random.nextInt(children.size()));
+            }
+
+            if (!sources.contains(source)) {
+                sources.add(source);
+            }
+        }
+
+        // All the puzzle nodes have the ID 0, so all the pairs map to one
+        // entry, which must never serve the path of another pair.
+        for (int round = 0; round < 2; ++round) {
+            for (PackedPuzzleGraphNode source : sources) {
+                List<PackedPuzzleGraphNode> path = finder.search(source, goal);
+
+                assertEquals(source, path.get(0));
+                assertEquals(goal, path.get(path.size() - 1));
+                assertEquals(referenceFinder.search(source, goal).size(),
+                             path.size());
+            }
+        }
+
+        assertEquals(0L, finder.getCache().getHits());
+        assertEquals(1L, finder.getCache().size());
+        assertNotNull(finder.getCache().get(sources.get(4), goal));
+        assertNull(finder.getCache().get(sources.get(3), goal));
+    }
+
+    @Test
+    public void testSharedCache() throws InterruptedException {
+        PathCache<DirectedGraphNode> cache = new PathCache<>(200);
+        DijkstraPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        Random random = new Random(seed);
+        DirectedGraphNode[][] pairs = new DirectedGraphNode[100][];
+        double[] referenceLengths = new double[pairs.length];
+
+        for (int i = 0; i < pairs.length; ++i) {
+            pairs[i] = new DirectedGraphNode[]{
+                choose(data.graph, random),
+                choose(data.graph, random)
+            };
+            referenceLengths[i] =
+                    getPathLength(referenceFinder.search(pairs[i][0],
+                                                         pairs[i][1]),
+                                  data.weightFunction);
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; ++t) {
+            long threadSeed = seed + t;
+            threads[t] = new Thread(() -> {
+                Random threadRandom = new Random(threadSeed);
+                CachingPathFinder<DirectedGraphNode> finder =
+                        new CachingPathFinder<>(
+                                new DijkstraPathFinder<>(data.weightFunction),
+                                cache);
+
+                try {
+                    for (int i = 0; i < 500; ++i) {
+                        int index = threadRandom.nextInt(pairs.length);
+                        List<DirectedGraphNode> path =
+                                finder.search(pairs[index][0],
+                                              pairs[index][1]);
+                        assertEquals(referenceLengths[index],
+                                     getPathLength(path, data.weightFunction),
+                                     0.0001);
+                    }
+                } catch (Throwable ex) {
+                    failure.set(ex);
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertNull(failure.get());
+        assertEquals(2000L, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getHits() >= 2000L - 4 * pairs.length);
+    }
+}
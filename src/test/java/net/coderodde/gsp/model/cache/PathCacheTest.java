@@ -0,0 +1,202 @@
+package net.coderodde.gsp.model.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import net.coderodde.gsp.model.cache.PathCache.Bound;
+import net.coderodde.gsp.model.cache.PathCache.Eviction;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+public class PathCacheTest {
+
+    private static final List<DirectedGraphNode> nodes = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < 2000; ++i) {
+            nodes.add(new DirectedGraphNode(i));
+        }
+    }
+
+    @Test
+    public void testLruEviction() {
+        PathCache<DirectedGraphNode> cache =
+                new PathCache<>(Eviction.LRU, Bound.ENTRIES, 3);
+        put(cache, 0, 1);
+        put(cache, 0, 2);
+        put(cache, 0, 3);
+        assertNotNull(get(cache, 0, 1));
+        put(cache, 0, 4);
+
+        assertNull(get(cache, 0, 2));
+        assertNotNull(get(cache, 0, 1));
+        assertNotNull(get(cache, 0, 3));
+        assertNotNull(get(cache, 0, 4));
+        assertEquals(3L, cache.size());
+        assertEquals(1L, cache.getEvictions());
+        assertEquals(4L, cache.getHits());
+        assertEquals(1L, cache.getMisses());
+        assertEquals(0.8, cache.getHitRate(), 1e-9);
+    }
+
+    @Test
+    public void testTinyLfuResistsScans() {
+        PathCache<DirectedGraphNode> tinyLfuCache =
+                new PathCache<>(Eviction.TINY_LFU, Bound.ENTRIES, 100);
+        PathCache<DirectedGraphNode> lruCache =
+                new PathCache<>(Eviction.LRU, Bound.ENTRIES, 100);
+
+        for (PathCache<DirectedGraphNode> cache :
+                Arrays.asList(tinyLfuCache, lruCache)) {
+            // 50 hot pairs, then a scan of 1000 pairs seen once.
+            for (int round = 0; round < 5; ++round) {
+                for (int i = 0; i < 50; ++i) {
+                    if (get(cache, 1, i) == null) {
+                        put(cache, 1, i);
+                    }
+                }
+            }
+
+            for (int i = 0; i < 1000; ++i) {
+                if (get(cache, 2, i) == null) {
+                    put(cache, 2, i);
+                }
+            }
+
+            assertTrue(cache.size() <= 100L);
+        }
+
+        int tinyLfuHits = 0;
+        int lruHits = 0;
+
+        for (int i = 0; i < 50; ++i) {
+            tinyLfuHits += get(tinyLfuCache, 1, i) != null ? 1 : 0;
+            lruHits += get(lruCache, 1, i) != null ? 1 : 0;
+        }
+
+        assertEquals(50, tinyLfuHits);
+        assertEquals(0, lruHits);
+    }
+
+    @Test
+    public void testByteBound() {
+        long maximumSize = 10 * (PathCache.ENTRY_BYTES +
+                                 3 * PathCache.NODE_BYTES);
+        PathCache<DirectedGraphNode> cache =
+                new PathCache<>(Eviction.LRU, Bound.BYTES, maximumSize);
+
+        for (int i = 0; i < 100; ++i) {
+            put(cache, 3, i);
+            assertTrue(cache.getWeight() <= maximumSize);
+        }
+
+        assertEquals(10L, cache.size());
+
+        // A path heavier than the whole cache is not cached.
+        List<DirectedGraphNode> longPath = nodes.subList(0, 1000);
+        cache.put(nodes.get(0), nodes.get(999), longPath, cache.getEpoch());
+        assertNull(get(cache, 0, 999));
+        assertEquals(10L, cache.size());
+    }
+
+    @Test
+    public void testHeavierPathKeepsMainSpaceBounded() {
+        long maximumSize = 1000 * (PathCache.ENTRY_BYTES +
+                                   3 * PathCache.NODE_BYTES);
+        PathCache<DirectedGraphNode> cache =
+                new PathCache<>(Eviction.TINY_LFU, Bound.BYTES, maximumSize);
+
+        for (int i = 0; i < 1500; ++i) {
+            put(cache, 4, i);
+        }
+
+        // Replace the entries of the main space by much heavier paths.
+        for (int i = 0; i < 1500; ++i) {
+            if (get(cache, 4, i) != null) {
+                cache.put(nodes.get(4),
+                          nodes.get(i),
+                          nodes.subList(0, 100),
+                          cache.getEpoch());
+                assertTrue(cache.getWeight() <= maximumSize);
+            }
+        }
+    }
+
+    @Test
+    public void testInvalidation() {
+        PathCache<DirectedGraphNode> cache = new PathCache<>(100);
+        // 5 -> 6 -> 7 and 5 -> 8 -> 7, and an unreachable pair.
+        cache.put(nodes.get(5),
+                  nodes.get(7),
+                  Arrays.asList(nodes.get(5), nodes.get(6), nodes.get(7)),
+                  cache.getEpoch());
+        cache.put(nodes.get(8),
+                  nodes.get(7),
+                  Arrays.asList(nodes.get(8), nodes.get(7)),
+                  cache.getEpoch());
+        cache.put(nodes.get(7),
+                  nodes.get(5),
+                  Collections.<DirectedGraphNode>emptyList(),
+                  cache.getEpoch());
+
+        assertEquals(Collections.emptyList(), get(cache, 7, 5));
+
+        cache.arcRemoved(nodes.get(6), nodes.get(7));
+        assertNull(get(cache, 5, 7));
+        assertNotNull(get(cache, 8, 7));
+        assertNotNull(get(cache, 7, 5));
+
+        cache.invalidate(nodes.get(8), nodes.get(7));
+        assertNull(get(cache, 8, 7));
+
+        cache.arcAdded(nodes.get(7), nodes.get(5));
+        assertEquals(0L, cache.size());
+    }
+
+    @Test
+    public void testStalePathNotCached() {
+        PathCache<DirectedGraphNode> cache = new PathCache<>(100);
+        long epoch = cache.getEpoch();
+        // The graph changes while the path is being computed.
+        cache.invalidateAll();
+        cache.put(nodes.get(0),
+                  nodes.get(1),
+                  Arrays.asList(nodes.get(0), nodes.get(1)),
+                  epoch);
+        assertNull(get(cache, 0, 1));
+    }
+
+    @Test
+    public void testReturnsCopies() {
+        PathCache<DirectedGraphNode> cache = new PathCache<>(100);
+        put(cache, 0, 1);
+        get(cache, 0, 1).clear();
+        assertEquals(3, get(cache, 0, 1).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadMaximumSizeThrows() {
+        new PathCache<DirectedGraphNode>(0L);
+    }
+
+    /**
+     * Caches a path of three nodes from {@code source} to {@code target}.
+     */
+    private static void put(PathCache<DirectedGraphNode> cache,
+                            int source,
+                            int target) {
+        cache.put(nodes.get(source),
+                  nodes.get(target),
+                  Arrays.asList(nodes.get(source),
+                                nodes.get(1999),
+                                nodes.get(target)),
+                  cache.getEpoch());
+    }
+
+    private static List<DirectedGraphNode>
+        get(PathCache<DirectedGraphNode> cache, int source, int target) {
+        return cache.get(nodes.get(source), nodes.get(target));
+    }
+}
@@ -0,0 +1,175 @@
+package net.coderodde.gsp.model.ch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.DirectedGraphWeightFunction;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ContractionHierarchyTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("ContractionHierarchyTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testSequentialContraction() {
+        Random random = new Random(seed);
+        testQueries(createGridGraphData(40, random), 1, 500, random);
+    }
+
+    @Test
+    public void testParallelContraction() {
+        Random random = new Random(seed);
+        testQueries(createGridGraphData(40, random), 4, 500, random);
+    }
+
+    @Test
+    public void testTinyWitnessSearchLimit() {
+        Random random = new Random(seed);
+        testQueries(createGridGraphData(30, random), 4, 1, random);
+    }
+
+    @Test
+    public void testRandomGraph() {
+        Random random = new Random(seed);
+        testQueries(getRandomGraphData(300, 1500, random), 4, 500, random);
+    }
+
+    @Test
+    public void testSourceEqualsTarget() {
+        GraphData data = getRandomGraphData(100, 500, new Random(seed));
+        ContractionHierarchy<DirectedGraphNode> hierarchy =
+                ContractionHierarchy.build(data.graph, data.weightFunction);
+        DirectedGraphNode node = data.graph.get(0);
+        List<DirectedGraphNode> path =
+                new ContractionHierarchyPathFinder<>(hierarchy)
+                .search(node, node);
+
+        assertEquals(1, path.size());
+        assertEquals(node, path.get(0));
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        List<DirectedGraphNode> nodes = new ArrayList<>();
+
+        for (int i = 0; i < 4; ++i) {
+            nodes.add(new DirectedGraphNode(i));
+        }
+
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+        nodes.get(0).addChild(nodes.get(1));
+        nodes.get(1).addChild(nodes.get(2));
+        nodes.get(3).addChild(nodes.get(2));
+        weightFunction.put(nodes.get(0), nodes.get(1), 1.0);
+        weightFunction.put(nodes.get(1), nodes.get(2), 2.0);
+        weightFunction.put(nodes.get(3), nodes.get(2), 1.0);
+
+        ContractionHierarchyPathFinder<DirectedGraphNode> finder =
+                new ContractionHierarchyPathFinder<>(
+                        ContractionHierarchy.build(nodes, weightFunction));
+
+        assertTrue(finder.search(nodes.get(0), nodes.get(3)).isEmpty());
+        assertTrue(finder.search(nodes.get(2), nodes.get(0)).isEmpty());
+        assertEquals(3, finder.search(nodes.get(0), nodes.get(2)).size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSparseIdsThrow() {
+        List<DirectedGraphNode> nodes = new ArrayList<>();
+        nodes.add(new DirectedGraphNode(0));
+        nodes.add(new DirectedGraphNode(2));
+
+        new ContractionHierarchyBuilder<>(nodes,
+                                          new DirectedGraphWeightFunction());
+    }
+
+    private void testQueries(GraphData data,
+                             int parallelism,
+                             int witnessSearchLimit,
+                             Random random) {
+        ContractionHierarchy<DirectedGraphNode> hierarchy =
+                new ContractionHierarchyBuilder<>(data.graph,
+                                                  data.weightFunction)
+                .setParallelism(parallelism)
+                .setWitnessSearchLimit(witnessSearchLimit)
+                .build();
+
+        AbstractPathFinder<DirectedGraphNode> reference =
+                new DijkstraPathFinder<>(data.weightFunction);
+        AbstractPathFinder<DirectedGraphNode> finder =
+                new ContractionHierarchyPathFinder<>(hierarchy);
+
+        for (int i = 0; i < 100; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            List<DirectedGraphNode> expected = reference.search(source,
+                                                                target);
+            List<DirectedGraphNode> path = finder.search(source, target);
+
+            assertEquals(expected.isEmpty(), path.isEmpty());
+
+            if (!path.isEmpty()) {
+                assertEquals(source, path.get(0));
+                assertEquals(target, path.get(path.size() - 1));
+            }
+
+            assertEquals(getPathLength(expected, data.weightFunction),
+                         getPathLength(path, data.weightFunction),
+                         0.0001);
+        }
+    }
+
+    /**
+     * Creates a road-like {@code width x width} grid with random weights in
+     * both directions of each link.
+     */
+    private static GraphData createGridGraphData(int width, Random random) {
+        GraphData data = new GraphData();
+        data.graph = new ArrayList<>(width * width);
+        data.weightFunction = new DirectedGraphWeightFunction();
+
+        for (int id = 0; id < width * width; ++id) {
+            data.graph.add(new DirectedGraphNode(id));
+        }
+
+        for (int y = 0; y < width; ++y) {
+            for (int x = 0; x < width; ++x) {
+                int id = y * width + x;
+
+                if (x + 1 < width) {
+                    link(data, id, id + 1, random);
+                }
+
+                if (y + 1 < width) {
+                    link(data, id, id + width, random);
+                }
+            }
+        }
+
+        return data;
+    }
+
+    private static void link(GraphData data, int a, int b, Random random) {
+        DirectedGraphNode nodeA = data.graph.get(a);
+        DirectedGraphNode nodeB = data.graph.get(b);
+        nodeA.addChild(nodeB);
+        nodeB.addChild(nodeA);
+        data.weightFunction.put(nodeA, nodeB, 1.0 + random.nextDouble());
+        data.weightFunction.put(nodeB, nodeA, 1.0 + random.nextDouble());
+    }
+}
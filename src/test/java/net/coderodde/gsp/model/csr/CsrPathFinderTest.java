@@ -0,0 +1,214 @@
+package net.coderodde.gsp.model.csr;
+
+import java.awt.geom.Point2D;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import net.coderodde.gsp.Utils.GraphData;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.model.CancellationToken;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class CsrPathFinderTest {
+    
+    @Test
+    public void test() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(10000, 50000, random);
+        CsrGraph graph = CsrGraph.fromGraph(data.graph, data.weightFunction);
+        
+        assertEquals(10000, graph.getNodeCount());
+        assertTrue(graph.getArcCount() <= 50000);
+        
+        double[] x = new double[graph.getNodeCount()];
+        double[] y = new double[graph.getNodeCount()];
+        
+        for (DirectedGraphNode node : data.graph) {
+            Point2D.Double point = data.heuristicFunction.get(node);
+            x[node.getId()] = point.x;
+            y[node.getId()] = point.y;
+        }
+        
+        AbstractCsrHeuristicFunction heuristicFunction = 
+                new CsrEuclideanHeuristicFunction(x, y);
+        
+        AbstractCsrPathFinder[] finders = {
+            new CsrDijkstraPathFinder(graph),
+            new CsrAStarPathFinder(graph, heuristicFunction),
+            new CsrNewBidirectionalAStarPathFinder(graph, heuristicFunction)
+        };
+        
+        DijkstraPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        System.out.println("CsrPathFinderTest, seed = " + seed);
+        
+        for (int i = 0; i < 20; ++i) {
+            int source = random.nextInt(graph.getNodeCount());
+            int target = random.nextInt(graph.getNodeCount());
+            
+            List<DirectedGraphNode> referencePath = 
+                    referenceFinder.search(data.graph.get(source),
+                                           data.graph.get(target));
+            double pathLength = getPathLength(referencePath, 
+                                              data.weightFunction);
+            
+            for (AbstractCsrPathFinder finder : finders) {
+                int[] path = finder.search(source, target);
+                assertEquals(referencePath.isEmpty(), path.length == 0);
+                
+                if (path.length > 0) {
+                    assertEquals(source, path[0]);
+                    assertEquals(target, path[path.length - 1]);
+                }
+                
+                assertEquals(pathLength, graph.getPathCost(path), 0.0001);
+            }
+        }
+    }
+    
+    @Test
+    public void testFromArcs() {
+        CsrGraph graph = CsrGraph.fromArcs(4, 
+                                           new int[]{ 0, 0, 1, 2 },
+                                           new int[]{ 1, 2, 3, 3 },
+                                           new double[]{ 1.0, 5.0, 1.0, 1.0 });
+        
+        assertEquals(2, graph.outArcEnd(0) - graph.outArcBegin(0));
+        assertEquals(2, graph.inArcEnd(3) - graph.inArcBegin(3));
+        assertArrayEquals(new int[]{ 0, 1, 3 },
+                          new CsrDijkstraPathFinder(graph).search(0, 3));
+        assertEquals(0, new CsrDijkstraPathFinder(graph).search(3, 0).length);
+    }
+    
+    @Test
+    public void testSearchLimits() {
+        // A chain 0 -> 1 -> ... -> 99.
+        int n = 100;
+        int[] tails = new int[n - 1];
+        int[] heads = new int[n - 1];
+        double[] weights = new double[n - 1];
+        double[] x = new double[n];
+        double[] y = new double[n];
+        
+        for (int i = 0; i < n - 1; ++i) {
+            tails[i] = i;
+            heads[i] = i + 1;
+            weights[i] = 1.0;
+            x[i + 1] = i + 1;
+        }
+        
+        CsrGraph graph = CsrGraph.fromArcs(n, tails, heads, weights);
+        AbstractCsrHeuristicFunction heuristicFunction = 
+                new CsrEuclideanHeuristicFunction(x, y);
+        AbstractCsrPathFinder[] finders = {
+            new CsrDijkstraPathFinder(graph),
+            new CsrAStarPathFinder(graph, heuristicFunction),
+            new CsrNewBidirectionalAStarPathFinder(graph, heuristicFunction)
+        };
+        CancellationToken token = new CancellationToken();
+        token.cancel();
+        
+        for (AbstractCsrPathFinder finder : finders) {
+            CsrSearchResult result = finder.search(0, n - 1, SearchLimits.NONE);
+            assertEquals(SearchResult.Status.FOUND, result.getStatus());
+            assertEquals(n, result.getPath().length);
+            assertTrue(result.getExpandedNodes() > 0L);
+            
+            result = finder.search(n - 1, 0, SearchLimits.NONE);
+            assertEquals(SearchResult.Status.UNREACHABLE, result.getStatus());
+            assertTrue(result.isComplete());
+            
+            result = finder.search(0, 
+                                   n - 1, 
+                                   SearchLimits.NONE
+                                               .withMaximumExpansions(10L));
+            assertEquals(SearchResult.Status.EXPANSION_LIMIT_REACHED,
+                         result.getStatus());
+            assertEquals(0, result.getPath().length);
+            assertEquals(10L, result.getExpandedNodes());
+            
+            result = finder.search(0, 
+                                   n - 1, 
+                                   SearchLimits.NONE
+                                               .withCancellationToken(token));
+            assertEquals(SearchResult.Status.CANCELLED, result.getStatus());
+            assertFalse(result.isComplete());
+            
+            result = finder.search(0, 
+                                   n - 1, 
+                                   SearchLimits.NONE
+                                               .withTimeout(0L, 
+                                                            TimeUnit.SECONDS));
+            assertEquals(SearchResult.Status.DEADLINE_EXCEEDED, 
+                         result.getStatus());
+            
+            // The finders recover from a stopped search.
+            assertEquals(n, finder.search(0, n - 1).length);
+        }
+    }
+    
+    @Test
+    public void testGenerationWrapAround() {
+        long seed = System.currentTimeMillis();
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(1000, 5000, random);
+        CsrGraph graph = CsrGraph.fromGraph(data.graph, data.weightFunction);
+        double[] x = new double[graph.getNodeCount()];
+        double[] y = new double[graph.getNodeCount()];
+        
+        for (DirectedGraphNode node : data.graph) {
+            Point2D.Double point = data.heuristicFunction.get(node);
+            x[node.getId()] = point.x;
+            y[node.getId()] = point.y;
+        }
+        
+        AbstractCsrHeuristicFunction heuristicFunction = 
+                new CsrEuclideanHeuristicFunction(x, y);
+        AbstractCsrPathFinder[] finders = {
+            new CsrDijkstraPathFinder(graph),
+            new CsrAStarPathFinder(graph, heuristicFunction),
+            new CsrNewBidirectionalAStarPathFinder(graph, heuristicFunction)
+        };
+        DijkstraPathFinder<DirectedGraphNode> referenceFinder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        
+        System.out.println("CsrPathFinderTest.testGenerationWrapAround, " + 
+                           "seed = " + seed);
+        
+        for (int i = 0; i < 8; ++i) {
+            if (i == 3) {
+                for (AbstractCsrPathFinder finder : finders) {
+                    // Wrap around in the next search, past the stamps of the
+                    // first searches.
+                    finder.generation = -1;
+                }
+            }
+            
+            int source = random.nextInt(graph.getNodeCount());
+            int target = random.nextInt(graph.getNodeCount());
+            double pathLength = 
+                    getPathLength(referenceFinder.search(data.graph.get(source),
+                                                         data.graph.get(target)),
+                                  data.weightFunction);
+            
+            for (AbstractCsrPathFinder finder : finders) {
+                assertEquals(pathLength, 
+                             graph.getPathCost(finder.search(source, target)),
+                             0.0001);
+            }
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testFromArcsThrowsOnNegativeWeight() {
+        CsrGraph.fromArcs(2, new int[]{ 0 }, new int[]{ 1 }, new double[]{ -1 });
+    }
+}
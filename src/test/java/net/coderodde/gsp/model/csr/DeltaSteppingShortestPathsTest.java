@@ -0,0 +1,168 @@
+package net.coderodde.gsp.model.csr;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.coderodde.gsp.Utils.GraphData;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import static org.junit.Assert.*;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DeltaSteppingShortestPathsTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static ForkJoinPool pool;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("DeltaSteppingShortestPathsTest.java, seed: " +
+                           seed);
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterClass
+    public static void shutdownClass() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void testAgainstDijkstra() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(5000, 25000, random);
+        CsrGraph graph = CsrGraph.fromGraph(data.graph, data.weightFunction);
+        CsrDijkstraPathFinder referenceFinder =
+                new CsrDijkstraPathFinder(graph);
+        DeltaSteppingShortestPaths engine =
+                new DeltaSteppingShortestPaths(graph, pool);
+        double defaultDelta = engine.getDelta();
+        double[] deltas = {
+            defaultDelta,
+            defaultDelta / 100.0,
+            defaultDelta * 100.0,
+            Double.POSITIVE_INFINITY
+        };
+
+        for (double delta : deltas) {
+            engine.setDelta(delta);
+
+            for (int i = 0; i < 3; ++i) {
+                int source = random.nextInt(graph.getNodeCount());
+                ShortestPathTree tree = engine.compute(source);
+
+                assertEquals(source, tree.getSource());
+                assertEquals(0.0, tree.getDistance(source), 0.0);
+                assertEquals(-1, tree.getParent(source));
+                checkTree(graph, tree);
+
+                for (int j = 0; j < 20; ++j) {
+                    int target = random.nextInt(graph.getNodeCount());
+                    int[] referencePath =
+                            referenceFinder.search(source, target);
+
+                    assertEquals(referencePath.length > 0,
+                                 tree.isReachable(target));
+
+                    if (referencePath.length > 0) {
+                        assertEquals(graph.getPathCost(referencePath),
+                                     tree.getDistance(target),
+                                     0.0001);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNodeGraph() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(300, 1500, random);
+        DeltaSteppingShortestPaths engine =
+                new DeltaSteppingShortestPaths(data.graph,
+                                               data.weightFunction);
+        CsrGraph graph = engine.getGraph();
+        CsrDijkstraPathFinder referenceFinder =
+                new CsrDijkstraPathFinder(graph);
+        int source = data.graph.get(random.nextInt(300)).getId();
+        ShortestPathTree tree = engine.compute(source);
+        checkTree(graph, tree);
+
+        for (int target = 0; target < graph.getNodeCount(); ++target) {
+            int[] referencePath = referenceFinder.search(source, target);
+
+            if (referencePath.length == 0) {
+                assertEquals(Double.POSITIVE_INFINITY,
+                             tree.getDistance(target),
+                             0.0);
+                assertEquals(0, tree.getPath(target).length);
+            } else {
+                assertEquals(graph.getPathCost(referencePath),
+                             tree.getDistance(target),
+                             0.0001);
+            }
+        }
+    }
+
+    @Test
+    public void testZeroWeightCycles() {
+        // 0 -> 1 <-> 2 <-> 3, all of weight zero but the first arc.
+        CsrGraph graph =
+                CsrGraph.fromArcs(5,
+                                  new int[]{ 0, 1, 2, 2, 3, 3 },
+                                  new int[]{ 1, 2, 1, 3, 2, 4 },
+                                  new double[]{ 1.0, 0, 0, 0, 0, 2.0 });
+        ShortestPathTree tree =
+                new DeltaSteppingShortestPaths(graph, pool).compute(0);
+
+        assertArrayEquals(new double[]{ 0.0, 1.0, 1.0, 1.0, 3.0 },
+                          tree.getDistances(),
+                          0.0);
+        assertArrayEquals(new int[]{ 0, 1, 2, 3, 4 }, tree.getPath(4));
+        assertArrayEquals(new int[]{ -1, 0, 1, 2, 3 }, tree.getParents());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadDeltaThrows() {
+        CsrGraph graph = CsrGraph.fromArcs(1,
+                                           new int[0],
+                                           new int[0],
+                                           new double[0]);
+        new DeltaSteppingShortestPaths(graph).setDelta(0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadSourceThrows() {
+        CsrGraph graph = CsrGraph.fromArcs(1,
+                                           new int[0],
+                                           new int[0],
+                                           new double[0]);
+        new DeltaSteppingShortestPaths(graph).compute(1);
+    }
+
+    /**
+     * Checks that each parent produces the distance of its child, and that
+     * each path leads back to the source.
+     */
+    private static void checkTree(CsrGraph graph, ShortestPathTree tree) {
+        for (int node = 0; node < graph.getNodeCount(); ++node) {
+            int parent = tree.getParent(node);
+
+            if (node == tree.getSource() || !tree.isReachable(node)) {
+                assertEquals(-1, parent);
+                continue;
+            }
+
+            assertEquals(tree.getDistance(node),
+                         tree.getDistance(parent) +
+                         graph.getWeight(parent, node),
+                         0.0001);
+
+            int[] path = tree.getPath(node);
+            assertEquals(tree.getSource(), path[0]);
+            assertEquals(tree.getDistance(node),
+                         graph.getPathCost(path),
+                         0.0001);
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package net.coderodde.gsp.model.grid;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.queue.support.IndexedDaryHeap;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.GridGraphConfiguration;
+import net.coderodde.gsp.model.support.GridGraphNode;
+import net.coderodde.gsp.model.support.GridGraphOctileHeuristicFunction;
+import net.coderodde.gsp.model.support.GridGraphWeightFunction;
+import net.coderodde.gsp.model.support.SearchState;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PackedGridTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("PackedGridTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testWalls() {
+        PackedGrid grid = new PackedGrid(100, 3);
+
+        grid.setWall(63, 1, true);
+        grid.setWall(64, 1, true);
+
+        assertTrue(grid.isWall(grid.getCell(63, 1)));
+        assertTrue(grid.isWall(grid.getCell(64, 1)));
+        assertFalse(grid.isPassable(64, 1));
+        assertTrue(grid.isPassable(65, 1));
+        assertFalse(grid.isPassable(-1, 0));
+        assertFalse(grid.isPassable(0, 3));
+
+        grid.setWall(63, 1, false);
+
+        assertTrue(grid.isPassable(63, 1));
+        assertFalse(grid.isPassable(64, 1));
+    }
+
+    @Test
+    public void testLargeGrid() {
+        PackedGrid grid = new PackedGrid(4096, 4096);
+        grid.setWall(4095, 4095, true);
+
+        int[] buffer = new int[PackedGrid.MAXIMUM_NEIGHBORS];
+
+        assertFalse(grid.isPassable(4095, 4095));
+        assertEquals(4, grid.getNeighbors(grid.getCell(4094, 4095), buffer));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetCellOutsideThrows() {
+        new PackedGrid(10, 10).getCell(10, 0);
+    }
+
+    @Test
+    public void testNeighborsMatchGridGraph() {
+        Random random = new Random(seed);
+
+        for (int mode = 0; mode < 3; ++mode) {
+            GridGraphConfiguration configuration = createConfiguration(mode);
+            GridGraphNode[][] graph = createGridGraph(30, 20, configuration);
+            addRandomWalls(graph, configuration, 0.3, random);
+            PackedGrid grid = PackedGrid.of(graph, configuration);
+            int[] buffer = new int[PackedGrid.MAXIMUM_NEIGHBORS];
+
+            for (GridGraphNode[] row : graph) {
+                for (GridGraphNode node : row) {
+                    Collection<GridGraphNode> expected = node.children();
+                    int count = grid.getNeighbors(node.getId(), buffer);
+
+                    assertEquals(expected.size(), count);
+
+                    int i = 0;
+
+                    for (GridGraphNode neighbor : expected) {
+                        assertEquals(neighbor.getId(), buffer[i++]);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testHasChildMatchesNeighbors() {
+        Random random = new Random(seed);
+
+        for (int mode = 0; mode < 3; ++mode) {
+            GridGraphConfiguration configuration = createConfiguration(mode);
+            GridGraphNode[][] graph = createGridGraph(20, 15, configuration);
+            addRandomWalls(graph, configuration, 0.3, random);
+            PackedGrid grid = PackedGrid.of(graph, configuration);
+
+            for (int y = 0; y < grid.getHeight(); ++y) {
+                for (int x = 0; x < grid.getWidth(); ++x) {
+                    PackedGridNode node = grid.getNode(x, y);
+                    Collection<PackedGridNode> children = node.children();
+
+                    for (int yy = y - 2; yy <= y + 2; ++yy) {
+                        for (int xx = x - 2; xx <= x + 2; ++xx) {
+                            if (xx < 0 || xx >= grid.getWidth()
+                                    || yy < 0 || yy >= grid.getHeight()) {
+                                continue;
+                            }
+
+                            PackedGridNode other = grid.getNode(xx, yy);
+                            assertEquals(children.contains(other),
+                                         node.hasChild(other));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGridGraphNeighborsFollowWalls() {
+        GridGraphConfiguration configuration = createConfiguration(2);
+        GridGraphNode[][] graph = createGridGraph(3, 3, configuration);
+        GridGraphNode center = graph[1][1];
+        Collection<GridGraphNode> children = center.children();
+
+        assertEquals(8, children.size());
+        assertSame(children, center.children());
+
+        configuration.markAsWall(graph[0][1]);
+
+        assertEquals(7, center.children().size());
+        assertFalse(center.children().contains(graph[0][1]));
+
+        configuration.setAllowDiagonals(false);
+
+        assertEquals(3, center.children().size());
+
+        graph[1][1].setEast(null);
+
+        assertEquals(2, center.children().size());
+        assertEquals(2, graph[1][2].children().size());
+    }
+
+    @Test
+    public void testPathFindersOnPackedGrid() {
+        Random random = new Random(seed);
+
+        for (int mode = 0; mode < 3; ++mode) {
+            GridGraphConfiguration configuration = createConfiguration(mode);
+            GridGraphNode[][] graph = createGridGraph(60, 40, configuration);
+            addRandomWalls(graph, configuration, 0.25, random);
+            PackedGrid grid = PackedGrid.of(graph, configuration);
+
+            AbstractPathFinder<GridGraphNode> reference =
+                    new AStarPathFinder<>(new GridGraphWeightFunction(),
+                                          new GridGraphOctileHeuristicFunction());
+
+            List<AbstractPathFinder<PackedGridNode>> finders = new ArrayList<>();
+            finders.add(new DijkstraPathFinder<>(
+                    new PackedGridWeightFunction()));
+            finders.add(new AStarPathFinder<>(
+                    new PackedGridWeightFunction(),
+                    new PackedGridOctileHeuristicFunction()));
+            finders.add(new AStarPathFinder<>(
+                    new PackedGridWeightFunction(),
+                    new PackedGridOctileHeuristicFunction())
+                    .setQueue(new IndexedDaryHeap<>(grid.getCellCount()))
+                    .setSearchState(new SearchState<>(grid.getCellCount())));
+
+            for (int query = 0; query < 20; ++query) {
+                int sourceX = random.nextInt(60);
+                int sourceY = random.nextInt(40);
+                int targetX = random.nextInt(60);
+                int targetY = random.nextInt(40);
+                configuration.unmarkAsWall(graph[sourceY][sourceX]);
+                configuration.unmarkAsWall(graph[targetY][targetX]);
+                grid.setWall(sourceX, sourceY, false);
+                grid.setWall(targetX, targetY, false);
+
+                double expected =
+                        getPathLength(reference.search(graph[sourceY][sourceX],
+                                                       graph[targetY][targetX]));
+
+                for (AbstractPathFinder<PackedGridNode> finder : finders) {
+                    List<PackedGridNode> path =
+                            finder.search(grid.getNode(sourceX, sourceY),
+                                          grid.getNode(targetX, targetY));
+
+                    for (int i = 1; i < path.size(); ++i) {
+                        assertTrue(path.get(i - 1).hasChild(path.get(i)));
+                    }
+
+                    assertEquals(expected, getPackedPathLength(path), 0.0001);
+                }
+            }
+        }
+    }
+
+    private static GridGraphConfiguration createConfiguration(int mode) {
+        GridGraphConfiguration configuration = new GridGraphConfiguration();
+        configuration.setAllowDiagonals(mode != 0);
+        configuration.setCrossCorners(mode == 2);
+        return configuration;
+    }
+
+    private static void addRandomWalls(GridGraphNode[][] graph,
+                                       GridGraphConfiguration configuration,
+                                       double density,
+                                       Random random) {
+        for (GridGraphNode[] row : graph) {
+            for (GridGraphNode node : row) {
+                if (random.nextDouble() < density) {
+                    configuration.markAsWall(node);
+                }
+            }
+        }
+    }
+
+    private static double getPathLength(List<GridGraphNode> path) {
+        GridGraphWeightFunction weightFunction = new GridGraphWeightFunction();
+        double length = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            length += weightFunction.get(path.get(i), path.get(i + 1));
+        }
+
+        return path.isEmpty() ? -1.0 : length;
+    }
+
+    private static double getPackedPathLength(List<PackedGridNode> path) {
+        PackedGridWeightFunction weightFunction =
+                new PackedGridWeightFunction();
+        double length = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            length += weightFunction.get(path.get(i), path.get(i + 1));
+        }
+
+        return path.isEmpty() ? -1.0 : length;
+    }
+
+    private static GridGraphNode[][]
+        createGridGraph(int width,
+                        int height,
+                        GridGraphConfiguration configuration) {
+        GridGraphNode[][] grid = new GridGraphNode[height][width];
+        int id = 0;
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                grid[y][x] = new GridGraphNode(id++, x, y, configuration);
+            }
+        }
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (x + 1 < width) {
+                    grid[y][x].setEast(grid[y][x + 1]);
+                }
+
+                if (y + 1 < height) {
+                    grid[y][x].setSouth(grid[y + 1][x]);
+
+                    if (x + 1 < width) {
+                        grid[y][x].setSouthEast(grid[y + 1][x + 1]);
+                    }
+
+                    if (x > 0) {
+                        grid[y][x].setSouthWest(grid[y + 1][x - 1]);
+                    }
+                }
+            }
+        }
+
+        return grid;
+    }
+}
@@ -0,0 +1,105 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.util.Arrays;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ConcurrentHistogramTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("ConcurrentHistogramTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testBuckets() {
+        long previousUpperBound = -1L;
+
+        for (int index = 0; index < ConcurrentHistogram.BUCKET_COUNT; ++index) {
+            long upperBound = ConcurrentHistogram.getUpperBound(index);
+            long lowerBound = previousUpperBound + 1L;
+
+            assertTrue(upperBound >= lowerBound);
+            assertEquals(index, ConcurrentHistogram.getIndex(lowerBound));
+            assertEquals(index, ConcurrentHistogram.getIndex(upperBound));
+            // Each bucket is within 1/64 of its values.
+            assertTrue(upperBound - lowerBound <= lowerBound / 64);
+            previousUpperBound = upperBound;
+        }
+
+        assertEquals(ConcurrentHistogram.MAXIMUM_VALUE, previousUpperBound);
+    }
+
+    @Test
+    public void testPercentiles() {
+        Random random = new Random(seed);
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        long[] values = new long[10000];
+        long sum = 0L;
+
+        for (int i = 0; i < values.length; ++i) {
+            values[i] = (long) Math.exp(20.0 * random.nextDouble());
+            sum += values[i];
+            histogram.record(values[i]);
+        }
+
+        Arrays.sort(values);
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        assertEquals(values.length, snapshot.getCount());
+        assertEquals(values[values.length - 1], snapshot.getMaximum());
+        assertEquals((double) sum / values.length, snapshot.getMean(), 1e-6);
+
+        for (double percentile : new double[]{ 0.0, 50.0, 90.0, 99.9, 100 }) {
+            int rank = Math.max(1, (int) Math.ceil(percentile / 100.0 *
+                                                   values.length));
+            long expected = values[rank - 1];
+            long actual = snapshot.getValueAtPercentile(percentile);
+
+            assertTrue(actual >= expected);
+            assertTrue(actual <= expected + expected / 64);
+        }
+    }
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = new Thread(() -> {
+                for (int value = 0; value < 10000; ++value) {
+                    histogram.record(value);
+                }
+            });
+            threads[i].start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshotAndReset();
+        assertEquals(40000L, snapshot.getCount());
+        assertEquals(9999L, snapshot.getMaximum());
+        assertEquals(0L, histogram.snapshot().getCount());
+        assertEquals(0L, histogram.snapshot().getValueAtPercentile(99.0));
+    }
+
+    @Test
+    public void testLargeValuesClamped() {
+        ConcurrentHistogram histogram = new ConcurrentHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(ConcurrentHistogram.MAXIMUM_VALUE,
+                     histogram.snapshot().getValueAtPercentile(50.0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeValueThrows() {
+        new ConcurrentHistogram().record(-1L);
+    }
+}
@@ -0,0 +1,160 @@
+package net.coderodde.gsp.model.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MetricsRegistryTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static GraphData data;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("MetricsRegistryTest.java, seed: " + seed);
+        data = getRandomGraphData(500, 1500, new Random(seed));
+    }
+
+    @Test
+    public void testRecording() {
+        Random random = new Random(seed);
+        MetricsRegistry registry = new MetricsRegistry();
+        MeteredPathFinder<DirectedGraphNode> finder =
+                registry.wrap(new DijkstraPathFinder<>(data.weightFunction));
+        int found = 0;
+        int unreachable = 0;
+        long expanded = 0L;
+
+        for (int i = 0; i < 50; ++i) {
+            SearchResult<DirectedGraphNode> result =
+                    finder.search(choose(data.graph, random),
+                                  choose(data.graph, random),
+                                  SearchLimits.NONE);
+
+            if (result.getStatus() == SearchResult.Status.FOUND) {
+                ++found;
+            } else {
+                ++unreachable;
+            }
+
+            expanded += result.getExpandedNodes();
+        }
+
+        SearchLimits limits = SearchLimits.NONE.withMaximumExpansions(0L);
+
+        for (int i = 0; i < 10; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target;
+
+            do {
+                target = choose(data.graph, random);
+            } while (target.equals(source));
+
+            finder.search(source, target, limits);
+        }
+
+        try {
+            finder.search(null, choose(data.graph, random));
+            fail();
+        } catch (NullPointerException ex) {
+        }
+
+        MetricsSnapshot snapshot = finder.getMetrics().snapshot();
+        assertEquals("Dijkstra's algorithm / default heap",
+                     snapshot.getName());
+        assertEquals(61L, snapshot.getQueries());
+        assertEquals(found, snapshot.getFoundQueries());
+        assertEquals(unreachable, snapshot.getUnreachableQueries());
+        assertEquals(10L, snapshot.getStoppedQueries());
+        assertEquals(1L, snapshot.getFailedQueries());
+        assertEquals(1.0 / 61.0, snapshot.getFailureRate(), 1e-9);
+        assertEquals(61L, snapshot.getLatencies().getCount());
+        assertEquals(60L, snapshot.getExpansions().getCount());
+        assertEquals((double) expanded / 60.0,
+                     snapshot.getExpansions().getMean(),
+                     1e-9);
+        assertTrue(snapshot.getQueryRate() > 0.0);
+
+        MetricsSnapshot interval = finder.getMetrics().snapshotAndReset();
+        assertEquals(61L, interval.getQueries());
+        assertEquals(0L, finder.getMetrics().snapshot().getQueries());
+    }
+
+    @Test
+    public void testSharedMetrics() {
+        MetricsRegistry registry = new MetricsRegistry();
+        AbstractPathFinder<DirectedGraphNode> a =
+                registry.wrap(new DijkstraPathFinder<>(data.weightFunction));
+        AbstractPathFinder<DirectedGraphNode> b =
+                registry.wrap(new DijkstraPathFinder<>(data.weightFunction));
+        AbstractPathFinder<DirectedGraphNode> c =
+                registry.wrap(new DijkstraPathFinder<>(data.weightFunction)
+                        .setQueue(new DaryHeap<>(4)));
+        AbstractPathFinder<DirectedGraphNode> d =
+                registry.wrap(new AStarPathFinder<>(data.weightFunction,
+                                                    data.heuristicFunction));
+
+        assertSame(((MeteredPathFinder<DirectedGraphNode>) a).getMetrics(),
+                   ((MeteredPathFinder<DirectedGraphNode>) b).getMetrics());
+
+        DirectedGraphNode node = data.graph.get(0);
+
+        for (AbstractPathFinder<DirectedGraphNode> finder :
+                new AbstractPathFinder[]{ a, b, c, d }) {
+            finder.search(node, node);
+        }
+
+        List<MetricsSnapshot> snapshots = registry.snapshot();
+        assertEquals(3, snapshots.size());
+        assertEquals("A* / default heap", snapshots.get(0).getName());
+        assertEquals("Dijkstra's algorithm / DaryHeap: degree = 4",
+                     snapshots.get(1).getName());
+        assertEquals(2L, snapshots.get(2).getQueries());
+        assertEquals(3, registry.toText().split("\n").length);
+        assertTrue(registry.toText().contains("A* / default heap: 1 queries"));
+    }
+
+    @Test
+    public void testMBeans() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        MetricsRegistry registry = new MetricsRegistry();
+        PathFinderMetrics before = registry.getMetrics("before");
+        registry.registerMBeans("net.coderodde.gsp.test");
+        PathFinderMetrics after = registry.getMetrics("after");
+        ObjectName beforeName = registry.getObjectName(before);
+        ObjectName afterName = registry.getObjectName(after);
+
+        try {
+            after.recordFailure(1000L);
+            assertTrue(server.isRegistered(beforeName));
+            assertEquals(1L, server.getAttribute(afterName, "Queries"));
+            assertEquals(1.0, server.getAttribute(afterName, "FailureRate"));
+            assertEquals(1.0, (double) server.getAttribute(
+                    afterName, "LatencyP99Micros"), 0.1);
+            server.invoke(afterName, "reset", null, null);
+            assertEquals(0L, server.getAttribute(afterName, "Queries"));
+        } finally {
+            registry.unregisterMBeans();
+        }
+
+        assertFalse(server.isRegistered(beforeName));
+        assertFalse(server.isRegistered(afterName));
+    }
+}
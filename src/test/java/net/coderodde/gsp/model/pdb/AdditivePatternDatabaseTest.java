@@ -0,0 +1,213 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.gsp.model.GraphSearchListener;
+import net.coderodde.gsp.model.storage.MappedTable;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.IterativeDeepeningAStarPathFinder;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphNode;
+import net.coderodde.gsp.model.support.PackedPuzzleGraphWeightFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphNode;
+import net.coderodde.gsp.model.support.PuzzleGraphWeightFunction;
+import net.coderodde.gsp.model.support.PuzzleManhattanHeuristicFunction;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class AdditivePatternDatabaseTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static AdditivePatternDatabase database;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("AdditivePatternDatabaseTest.java, seed: " + seed);
+        database = AdditivePatternDatabase.build(4,
+                                                 new int[]{ 1, 2, 5, 6, 9 },
+                                                 new int[]{ 3, 4, 7, 8 },
+                                                 new int[]{ 10, 13, 14 },
+                                                 new int[]{ 11, 12, 15 });
+    }
+
+    @Test
+    public void testAdmissible() {
+        Random random = new Random(seed);
+        PuzzleGraphNode goal = new PuzzleGraphNode(4);
+        PatternDatabaseHeuristicFunction heuristicFunction =
+                new PatternDatabaseHeuristicFunction(database);
+        PuzzleGraphHeuristicFunction manhattan =
+                new PuzzleGraphHeuristicFunction(4);
+        AStarPathFinder<PuzzleGraphNode> finder =
+                new AStarPathFinder<>(new PuzzleGraphWeightFunction(),
+                                      heuristicFunction);
+        AStarPathFinder<PuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PuzzleGraphWeightFunction(),
+                                      manhattan);
+
+        for (int i = 0; i < 10; ++i) {
+            PuzzleGraphNode source =
+                    PatternDatabaseTest.scramble(goal, 30, random);
+            List<PuzzleGraphNode> path = finder.search(source, goal);
+            double estimate = heuristicFunction.estimate(source, goal);
+
+            assertEquals(reference.search(source, goal).size(), path.size());
+            assertTrue(estimate <= path.size() - 1);
+            assertTrue(estimate >= manhattan.estimate(source, goal));
+            assertEquals(estimate,
+                         heuristicFunction.estimate(goal, source),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testExpandsLessNodes() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        IterativeDeepeningAStarPathFinder<PackedPuzzleGraphNode> finder1 =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new PackedPuzzleGraphWeightFunction(),
+                        new PuzzleManhattanHeuristicFunction(goal, false));
+        IterativeDeepeningAStarPathFinder<PackedPuzzleGraphNode> finder2 =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new PackedPuzzleGraphWeightFunction(),
+                        new PackedPatternDatabaseHeuristicFunction(database));
+        ExpansionCounter counter1 = new ExpansionCounter();
+        ExpansionCounter counter2 = new ExpansionCounter();
+        finder1.setGraphSearchListener(counter1);
+        finder2.setGraphSearchListener(counter2);
+
+        for (int i = 0; i < 5; ++i) {
+            PackedPuzzleGraphNode source = goal;
+
+            for (int moves = 0; moves < 40; ++moves) {
+                List<PackedPuzzleGraphNode> children = source.children();
+                source = children.get(random.nextInt(children.size()));
+            }
+
+            assertEquals(finder1.search(source, goal).size(),
+                         finder2.search(source, goal).size());
+        }
+
+        assertTrue(counter2.expansions <= counter1.expansions);
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        Random random = new Random(seed);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        database.save(out);
+        AdditivePatternDatabase loaded =
+                AdditivePatternDatabase.load(
+                        new ByteArrayInputStream(out.toByteArray()));
+        PuzzleGraphNode goal = new PuzzleGraphNode(4);
+
+        assertEquals(4, loaded.getDegree());
+        assertEquals(4, loaded.getPatternCount());
+
+        for (int i = 0; i < 100; ++i) {
+            int[] tileCells = PatternDatabaseTest.getTileCells(
+                    PatternDatabaseTest.scramble(goal, 60, random));
+
+            assertEquals(database.estimate(tileCells),
+                         loaded.estimate(tileCells));
+        }
+    }
+
+    @Test
+    public void testSaveAndMap() throws IOException {
+        Random random = new Random(seed);
+        File file = File.createTempFile("pdb", ".table");
+        file.deleteOnExit();
+        database.save(file.toPath());
+        MappedTable table = MappedTable.open(file.toPath());
+        table.verify();
+        AdditivePatternDatabase mapped = AdditivePatternDatabase.map(table);
+        PuzzleGraphNode goal = new PuzzleGraphNode(4);
+
+        assertEquals(4, mapped.getPatternCount());
+        assertTrue(mapped.getPatternDatabase(0).isMapped());
+
+        for (int i = 0; i < 100; ++i) {
+            int[] tileCells = PatternDatabaseTest.getTileCells(
+                    PatternDatabaseTest.scramble(goal, 60, random));
+
+            assertEquals(database.estimate(tileCells),
+                         mapped.estimate(tileCells));
+        }
+
+        // A mapped database saves like the one on the heap.
+        ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+        ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+        database.save(out1);
+        mapped.save(out2);
+
+        assertArrayEquals(out1.toByteArray(), out2.toByteArray());
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadThrowsOnGarbage() throws IOException {
+        AdditivePatternDatabase.load(
+                new ByteArrayInputStream(new byte[]{ 1, 2, 3, 4, 5, 6 }));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadThrowsOnTruncatedData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        database.save(out);
+        byte[] data = out.toByteArray();
+        AdditivePatternDatabase.load(
+                new ByteArrayInputStream(data, 0, data.length / 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnOverlappingPatterns() {
+        AdditivePatternDatabase.build(3,
+                                      new int[]{ 1, 2, 3 },
+                                      new int[]{ 3, 4 });
+    }
+
+    @Test
+    public void testUncoveredTilesUseManhattanDistance() {
+        Random random = new Random(seed);
+        AdditivePatternDatabase empty = AdditivePatternDatabase.build(3);
+        PuzzleGraphHeuristicFunction manhattan =
+                new PuzzleGraphHeuristicFunction(3);
+        PuzzleGraphNode goal = new PuzzleGraphNode(3);
+
+        for (int i = 0; i < 20; ++i) {
+            PuzzleGraphNode node =
+                    PatternDatabaseTest.scramble(goal, 30, random);
+
+            assertEquals(manhattan.estimate(node, goal),
+                         empty.estimate(PatternDatabaseTest.getTileCells(node)),
+                         0.0);
+        }
+    }
+
+    private static final class ExpansionCounter
+    implements GraphSearchListener<PackedPuzzleGraphNode> {
+
+        long expansions;
+
+        @Override
+        public void begin() {}
+
+        @Override
+        public void reached(PackedPuzzleGraphNode node) {}
+
+        @Override
+        public void closed(PackedPuzzleGraphNode node) {
+            ++expansions;
+        }
+
+        @Override
+        public void done(List<PackedPuzzleGraphNode> path) {}
+    }
+}
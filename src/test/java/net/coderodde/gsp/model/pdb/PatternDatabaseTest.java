@@ -0,0 +1,111 @@
+package net.coderodde.gsp.model.pdb;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.gsp.model.support.AStarPathFinder;
+import net.coderodde.gsp.model.support.PuzzleGraphHeuristicFunction;
+import net.coderodde.gsp.model.support.PuzzleGraphNode;
+import net.coderodde.gsp.model.support.PuzzleGraphWeightFunction;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PatternDatabaseTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("PatternDatabaseTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testRank() {
+        PatternDatabase database = PatternDatabase.build(3, 2, 5, 7);
+        boolean[] ranked = new boolean[database.size()];
+        int[] cells = new int[3];
+        int[] unranked = new int[3];
+
+        assertEquals(9 * 8 * 7, database.size());
+
+        for (int c0 = 0; c0 < 9; ++c0) {
+            for (int c1 = 0; c1 < 9; ++c1) {
+                for (int c2 = 0; c2 < 9; ++c2) {
+                    if (c0 == c1 || c0 == c2 || c1 == c2) {
+                        continue;
+                    }
+
+                    cells[0] = c0;
+                    cells[1] = c1;
+                    cells[2] = c2;
+                    int rank = database.rank(cells);
+
+                    assertFalse(ranked[rank]);
+                    ranked[rank] = true;
+                    database.unrank(rank, unranked);
+                    assertArrayEquals(cells, unranked);
+                }
+            }
+        }
+
+        assertEquals(0, database.get(new int[]{ 8, 0, 1, 2, 3, 4, 5, 6, 7 }));
+    }
+
+    @Test
+    public void testFullPatternIsExact() {
+        Random random = new Random(seed);
+        PatternDatabase database =
+                PatternDatabase.build(3, 1, 2, 3, 4, 5, 6, 7, 8);
+        PuzzleGraphNode goal = new PuzzleGraphNode(3);
+        AStarPathFinder<PuzzleGraphNode> finder =
+                new AStarPathFinder<>(new PuzzleGraphWeightFunction(),
+                                      new PuzzleGraphHeuristicFunction(3));
+
+        for (int i = 0; i < 20; ++i) {
+            PuzzleGraphNode source = scramble(goal, 40, random);
+            int expected = finder.search(source, goal).size() - 1;
+
+            assertEquals(expected, database.get(getTileCells(source)));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnBadTile() {
+        PatternDatabase.build(3, 1, 9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnDuplicateTile() {
+        PatternDatabase.build(3, 1, 2, 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnTooLargePattern() {
+        PatternDatabase.build(5, 1, 2, 3, 4, 5, 6, 7);
+    }
+
+    static PuzzleGraphNode scramble(PuzzleGraphNode node,
+                                    int moves,
+                                    Random random) {
+        for (int i = 0; i < moves; ++i) {
+            List<PuzzleGraphNode> children = new ArrayList<>(node.children());
+            node = children.get(random.nextInt(children.size()));
+        }
+
+        return node;
+    }
+
+    static int[] getTileCells(PuzzleGraphNode node) {
+        int degree = node.getDegree();
+        int[] tileCells = new int[degree * degree];
+
+        for (int y = 0; y < degree; ++y) {
+            for (int x = 0; x < degree; ++x) {
+                tileCells[node.get(x, y)] = y * degree + x;
+            }
+        }
+
+        return tileCells;
+    }
+}
@@ -0,0 +1,89 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BinaryHeapTest {
+    
+    private static final long seed = System.currentTimeMillis();
+    
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("BinaryHeapTest.java, seed: " + seed);
+    }
+    
+    @Test
+    public void testAddAndExtractMinimum() {
+        BinaryHeap<Double> heap = new BinaryHeap<>(16);
+        Random rnd = new Random(seed);
+        double[] expected = new double[10000];
+        
+        for (int i = 0; i < expected.length; ++i) {
+            expected[i] = rnd.nextDouble();
+            heap.add(expected[i], expected[i]);
+        }
+        
+        Arrays.sort(expected);
+        
+        for (double d : expected) {
+            assertEquals(d, heap.extractMinimum(), 0.0);
+        }
+        
+        assertTrue(heap.isEmpty());
+    }
+    
+    @Test
+    public void testDuplicates() {
+        BinaryHeap<Integer> heap = new BinaryHeap<>();
+        heap.add(1, 5.0);
+        heap.add(2, 3.0);
+        heap.add(1, 4.0);
+        heap.decreasePriority(1, 1.0);
+        
+        assertEquals(4, heap.size());
+        assertEquals((Integer) 1, heap.extractMinimum());
+        assertEquals((Integer) 2, heap.extractMinimum());
+        assertEquals((Integer) 1, heap.extractMinimum());
+        assertEquals((Integer) 1, heap.extractMinimum());
+        assertTrue(heap.isEmpty());
+    }
+    
+    @Test
+    public void testClear() {
+        BinaryHeap<Integer> heap = new BinaryHeap<>();
+        
+        for (int i = 0; i < 100; ++i) {
+            heap.add(i, i);
+        }
+        
+        heap.clear();
+        
+        assertTrue(heap.isEmpty());
+        
+        heap.add(7, 7.0);
+        
+        assertEquals((Integer) 7, heap.min());
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void testExtractingFromEmptyHeapThrows() {
+        new BinaryHeap<Integer>().extractMinimum();
+    }
+    
+    @Test
+    public void testSpawn() {
+        BinaryHeap<Integer> heap = new BinaryHeap<>();
+        heap.add(1, 2.0);
+        
+        MinimumPriorityQueue<Integer> heap2 = heap.spawn();
+        
+        assertTrue(heap2 instanceof BinaryHeap);
+        assertFalse(heap.isEmpty());
+        assertTrue(heap2.isEmpty());
+    }
+}
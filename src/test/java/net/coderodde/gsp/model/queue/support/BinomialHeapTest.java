@@ -220,4 +220,92 @@ public class BinomialHeapTest {
             
         }
     }
+    
+    @Test
+    public void testAddAfterExtract() {
+        heap.add(1, 1.0);
+        heap.add(2, 2.0);
+        
+        assertEquals((Integer) 1, heap.extractMinimum());
+        
+        // A reopened element is added anew.
+        heap.add(1, 0.5);
+        
+        assertEquals(2, heap.size());
+        assertEquals((Integer) 1, heap.extractMinimum());
+        assertEquals((Integer) 2, heap.extractMinimum());
+        assertTrue(heap.isEmpty());
+    }
+    
+    @Test
+    public void testDecreasePriorityAfterSwaps() {
+        Random rnd = new Random(seed);
+        int sz = 1000;
+        double[] priorities = new double[sz];
+        
+        for (int i = 0; i < sz; ++i) {
+            priorities[i] = 1000.0 + rnd.nextDouble();
+            heap.add(i, priorities[i]);
+        }
+        
+        // Decreasing the keys moves the elements between the tree nodes.
+        for (int round = 0; round < 5000; ++round) {
+            int i = rnd.nextInt(sz);
+            priorities[i] -= rnd.nextDouble();
+            heap.decreasePriority(i, priorities[i]);
+        }
+        
+        double previous = Double.NEGATIVE_INFINITY;
+        
+        while (!heap.isEmpty()) {
+            int i = heap.extractMinimum();
+            assertTrue(previous <= priorities[i]);
+            previous = priorities[i];
+        }
+    }
+    
+    @Test
+    public void testInterleavedOperations() {
+        Random rnd = new Random(seed);
+        int sz = 200;
+        double[] priorities = new double[sz];
+        boolean[] inHeap = new boolean[sz];
+        
+        for (int round = 0; round < 20000; ++round) {
+            int i = rnd.nextInt(sz);
+            
+            switch (rnd.nextInt(3)) {
+                case 0:
+                    if (!inHeap[i]) {
+                        priorities[i] = rnd.nextDouble();
+                        inHeap[i] = true;
+                        heap.add(i, priorities[i]);
+                    }
+                    
+                    break;
+                    
+                case 1:
+                    if (inHeap[i]) {
+                        // Also hits the children of the extracted roots.
+                        priorities[i] *= rnd.nextDouble();
+                        heap.decreasePriority(i, priorities[i]);
+                    }
+                    
+                    break;
+                    
+                default:
+                    if (!heap.isEmpty()) {
+                        int min = heap.extractMinimum();
+                        assertTrue(inHeap[min]);
+                        
+                        for (int j = 0; j < sz; ++j) {
+                            assertFalse(inHeap[j] && 
+                                        priorities[j] < priorities[min]);
+                        }
+                        
+                        inHeap[min] = false;
+                    }
+            }
+        }
+    }
 }
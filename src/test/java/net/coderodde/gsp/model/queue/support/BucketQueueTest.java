@@ -0,0 +1,102 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.NoSuchElementException;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import static net.coderodde.gsp.model.queue.support.RadixHeapTest.testAddAndExtractMinimumOn;
+import static net.coderodde.gsp.model.queue.support.RadixHeapTest.testMonotoneWorkloadOn;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BucketQueueTest {
+    
+    private static final long seed = System.currentTimeMillis();
+    
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("BucketQueueTest.java, seed: " + seed);
+    }
+    
+    @Test
+    public void testAddAndExtractMinimum() {
+        testAddAndExtractMinimumOn(new BucketQueue<Integer>(), seed);
+        testAddAndExtractMinimumOn(new BucketQueue<Integer>(0.25), seed);
+        testAddAndExtractMinimumOn(new BucketQueue<Integer>(50.0), seed);
+    }
+    
+    @Test
+    public void testMonotoneWorkload() {
+        testMonotoneWorkloadOn(new BucketQueue<Integer>(), seed);
+        testMonotoneWorkloadOn(new BucketQueue<Integer>(0.1), seed);
+        testMonotoneWorkloadOn(new BucketQueue<Integer>(7.0), seed);
+    }
+    
+    @Test
+    public void testDecreasePriority() {
+        BucketQueue<Integer> queue = new BucketQueue<>();
+        
+        for (int i = 10; i != 0; --i) {
+            queue.add(i, i);
+        }
+        
+        queue.decreasePriority(10, 0.0);
+        
+        assertEquals((Integer) 10, queue.extractMinimum());
+        
+        int i = 1;
+        
+        while (!queue.isEmpty()) {
+            assertEquals((Integer) i, queue.extractMinimum());
+            i++;
+        }
+    }
+    
+    @Test
+    public void testRingGrows() {
+        BucketQueue<Integer> queue = new BucketQueue<>();
+        queue.add(1, 100000.0);
+        queue.add(2, 0.0);
+        queue.add(3, 5000.0);
+        
+        assertEquals((Integer) 2, queue.extractMinimum());
+        assertEquals((Integer) 3, queue.extractMinimum());
+        assertEquals((Integer) 1, queue.extractMinimum());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonMonotonePriorityThrows() {
+        BucketQueue<Integer> queue = new BucketQueue<>();
+        queue.add(1, 5.0);
+        queue.extractMinimum();
+        queue.add(2, 4.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testInfinitePriorityThrows() {
+        new BucketQueue<Integer>().add(1, Double.POSITIVE_INFINITY);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadBucketWidthThrows() {
+        new BucketQueue<Integer>(0.0);
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void testPeekingEmptyQueueThrows() {
+        new BucketQueue<Integer>().min();
+    }
+    
+    @Test
+    public void testSpawn() {
+        BucketQueue<Integer> queue = new BucketQueue<>(0.5);
+        queue.add(1, 2.0);
+        
+        MinimumPriorityQueue<Integer> queue2 = queue.spawn();
+        
+        assertTrue(queue2 instanceof BucketQueue);
+        assertEquals(0.5, ((BucketQueue<Integer>) queue2).getBucketWidth(), 
+                     0.0);
+        assertFalse(queue.isEmpty());
+        assertTrue(queue2.isEmpty());
+    }
+}
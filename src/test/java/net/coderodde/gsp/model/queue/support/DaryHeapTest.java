@@ -99,6 +99,19 @@ public class DaryHeapTest {
         new DaryHeap<Integer>(5).min();
     }
     
+    @Test
+    public void testDecreasePriorityOfRoot() {
+        for (int degree = 2; degree <= 5; ++degree) {
+            DaryHeap<Integer> heap = new DaryHeap<>(degree);
+            heap.add(1, 10.0);
+            heap.decreasePriority(1, 1.0);
+            heap.add(2, 5.0);
+            
+            assertEquals((Integer) 1, heap.extractMinimum());
+            assertEquals((Integer) 2, heap.extractMinimum());
+        }
+    }
+    
     @Test
     public void testMin() {
         testMinOn(new DaryHeap<>(2));
@@ -219,4 +219,32 @@ public class FibonacciHeapTest {
             
         }
     }
+    
+    @Test
+    public void testReuseAfterClear() {
+        Random rnd = new Random(seed);
+        
+        for (int round = 0; round < 5; ++round) {
+            // Leave consolidated trees of high degree behind.
+            for (int i = 0; i < 10000; ++i) {
+                heap.add(i, rnd.nextDouble());
+            }
+            
+            for (int i = 0; i < 10; ++i) {
+                heap.extractMinimum();
+            }
+            
+            heap.clear();
+            
+            for (int i = 0; i < 100; ++i) {
+                heap.add(i, i);
+            }
+            
+            for (int i = 0; i < 100; ++i) {
+                assertEquals((Integer) i, heap.extractMinimum());
+            }
+            
+            assertTrue(heap.isEmpty());
+        }
+    }
 }
@@ -0,0 +1,161 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class IntDaryHeapTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("IntDaryHeapTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testExtractMinimum() {
+        for (int degree = 2; degree <= 5; ++degree) {
+            testExtractMinimumOn(new IntDaryHeap(degree, 16));
+        }
+    }
+
+    @Test
+    public void testDecreasePriority() {
+        for (int degree = 2; degree <= 5; ++degree) {
+            testDecreasePriorityOn(new IntDaryHeap(degree, 16));
+        }
+    }
+
+    @Test
+    public void testAgainstPriorityQueue() {
+        for (int degree = 2; degree <= 5; ++degree) {
+            testAgainstPriorityQueueOn(new IntDaryHeap(degree, 100));
+        }
+    }
+
+    @Test
+    public void testAddIgnoresPresentElements() {
+        IntDaryHeap heap = new IntDaryHeap();
+        heap.add(3, 3.0);
+        heap.add(3, 1.0);
+
+        assertEquals(1, heap.size());
+        assertEquals(3.0, heap.getPriority(3), 0.0);
+    }
+
+    @Test
+    public void testClear() {
+        IntDaryHeap heap = new IntDaryHeap(8);
+
+        for (int i = 0; i < 100; ++i) {
+            heap.add(i, i);
+        }
+
+        heap.clear();
+
+        assertTrue(heap.isEmpty());
+
+        for (int i = 0; i < 100; ++i) {
+            assertFalse(heap.contains(i));
+        }
+
+        heap.add(50, 1.0);
+
+        assertEquals(50, heap.extractMinimum());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testPeekingEmptyHeapThrows() {
+        new IntDaryHeap().min();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAddingNegativeElementThrows() {
+        new IntDaryHeap().add(-1, 0.0);
+    }
+
+    private void testExtractMinimumOn(IntDaryHeap heap) {
+        final int sz = 10000;
+        final Random rnd = new Random(seed);
+
+        for (int i = 0; i < sz; ++i) {
+            heap.add(i, rnd.nextDouble());
+        }
+
+        assertEquals(sz, heap.size());
+
+        double prev = Double.NEGATIVE_INFINITY;
+
+        while (!heap.isEmpty()) {
+            double current = heap.minPriority();
+            heap.extractMinimum();
+
+            if (prev > current) {
+                fail("The sequence was not monotonically increasing. " +
+                     "Previous: " + prev + ", current: " + current + ".");
+            }
+
+            prev = current;
+        }
+    }
+
+    private void testDecreasePriorityOn(IntDaryHeap heap) {
+        for (int i = 10; i != 0; --i) {
+            heap.add(i, i);
+        }
+
+        heap.decreasePriority(10, -1);
+
+        assertEquals(10, heap.extractMinimum());
+
+        heap.decreasePriority(1, 0.5);
+
+        assertEquals(0.5, heap.minPriority(), 0.0);
+
+        int i = 1;
+
+        while (!heap.isEmpty()) {
+            assertEquals(i, heap.extractMinimum());
+            i++;
+        }
+    }
+
+    private void testAgainstPriorityQueueOn(IntDaryHeap heap) {
+        final Random rnd = new Random(seed);
+        final int range = 1000;
+        PriorityQueue<double[]> reference =
+                new PriorityQueue<>((a, b) -> Double.compare(a[1], b[1]));
+        double[] priorities = new double[range];
+
+        for (int i = 0; i < 100000; ++i) {
+            int element = rnd.nextInt(range);
+            double coin = rnd.nextDouble();
+
+            if (coin < 0.4) {
+                if (!heap.contains(element)) {
+                    double priority = rnd.nextDouble();
+                    heap.add(element, priority);
+                    priorities[element] = priority;
+                    reference.add(new double[]{ element, priority });
+                }
+            } else if (coin < 0.7) {
+                if (heap.contains(element)) {
+                    double priority = priorities[element] * rnd.nextDouble();
+                    heap.decreasePriority(element, priority);
+                    reference.removeIf((a) -> a[0] == element);
+                    priorities[element] = priority;
+                    reference.add(new double[]{ element, priority });
+                }
+            } else if (!heap.isEmpty()) {
+                assertEquals(reference.poll()[1], heap.minPriority(), 0.0);
+                heap.extractMinimum();
+            }
+
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+}
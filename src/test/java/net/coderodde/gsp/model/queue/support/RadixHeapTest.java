@@ -0,0 +1,200 @@
+package net.coderodde.gsp.model.queue.support;
+
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Random;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class RadixHeapTest {
+    
+    private static final long seed = System.currentTimeMillis();
+    
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("RadixHeapTest.java, seed: " + seed);
+    }
+    
+    @Test
+    public void testAddAndExtractMinimum() {
+        testAddAndExtractMinimumOn(new RadixHeap<Integer>(), seed);
+    }
+    
+    @Test
+    public void testDecreasePriority() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        
+        for (int i = 10; i != 0; --i) {
+            heap.add(i, i);
+        }
+        
+        heap.decreasePriority(10, 0.0);
+        
+        assertEquals((Integer) 10, heap.extractMinimum());
+        
+        heap.decreasePriority(5, 0.5);
+        
+        assertEquals((Integer) 5, heap.min());
+        assertEquals((Integer) 5, heap.extractMinimum());
+        
+        for (int i = 1; i < 10; ++i) {
+            if (i != 5) {
+                assertEquals((Integer) i, heap.extractMinimum());
+            }
+        }
+        
+        assertTrue(heap.isEmpty());
+    }
+    
+    @Test
+    public void testMonotoneWorkload() {
+        testMonotoneWorkloadOn(new RadixHeap<Integer>(), seed);
+    }
+    
+    @Test
+    public void testZeroPriorities() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        heap.add(1, -0.0);
+        heap.add(2, 0.0);
+        heap.add(3, 1.0);
+        
+        assertEquals(3, heap.size());
+        heap.extractMinimum();
+        heap.extractMinimum();
+        assertEquals((Integer) 3, heap.extractMinimum());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNonMonotonePriorityThrows() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        heap.add(1, 5.0);
+        heap.extractMinimum();
+        heap.add(2, 4.0);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativePriorityThrows() {
+        new RadixHeap<Integer>().add(1, -1.0);
+    }
+    
+    @Test
+    public void testNegligibleUndershootIsTolerated() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        heap.add(1, 0.3);
+        heap.extractMinimum();
+        heap.add(2, 0.1 + 0.2 - 1e-16);
+        
+        assertEquals((Integer) 2, heap.extractMinimum());
+    }
+    
+    @Test
+    public void testClear() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        heap.add(1, 100.0);
+        heap.extractMinimum();
+        heap.add(2, 200.0);
+        heap.clear();
+        
+        assertTrue(heap.isEmpty());
+        
+        heap.add(3, 1.0);
+        
+        assertEquals((Integer) 3, heap.extractMinimum());
+    }
+    
+    @Test(expected = NoSuchElementException.class)
+    public void testPeekingEmptyHeapThrows() {
+        new RadixHeap<Integer>().min();
+    }
+    
+    @Test
+    public void testSpawn() {
+        RadixHeap<Integer> heap = new RadixHeap<>();
+        heap.add(1, 2.0);
+        
+        MinimumPriorityQueue<Integer> heap2 = heap.spawn();
+        
+        assertTrue(heap2 instanceof RadixHeap);
+        assertFalse(heap.isEmpty());
+        assertTrue(heap2.isEmpty());
+    }
+    
+    static void testAddAndExtractMinimumOn(MinimumPriorityQueue<Integer> heap,
+                                           long seed) {
+        final int sz = 10000;
+        final Random rnd = new Random(seed);
+        double[] priorities = new double[sz];
+        
+        for (int i = 0; i < sz; ++i) {
+            priorities[i] = rnd.nextInt(1000) + rnd.nextDouble();
+            heap.add(i, priorities[i]);
+        }
+        
+        assertEquals(sz, heap.size());
+        
+        double prev = 0.0;
+        
+        while (!heap.isEmpty()) {
+            double current = priorities[heap.extractMinimum()];
+            
+            if (prev > current) {
+                fail("The sequence was not monotonically increasing. " +
+                     "Previous: " + prev + ", current: " + current + ".");
+            }
+            
+            prev = current;
+        }
+    }
+    
+    /**
+     * Simulates a Dijkstra-like workload: each inserted or decreased priority
+     * is at least the last extracted minimum. Compares the extracted
+     * priorities against {@link PriorityQueue}.
+     */
+    static void testMonotoneWorkloadOn(MinimumPriorityQueue<Integer> heap,
+                                       long seed) {
+        Random rnd = new Random(seed);
+        int range = 2000;
+        double[] priorities = new double[range];
+        boolean[] present = new boolean[range];
+        PriorityQueue<double[]> reference = 
+                new PriorityQueue<>((a, b) -> Double.compare(a[1], b[1]));
+        double last = 0.0;
+        
+        for (int i = 0; i < 100000; ++i) {
+            int element = rnd.nextInt(range);
+            double coin = rnd.nextDouble();
+            
+            if (coin < 0.4) {
+                if (!present[element]) {
+                    double priority = last + rnd.nextInt(100);
+                    heap.add(element, priority);
+                    present[element] = true;
+                    priorities[element] = priority;
+                    reference.add(new double[]{ element, priority });
+                }
+            } else if (coin < 0.6) {
+                if (present[element] && priorities[element] > last) {
+                    double priority = last + 
+                            (priorities[element] - last) * rnd.nextDouble();
+                    heap.decreasePriority(element, priority);
+                    reference.removeIf((a) -> a[0] == element);
+                    priorities[element] = priority;
+                    reference.add(new double[]{ element, priority });
+                }
+            } else if (!heap.isEmpty()) {
+                double expected = reference.poll()[1];
+                Integer extracted = heap.extractMinimum();
+                
+                assertEquals(expected, priorities[extracted], 0.0);
+                
+                present[extracted] = false;
+                last = expected;
+            }
+            
+            assertEquals(reference.size(), heap.size());
+        }
+    }
+}
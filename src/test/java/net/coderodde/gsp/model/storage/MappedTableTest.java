@@ -0,0 +1,171 @@
+package net.coderodde.gsp.model.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class MappedTableTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private File file;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("MappedTableTest.java, seed: " + seed);
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        file = File.createTempFile("mapped", ".table");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        Random random = new Random(seed);
+        int count = 20000;
+        byte[] bytes = new byte[count];
+        int[] ints = new int[count];
+        long[] longs = new long[count];
+        double[] doubles = new double[count];
+        random.nextBytes(bytes);
+
+        for (int i = 0; i < count; ++i) {
+            ints[i] = random.nextInt();
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextDouble();
+        }
+
+        try (MappedTableWriter writer =
+                new MappedTableWriter(file.toPath(), 42, new byte[]{ 7, 8 })) {
+            writer.write(bytes, 0, count);
+            writer.align(8);
+
+            for (int i = 0; i < count; ++i) {
+                writer.writeLong(longs[i]);
+                writer.writeDouble(doubles[i]);
+                writer.writeInt(ints[i]);
+                writer.writeByte(bytes[i]);
+            }
+        }
+
+        MappedTable table = MappedTable.open(file.toPath());
+        table.verify();
+        ByteBuffer metadata = table.getMetadata();
+
+        assertEquals(42, table.getType());
+        assertEquals(2, metadata.remaining());
+        assertEquals(7, metadata.get());
+        assertEquals(8, metadata.get());
+        assertEquals(20000 + 21 * count, table.getPayloadLength());
+
+        for (int i = 0; i < count; ++i) {
+            assertEquals(bytes[i], table.getByte(i));
+        }
+
+        long offset = 20000;
+
+        for (int i = 0; i < count; ++i) {
+            assertEquals(longs[i], table.getLong(offset));
+            assertEquals(doubles[i], table.getDouble(offset + 8), 0.0);
+            assertEquals(ints[i], table.getInt(offset + 16));
+            assertEquals(bytes[i], table.getByte(offset + 20));
+            offset += 21;
+        }
+    }
+
+    @Test
+    public void testEmptyPayload() throws IOException {
+        new MappedTableWriter(file.toPath(), 1, new byte[0]).close();
+        MappedTable table = MappedTable.open(file.toPath());
+        table.verify();
+
+        assertEquals(0L, table.getPayloadLength());
+        assertEquals(0, table.getMetadata().remaining());
+    }
+
+    @Test(expected = IOException.class)
+    public void testVerifyThrowsOnCorruptPayload() throws IOException {
+        writeTable(1000);
+        corrupt(MappedTable.PAGE_SIZE + 500);
+        MappedTable table = MappedTable.open(file.toPath());
+        table.verify();
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenThrowsOnCorruptHeader() throws IOException {
+        writeTable(1000);
+        corrupt(8);
+        MappedTable.open(file.toPath());
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenThrowsOnUnknownVersion() throws IOException {
+        writeTable(1000);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(4);
+            raf.write(2);
+        }
+
+        MappedTable.open(file.toPath());
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenThrowsOnTruncatedFile() throws IOException {
+        writeTable(1000);
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(MappedTable.PAGE_SIZE + 999);
+        }
+
+        MappedTable.open(file.toPath());
+    }
+
+    @Test(expected = IOException.class)
+    public void testOpenThrowsOnGarbage() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.write(new byte[100]);
+        }
+
+        MappedTable.open(file.toPath());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testWriterThrowsOnTooLongMetadata() throws IOException {
+        new MappedTableWriter(
+                file.toPath(),
+                1,
+                new byte[MappedTable.MAXIMUM_METADATA_LENGTH + 1]);
+    }
+
+    private void writeTable(int length) throws IOException {
+        try (MappedTableWriter writer =
+                new MappedTableWriter(file.toPath(), 1, new byte[]{ 1 })) {
+            for (int i = 0; i < length; ++i) {
+                writer.writeByte(i);
+            }
+        }
+    }
+
+    private void corrupt(long position) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xff);
+        }
+    }
+}
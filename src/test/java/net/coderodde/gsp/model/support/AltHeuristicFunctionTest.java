@@ -0,0 +1,179 @@
+package net.coderodde.gsp.model.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.AbstractPathFinder;
+import net.coderodde.gsp.model.storage.MappedTable;
+import net.coderodde.gsp.model.support.AltHeuristicFunction.LandmarkSelection;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class AltHeuristicFunctionTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("AltHeuristicFunctionTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testPathFinders() {
+        for (LandmarkSelection selection : LandmarkSelection.values()) {
+            testPathFindersOn(selection);
+        }
+    }
+
+    @Test
+    public void testAdmissibility() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(1000, 5000, random);
+        AltHeuristicFunction<DirectedGraphNode> alt =
+                new AltHeuristicFunction<>(data.graph,
+                                           data.weightFunction,
+                                           6,
+                                           LandmarkSelection.AVOID,
+                                           random);
+        DijkstraPathFinder<DirectedGraphNode> dijkstra =
+                new DijkstraPathFinder<>(data.weightFunction);
+
+        for (int i = 0; i < 100; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            List<DirectedGraphNode> path = dijkstra.search(source, target);
+            double estimate = alt.estimate(source, target);
+
+            assertTrue(estimate >= 0.0);
+
+            if (!path.isEmpty()) {
+                assertTrue(estimate <= getPathLength(path,
+                                                     data.weightFunction)
+                                       + 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(500, 2500, random);
+        AltHeuristicFunction<DirectedGraphNode> alt =
+                new AltHeuristicFunction<>(data.graph,
+                                           data.weightFunction,
+                                           4,
+                                           LandmarkSelection.FARTHEST,
+                                           random);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        alt.save(out);
+
+        AltHeuristicFunction<DirectedGraphNode> loaded =
+                AltHeuristicFunction.load(
+                        new ByteArrayInputStream(out.toByteArray()));
+
+        assertArrayEquals(alt.getLandmarks(), loaded.getLandmarks());
+
+        for (int i = 0; i < 1000; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+
+            assertEquals(alt.estimate(source, target),
+                         loaded.estimate(source, target),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testSaveAndMap() throws IOException {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(500, 2500, random);
+        AltHeuristicFunction<DirectedGraphNode> alt =
+                new AltHeuristicFunction<>(data.graph,
+                                           data.weightFunction,
+                                           4,
+                                           LandmarkSelection.AVOID,
+                                           random);
+        File file = File.createTempFile("alt", ".table");
+        file.deleteOnExit();
+        alt.save(file.toPath());
+
+        MappedTable table = MappedTable.open(file.toPath());
+        table.verify();
+        AltHeuristicFunction<DirectedGraphNode> mapped =
+                AltHeuristicFunction.map(table);
+
+        assertArrayEquals(alt.getLandmarks(), mapped.getLandmarks());
+
+        for (int i = 0; i < 1000; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+
+            assertEquals(alt.estimate(source, target),
+                         mapped.estimate(source, target),
+                         0.0);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadGarbageThrows() throws IOException {
+        AltHeuristicFunction.load(new ByteArrayInputStream(new byte[16]));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSparseIdsThrow() {
+        List<DirectedGraphNode> nodes = new ArrayList<>();
+        nodes.add(new DirectedGraphNode(0));
+        nodes.add(new DirectedGraphNode(2));
+
+        new AltHeuristicFunction<>(nodes,
+                                   new DirectedGraphWeightFunction(),
+                                   1,
+                                   LandmarkSelection.RANDOM,
+                                   new Random(seed));
+    }
+
+    private void testPathFindersOn(LandmarkSelection selection) {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(2000, 10000, random);
+        AltHeuristicFunction<DirectedGraphNode> alt =
+                new AltHeuristicFunction<>(data.graph,
+                                           data.weightFunction,
+                                           8,
+                                           selection,
+                                           random);
+
+        AbstractPathFinder<DirectedGraphNode> reference =
+                new DijkstraPathFinder<>(data.weightFunction);
+        List<AbstractPathFinder<DirectedGraphNode>> finders =
+                new ArrayList<>();
+        finders.add(new AStarPathFinder<>(data.weightFunction, alt));
+        finders.add(new BidirectionalAStarPathFinder<>(data.weightFunction,
+                                                       alt));
+        finders.add(new NewBidirectionalAStarPathFinder<>(data.weightFunction,
+                                                          alt));
+
+        for (int i = 0; i < 30; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            double expected = getPathLength(reference.search(source, target),
+                                            data.weightFunction);
+
+            for (AbstractPathFinder<DirectedGraphNode> finder : finders) {
+                assertEquals(expected,
+                             getPathLength(finder.search(source, target),
+                                           data.weightFunction),
+                             0.0001);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ConcurrentSearchStateTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("ConcurrentSearchStateTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testPutGetAndClose() {
+        Random random = new Random(seed);
+        ConcurrentSearchState<DirectedGraphNode> state =
+                new ConcurrentSearchState<>(4);
+        List<DirectedGraphNode> nodes = new ArrayList<>();
+        double[] distances = new double[5000];
+
+        for (int i = 0; i < distances.length; ++i) {
+            nodes.add(new DirectedGraphNode(i));
+        }
+
+        for (int i = 0; i < distances.length; ++i) {
+            DirectedGraphNode parent = i == 0 ? null : nodes.get(i - 1);
+            distances[i] = 100.0 * random.nextDouble();
+            state.put(nodes.get(i), distances[i], parent);
+        }
+
+        assertEquals(distances.length, state.size());
+
+        for (int i = 0; i < distances.length; i += 2) {
+            state.close(nodes.get(i));
+        }
+
+        // Updating a closed node keeps it closed.
+        state.put(nodes.get(0), 0.5, null);
+        distances[0] = 0.5;
+
+        for (int i = 0; i < distances.length; ++i) {
+            DirectedGraphNode node = nodes.get(i);
+            assertTrue(state.isReached(node));
+            assertEquals(distances[i], state.getDistance(node), 0.0);
+            assertEquals(i % 2 == 0, state.isClosed(node));
+            assertEquals(i == 0 ? null : nodes.get(i - 1),
+                         state.getParent(node));
+        }
+
+        DirectedGraphNode absent = new DirectedGraphNode(distances.length);
+        assertFalse(state.isReached(absent));
+        assertFalse(state.isClosed(absent));
+        assertEquals(Double.POSITIVE_INFINITY, state.getDistance(absent), 0.0);
+
+        state.reset();
+
+        assertEquals(0, state.size());
+        assertFalse(state.isReached(nodes.get(0)));
+    }
+
+    @Test
+    public void testCloseUnreachedNode() {
+        ConcurrentSearchState<DirectedGraphNode> state =
+                new ConcurrentSearchState<>();
+        DirectedGraphNode node = new DirectedGraphNode(1);
+        state.close(node);
+
+        assertTrue(state.isClosed(node));
+        assertEquals(Double.POSITIVE_INFINITY, state.getDistance(node), 0.0);
+        assertEquals(1, state.size());
+    }
+
+    @Test
+    public void testConcurrentReader() throws InterruptedException {
+        final int count = 200000;
+        List<DirectedGraphNode> nodes = new ArrayList<>(count);
+
+        for (int i = 0; i < count; ++i) {
+            nodes.add(new DirectedGraphNode(i));
+        }
+
+        Collections.shuffle(nodes, new Random(seed));
+        ConcurrentSearchState<DirectedGraphNode> state =
+                new ConcurrentSearchState<>(4);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        // The reader checks that each node it finds has the distance written
+        // along with it, and that the nodes appear in the order written.
+        Thread reader = new Thread(() -> {
+            int seen = 0;
+
+            while (seen < count) {
+                DirectedGraphNode node = nodes.get(seen);
+
+                if (!state.isReached(node)) {
+                    Thread.yield();
+                    continue;
+                }
+
+                double distance = state.getDistance(node);
+
+                if (distance != node.getId() + 0.5 &&
+                        distance != node.getId()) {
+                    failure.set("Bad distance " + distance + " of " + node);
+                    return;
+                }
+
+                for (int i = 0; i < seen; i += 1 + seen / 16) {
+                    if (!state.isReached(nodes.get(i))) {
+                        failure.set("Lost " + nodes.get(i));
+                        return;
+                    }
+                }
+
+                ++seen;
+            }
+        });
+
+        reader.start();
+
+        for (DirectedGraphNode node : nodes) {
+            state.put(node, node.getId() + 0.5, null);
+            state.put(node, node.getId(), null);
+        }
+
+        reader.join();
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,165 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getPathLength;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.queue.MinimumPriorityQueue;
+import net.coderodde.gsp.model.queue.support.BinomialHeap;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.queue.support.FibonacciHeap;
+import net.coderodde.gsp.model.queue.support.PairingHeap;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class HashDistributedAStarPathFinderTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("HashDistributedAStarPathFinderTest.java, " +
+                           "seed: " + seed);
+    }
+
+    @Test
+    public void testGeneralGraph() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(3000, 12000, random);
+        DijkstraPathFinder<DirectedGraphNode> reference =
+                new DijkstraPathFinder<>(data.weightFunction);
+        HashDistributedAStarPathFinder<DirectedGraphNode>[] finders =
+                new HashDistributedAStarPathFinder[] {
+            new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                                 data.heuristicFunction)
+                    .setThreadCount(1),
+            new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                                 data.heuristicFunction)
+                    .setThreadCount(4)
+                    .setBatchSize(1),
+            new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                                 data.heuristicFunction)
+                    .setThreadCount(7)
+                    .setBatchSize(16),
+        };
+
+        finders[2].setQueue(new PairingHeap<DirectedGraphNode>());
+
+        for (int i = 0; i < 50; ++i) {
+            DirectedGraphNode source = choose(data.graph, random);
+            DirectedGraphNode target = choose(data.graph, random);
+            double pathLength =
+                    getPathLength(reference.search(source, target),
+                                  data.weightFunction);
+
+            for (HashDistributedAStarPathFinder<DirectedGraphNode> finder :
+                    finders) {
+                List<DirectedGraphNode> path = finder.search(source, target);
+
+                assertEquals(pathLength,
+                             getPathLength(path, data.weightFunction),
+                             0.0001);
+
+                if (!path.isEmpty()) {
+                    assertEquals(source, path.get(0));
+                    assertEquals(target, path.get(path.size() - 1));
+
+                    for (int j = 1; j < path.size(); ++j) {
+                        assertTrue(path.get(j - 1).hasChild(path.get(j)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testPackedPuzzle() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        AStarPathFinder<PackedPuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                      new PackedPuzzleGraphHeuristicFunction());
+        HashDistributedAStarPathFinder<PackedPuzzleGraphNode> finder =
+                new HashDistributedAStarPathFinder<>(
+                        new PackedPuzzleGraphWeightFunction(),
+                        new PackedPuzzleGraphHeuristicFunction())
+                .setThreadCount(4);
+
+        for (int i = 0; i < 10; ++i) {
+            PackedPuzzleGraphNode source = goal;
+
+            for (int moves = 0; moves < 40; ++moves) {
+                List<PackedPuzzleGraphNode> children = source.children();
+                source = children.get(random.nextInt(children.size()));
+            }
+
+            List<PackedPuzzleGraphNode> path = finder.search(source, goal);
+
+            assertEquals(reference.search(source, goal).size(), path.size());
+            assertEquals(source, path.get(0));
+            assertEquals(goal, path.get(path.size() - 1));
+
+            for (int j = 1; j < path.size(); ++j) {
+                assertTrue(path.get(j - 1).hasChild(path.get(j)));
+            }
+        }
+    }
+
+    @Test
+    public void testUserQueues() {
+        Random random = new Random(seed);
+        GraphData data = getRandomGraphData(2000, 8000, random);
+        DijkstraPathFinder<DirectedGraphNode> reference =
+                new DijkstraPathFinder<>(data.weightFunction);
+        List<MinimumPriorityQueue<DirectedGraphNode>> queues =
+                Arrays.<MinimumPriorityQueue<DirectedGraphNode>>asList(
+                        new DaryHeap<DirectedGraphNode>(),
+                        new BinomialHeap<DirectedGraphNode>(),
+                        new FibonacciHeap<DirectedGraphNode>(),
+                        new PairingHeap<DirectedGraphNode>());
+
+        // The workers reopen closed nodes by adding them to their queues
+        // again, which every queue must accept.
+        for (MinimumPriorityQueue<DirectedGraphNode> queue : queues) {
+            HashDistributedAStarPathFinder<DirectedGraphNode> finder =
+                    new HashDistributedAStarPathFinder<>(
+                            data.weightFunction,
+                            data.heuristicFunction)
+                    .setThreadCount(4)
+                    .setBatchSize(4);
+            finder.setQueue(queue);
+
+            for (int i = 0; i < 100; ++i) {
+                DirectedGraphNode source = choose(data.graph, random);
+                DirectedGraphNode target = choose(data.graph, random);
+
+                assertEquals(queue.toString(),
+                             getPathLength(reference.search(source, target),
+                                           data.weightFunction),
+                             getPathLength(finder.search(source, target),
+                                           data.weightFunction),
+                             0.0001);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnBadThreadCount() {
+        GraphData data = getRandomGraphData(10, 10, new Random(seed));
+        new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                             data.heuristicFunction)
+                .setThreadCount(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrowsOnBadBatchSize() {
+        GraphData data = getRandomGraphData(10, 10, new Random(seed));
+        new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                             data.heuristicFunction)
+                .setBatchSize(0);
+    }
+}
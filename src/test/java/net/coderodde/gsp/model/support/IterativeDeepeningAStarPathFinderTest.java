@@ -0,0 +1,221 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import net.coderodde.gsp.model.AbstractHeuristicFunction;
+import net.coderodde.gsp.model.GraphSearchListener;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class IterativeDeepeningAStarPathFinderTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("IterativeDeepeningAStarPathFinderTest.java, " +
+                           "seed: " + seed);
+    }
+
+    @Test
+    public void testPackedPuzzle() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        AStarPathFinder<PackedPuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                      new PackedPuzzleGraphHeuristicFunction());
+        List<IterativeDeepeningAStarPathFinder<PackedPuzzleGraphNode>> finders =
+                new ArrayList<>();
+        finders.add(new IterativeDeepeningAStarPathFinder<>(
+                new PackedPuzzleGraphWeightFunction(),
+                new PackedPuzzleGraphHeuristicFunction()));
+        finders.add(new IterativeDeepeningAStarPathFinder<>(
+                new PackedPuzzleGraphWeightFunction(),
+                new PuzzleManhattanHeuristicFunction(goal, true)));
+
+        for (int i = 0; i < 20; ++i) {
+            PackedPuzzleGraphNode source = goal;
+
+            for (int moves = 0; moves < 40; ++moves) {
+                List<PackedPuzzleGraphNode> children = source.children();
+                source = children.get(random.nextInt(children.size()));
+            }
+
+            int expected = reference.search(source, goal).size();
+
+            for (IterativeDeepeningAStarPathFinder<PackedPuzzleGraphNode>
+                    finder : finders) {
+                List<PackedPuzzleGraphNode> path = finder.search(source, goal);
+
+                assertEquals(expected, path.size());
+                assertEquals(source, path.get(0));
+                assertEquals(goal, path.get(path.size() - 1));
+
+                for (int j = 1; j < path.size(); ++j) {
+                    assertTrue(path.get(j - 1).hasChild(path.get(j)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMatrixPuzzle() {
+        Random random = new Random(seed);
+        PuzzleGraphNode goal = new PuzzleGraphNode(3);
+        AStarPathFinder<PuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PuzzleGraphWeightFunction(),
+                                      new PuzzleGraphHeuristicFunction(3));
+        IterativeDeepeningAStarPathFinder<PuzzleGraphNode> finder =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new PuzzleGraphWeightFunction(),
+                        new PuzzleGraphHeuristicFunction(3));
+
+        for (int i = 0; i < 10; ++i) {
+            PuzzleGraphNode source = goal;
+
+            for (int moves = 0; moves < 30; ++moves) {
+                List<PuzzleGraphNode> children =
+                        new ArrayList<>(source.children());
+                source = children.get(random.nextInt(children.size()));
+            }
+
+            assertEquals(reference.search(source, goal).size(),
+                         finder.search(source, goal).size());
+        }
+    }
+
+    @Test
+    public void testListener() {
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(3);
+        PackedPuzzleGraphNode source =
+                goal.moveUp().moveLeft().moveDown().moveLeft().moveUp();
+        IterativeDeepeningAStarPathFinder<PackedPuzzleGraphNode> finder =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new PackedPuzzleGraphWeightFunction(),
+                        new PackedPuzzleGraphHeuristicFunction());
+        IterationListener listener = new IterationListener();
+        finder.setGraphSearchListener(listener);
+        List<PackedPuzzleGraphNode> path = finder.search(source, goal);
+
+        assertEquals(6, path.size());
+        assertEquals(path, listener.path);
+        assertFalse(listener.thresholds.isEmpty());
+        assertEquals(5.0,
+                     listener.thresholds.get(listener.thresholds.size() - 1),
+                     0.0);
+
+        for (int i = 1; i < listener.thresholds.size(); ++i) {
+            assertTrue(listener.thresholds.get(i - 1) <
+                       listener.thresholds.get(i));
+        }
+
+        long expanded = 0L;
+
+        for (long count : listener.expandedNodes) {
+            expanded += count;
+        }
+
+        assertEquals(listener.closed, expanded);
+    }
+
+    @Test
+    public void testSourceIsTarget() {
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        List<PackedPuzzleGraphNode> path =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new PackedPuzzleGraphWeightFunction(),
+                        new PackedPuzzleGraphHeuristicFunction())
+                .search(goal, goal);
+
+        assertEquals(1, path.size());
+        assertEquals(goal, path.get(0));
+    }
+
+    @Test
+    public void testMaximumThreshold() {
+        List<DirectedGraphNode> nodes = new ArrayList<>();
+        DirectedGraphWeightFunction weightFunction =
+                new DirectedGraphWeightFunction();
+
+        for (int i = 0; i < 4; ++i) {
+            nodes.add(new DirectedGraphNode(i));
+        }
+
+        // A cycle 0 -> 1 -> 2 -> 0, from which 3 is not reachable.
+        for (int i = 0; i < 3; ++i) {
+            nodes.get(i).addChild(nodes.get((i + 1) % 3));
+            weightFunction.put(nodes.get(i), nodes.get((i + 1) % 3), 1.0);
+        }
+
+        IterativeDeepeningAStarPathFinder<DirectedGraphNode> finder =
+                new IterativeDeepeningAStarPathFinder<>(
+                        weightFunction,
+                        new AbstractHeuristicFunction<DirectedGraphNode>() {
+                            @Override
+                            public double estimate(DirectedGraphNode source,
+                                                   DirectedGraphNode target) {
+                                return 0.0;
+                            }
+                        })
+                .setMaximumThreshold(100.0);
+
+        assertTrue(finder.search(nodes.get(0), nodes.get(3)).isEmpty());
+        assertEquals(3, finder.search(nodes.get(0), nodes.get(2)).size());
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        DirectedGraphNode source = new DirectedGraphNode(0);
+        DirectedGraphNode target = new DirectedGraphNode(1);
+
+        List<DirectedGraphNode> path =
+                new IterativeDeepeningAStarPathFinder<>(
+                        new DirectedGraphWeightFunction(),
+                        new AbstractHeuristicFunction<DirectedGraphNode>() {
+                            @Override
+                            public double estimate(DirectedGraphNode source,
+                                                   DirectedGraphNode target) {
+                                return 0.0;
+                            }
+                        })
+                .search(source, target);
+
+        assertTrue(path.isEmpty());
+    }
+
+    private static final class IterationListener
+    implements GraphSearchListener<PackedPuzzleGraphNode> {
+
+        final List<Double> thresholds = new ArrayList<>();
+        final List<Long> expandedNodes = new ArrayList<>();
+        List<PackedPuzzleGraphNode> path;
+        long closed;
+
+        @Override
+        public void begin() {}
+
+        @Override
+        public void reached(PackedPuzzleGraphNode node) {}
+
+        @Override
+        public void closed(PackedPuzzleGraphNode node) {
+            ++closed;
+        }
+
+        @Override
+        public void done(List<PackedPuzzleGraphNode> path) {
+            this.path = path;
+        }
+
+        @Override
+        public void iteration(int iteration,
+                              double threshold,
+                              long expandedNodes) {
+            assertEquals(thresholds.size(), iteration);
+            thresholds.add(threshold);
+            this.expandedNodes.add(expandedNodes);
+        }
+    }
+}
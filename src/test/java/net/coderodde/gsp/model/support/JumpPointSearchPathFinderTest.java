@@ -0,0 +1,208 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static net.coderodde.gsp.Utils.choose;
+import net.coderodde.gsp.model.GraphSearchListener;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class JumpPointSearchPathFinderTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("JumpPointSearchPathFinderTest.java, seed: " +
+                           seed);
+    }
+
+    @Test
+    public void testCrossingCorners() {
+        testAgainstAStar(true, true);
+    }
+
+    @Test
+    public void testNotCrossingCorners() {
+        testAgainstAStar(true, false);
+    }
+
+    @Test
+    public void testNoDiagonals() {
+        testAgainstAStar(false, false);
+    }
+
+    @Test
+    public void testUnreachableTarget() {
+        GridGraphConfiguration configuration = new GridGraphConfiguration();
+        GridGraphNode[][] grid = createGrid(10, 10, configuration);
+
+        for (int y = 0; y < 10; ++y) {
+            configuration.markAsWall(grid[y][5]);
+        }
+
+        assertTrue(new JumpPointSearchPathFinder().search(grid[2][2],
+                                                          grid[7][7])
+                                                  .isEmpty());
+    }
+
+    @Test
+    public void testExpandsFewerNodesOnOpenGrid() {
+        GridGraphConfiguration configuration = new GridGraphConfiguration();
+        GridGraphNode[][] grid = createGrid(200, 200, configuration);
+        GridGraphNode source = grid[10][3];
+        GridGraphNode target = grid[190][197];
+
+        CountingListener jpsListener = new CountingListener();
+        CountingListener dijkstraListener = new CountingListener();
+
+        JumpPointSearchPathFinder jps = new JumpPointSearchPathFinder();
+        jps.setGraphSearchListener(jpsListener);
+        DijkstraPathFinder<GridGraphNode> dijkstra =
+                new DijkstraPathFinder<>(new GridGraphWeightFunction());
+        dijkstra.setGraphSearchListener(dijkstraListener);
+
+        List<GridGraphNode> path1 = jps.search(source, target);
+        List<GridGraphNode> path2 = dijkstra.search(source, target);
+
+        assertEquals(getPathLength(path2), getPathLength(path1), 0.0001);
+        assertTrue(jpsListener.closed * 100 < dijkstraListener.closed);
+        assertEquals(path1, jpsListener.path);
+    }
+
+    private void testAgainstAStar(boolean diagonals, boolean crossCorners) {
+        Random random = new Random(seed);
+
+        for (int iteration = 0; iteration < 20; ++iteration) {
+            GridGraphConfiguration configuration = new GridGraphConfiguration();
+            configuration.setAllowDiagonals(diagonals);
+            configuration.setCrossCorners(crossCorners);
+
+            int width = 10 + random.nextInt(50);
+            int height = 10 + random.nextInt(50);
+            double wallDensity = 0.4 * random.nextDouble();
+            GridGraphNode[][] grid = createGrid(width, height, configuration);
+            List<GridGraphNode> freeNodes = new ArrayList<>();
+
+            for (GridGraphNode[] row : grid) {
+                for (GridGraphNode node : row) {
+                    if (random.nextDouble() < wallDensity) {
+                        configuration.markAsWall(node);
+                    } else {
+                        freeNodes.add(node);
+                    }
+                }
+            }
+
+            if (freeNodes.isEmpty()) {
+                continue;
+            }
+
+            AStarPathFinder<GridGraphNode> aStar =
+                    new AStarPathFinder<>(new GridGraphWeightFunction(),
+                                          new GridGraphOctileHeuristicFunction());
+            JumpPointSearchPathFinder jps = new JumpPointSearchPathFinder();
+
+            for (int query = 0; query < 20; ++query) {
+                GridGraphNode source = choose(freeNodes, random);
+                GridGraphNode target = choose(freeNodes, random);
+
+                List<GridGraphNode> expected = aStar.search(source, target);
+                List<GridGraphNode> actual = jps.search(source, target);
+
+                assertEquals(expected.isEmpty(), actual.isEmpty());
+
+                if (expected.isEmpty()) {
+                    continue;
+                }
+
+                assertEquals(source, actual.get(0));
+                assertEquals(target, actual.get(actual.size() - 1));
+
+                assertEquals(getPathLength(expected), 
+                             getPathLength(actual),
+                             0.0001);
+            }
+        }
+    }
+
+    /**
+     * Returns the length of {@code path}, or {@code Double.NaN} if two 
+     * consecutive nodes in it are not adjacent.
+     */
+    private static double getPathLength(List<GridGraphNode> path) {
+        GridGraphWeightFunction weightFunction = new GridGraphWeightFunction();
+        double length = 0.0;
+
+        for (int i = 0; i < path.size() - 1; ++i) {
+            if (!path.get(i).children().contains(path.get(i + 1))) {
+                return Double.NaN;
+            }
+
+            length += weightFunction.get(path.get(i), path.get(i + 1));
+        }
+
+        return length;
+    }
+
+    private static GridGraphNode[][]
+        createGrid(int width,
+                   int height,
+                   GridGraphConfiguration configuration) {
+        GridGraphNode[][] grid = new GridGraphNode[height][width];
+        int id = 0;
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                grid[y][x] = new GridGraphNode(id++, x, y, configuration);
+            }
+        }
+
+        for (int y = 0; y < height; ++y) {
+            for (int x = 0; x < width; ++x) {
+                if (x + 1 < width) {
+                    grid[y][x].setEast(grid[y][x + 1]);
+                }
+
+                if (y + 1 < height) {
+                    grid[y][x].setSouth(grid[y + 1][x]);
+
+                    if (x + 1 < width) {
+                        grid[y][x].setSouthEast(grid[y + 1][x + 1]);
+                    }
+
+                    if (x > 0) {
+                        grid[y][x].setSouthWest(grid[y + 1][x - 1]);
+                    }
+                }
+            }
+        }
+
+        return grid;
+    }
+
+    private static final class CountingListener
+    implements GraphSearchListener<GridGraphNode> {
+
+        int closed;
+        List<GridGraphNode> path;
+
+        @Override
+        public void begin() {}
+
+        @Override
+        public void reached(GridGraphNode node) {}
+
+        @Override
+        public void closed(GridGraphNode node) {
+            ++closed;
+        }
+
+        @Override
+        public void done(List<GridGraphNode> path) {
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PackedPuzzleGraphNodeTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("PackedPuzzleGraphNodeTest.java, seed: " + seed);
+    }
+
+    @Test
+    public void testMovesMatchPuzzleGraphNode() {
+        Random random = new Random(seed);
+
+        for (int degree = 3; degree <= 4; ++degree) {
+            PuzzleGraphNode node = new PuzzleGraphNode(degree);
+            PackedPuzzleGraphNode packed = new PackedPuzzleGraphNode(degree);
+
+            assertEquals(PackedPuzzleGraphNode.of(node), packed);
+
+            for (int i = 0; i < 1000; ++i) {
+                int direction = random.nextInt(4);
+                PuzzleGraphNode next = move(node, direction);
+                PackedPuzzleGraphNode packedNext = move(packed, direction);
+
+                if (next == null) {
+                    assertNull(packedNext);
+                    continue;
+                }
+
+                assertTrue(packed.hasChild(packedNext));
+                assertTrue(packedNext.hasChild(packed));
+                node = next;
+                packed = packedNext;
+                assertSameBoard(node, packed);
+                assertEquals(PackedPuzzleGraphNode.of(node), packed);
+            }
+        }
+    }
+
+    @Test
+    public void testHasChild() {
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        PackedPuzzleGraphNode left = goal.moveLeft();
+        PackedPuzzleGraphNode up = goal.moveUp();
+
+        assertTrue(goal.hasChild(left));
+        assertTrue(goal.hasChild(up));
+        assertFalse(goal.hasChild(goal));
+        assertFalse(left.hasChild(up));
+        assertFalse(goal.hasChild(left.moveLeft()));
+        assertEquals(2, goal.children().size());
+    }
+
+    @Test
+    public void testHashCodesSpread() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode node = new PackedPuzzleGraphNode(4);
+        Set<PackedPuzzleGraphNode> nodes = new HashSet<>();
+        Set<Integer> hashCodes = new HashSet<>();
+
+        while (nodes.size() < 20_000) {
+            List<PackedPuzzleGraphNode> children = node.children();
+            node = children.get(random.nextInt(children.size()));
+
+            if (nodes.add(node)) {
+                hashCodes.add(node.hashCode());
+            }
+        }
+
+        assertTrue(hashCodes.size() > nodes.size() * 99 / 100);
+    }
+
+    @Test
+    public void testPathFinders() {
+        Random random = new Random(seed);
+        PuzzleGraphNode target = new PuzzleGraphNode(4);
+        PackedPuzzleGraphNode packedTarget = PackedPuzzleGraphNode.of(target);
+        AStarPathFinder<PuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PuzzleGraphWeightFunction(),
+                                      new PuzzleGraphHeuristicFunction(4));
+        AStarPathFinder<PackedPuzzleGraphNode> finder =
+                new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                      new PackedPuzzleGraphHeuristicFunction());
+
+        for (int i = 0; i < 10; ++i) {
+            PuzzleGraphNode source = target;
+
+            for (int moves = 0; moves < 30; ++moves) {
+                PuzzleGraphNode next = move(source, random.nextInt(4));
+
+                if (next != null) {
+                    source = next;
+                }
+            }
+
+            List<PackedPuzzleGraphNode> path =
+                    finder.search(PackedPuzzleGraphNode.of(source),
+                                  packedTarget);
+
+            assertEquals(reference.search(source, target).size(),
+                         path.size());
+            assertEquals(PackedPuzzleGraphNode.of(source), path.get(0));
+            assertEquals(packedTarget, path.get(path.size() - 1));
+
+            for (int j = 1; j < path.size(); ++j) {
+                assertTrue(path.get(j - 1).hasChild(path.get(j)));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLargeDegreeThrows() {
+        new PackedPuzzleGraphNode(5);
+    }
+
+    private static void assertSameBoard(PuzzleGraphNode node,
+                                        PackedPuzzleGraphNode packed) {
+        assertEquals(node.getEmptySlotX(), packed.getEmptySlotX());
+        assertEquals(node.getEmptySlotY(), packed.getEmptySlotY());
+
+        for (int y = 0; y < node.getDegree(); ++y) {
+            for (int x = 0; x < node.getDegree(); ++x) {
+                assertEquals(node.get(x, y), packed.get(x, y));
+            }
+        }
+    }
+
+    private static PuzzleGraphNode move(PuzzleGraphNode node, int direction) {
+        switch (direction) {
+            case 0:
+                return node.moveUp();
+
+            case 1:
+                return node.moveRight();
+
+            case 2:
+                return node.moveDown();
+
+            default:
+                return node.moveLeft();
+        }
+    }
+
+    private static PackedPuzzleGraphNode move(PackedPuzzleGraphNode node,
+                                              int direction) {
+        switch (direction) {
+            case 0:
+                return node.moveUp();
+
+            case 1:
+                return node.moveRight();
+
+            case 2:
+                return node.moveDown();
+
+            default:
+                return node.moveLeft();
+        }
+    }
+}
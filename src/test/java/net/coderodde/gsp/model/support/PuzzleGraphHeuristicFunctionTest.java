@@ -0,0 +1,100 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PuzzleGraphHeuristicFunctionTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("PuzzleGraphHeuristicFunctionTest.java, seed: " +
+                           seed);
+    }
+
+    @Test
+    public void testForwardAndBackward() {
+        Random random = new Random(seed);
+        PuzzleGraphNode goal = new PuzzleGraphNode(4);
+        PuzzleGraphNode start = scramble(goal, 40, random);
+        PuzzleGraphHeuristicFunction heuristicFunction =
+                new PuzzleGraphHeuristicFunction(4);
+        PuzzleGraphNode forward = start;
+        PuzzleGraphNode backward = goal;
+
+        // Interleave the calls the way a bidirectional search makes them.
+        for (int i = 0; i < 1000; ++i) {
+            forward = scramble(forward, 1, random);
+            backward = scramble(backward, 1, random);
+
+            assertEquals(computeEstimate(forward, goal),
+                         heuristicFunction.estimate(forward, goal),
+                         0.0);
+            assertEquals(computeEstimate(backward, start),
+                         heuristicFunction.estimate(start, backward),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testArbitraryEndpoints() {
+        Random random = new Random(seed);
+        PuzzleGraphNode goal = new PuzzleGraphNode(3);
+        PuzzleGraphHeuristicFunction heuristicFunction =
+                new PuzzleGraphHeuristicFunction(3);
+
+        for (int i = 0; i < 100; ++i) {
+            PuzzleGraphNode source = scramble(goal, 30, random);
+            PuzzleGraphNode target = scramble(goal, 30, random);
+
+            assertEquals(computeEstimate(source, target),
+                         heuristicFunction.estimate(source, target),
+                         0.0);
+            assertEquals(computeEstimate(source, target),
+                         heuristicFunction.estimate(target, source),
+                         0.0);
+        }
+    }
+
+    private static PuzzleGraphNode scramble(PuzzleGraphNode node,
+                                            int steps,
+                                            Random random) {
+        for (int i = 0; i < steps; ++i) {
+            List<PuzzleGraphNode> children = new ArrayList<>(node.children());
+            node = children.get(random.nextInt(children.size()));
+        }
+
+        return node;
+    }
+
+    private static int computeEstimate(PuzzleGraphNode node,
+                                       PuzzleGraphNode target) {
+        int n = node.getDegree();
+        int estimate = 0;
+
+        for (int y = 0; y < n; ++y) {
+            for (int x = 0; x < n; ++x) {
+                int tile = node.get(x, y);
+
+                if (tile == 0) {
+                    continue;
+                }
+
+                for (int ty = 0; ty < n; ++ty) {
+                    for (int tx = 0; tx < n; ++tx) {
+                        if (target.get(tx, ty) == tile) {
+                            estimate += Math.abs(x - tx) + Math.abs(y - ty);
+                        }
+                    }
+                }
+            }
+        }
+
+        return estimate;
+    }
+}
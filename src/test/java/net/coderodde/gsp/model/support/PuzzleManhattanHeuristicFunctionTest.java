@@ -0,0 +1,212 @@
+package net.coderodde.gsp.model.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class PuzzleManhattanHeuristicFunctionTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("PuzzleManhattanHeuristicFunctionTest.java, " +
+                           "seed: " + seed);
+    }
+
+    @Test
+    public void testIncrementalMatchesScratch() {
+        Random random = new Random(seed);
+
+        for (int degree = 3; degree <= 4; ++degree) {
+            for (boolean linearConflict : new boolean[]{ false, true }) {
+                PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(degree);
+                PuzzleManhattanHeuristicFunction heuristicFunction =
+                        new PuzzleManhattanHeuristicFunction(goal,
+                                                             linearConflict);
+                PackedPuzzleGraphNode node = goal;
+
+                for (int i = 0; i < 2000; ++i) {
+                    List<PackedPuzzleGraphNode> children = node.children();
+                    node = children.get(random.nextInt(children.size()));
+
+                    assertEquals(computeEstimate(node, goal, linearConflict),
+                                 heuristicFunction.estimate(node));
+                    assertEquals(computeEstimate(node, goal, linearConflict),
+                                 heuristicFunction.estimate(goal, node),
+                                 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testArbitraryTarget() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        PuzzleManhattanHeuristicFunction heuristicFunction =
+                new PuzzleManhattanHeuristicFunction(goal, true);
+
+        for (int i = 0; i < 100; ++i) {
+            PackedPuzzleGraphNode source = scramble(goal, 50, random);
+            PackedPuzzleGraphNode target = scramble(goal, 50, random);
+
+            assertEquals(computeEstimate(source, target, true),
+                         heuristicFunction.estimate(source, target),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testMatchesMatrixHeuristic() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(4);
+        PuzzleManhattanHeuristicFunction heuristicFunction =
+                new PuzzleManhattanHeuristicFunction(goal, false);
+        PuzzleGraphHeuristicFunction matrixHeuristicFunction =
+                new PuzzleGraphHeuristicFunction(4);
+        PuzzleGraphNode target = new PuzzleGraphNode(4);
+        PuzzleGraphNode node = target;
+
+        for (int i = 0; i < 1000; ++i) {
+            List<PuzzleGraphNode> children = new ArrayList<>(node.children());
+            node = children.get(random.nextInt(children.size()));
+
+            assertEquals(heuristicFunction.estimate(
+                                 PackedPuzzleGraphNode.of(node)),
+                         matrixHeuristicFunction.estimate(node, target),
+                         0.0);
+            assertEquals(matrixHeuristicFunction.estimate(node, target),
+                         matrixHeuristicFunction.estimate(target, node),
+                         0.0);
+        }
+    }
+
+    @Test
+    public void testOptimalPaths() {
+        Random random = new Random(seed);
+        PackedPuzzleGraphNode goal = new PackedPuzzleGraphNode(3);
+        AStarPathFinder<PackedPuzzleGraphNode> reference =
+                new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                      new PackedPuzzleGraphHeuristicFunction());
+        PuzzleManhattanHeuristicFunction heuristicFunction =
+                new PuzzleManhattanHeuristicFunction(goal, true);
+        List<AStarPathFinder<PackedPuzzleGraphNode>> finders =
+                new ArrayList<>();
+        finders.add(new AStarPathFinder<>(new PackedPuzzleGraphWeightFunction(),
+                                          heuristicFunction));
+        finders.add(new AStarPathFinder<>(
+                new PackedPuzzleGraphWeightFunction(),
+                new PuzzleManhattanHeuristicFunction(goal, false)));
+
+        for (int i = 0; i < 20; ++i) {
+            PackedPuzzleGraphNode source = scramble(goal, 100, random);
+            int expected = reference.search(source, goal).size();
+
+            assertTrue(heuristicFunction.estimate(source) <= expected - 1);
+
+            for (AStarPathFinder<PackedPuzzleGraphNode> finder : finders) {
+                assertEquals(expected, finder.search(source, goal).size());
+            }
+        }
+    }
+
+    private static PackedPuzzleGraphNode scramble(PackedPuzzleGraphNode node,
+                                                  int moves,
+                                                  Random random) {
+        for (int i = 0; i < moves; ++i) {
+            List<PackedPuzzleGraphNode> children = node.children();
+            node = children.get(random.nextInt(children.size()));
+        }
+
+        return node;
+    }
+
+    /**
+     * Computes the Manhattan distance plus the linear conflicts by brute
+     * force.
+     */
+    private static int computeEstimate(PackedPuzzleGraphNode node,
+                                       PackedPuzzleGraphNode target,
+                                       boolean linearConflict) {
+        int n = node.getDegree();
+        int[] goalX = new int[n * n];
+        int[] goalY = new int[n * n];
+
+        for (int y = 0; y < n; ++y) {
+            for (int x = 0; x < n; ++x) {
+                goalX[target.get(x, y)] = x;
+                goalY[target.get(x, y)] = y;
+            }
+        }
+
+        int estimate = 0;
+
+        for (int y = 0; y < n; ++y) {
+            for (int x = 0; x < n; ++x) {
+                int tile = node.get(x, y);
+
+                if (tile != 0) {
+                    estimate += Math.abs(x - goalX[tile]) +
+                                Math.abs(y - goalY[tile]);
+                }
+            }
+        }
+
+        if (!linearConflict) {
+            return estimate;
+        }
+
+        for (int line = 0; line < n; ++line) {
+            List<Integer> rowGoals = new ArrayList<>();
+            List<Integer> columnGoals = new ArrayList<>();
+
+            for (int i = 0; i < n; ++i) {
+                int rowTile = node.get(i, line);
+                int columnTile = node.get(line, i);
+
+                if (rowTile != 0 && goalY[rowTile] == line) {
+                    rowGoals.add(goalX[rowTile]);
+                }
+
+                if (columnTile != 0 && goalX[columnTile] == line) {
+                    columnGoals.add(goalY[columnTile]);
+                }
+            }
+
+            estimate += 2 * (rowGoals.size() - longestIncreasing(rowGoals));
+            estimate += 2 * (columnGoals.size() -
+                             longestIncreasing(columnGoals));
+        }
+
+        return estimate;
+    }
+
+    private static int longestIncreasing(List<Integer> values) {
+        int best = 0;
+
+        // Try every subset; the lines hold at most four tiles.
+        for (int mask = 0; mask < 1 << values.size(); ++mask) {
+            int previous = -1;
+            int length = 0;
+            boolean increasing = true;
+
+            for (int i = 0; i < values.size(); ++i) {
+                if ((mask & (1 << i)) != 0) {
+                    increasing &= values.get(i) > previous;
+                    previous = values.get(i);
+                    ++length;
+                }
+            }
+
+            if (increasing) {
+                best = Math.max(best, length);
+            }
+        }
+
+        return best;
+    }
+}
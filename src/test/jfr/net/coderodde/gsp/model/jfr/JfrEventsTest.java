@@ -0,0 +1,157 @@
+package net.coderodde.gsp.model.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import static net.coderodde.gsp.Utils.choose;
+import static net.coderodde.gsp.Utils.getRandomGraphData;
+import net.coderodde.gsp.Utils.GraphData;
+import net.coderodde.gsp.model.SearchLimits;
+import net.coderodde.gsp.model.SearchResult;
+import net.coderodde.gsp.model.queue.support.DaryHeap;
+import net.coderodde.gsp.model.support.DijkstraPathFinder;
+import net.coderodde.gsp.model.support.DirectedGraphNode;
+import net.coderodde.gsp.model.support.HashDistributedAStarPathFinder;
+import static org.junit.Assert.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class JfrEventsTest {
+
+    private static final long seed = System.currentTimeMillis();
+
+    private static GraphData data;
+
+    @BeforeClass
+    public static void initClass() {
+        System.out.println("JfrEventsTest.java, seed: " + seed);
+        data = getRandomGraphData(2000, 10000, new Random(seed));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        assertNull(JfrEvents.beginSearch());
+        assertNull(JfrEvents.beginHeapResize());
+    }
+
+    @Test
+    public void testSearchEvents() throws IOException {
+        Random random = new Random(seed);
+        DirectedGraphNode source = choose(data.graph, random);
+        DirectedGraphNode target = choose(data.graph, random);
+        DijkstraPathFinder<DirectedGraphNode> finder =
+                new DijkstraPathFinder<>(data.weightFunction);
+        finder.setQueue(new DaryHeap<>());
+        SearchResult<DirectedGraphNode> result;
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(SearchEvent.NAME);
+            recording.start();
+            result = finder.search(source, target, SearchLimits.NONE);
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        // The statistics are collected for the event only.
+        assertNull(result.getStatistics());
+
+        assertEquals(1, events.size());
+        RecordedEvent searchEvent = events.get(0);
+        assertEquals(finder.humanReadableName(),
+                     searchEvent.getString("algorithm"));
+        assertTrue(searchEvent.getString("heap").startsWith("DaryHeap"));
+        assertEquals(result.getStatus().name(),
+                     searchEvent.getString("status"));
+        assertEquals(result.getExpandedNodes(),
+                     searchEvent.getLong("expandedNodes"));
+        assertEquals(result.getPath().size(),
+                     searchEvent.getInt("pathNodes"));
+
+        if (result.getExpandedNodes() > 1L) {
+            assertTrue(searchEvent.getLong("generatedNodes") > 0L);
+        }
+    }
+
+    @Test
+    public void testHeapResizeEvents() throws IOException {
+        DaryHeap<Integer> heap = new DaryHeap<>(4, 128);
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(HeapResizeEvent.NAME);
+            recording.start();
+
+            for (int i = 0; i < 1000; ++i) {
+                heap.add(i, 1000 - i);
+            }
+
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        // 128 -> 192 -> 288 -> 432 -> 648 -> 972 -> 1458.
+        assertEquals(6, events.size());
+        int capacity = 128;
+
+        for (RecordedEvent event : events) {
+            assertEquals(heap.toString(), event.getString("heap"));
+            assertEquals(capacity, event.getInt("oldCapacity"));
+            capacity = event.getInt("newCapacity");
+        }
+
+        assertEquals(1458, capacity);
+    }
+
+    @Test
+    public void testParallelSearchEvent() throws IOException {
+        Random random = new Random(seed);
+        HashDistributedAStarPathFinder<DirectedGraphNode> finder =
+                new HashDistributedAStarPathFinder<>(data.weightFunction,
+                                                     data.heuristicFunction)
+                        .setThreadCount(2);
+        DirectedGraphNode source = choose(data.graph, random);
+        DirectedGraphNode target;
+
+        do {
+            target = choose(data.graph, random);
+        } while (target.equals(source));
+
+        SearchResult<DirectedGraphNode> result;
+        List<RecordedEvent> events;
+
+        try (Recording recording = new Recording()) {
+            recording.enable(SearchEvent.NAME);
+            recording.start();
+            result = finder.search(source, target, SearchLimits.NONE);
+            recording.stop();
+            events = readEvents(recording);
+        }
+
+        // A single event for the whole search, none for the threads.
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("HDA*", event.getString("algorithm"));
+        assertNotNull(event.getString("heap"));
+        assertEquals(result.getExpandedNodes(),
+                     event.getLong("expandedNodes"));
+        assertTrue(event.getLong("generatedNodes") > 0L);
+    }
+
+    private static List<RecordedEvent> readEvents(Recording recording)
+    throws IOException {
+        Path file = Files.createTempFile("gsp", ".jfr");
+
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+}